@@ -31,7 +31,8 @@ public class PathContext {
         TEMP;
     }
 
-    private Set<FlowElement> pathElements = new LinkedHashSet<FlowElement>();
+    // forked contexts share the elements of the context they were forked from
+    private SharedPrefixSet<FlowElement> pathElements = new SharedPrefixSet<FlowElement>();
     private Type type;
     private boolean canBeFinished = true;
     private boolean locked = false;
@@ -39,7 +40,7 @@ public class PathContext {
     private int canBeFinishedCounter = 0;
     private String pathId;
 
-    private Set<FlowElement> visitedSplitPoint = new LinkedHashSet<FlowElement>();
+    private SharedPrefixSet<FlowElement> visitedSplitPoint = new SharedPrefixSet<FlowElement>();
 
     private FlowElement splitOrigin = null;
 
@@ -80,14 +81,30 @@ public class PathContext {
             this.pathElements.addAll(elements);
         }
     }
+
+    public boolean containsPathElement(FlowElement element) {
+        return this.pathElements.contains(element);
+    }
     
+    /**
+     * @return unmodifiable snapshot of path elements in order they were added
+     */
     public Set<FlowElement> getPathElements() {
-        this.pathElements.removeIf(Objects::isNull);
-        return this.pathElements;
+        this.pathElements.remove(null);
+        return this.pathElements.toSet();
     }
 
     public void setPathElements(Set<FlowElement> pathElements) {
-        this.pathElements = pathElements;
+        this.pathElements = new SharedPrefixSet<FlowElement>(pathElements);
+    }
+
+    /**
+     * Makes this context continue from the path elements and visited split points of the given one,
+     * sharing them instead of copying.
+     */
+    protected void shareElementsOf(PathContext other) {
+        this.pathElements = other.pathElements.fork();
+        this.visitedSplitPoint = other.visitedSplitPoint.fork();
     }
 
     public boolean isCanBeFinished() {
@@ -147,12 +164,19 @@ public class PathContext {
         this.visitedSplitPoint.add(element);
     }
 
+    public boolean isVisitedSplitPoint(FlowElement element) {
+        return this.visitedSplitPoint.contains(element);
+    }
+
+    /**
+     * @return unmodifiable snapshot of visited split points
+     */
     public Set<FlowElement> getVisitedSplitPoint() {
-        return visitedSplitPoint;
+        return visitedSplitPoint.toSet();
     }
 
     public void setVisitedSplitPoint(Set<FlowElement> visitedSplitPoint) {
-        this.visitedSplitPoint = visitedSplitPoint;
+        this.visitedSplitPoint = new SharedPrefixSet<FlowElement>(visitedSplitPoint);
     }
 
 
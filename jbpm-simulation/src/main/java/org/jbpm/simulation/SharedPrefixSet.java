@@ -0,0 +1,175 @@
+/*
+ * Copyright 2015 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.jbpm.simulation;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Insertion ordered set that can be forked in constant time. Forking freezes the current content into
+ * an immutable segment that both the set and its fork keep as their parent, each recording only its own
+ * additions and removals of parent elements from then on. Sets forked from one another therefore share
+ * their common prefix, however many times they are forked.
+ * <p>
+ * Iteration order is the one of a <code>LinkedHashSet</code> that went through the same additions and
+ * removals. Not thread safe.
+ */
+class SharedPrefixSet<E> {
+
+    private Segment<E> parent;
+    private LinkedHashSet<E> own = new LinkedHashSet<E>();
+    // elements of parent segments removed from this set
+    private Set<E> removed = new HashSet<E>();
+    private int size;
+
+    // materialized content, dropped on every change
+    private Set<E> view;
+
+    SharedPrefixSet() {
+
+    }
+
+    SharedPrefixSet(Collection<? extends E> elements) {
+        addAll(elements);
+    }
+
+    /**
+     * @return new set with the same content, sharing it with this set
+     */
+    SharedPrefixSet<E> fork() {
+        if (!own.isEmpty() || !removed.isEmpty()) {
+            parent = new Segment<E>(parent, own, removed);
+            own = new LinkedHashSet<E>();
+            removed = new HashSet<E>();
+        }
+        SharedPrefixSet<E> fork = new SharedPrefixSet<E>();
+        fork.parent = parent;
+        fork.size = size;
+        fork.view = view;
+        return fork;
+    }
+
+    boolean contains(Object element) {
+        if (own.contains(element)) {
+            return true;
+        }
+        if (removed.contains(element)) {
+            return false;
+        }
+        return parent != null && parent.contains(element);
+    }
+
+    boolean containsAll(Collection<?> elements) {
+        for (Object element : elements) {
+            if (!contains(element)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    boolean add(E element) {
+        if (contains(element)) {
+            return false;
+        }
+        own.add(element);
+        size++;
+        view = null;
+        return true;
+    }
+
+    boolean addAll(Collection<? extends E> elements) {
+        boolean changed = false;
+        for (E element : elements) {
+            changed |= add(element);
+        }
+        return changed;
+    }
+
+    boolean remove(E element) {
+        if (own.remove(element)) {
+            size--;
+            view = null;
+            return true;
+        }
+        if (!removed.contains(element) && parent != null && parent.contains(element)) {
+            removed.add(element);
+            size--;
+            view = null;
+            return true;
+        }
+        return false;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return unmodifiable snapshot of the content in insertion order
+     */
+    Set<E> toSet() {
+        if (view == null) {
+            Deque<Segment<E>> segments = new ArrayDeque<Segment<E>>();
+            for (Segment<E> segment = parent; segment != null; segment = segment.parent) {
+                segments.push(segment);
+            }
+            Set<E> content = new LinkedHashSet<E>(size);
+            for (Segment<E> segment : segments) {
+                apply(content, segment.own, segment.removed);
+            }
+            apply(content, own, removed);
+            view = Collections.unmodifiableSet(content);
+        }
+        return view;
+    }
+
+    private static <E> void apply(Set<E> content, Set<E> added, Set<E> removed) {
+        // removed elements re-added later are in both and move to the end, as in LinkedHashSet
+        content.removeAll(removed);
+        content.addAll(added);
+    }
+
+    private static class Segment<E> {
+
+        private final Segment<E> parent;
+        private final Set<E> own;
+        private final Set<E> removed;
+
+        Segment(Segment<E> parent, Set<E> own, Set<E> removed) {
+            this.parent = parent;
+            this.own = own;
+            this.removed = removed;
+        }
+
+        boolean contains(Object element) {
+            for (Segment<E> segment = this; segment != null; segment = segment.parent) {
+                if (segment.own.contains(element)) {
+                    return true;
+                }
+                if (segment.removed.contains(element)) {
+                    return false;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -17,18 +17,28 @@ package org.jbpm.simulation;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
-
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.commons.math3.random.RandomDataGenerator;
 import org.drools.core.command.runtime.DisposeCommand;
 import org.drools.core.fluent.impl.BaseBatchFluent;
 import org.drools.core.fluent.impl.PseudoClockRunner;
 import org.jbpm.process.core.validation.ProcessValidatorRegistry;
 import org.jbpm.simulation.converter.SimulationFilterPathFormatConverter;
 import org.jbpm.simulation.impl.BPMN2SimulationDataProvider;
+import org.jbpm.simulation.impl.InMemorySimulationRepository;
 import org.jbpm.simulation.impl.SimulateProcessPathCommand;
 import org.jbpm.simulation.impl.SimulationPath;
 import org.jbpm.simulation.impl.SimulationProcessValidator;
 import org.jbpm.simulation.impl.WorkingMemorySimulationRepository;
+import org.jbpm.simulation.impl.ht.StaffPoolManagerImpl;
 import org.kie.api.KieServices;
 import org.kie.api.builder.KieBuilder;
 import org.kie.api.builder.KieFileSystem;
@@ -70,7 +80,16 @@ public class SimulationRunner {
 
     public static SimulationRepository runSimulation(String processId, String bpmn2Container, int numberOfAllInstances, long interval, boolean runRules, Resource... rules) {
 
-        SimulationContext context = SimulationContextFactory.newContext(new BPMN2SimulationDataProvider(bpmn2Container), new WorkingMemorySimulationRepository(runRules, rules));
+        return runSimulation(processId, bpmn2Container, numberOfAllInstances, interval, new WorkingMemorySimulationRepository(runRules, rules));
+    }
+
+    /**
+     * Runs the simulation storing events into the given repository, e.g. a <code>StreamingSimulationRepository</code>
+     * to aggregate results without retaining events.
+     */
+    public static SimulationRepository runSimulation(String processId, String bpmn2Container, int numberOfAllInstances, long interval, SimulationRepository repository) {
+
+        SimulationContext context = SimulationContextFactory.newContext(new BPMN2SimulationDataProvider(bpmn2Container), repository);
         SimulationDataProvider provider = context.getDataProvider();
 
         PathFinder finder = PathFinderFactory.getInstance(bpmn2Container);
@@ -150,6 +169,161 @@ public class SimulationRunner {
         return context.getRepository();
     }
 
+    /**
+     * Runs the simulation in parallel. Simulated instances are planned upfront and dealt round robin into
+     * <code>numberOfWorkers</code> partitions, each executed on its own thread with its own simulation context
+     * and pseudo clock. Events of all partitions are merged into the returned repository in partition order,
+     * process instances keep the ids they would get in a sequential run and all randomness is derived from
+     * the given seed, so the same seed and number of workers produce the same results regardless of thread
+     * scheduling.
+     * <p>
+     * Staff available to human tasks is divided among the partitions (at least one per partition), each
+     * partition getting its share of the staff for its share of the instances. Wait times and resource
+     * utilization of human tasks are therefore comparable to, but not the same as, those of a sequential run,
+     * and differ more when the staff of a task is small compared to the number of workers.
+     */
+    public static SimulationRepository runSimulation(String processId, String bpmn2Container, int numberOfAllInstances, long interval,
+                                                     int numberOfWorkers, long seed, boolean runRules, Resource... rules) {
+        if (numberOfAllInstances <= 1) {
+            return runSimulation(processId, bpmn2Container, numberOfAllInstances, interval, runRules, rules);
+        }
+
+        SimulationRepository repository = new WorkingMemorySimulationRepository(runRules, rules);
+        SimulationInfo simulationInfo = new SimulationInfo(System.currentTimeMillis(), processId, numberOfAllInstances, interval);
+        repository.setSimulationInfo(simulationInfo);
+
+        PathFinder finder = PathFinderFactory.getInstance(bpmn2Container);
+        List<SimulationPath> paths = finder.findPaths(new SimulationFilterPathFormatConverter(new BPMN2SimulationDataProvider(bpmn2Container)));
+
+        final ReleaseId releaseId = createKJarWithMultipleResources(processId,
+                                                                    new String[]{bpmn2Container}, new ResourceType[]{ResourceType.BPMN2});
+
+        List<PlannedInstance> plan = planInstances(paths, generateStartTimes(interval, numberOfAllInstances, new Random(seed)));
+
+        int workers = Math.max(1, Math.min(numberOfWorkers, plan.size()));
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        try {
+            List<Future<InMemorySimulationRepository>> partitions = new ArrayList<Future<InMemorySimulationRepository>>();
+            for (int i = 0; i < workers; i++) {
+                // round robin keeps arrivals of every partition spread over the whole simulation
+                final List<PlannedInstance> partition = new ArrayList<PlannedInstance>();
+                for (int j = i; j < plan.size(); j += workers) {
+                    partition.add(plan.get(j));
+                }
+                final SimulationInfo partitionInfo = new SimulationInfo(simulationInfo.getStartTime(), processId, partition.size(), interval);
+                final long partitionSeed = seed + i;
+                final double staffShare = (double) partition.size() / plan.size();
+                partitions.add(executor.submit(new Callable<InMemorySimulationRepository>() {
+                    public InMemorySimulationRepository call() throws Exception {
+                        return simulatePartition(processId, bpmn2Container, releaseId, partitionInfo, partition, partitionSeed, staffShare);
+                    }
+                }));
+            }
+
+            long maxEndTime = -1;
+            for (Future<InMemorySimulationRepository> future : partitions) {
+                InMemorySimulationRepository partial = future.get();
+                for (SimulationEvent event : partial.getEvents()) {
+                    repository.storeEvent(event);
+                }
+                SimulationInfo partialInfo = partial.getSimulationInfo();
+                if (partialInfo.getProcessName() != null) {
+                    simulationInfo.setProcessName(partialInfo.getProcessName());
+                    simulationInfo.setProcessVersion(partialInfo.getProcessVersion());
+                }
+                maxEndTime = Math.max(maxEndTime, partialInfo.getEndTime());
+                partial.close();
+            }
+            simulationInfo.setEndTime(maxEndTime);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Simulation of " + processId + " was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Error while simulating " + processId, e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return repository;
+    }
+
+    protected static List<PlannedInstance> planInstances(List<SimulationPath> paths, List<Long> startTimes) {
+        List<PlannedInstance> plan = new ArrayList<PlannedInstance>();
+        int numberOfAllInstances = startTimes.size();
+        int startIndex = 0;
+        int counter = 0;
+        int remainingInstances = numberOfAllInstances;
+        for (SimulationPath path : paths) {
+            // only paths that can be started are considered
+            if (!path.isStartable()) {
+                continue;
+            }
+            int instancesOfPath = (int) Math.round((numberOfAllInstances * path.getProbability()));
+            // ensure that we won't exceed total number of instance due to rounding
+            if (instancesOfPath > remainingInstances) {
+                instancesOfPath = remainingInstances;
+            }
+
+            List<Long> pathStartTimes = new ArrayList<Long>(startTimes.subList(startIndex, startIndex + instancesOfPath));
+            Collections.sort(pathStartTimes);
+            for (Long startTime : pathStartTimes) {
+                plan.add(new PlannedInstance(counter, path, startTime));
+            }
+            startIndex += instancesOfPath;
+            remainingInstances -= instancesOfPath;
+            counter++;
+        }
+
+        // instances get ids in order they are started, as when simulated sequentially
+        List<PlannedInstance> byStartTime = new ArrayList<PlannedInstance>(plan);
+        Collections.sort(byStartTime, new Comparator<PlannedInstance>() {
+            public int compare(PlannedInstance one, PlannedInstance two) {
+                return Long.compare(one.getStartTime(), two.getStartTime());
+            }
+        });
+        for (int i = 0; i < byStartTime.size(); i++) {
+            byStartTime.get(i).setProcessInstanceId(i + 1);
+        }
+        return plan;
+    }
+
+    protected static InMemorySimulationRepository simulatePartition(String processId, String bpmn2Container, ReleaseId releaseId,
+                                                                    SimulationInfo simulationInfo, List<PlannedInstance> partition, long seed,
+                                                                    double staffShare) {
+        InMemorySimulationRepository repository = new InMemorySimulationRepository();
+        repository.setSimulationInfo(simulationInfo);
+        // context is bound to the worker thread so node instances of this partition never see other partitions
+        SimulationContext context = SimulationContextFactory.newContext(new BPMN2SimulationDataProvider(bpmn2Container), repository);
+        context.setStaffPoolManager(new StaffPoolManagerImpl(staffShare));
+        RandomDataGenerator randomGenerator = new RandomDataGenerator();
+        randomGenerator.reSeed(seed);
+        context.setRandomGenerator(randomGenerator);
+        try {
+            if (partition.isEmpty()) {
+                return repository;
+            }
+            ExecutableBuilder f = ExecutableBuilder.create();
+            int currentPath = -1;
+            for (PlannedInstance instance : partition) {
+                if (instance.getPathIndex() != currentPath) {
+                    currentPath = instance.getPathIndex();
+                    f.newApplicationContext("path" + currentPath);
+                }
+                KieSessionFluent sessionFluent = f.after(instance.getStartTime())
+                        .getKieContainer(releaseId)
+                        .newSession();
+                ((BaseBatchFluent) sessionFluent).addCommand(new SimulateProcessPathCommand(processId, context, instance.getPath(), instance.getProcessInstanceId()));
+                ((BaseBatchFluent) sessionFluent).addCommand(new DisposeCommand());
+            }
+            new PseudoClockRunner().execute(f.getExecutable());
+
+            simulationInfo.setEndTime(context.getMaxEndTime());
+            return repository;
+        } finally {
+            SimulationContext.setContext(null);
+        }
+    }
+
     protected static ReleaseId createKJarWithMultipleResources(String id, String[] resources, ResourceType[] types) {
         KieServices ks = KieServices.Factory.get();
         KieModuleModel kproj = ks.newKieModuleModel();
@@ -206,13 +380,54 @@ public class SimulationRunner {
     }
 
     protected static List<Long> generateStartTimes(long interval, int numberOfInstances) {
+        return generateStartTimes(interval, numberOfInstances, new Random());
+    }
+
+    protected static List<Long> generateStartTimes(long interval, int numberOfInstances, Random random) {
         List<Long> startTimes = new ArrayList<Long>();
 
         for (int i = 0; i < numberOfInstances; i++) {
             startTimes.add(interval * i);
         }
-        Collections.shuffle(startTimes);
+        Collections.shuffle(startTimes, random);
 
         return startTimes;
     }
+
+    /**
+     * Single simulated instance: the path it follows and the time it is started at.
+     */
+    protected static class PlannedInstance {
+
+        private final int pathIndex;
+        private final SimulationPath path;
+        private final long startTime;
+        private long processInstanceId;
+
+        protected PlannedInstance(int pathIndex, SimulationPath path, long startTime) {
+            this.pathIndex = pathIndex;
+            this.path = path;
+            this.startTime = startTime;
+        }
+
+        public int getPathIndex() {
+            return pathIndex;
+        }
+
+        public SimulationPath getPath() {
+            return path;
+        }
+
+        public long getStartTime() {
+            return startTime;
+        }
+
+        public long getProcessInstanceId() {
+            return processInstanceId;
+        }
+
+        public void setProcessInstanceId(long processInstanceId) {
+            this.processInstanceId = processInstanceId;
+        }
+    }
 }
@@ -41,7 +41,7 @@ public class ActivityElementHandler extends MainElementHandler {
             boolean cancelActivity = false;
             for (BoundaryEvent bEvent : bEvents) {
 
-                if (!context.getPathElements().contains(bEvent)) {
+                if (!context.containsPathElement(bEvent)) {
                     manager.addToPath(bEvent, context);
                     List<SequenceFlow> bOut = bEvent.getOutgoing();
                     outgoing.addAll(bOut);
@@ -61,7 +61,7 @@ public class GatewayElementHandler extends MainElementHandler {
             for (SequenceFlow seqFlow : outgoing) {
 
                 FlowElement target = seqFlow.getTargetRef();
-                if (!contextAtThisNode.getVisitedSplitPoint().contains(seqFlow)) {
+                if (!contextAtThisNode.isVisitedSplitPoint(seqFlow)) {
                     PathContext separatePath = manager.cloneGiven(contextAtThisNode);
                     separatePath.addVisitedSplitPoint(seqFlow);
                     manager.addToPath(seqFlow, separatePath);
@@ -37,12 +37,22 @@ public class SimulateProcessPathCommand implements ExecutableCommand<KieSession>
     private String processId;
     private SimulationContext simContext;
     private SimulationPath path;
+    private Long processInstanceId;
     
     public SimulateProcessPathCommand(String processId, SimulationContext context, SimulationPath path) {
         this.processId = processId;
         this.simContext = context;
         this.path = path;
     }
+
+    /**
+     * Simulates the path as process instance of given id instead of the next id of the context,
+     * used when instances are simulated by several contexts in parallel.
+     */
+    public SimulateProcessPathCommand(String processId, SimulationContext context, SimulationPath path, long processInstanceId) {
+        this(processId, context, path);
+        this.processInstanceId = processInstanceId;
+    }
     
     public KieSession execute(Context context ) {
         
@@ -59,7 +69,11 @@ public class SimulateProcessPathCommand implements ExecutableCommand<KieSession>
         // reset max end time before starting new instance
         simContext.resetMaxEndTime();
         simContext.getExecutedNodes().clear();
-        simContext.incrementProcessInstanceId();
+        if (processInstanceId != null) {
+            simContext.setProcessInstanceId(processInstanceId);
+        } else {
+            simContext.incrementProcessInstanceId();
+        }
 
         long instanceId = -1;
         ProcessInstance pi = null;
@@ -82,6 +96,9 @@ public class SimulateProcessPathCommand implements ExecutableCommand<KieSession>
             instanceId = session.getIdentifier()+pi.getId();
         }
 
+        if (processInstanceId != null) {
+            instanceId = processInstanceId;
+        }
         simContext.getRepository().storeEvent(new ProcessInstanceEndSimulationEvent(processId, instanceId,
                 simContext.getStartTime(), simContext.getMaxEndTime(), path.getPathId(),
                 pi.getProcessName(), pi.getProcess().getVersion()));
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2015 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.jbpm.simulation.impl;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jbpm.simulation.AggregatedSimulationEvent;
+import org.jbpm.simulation.SimulationEvent;
+import org.jbpm.simulation.SimulationInfo;
+import org.jbpm.simulation.SimulationRepository;
+import org.jbpm.simulation.impl.events.ActivitySimulationEvent;
+import org.jbpm.simulation.impl.events.AggregatedActivitySimulationEvent;
+import org.jbpm.simulation.impl.events.AggregatedEndEventSimulationEvent;
+import org.jbpm.simulation.impl.events.AggregatedProcessSimulationEvent;
+import org.jbpm.simulation.impl.events.EndSimulationEvent;
+import org.jbpm.simulation.impl.events.HTAggregatedSimulationEvent;
+import org.jbpm.simulation.impl.events.HumanTaskActivitySimulationEvent;
+import org.jbpm.simulation.impl.events.ProcessInstanceEndSimulationEvent;
+
+/**
+ * Simulation repository that does not retain events. Each stored event is folded into
+ * constant memory accumulators, producing the same aggregated events as the default
+ * simulation rules of <code>WorkingMemorySimulationRepository</code>.
+ * Raw events can optionally be spilled to a file, one tab separated line per event.
+ */
+public class StreamingSimulationRepository implements SimulationRepository {
+
+    protected SimulationInfo simulationInfo;
+
+    private Map<String, ActivityStatistics> activities = new LinkedHashMap<String, ActivityStatistics>();
+    private Map<String, HumanTaskStatistics> humanTasks = new LinkedHashMap<String, HumanTaskStatistics>();
+    // end event names and ids, their durations are aggregated over all end events as the default rules do
+    private Map<String, String> endEvents = new LinkedHashMap<String, String>();
+    private StreamingStatistics endEventDuration = new StreamingStatistics();
+
+    private StreamingStatistics processDuration = new StreamingStatistics();
+    private Set<String> processSet = new LinkedHashSet<String>();
+    private Map<String, Integer> pathInstances = new LinkedHashMap<String, Integer>();
+
+    private long numberOfEvents;
+    private BufferedWriter spillWriter;
+
+    public StreamingSimulationRepository() {
+
+    }
+
+    public StreamingSimulationRepository(File spillFile) {
+        try {
+            this.spillWriter = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(spillFile), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to open simulation event file " + spillFile, e);
+        }
+    }
+
+    public void storeEvent(SimulationEvent event) {
+        numberOfEvents++;
+        if (event instanceof ActivitySimulationEvent) {
+            ActivitySimulationEvent activityEvent = (ActivitySimulationEvent) event;
+            ActivityStatistics statistics = activities.get(activityEvent.getActivityName());
+            if (statistics == null) {
+                statistics = new ActivityStatistics(activityEvent.getActivityId());
+                activities.put(activityEvent.getActivityName(), statistics);
+            }
+            statistics.duration.add(activityEvent.getDuration());
+        } else if (event instanceof HumanTaskActivitySimulationEvent) {
+            HumanTaskActivitySimulationEvent taskEvent = (HumanTaskActivitySimulationEvent) event;
+            HumanTaskStatistics statistics = humanTasks.get(taskEvent.getActivityName());
+            if (statistics == null) {
+                statistics = new HumanTaskStatistics(taskEvent.getActivityId());
+                humanTasks.put(taskEvent.getActivityName(), statistics);
+            }
+            statistics.duration.add(taskEvent.getDuration());
+            statistics.waitTime.add(taskEvent.getWaitTime());
+            statistics.resourceUtilization.add(taskEvent.getResourceUtilization());
+            statistics.resourceCost.add(taskEvent.getResourceCost());
+        } else if (event instanceof EndSimulationEvent) {
+            EndSimulationEvent endEvent = (EndSimulationEvent) event;
+            if (!endEvents.containsKey(endEvent.getActivityName())) {
+                endEvents.put(endEvent.getActivityName(), endEvent.getActivityId());
+            }
+            endEventDuration.add(endEvent.getProcessDuration());
+        } else if (event instanceof ProcessInstanceEndSimulationEvent) {
+            ProcessInstanceEndSimulationEvent instanceEvent = (ProcessInstanceEndSimulationEvent) event;
+            processDuration.add(instanceEvent.getProcessDuration());
+            processSet.add(instanceEvent.getProcessId() + "@" + instanceEvent.getProcessName() + "@" + instanceEvent.getProcessVersion());
+            Integer current = pathInstances.get(instanceEvent.getPathId());
+            pathInstances.put(instanceEvent.getPathId(), current == null ? 1 : current + 1);
+        }
+
+        if (spillWriter != null) {
+            spill(event);
+        }
+    }
+
+    /**
+     * Returns aggregated events in the same order the default simulation rules produce them:
+     * end events, human tasks, activities and finally the process.
+     */
+    public List<AggregatedSimulationEvent> getAggregatedEvents() {
+        List<AggregatedSimulationEvent> aggregated = new ArrayList<AggregatedSimulationEvent>();
+        for (Map.Entry<String, String> entry : endEvents.entrySet()) {
+            aggregated.add(new AggregatedEndEventSimulationEvent(entry.getKey(), entry.getValue(),
+                    endEventDuration.getMin(), endEventDuration.getAverage(), endEventDuration.getMax(), endEventDuration.getCount(), "endEvent"));
+        }
+        for (Map.Entry<String, HumanTaskStatistics> entry : humanTasks.entrySet()) {
+            HumanTaskStatistics statistics = entry.getValue();
+            aggregated.add(new HTAggregatedSimulationEvent(entry.getKey(), statistics.activityId,
+                    statistics.duration.getMin(), statistics.duration.getAverage(), statistics.duration.getMax(),
+                    statistics.waitTime.getMin(), statistics.waitTime.getAverage(), statistics.waitTime.getMax(),
+                    statistics.resourceUtilization.getMin(), statistics.resourceUtilization.getAverage(), statistics.resourceUtilization.getMax(),
+                    statistics.duration.getCount(), statistics.resourceCost.getAverage(),
+                    statistics.resourceCost.getMin(), statistics.resourceCost.getMax(), "userTask"));
+        }
+        for (Map.Entry<String, ActivityStatistics> entry : activities.entrySet()) {
+            StreamingStatistics duration = entry.getValue().duration;
+            aggregated.add(new AggregatedActivitySimulationEvent(entry.getKey(), entry.getValue().activityId,
+                    duration.getMin(), duration.getAverage(), duration.getMax(), duration.getCount(), ""));
+        }
+        if (!processSet.isEmpty()) {
+            AggregatedProcessSimulationEvent processEvent = new AggregatedProcessSimulationEvent(processSet,
+                    processDuration.getMin(), processDuration.getAverage(), processDuration.getMax());
+            processEvent.getPathNumberOfInstances().putAll(pathInstances);
+            aggregated.add(processEvent);
+        }
+        return aggregated;
+    }
+
+    /**
+     * Returns accumulated execution times of given activity, human task or end event, null if none was recorded.
+     * Process durations of all end events are accumulated together, as the default simulation rules do.
+     */
+    public StreamingStatistics getExecutionTimeStatistics(String activityName) {
+        if (activities.containsKey(activityName)) {
+            return activities.get(activityName).duration;
+        } else if (humanTasks.containsKey(activityName)) {
+            return humanTasks.get(activityName).duration;
+        } else if (endEvents.containsKey(activityName)) {
+            return endEventDuration;
+        }
+        return null;
+    }
+
+    /**
+     * Returns accumulated statistics of human task, null if no such task was recorded.
+     */
+    public HumanTaskStatistics getHumanTaskStatistics(String activityName) {
+        return humanTasks.get(activityName);
+    }
+
+    public StreamingStatistics getProcessDurationStatistics() {
+        return processDuration;
+    }
+
+    public long getNumberOfEvents() {
+        return numberOfEvents;
+    }
+
+    public SimulationInfo getSimulationInfo() {
+        return this.simulationInfo;
+    }
+
+    public void setSimulationInfo(SimulationInfo simInfo) {
+        this.simulationInfo = simInfo;
+    }
+
+    public void close() {
+        if (spillWriter != null) {
+            try {
+                spillWriter.close();
+            } catch (IOException e) {
+                throw new RuntimeException("Unable to close simulation event file", e);
+            } finally {
+                spillWriter = null;
+            }
+        }
+    }
+
+    protected void spill(SimulationEvent event) {
+        try {
+            spillWriter.write(event.getType() + "\t" + event.getProcessId() + "\t" + event.getProcessInstanceId() + "\t"
+                    + event.getStartTime() + "\t" + event.getEndTime() + "\t" + event.toString());
+            spillWriter.newLine();
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to write simulation event " + event, e);
+        }
+    }
+
+    private static class ActivityStatistics {
+
+        private final String activityId;
+        private final StreamingStatistics duration = new StreamingStatistics();
+
+        ActivityStatistics(String activityId) {
+            this.activityId = activityId;
+        }
+    }
+
+    public static class HumanTaskStatistics {
+
+        private final String activityId;
+        private final StreamingStatistics duration = new StreamingStatistics();
+        private final StreamingStatistics waitTime = new StreamingStatistics();
+        private final StreamingStatistics resourceUtilization = new StreamingStatistics();
+        private final StreamingStatistics resourceCost = new StreamingStatistics();
+
+        HumanTaskStatistics(String activityId) {
+            this.activityId = activityId;
+        }
+
+        public String getActivityId() {
+            return activityId;
+        }
+
+        public StreamingStatistics getDuration() {
+            return duration;
+        }
+
+        public StreamingStatistics getWaitTime() {
+            return waitTime;
+        }
+
+        public StreamingStatistics getResourceUtilization() {
+            return resourceUtilization;
+        }
+
+        public StreamingStatistics getResourceCost() {
+            return resourceCost;
+        }
+    }
+}
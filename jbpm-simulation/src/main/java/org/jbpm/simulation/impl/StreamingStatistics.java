@@ -0,0 +1,95 @@
+/*
+ * Copyright 2015 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.jbpm.simulation.impl;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Constant memory accumulator of a single metric. Count, min, max and average are exact,
+ * percentiles are estimated from a fixed size reservoir sample of the recorded values.
+ */
+public class StreamingStatistics {
+
+    public static final int DEFAULT_SAMPLE_SIZE = 1024;
+
+    private long count;
+    private double min = Double.NaN;
+    private double max = Double.NaN;
+    private double sum;
+
+    private final double[] sample;
+    // fixed seed keeps percentile estimates reproducible between runs
+    private final Random random = new Random(0);
+
+    public StreamingStatistics() {
+        this(DEFAULT_SAMPLE_SIZE);
+    }
+
+    public StreamingStatistics(int sampleSize) {
+        this.sample = new double[sampleSize];
+    }
+
+    public void add(double value) {
+        if (count == 0 || value < min) {
+            min = value;
+        }
+        if (count == 0 || value > max) {
+            max = value;
+        }
+        sum += value;
+
+        if (count < sample.length) {
+            sample[(int) count] = value;
+        } else {
+            long slot = (long) (random.nextDouble() * (count + 1));
+            if (slot < sample.length) {
+                sample[(int) slot] = value;
+            }
+        }
+        count++;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    public double getAverage() {
+        return count == 0 ? Double.NaN : sum / count;
+    }
+
+    /**
+     * Returns estimated value below which the given percentage (0-100) of recorded values fall.
+     */
+    public double getPercentile(double percentile) {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        int size = (int) Math.min(count, sample.length);
+        double[] sorted = Arrays.copyOf(sample, size);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100 * size) - 1;
+        return sorted[Math.max(0, Math.min(index, size - 1))];
+    }
+}
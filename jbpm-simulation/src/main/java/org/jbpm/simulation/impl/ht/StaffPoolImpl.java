@@ -23,8 +23,6 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
-import org.apache.commons.math3.random.RandomData;
-import org.apache.commons.math3.random.RandomDataImpl;
 import org.jbpm.simulation.SimulationContext;
 import org.jbpm.simulation.SimulationDataProvider;
 import org.jbpm.simulation.TimeGenerator;
@@ -47,8 +45,6 @@ public class StaffPoolImpl implements StaffPool {
 	
 	private long performedWork = 0;
 	
-	private RandomData randomizer = new RandomDataImpl();
-	
 	private double resourceCost;
 	
 	private TimeUnit elementTimeUnit;
@@ -59,6 +55,14 @@ public class StaffPoolImpl implements StaffPool {
 	private RangeChain rangeChain = new RangeChain();
 
 	public StaffPoolImpl(String processId, Node element, double simulationDuration) {
+	    this(processId, element, simulationDuration, 1);
+	}
+
+	/**
+	 * Creates pool with given share of the staff available to the element, at least one when any is available.
+	 * Used when instances are simulated in parallel, each worker getting its share of the staff.
+	 */
+	public StaffPoolImpl(String processId, Node element, double simulationDuration, double staffShare) {
 	    
 	    SimulationDataProvider provider = SimulationContext.getContext().getDataProvider();
 	    
@@ -68,6 +72,9 @@ public class StaffPoolImpl implements StaffPool {
 		
 		this.elementTimeUnit = SimulationUtils.getTimeUnit(properties);
 		this.poolSize = (int)SimulationUtils.asDouble(properties.get(SimulationConstants.STAFF_AVAILABILITY));
+		if (staffShare < 1 && poolSize > 0) {
+		    this.poolSize = Math.max(1, (int) Math.round(poolSize * staffShare));
+		}
 		
 		this.duration = timeGenerator.generateTime();
 		String workingHoursRange = (String) properties.get("working.hours.range");
@@ -24,15 +24,23 @@ import org.kie.api.definition.process.Node;
 public class StaffPoolManagerImpl implements StaffPoolManager {
 	
 	private Map<String, StaffPool> registeredPools = new HashMap<String, StaffPool>();
+	private double staffShare = 1;
 	
 	public StaffPoolManagerImpl() {
 		
 	}
+
+	/**
+	 * @param staffShare share of the available staff given to pools of this manager
+	 */
+	public StaffPoolManagerImpl(double staffShare) {
+		this.staffShare = staffShare;
+	}
 	
 	public void registerPool(String processId, Node element, long simulationDuration) {
 
 	    if (!registeredPools.containsKey(element.getName())) {
-    		StaffPool pool = new StaffPoolImpl(processId, element, simulationDuration);
+    		StaffPool pool = new StaffPoolImpl(processId, element, simulationDuration, staffShare);
     		registeredPools.put(element.getName(), pool);
 	    }
 	}
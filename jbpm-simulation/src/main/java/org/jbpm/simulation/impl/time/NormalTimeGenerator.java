@@ -46,7 +46,7 @@ public class NormalTimeGenerator implements TimeGenerator {
         
         if (sdv > 0) {
         
-            long value =  (long) generator.nextGaussian(mean, sdv);
+            long value =  (long) SimulationUtils.getRandomGenerator(generator).nextGaussian(mean, sdv);
             if (value <= 0) {
                 value = mean;
             }
@@ -40,7 +40,7 @@ public class PoissonTimeGenerator implements TimeGenerator {
         long mean = (long)SimulationUtils.asDouble(data.get(SimulationConstants.MEAN));
         mean = timeUnit.convert(mean, tu);
         if(mean > 0) {    
-            return  (long) generator.nextPoisson(mean);
+            return  (long) SimulationUtils.getRandomGenerator(generator).nextPoisson(mean);
         } else {
             return 0;
         }
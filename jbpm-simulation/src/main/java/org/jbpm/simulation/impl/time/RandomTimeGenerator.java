@@ -43,7 +43,7 @@ public class RandomTimeGenerator implements TimeGenerator {
         long max = (long)SimulationUtils.asDouble(data.get(SimulationConstants.MAX));
         max = timeUnit.convert(max, tu);
         if (max > min) {
-            return  (long) generator.nextLong(min, max);
+            return  (long) SimulationUtils.getRandomGenerator(generator).nextLong(min, max);
         } else {
             return min;
         }
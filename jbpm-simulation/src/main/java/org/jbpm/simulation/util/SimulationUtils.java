@@ -22,6 +22,8 @@ import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang3.time.DurationFormatUtils;
+import org.apache.commons.math3.random.RandomDataGenerator;
+import org.jbpm.simulation.SimulationContext;
 
 public class SimulationUtils {
 	
@@ -39,6 +41,18 @@ public class SimulationUtils {
 	    timeUnitMapping.put("year", "years");
 	}
 
+	/**
+	 * Returns the random generator of the current simulation context when one was configured
+	 * (e.g. seeded for reproducible parallel runs), otherwise the given default generator.
+	 */
+	public static RandomDataGenerator getRandomGenerator(RandomDataGenerator defaultGenerator) {
+		SimulationContext context = SimulationContext.getContext();
+		if (context != null && context.getRandomGenerator() != null) {
+			return context.getRandomGenerator();
+		}
+		return defaultGenerator;
+	}
+
 	public static int asInt(Object value) {
 		if (value == null) {
 			return -1;
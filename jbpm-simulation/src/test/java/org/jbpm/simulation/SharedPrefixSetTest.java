@@ -0,0 +1,101 @@
+/*
+ * Copyright 2015 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.jbpm.simulation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.eclipse.bpmn2.Bpmn2Factory;
+import org.eclipse.bpmn2.FlowElement;
+import org.junit.Test;
+
+public class SharedPrefixSetTest {
+
+    @Test
+    public void testForksDoNotSeeEachOtherChanges() {
+        SharedPrefixSet<String> set = new SharedPrefixSet<String>(Arrays.asList("a", "b", "c"));
+        SharedPrefixSet<String> fork = set.fork();
+
+        set.add("d");
+        fork.remove("b");
+        fork.add("e");
+        fork.add("b");
+
+        assertEquals(new ArrayList<String>(Arrays.asList("a", "b", "c", "d")), new ArrayList<String>(set.toSet()));
+        assertEquals(new ArrayList<String>(Arrays.asList("a", "c", "e", "b")), new ArrayList<String>(fork.toSet()));
+        assertEquals(4, set.size());
+        assertEquals(4, fork.size());
+        assertTrue(fork.contains("b"));
+        assertFalse(set.contains("e"));
+    }
+
+    @Test
+    public void testSameContentAndOrderAsLinkedHashSet() {
+        Random random = new Random(7);
+        List<SharedPrefixSet<Integer>> sets = new ArrayList<SharedPrefixSet<Integer>>();
+        List<Set<Integer>> expected = new ArrayList<Set<Integer>>();
+        sets.add(new SharedPrefixSet<Integer>());
+        expected.add(new LinkedHashSet<Integer>());
+
+        for (int i = 0; i < 5000; i++) {
+            int index = random.nextInt(sets.size());
+            Integer element = random.nextInt(40);
+            int operation = random.nextInt(10);
+            if (operation < 5) {
+                assertEquals(expected.get(index).add(element), sets.get(index).add(element));
+            } else if (operation < 8) {
+                assertEquals(expected.get(index).remove(element), sets.get(index).remove(element));
+            } else if (sets.size() < 50) {
+                sets.add(sets.get(index).fork());
+                expected.add(new LinkedHashSet<Integer>(expected.get(index)));
+            }
+            assertEquals(expected.get(index).contains(element), sets.get(index).contains(element));
+        }
+
+        for (int i = 0; i < sets.size(); i++) {
+            assertEquals(new ArrayList<Integer>(expected.get(i)), new ArrayList<Integer>(sets.get(i).toSet()));
+            assertEquals(expected.get(i).size(), sets.get(i).size());
+        }
+    }
+
+    @Test
+    public void testClonedPathContextKeepsElementsOfItsOwn() {
+        FlowElement start = Bpmn2Factory.eINSTANCE.createStartEvent();
+        FlowElement task = Bpmn2Factory.eINSTANCE.createUserTask();
+        FlowElement end = Bpmn2Factory.eINSTANCE.createEndEvent();
+
+        PathContextManager manager = new PathContextManager();
+        PathContext root = new PathContext();
+        root.addPathElement(start);
+        PathContext clone = manager.cloneGiven(root);
+        clone.addPathElement(task);
+        root.addPathElement(end);
+        clone.addVisitedSplitPoint(task);
+
+        assertEquals(Arrays.asList(start, end), new ArrayList<FlowElement>(root.getPathElements()));
+        assertEquals(Arrays.asList(start, task), new ArrayList<FlowElement>(clone.getPathElements()));
+        assertTrue(clone.isVisitedSplitPoint(task));
+        assertFalse(root.isVisitedSplitPoint(task));
+    }
+}
@@ -20,8 +20,10 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.util.Collection;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.drools.core.command.runtime.rule.InsertElementsCommand;
 import org.jbpm.simulation.impl.WorkingMemorySimulationRepository;
@@ -35,6 +37,8 @@ import org.jbpm.simulation.impl.events.HumanTaskActivitySimulationEvent;
 import org.jbpm.simulation.impl.events.ProcessInstanceEndSimulationEvent;
 import org.junit.Before;
 import org.junit.Test;
+import org.kie.api.io.Resource;
+import org.kie.internal.io.ResourceFactory;
 
 import static org.junit.Assert.*;
 
@@ -86,6 +90,48 @@ public class SimulateProcessTest {
         
     }
     
+    @Test
+    public void testParallelSimulationRunner() throws IOException {
+
+        InputStreamReader in = new InputStreamReader(this.getClass().getResourceAsStream("/BPMN2-TwoUserTasks.bpmn2"));
+
+        String out = new String();
+        BufferedReader br = new BufferedReader(in);
+        for(String line = br.readLine(); line != null; line = br.readLine())
+          out += line;
+
+        Resource rules = ResourceFactory.newClassPathResource("default.simulation.rules.drl");
+        WorkingMemorySimulationRepository first = (WorkingMemorySimulationRepository) SimulationRunner.runSimulation("BPMN2-TwoUserTasks", out, 10, 2000, 3, 42L, false, rules);
+        WorkingMemorySimulationRepository second = (WorkingMemorySimulationRepository) SimulationRunner.runSimulation("BPMN2-TwoUserTasks", out, 10, 2000, 3, 42L, false, rules);
+
+        first.fireAllRules();
+        assertEquals(4, first.getAggregatedEvents().size());
+        assertEquals(50, first.getEvents().size());
+        assertNotNull(first.getSimulationInfo().getProcessName());
+
+        // same seed gives the same events in the same order
+        assertEquals(first.getEvents().size(), second.getEvents().size());
+        for (int i = 0; i < first.getEvents().size(); i++) {
+            SimulationEvent expected = first.getEvents().get(i);
+            SimulationEvent actual = second.getEvents().get(i);
+            assertEquals(expected.getType(), actual.getType());
+            assertEquals(expected.getStartTime(), actual.getStartTime());
+            assertEquals(expected.getEndTime(), actual.getEndTime());
+            assertEquals(expected.getProcessInstanceId(), actual.getProcessInstanceId());
+        }
+
+        // instance ids are not repeated across partitions
+        Set<Long> instanceIds = new HashSet<Long>();
+        for (SimulationEvent event : first.getEvents()) {
+            if (event instanceof ProcessInstanceEndSimulationEvent) {
+                assertTrue(instanceIds.add(event.getProcessInstanceId()));
+            }
+        }
+        assertEquals(10, instanceIds.size());
+        first.close();
+        second.close();
+    }
+
     @Test
     public void testSimulationRunnerWithGateway() throws IOException {
         
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2015 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.jbpm.simulation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jbpm.simulation.impl.StreamingSimulationRepository;
+import org.jbpm.simulation.impl.StreamingStatistics;
+import org.jbpm.simulation.impl.WorkingMemorySimulationRepository;
+import org.jbpm.simulation.impl.events.AggregatedActivitySimulationEvent;
+import org.jbpm.simulation.impl.events.AggregatedEndEventSimulationEvent;
+import org.jbpm.simulation.impl.events.AggregatedProcessSimulationEvent;
+import org.jbpm.simulation.impl.events.EndSimulationEvent;
+import org.jbpm.simulation.impl.events.HTAggregatedSimulationEvent;
+import org.junit.Test;
+
+public class StreamingSimulationRepositoryTest {
+
+    @Test
+    public void testStreamingStatistics() {
+        StreamingStatistics statistics = new StreamingStatistics(16);
+        for (int i = 1; i <= 10; i++) {
+            statistics.add(i);
+        }
+        assertEquals(10, statistics.getCount());
+        assertEquals(1, statistics.getMin(), 0);
+        assertEquals(10, statistics.getMax(), 0);
+        assertEquals(5.5, statistics.getAverage(), 0);
+        assertEquals(5, statistics.getPercentile(50), 0);
+        assertEquals(10, statistics.getPercentile(100), 0);
+    }
+
+    @Test
+    public void testSameAggregatesAsWorkingMemoryRepository() throws IOException {
+        String bpmn2 = readProcess("/BPMN2-TwoUserTasks.bpmn2");
+        File spillFile = File.createTempFile("simulation", ".events");
+        spillFile.deleteOnExit();
+
+        StreamingSimulationRepository streaming = (StreamingSimulationRepository) SimulationRunner.runSimulation("BPMN2-TwoUserTasks", bpmn2, 10, 2000,
+                new StreamingSimulationRepository(spillFile));
+        WorkingMemorySimulationRepository wmRepo = (WorkingMemorySimulationRepository) SimulationRunner.runSimulation("BPMN2-TwoUserTasks", bpmn2, 10, 2000,
+                "default.simulation.rules.drl");
+        wmRepo.fireAllRules();
+        streaming.close();
+
+        List<AggregatedSimulationEvent> aggregated = streaming.getAggregatedEvents();
+        assertEquals(wmRepo.getAggregatedEvents().size(), aggregated.size());
+        assertEquals(wmRepo.getEvents().size(), streaming.getNumberOfEvents());
+        assertEquals(50, Files.readAllLines(spillFile.toPath()).size());
+
+        AggregatedSimulationEvent last = aggregated.get(aggregated.size() - 1);
+        assertTrue(last instanceof AggregatedProcessSimulationEvent);
+        assertEquals(Integer.valueOf(10), ((AggregatedProcessSimulationEvent) last).getPathNumberOfInstances().values().iterator().next());
+        assertNotNull(streaming.getProcessDurationStatistics().getPercentile(95));
+        wmRepo.close();
+    }
+
+    @Test
+    public void testSameAggregatedValuesAsDefaultRules() throws IOException {
+        String bpmn2 = readProcess("/BPMN2-TwoUserTasks.bpmn2");
+        WorkingMemorySimulationRepository wmRepo = (WorkingMemorySimulationRepository) SimulationRunner.runSimulation("BPMN2-TwoUserTasks", bpmn2, 10, 2000,
+                "default.simulation.rules.drl");
+        wmRepo.fireAllRules();
+
+        // same events folded by the streaming repository
+        StreamingSimulationRepository streaming = new StreamingSimulationRepository();
+        for (SimulationEvent event : wmRepo.getEvents()) {
+            streaming.storeEvent(event);
+        }
+
+        assertSameAggregates(wmRepo.getAggregatedEvents(), streaming.getAggregatedEvents());
+        wmRepo.close();
+    }
+
+    @Test
+    public void testEndEventDurationAggregatedOverAllEndEvents() {
+        WorkingMemorySimulationRepository wmRepo = new WorkingMemorySimulationRepository("default.simulation.rules.drl");
+        StreamingSimulationRepository streaming = new StreamingSimulationRepository();
+        for (SimulationEvent event : Arrays.<SimulationEvent>asList(
+                new EndSimulationEvent("process", 1, 100, 200, 0, "_1", "Approved", "Process", "1.0"),
+                new EndSimulationEvent("process", 2, 100, 600, 0, "_2", "Rejected", "Process", "1.0"),
+                new EndSimulationEvent("process", 3, 100, 400, 0, "_2", "Rejected", "Process", "1.0"))) {
+            wmRepo.storeEvent(event);
+            streaming.storeEvent(event);
+        }
+        wmRepo.fireAllRules();
+
+        List<AggregatedSimulationEvent> aggregated = streaming.getAggregatedEvents();
+        assertEquals(2, aggregated.size());
+        for (AggregatedSimulationEvent event : aggregated) {
+            AggregatedEndEventSimulationEvent endEvent = (AggregatedEndEventSimulationEvent) event;
+            assertEquals(200, endEvent.getMinProcessDuration(), 0);
+            assertEquals(400, endEvent.getAvgProcessDuration(), 0);
+            assertEquals(600, endEvent.getMaxProcessDuration(), 0);
+            assertEquals(3, endEvent.getNumberOfInstances());
+        }
+        assertEquals(3, streaming.getExecutionTimeStatistics("Approved").getCount());
+        assertSameAggregates(wmRepo.getAggregatedEvents(), aggregated);
+        wmRepo.close();
+    }
+
+    private static void assertSameAggregates(List<AggregatedSimulationEvent> expected, List<AggregatedSimulationEvent> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (AggregatedSimulationEvent expectedEvent : expected) {
+            AggregatedSimulationEvent actualEvent = find(actual, expectedEvent);
+            assertNotNull("No aggregated event matching " + expectedEvent, actualEvent);
+            for (String property : propertiesOf(expectedEvent)) {
+                assertEquals(expectedEvent + " " + property, ((Number) expectedEvent.getProperty(property)).doubleValue(),
+                             ((Number) actualEvent.getProperty(property)).doubleValue(), 0.0001);
+            }
+            if (expectedEvent instanceof AggregatedActivitySimulationEvent) {
+                assertEquals(((AggregatedActivitySimulationEvent) expectedEvent).getNumberOfInstances(),
+                             ((AggregatedActivitySimulationEvent) actualEvent).getNumberOfInstances());
+            } else if (expectedEvent instanceof AggregatedEndEventSimulationEvent) {
+                assertEquals(((AggregatedEndEventSimulationEvent) expectedEvent).getNumberOfInstances(),
+                             ((AggregatedEndEventSimulationEvent) actualEvent).getNumberOfInstances());
+            } else if (expectedEvent instanceof AggregatedProcessSimulationEvent) {
+                assertEquals(((AggregatedProcessSimulationEvent) expectedEvent).getPathNumberOfInstances(),
+                             ((AggregatedProcessSimulationEvent) actualEvent).getPathNumberOfInstances());
+            }
+        }
+    }
+
+    private static AggregatedSimulationEvent find(List<AggregatedSimulationEvent> events, AggregatedSimulationEvent event) {
+        for (AggregatedSimulationEvent candidate : events) {
+            if (candidate.getClass() == event.getClass()
+                    && (event instanceof AggregatedProcessSimulationEvent
+                        || event.getProperty("activityName").equals(candidate.getProperty("activityName")))) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private static List<String> propertiesOf(AggregatedSimulationEvent event) {
+        if (event instanceof HTAggregatedSimulationEvent) {
+            return Arrays.asList("minExecutionTime", "avgExecutionTime", "maxExecutionTime", "minWaitTime", "avgWaitTime", "maxWaitTime",
+                                 "minResourceUtilization", "avgResourceUtilization", "maxResourceUtilization");
+        } else if (event instanceof AggregatedEndEventSimulationEvent) {
+            return Arrays.asList("minProcessDuration", "avgProcessDuration", "maxProcessDuration");
+        }
+        return Arrays.asList("minExecutionTime", "avgExecutionTime", "maxExecutionTime");
+    }
+
+    private String readProcess(String name) throws IOException {
+        BufferedReader br = new BufferedReader(new InputStreamReader(this.getClass().getResourceAsStream(name)));
+        StringBuilder out = new StringBuilder();
+        for (String line = br.readLine(); line != null; line = br.readLine()) {
+            out.append(line);
+        }
+        return out.toString();
+    }
+}
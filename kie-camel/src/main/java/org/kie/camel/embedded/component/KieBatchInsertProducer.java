@@ -0,0 +1,252 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.camel.embedded.component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultAsyncProducer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/** A producer that aggregates incoming exchanges and inserts them into the
+ * Drools session in batches.
+ * A batch is inserted once batchSize exchanges are pending or batchLinger
+ * milliseconds elapsed since the first one arrived. With the default batchLinger
+ * of 0 a batch holds whatever arrived while the previous one was inserted, so a
+ * lone sender is not delayed.
+ * Facts are inserted the same way {@link KieInsertProducer} inserts them: into
+ * the entry point of a stateful session by a single plain command, which does
+ * not fire rules, and with a stateless session one execution per message.
+ * Senders are blocked when more than maxPendingExchanges are waiting, so the
+ * route slows down when the session falls behind. Every exchange of a batch is
+ * completed, with the failure when the batch could not be inserted. */
+public class KieBatchInsertProducer extends DefaultAsyncProducer {
+
+    private static final Logger log = LoggerFactory.getLogger(KieBatchInsertProducer.class);
+
+    // how often the flusher checks whether the producer was stopped while idle
+    private static final long IDLE_POLL = 100;
+
+    private final KieEmbeddedEndpoint ke;
+    private final KieInsertProducer.Unwrapper unwrapper;
+    private final KieInsertProducer.InsertWorker worker;
+    private final int batchSize;
+    private final long batchLinger;
+    private final boolean async;
+
+    private final BlockingQueue<PendingExchange> pending;
+    // senders enqueue under the read lock, stopping takes the write lock so that
+    // nothing is enqueued after the queue is drained
+    private final ReadWriteLock lifecycleLock = new ReentrantReadWriteLock();
+    private ExecutorService flusher;
+    private volatile boolean running;
+
+    public KieBatchInsertProducer(Endpoint endpoint) {
+        super(endpoint);
+        ke = (KieEmbeddedEndpoint)endpoint;
+        unwrapper = KieInsertProducer.getUnwrapper(ke.getAction());
+        worker = KieInsertProducer.createWorker(ke, unwrapper);
+        batchSize = ke.getBatchSize();
+        batchLinger = ke.getBatchLinger();
+        async = ke.isAsyncBatch();
+
+        int capacity = ke.getMaxPendingExchanges() > 0 ? ke.getMaxPendingExchanges() : batchSize * 10;
+        pending = new ArrayBlockingQueue<PendingExchange>(Math.max(capacity, batchSize));
+    }
+
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        PendingExchange pendingExchange = async ? new PendingExchange(exchange, callback) : new PendingExchange(exchange, null);
+        lifecycleLock.readLock().lock();
+        try {
+            if (!running) {
+                exchange.setException(new IllegalStateException("Producer for " + ke.getEndpointUri() + " is not started"));
+                callback.done(true);
+                return true;
+            }
+            // blocks the sender when the session falls behind, the flusher keeps
+            // draining the queue as long as the producer is running
+            pending.put(pendingExchange);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            exchange.setException(e);
+            callback.done(true);
+            return true;
+        } finally {
+            lifecycleLock.readLock().unlock();
+        }
+
+        if (async) {
+            return false;
+        }
+
+        try {
+            pendingExchange.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            exchange.setException(e);
+        }
+        callback.done(true);
+        return true;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        lifecycleLock.writeLock().lock();
+        try {
+            running = true;
+        } finally {
+            lifecycleLock.writeLock().unlock();
+        }
+        flusher = ke.getCamelContext().getExecutorServiceManager().newSingleThreadExecutor(this, "KieBatchInsert");
+        flusher.submit(new Runnable() {
+            public void run() {
+                flushLoop();
+            }
+        });
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        lifecycleLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            lifecycleLock.writeLock().unlock();
+        }
+        // no exchange is enqueued from now on
+        if (flusher != null) {
+            ke.getCamelContext().getExecutorServiceManager().shutdownGraceful(flusher);
+            flusher = null;
+        }
+        // whatever is left behind is inserted before stopping
+        List<PendingExchange> batch = new ArrayList<PendingExchange>();
+        while (pending.drainTo(batch, batchSize) > 0) {
+            insert(batch);
+            batch.clear();
+        }
+        super.doStop();
+    }
+
+    private void flushLoop() {
+        List<PendingExchange> batch = new ArrayList<PendingExchange>(batchSize);
+        while (running) {
+            try {
+                PendingExchange first = pending.poll(IDLE_POLL, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(batchLinger);
+                while (batch.size() < batchSize) {
+                    if (pending.drainTo(batch, batchSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    PendingExchange next = pending.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                insert(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                insert(batch);
+                return;
+            } catch (Throwable t) {
+                // the flusher is the only consumer of the queue, it must outlive any failure
+                log.error("Unexpected error while flushing exchanges of {}", ke.getEndpointUri(), t);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /** Inserts given exchanges and completes every one of them, whatever happens */
+    private void insert(List<PendingExchange> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        Throwable failure = null;
+        try {
+            List<Object> objects = new ArrayList<Object>(batch.size());
+            for (PendingExchange pendingExchange : batch) {
+                objects.add(unwrapper.getObject(pendingExchange.exchange));
+            }
+            worker.processAll(objects);
+        } catch (Throwable t) {
+            log.error("Error inserting batch of {} exchanges into {}", batch.size(), ke.getEndpointUri(), t);
+            failure = t;
+        }
+
+        for (PendingExchange pendingExchange : batch) {
+            try {
+                try {
+                    if (failure != null) {
+                        pendingExchange.exchange.setException(failure);
+                    }
+                } finally {
+                    pendingExchange.done();
+                }
+            } catch (Throwable t) {
+                // a failing callback must not keep the rest of the batch waiting
+                log.error("Error completing exchange of {}", ke.getEndpointUri(), t);
+            }
+        }
+    }
+
+    /** An exchange waiting to be inserted, either with the callback to complete it
+     * asynchronously or with a latch the sending thread waits on */
+    private static class PendingExchange {
+        private final Exchange exchange;
+        private final AsyncCallback callback;
+        private final CountDownLatch latch;
+
+        PendingExchange(Exchange exchange, AsyncCallback callback) {
+            this.exchange = exchange;
+            this.callback = callback;
+            this.latch = callback == null ? new CountDownLatch(1) : null;
+        }
+
+        void await() throws InterruptedException {
+            latch.await();
+        }
+
+        void done() {
+            if (callback != null) {
+                callback.done(false);
+            } else {
+                latch.countDown();
+            }
+        }
+    }
+}
@@ -99,6 +99,12 @@ public class KieEmbeddedEndpoint extends DefaultEndpoint {
     private String entryPoint = null;
     private String channel = null;
 
+    // batching of insert actions, disabled unless batchSize > 1
+    private int batchSize = 1;
+    private long batchLinger = 0;
+    private int maxPendingExchanges = 0;
+    private boolean asyncBatch = false;
+
     public KieEmbeddedEndpoint(String endpointUri, String remaining, KieComponent component) throws URISyntaxException {
         super(endpointUri, component);
         configure(component, remaining);
@@ -111,6 +117,8 @@ public class KieEmbeddedEndpoint extends DefaultEndpoint {
     public Producer createProducer() throws Exception {
         if (Action.EXECUTE.equals(action)) {
             return new KieExecuteProducer(this);
+        } else if (batchSize > 1) {
+            return new KieBatchInsertProducer(this);
         } else {
             return new KieInsertProducer(this);
         }
@@ -161,13 +169,17 @@ public class KieEmbeddedEndpoint extends DefaultEndpoint {
     }
 
     public String getLookup(String body) {
-        Matcher m = P.matcher(body);
-        String name = null;
-        if (m.find()) {
-            name = m.group(1);
-        }
+        return findLookup(body);
+    }
 
-        return name;
+    /** Finds the value of the first lookup attribute in the given payload, the
+     * match stops at its first occurrence. */
+    public static String findLookup(CharSequence body) {
+        if (body == null) {
+            return null;
+        }
+        Matcher m = P.matcher(body);
+        return m.find() ? m.group(1) : null;
     }
 
     public CommandExecutor getCommandExecutor(String name) {
@@ -232,6 +244,49 @@ public class KieEmbeddedEndpoint extends DefaultEndpoint {
         this.channel = channel;
     }
 
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /** Maximum number of exchanges inserted into the session at once. Values greater
+     * than 1 enable the batching insert producer. The facts of a batch are inserted
+     * by a single execution, so with a stateless session rules can match facts of
+     * different messages. */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getBatchLinger() {
+        return batchLinger;
+    }
+
+    /** Maximum time in milliseconds a batch waits for more exchanges before being inserted.
+     * Defaults to 0, batches are then made of exchanges that arrived while the previous
+     * batch was executed. */
+    public void setBatchLinger(long batchLinger) {
+        this.batchLinger = batchLinger;
+    }
+
+    public int getMaxPendingExchanges() {
+        return maxPendingExchanges;
+    }
+
+    /** Number of exchanges that can be waiting for insertion before senders are blocked.
+     * Defaults to ten times the batch size when not set. */
+    public void setMaxPendingExchanges(int maxPendingExchanges) {
+        this.maxPendingExchanges = maxPendingExchanges;
+    }
+
+    public boolean isAsyncBatch() {
+        return asyncBatch;
+    }
+
+    /** When true exchanges are completed asynchronously once their batch is inserted,
+     * otherwise the sending thread waits for the batch to be executed. */
+    public void setAsyncBatch(boolean asyncBatch) {
+        this.asyncBatch = asyncBatch;
+    }
+
     public Exchange createExchange(Object pojo) {
         DefaultMessage msg = new DefaultMessage();
         msg.setBody(pojo);
@@ -29,10 +29,14 @@
 
 package org.kie.camel.embedded.component;
 
+import java.util.List;
+
 import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
 import org.apache.camel.impl.DefaultProducer;
+import org.kie.api.command.ExecutableCommand;
 import org.kie.api.runtime.CommandExecutor;
+import org.kie.api.runtime.Context;
 import org.kie.api.runtime.rule.EntryPoint;
 import org.kie.internal.runtime.StatefulKnowledgeSession;
 import org.kie.internal.runtime.StatelessKnowledgeSession;
@@ -57,21 +61,15 @@ public class KieInsertProducer extends DefaultProducer {
 
         // Configures this Producer with the proper action
         // by composing strategy objects
-        KieEmbeddedEndpoint.Action action = ke.getAction();
-        Unwrapper unwrapper = null;
-        switch (action) {
-        case INSERT_BODY:
-            unwrapper = BodyUnwrapper.INSTANCE;
-            break;
-        case INSERT_MESSAGE:
-            unwrapper = MessageUnwrapper.INSTANCE;
-            break;
-        case INSERT_EXCHANGE:
-            unwrapper = ExchangeUnwrapper.INSTANCE;
-            break;
-        }
+        worker = createWorker(ke, getUnwrapper(ke.getAction()));
+    }
+
+    public void process(Exchange exchange) throws Exception {
+        worker.process(exchange);
+    }
 
-        // Creates the actual worker
+    /** Creates the worker inserting into the session (or its entry point) of given endpoint */
+    static InsertWorker createWorker(KieEmbeddedEndpoint ke, Unwrapper unwrapper) {
         CommandExecutor exec = ke.getExecutor();
         if (exec instanceof StatefulKnowledgeSession) {
             EntryPoint wmep;
@@ -81,27 +79,42 @@ public class KieInsertProducer extends DefaultProducer {
             } else {
                 wmep = (EntryPoint)exec;
             }
-            worker = new StatefulSessionInsertWorker(wmep, unwrapper);
+            return new StatefulSessionInsertWorker(exec, wmep, unwrapper);
         } else {
-            worker = new StatelessSessionInsertWorker((StatelessKnowledgeSession)exec, unwrapper);
+            return new StatelessSessionInsertWorker((StatelessKnowledgeSession)exec, unwrapper);
         }
     }
 
-    public void process(Exchange exchange) throws Exception {
-        worker.process(exchange);
+    /** Returns the unwrapper strategy matching the given insert action */
+    static Unwrapper getUnwrapper(KieEmbeddedEndpoint.Action action) {
+        switch (action) {
+        case INSERT_BODY:
+            return BodyUnwrapper.INSTANCE;
+        case INSERT_MESSAGE:
+            return MessageUnwrapper.INSTANCE;
+        case INSERT_EXCHANGE:
+            return ExchangeUnwrapper.INSTANCE;
+        default:
+            return null;
+        }
     }
 
     /** An interface for the worker strategy */
-    private static interface InsertWorker {
+    static interface InsertWorker {
         public void process(Exchange exchange) throws Exception;
+
+        /** Inserts the objects of several exchanges, the way each of them would be inserted alone */
+        public void processAll(List<Object> objects);
     }
 
     /** A stateful implementation for the worker */
     private static class StatefulSessionInsertWorker implements InsertWorker {
+        private CommandExecutor exec;
         private EntryPoint wmep;
         private Unwrapper unwrapper;
 
-        public StatefulSessionInsertWorker(EntryPoint wmep, Unwrapper unwrapper) {
+        public StatefulSessionInsertWorker(CommandExecutor exec, EntryPoint wmep, Unwrapper unwrapper) {
+            this.exec = exec;
             this.wmep = wmep;
             this.unwrapper = unwrapper;
         }
@@ -109,6 +122,11 @@ public class KieInsertProducer extends DefaultProducer {
         public void process(Exchange exchange) throws Exception {
             this.wmep.insert(unwrapper.getObject(exchange));
         }
+
+        public void processAll(List<Object> objects) {
+            // a plain command does not fire rules, unlike a BatchExecutionCommand
+            this.exec.execute(new InsertObjectsCommand(wmep, objects));
+        }
     }
 
     /** A stateless implementation for the worker */
@@ -124,11 +142,36 @@ public class KieInsertProducer extends DefaultProducer {
         public void process(Exchange exchange) throws Exception {
             this.ksession.execute(unwrapper.getObject(exchange));
         }
+
+        public void processAll(List<Object> objects) {
+            // every message still gets a session of its own
+            for (Object object : objects) {
+                this.ksession.execute(object);
+            }
+        }
+    }
+
+    /** Inserts several objects into an entry point in a single command execution */
+    private static class InsertObjectsCommand implements ExecutableCommand<Void> {
+        private final EntryPoint wmep;
+        private final List<Object> objects;
+
+        InsertObjectsCommand(EntryPoint wmep, List<Object> objects) {
+            this.wmep = wmep;
+            this.objects = objects;
+        }
+
+        public Void execute(Context context) {
+            for (Object object : objects) {
+                wmep.insert(object);
+            }
+            return null;
+        }
     }
 
     /** Another strategy interface to properly process incoming objects
      * selecting between body, message or exchange */
-    private static interface Unwrapper {
+    static interface Unwrapper {
         public Object getObject(Exchange exchange);
     }
 
@@ -41,6 +41,7 @@ import org.apache.camel.model.dataformat.XStreamDataFormat;
 import org.apache.camel.spi.Policy;
 import org.apache.camel.spi.RouteContext;
 import org.drools.compiler.runtime.pipeline.impl.DroolsJaxbHelperProviderImpl;
+import org.drools.core.command.runtime.BatchExecutionCommandImpl;
 import org.drools.core.util.StringUtils;
 import org.kie.api.runtime.CommandExecutor;
 import org.kie.jax.soap.PostCxfSoapProcessor;
@@ -263,7 +264,16 @@ public class KiePolicy implements Policy {
             // Bad Hack - Need to remote it and fix it in Camel (if it's a camel problem)
             // I need to copy the body of the exachange because for some reason
             // the getContext().getEndpoint() erase the content/or loose the reference
-            String body = exchange.getIn().getBody(String.class);
+            // a body that was already unmarshalled carries its lookup and is passed on
+            // unchanged, a String body is used as is
+            Object payload = exchange.getIn().getBody();
+            BatchExecutionCommandImpl command = payload instanceof BatchExecutionCommandImpl ? (BatchExecutionCommandImpl)payload : null;
+            String body = null;
+            if (payload instanceof String) {
+                body = (String)payload;
+            } else if (command == null) {
+                body = exchange.getIn().getBody(String.class);
+            }
             if (ke == null) {
 
                 this.ke = exchange.getContext().getEndpoint(this.kieUri, KieEmbeddedEndpoint.class);
@@ -282,8 +292,7 @@ public class KiePolicy implements Policy {
                     String lookup = exchange.getIn().getHeader(KieComponent.KIE_LOOKUP, String.class);
                     if (StringUtils.isEmpty(lookup)) {
                         // Bad Hack - Need to remote it and fix it in Camel (if it's a camel problem)
-                        lookup = ke.getLookup(body);
-                        // lookup = ke.getLookup( exchange.getIn().getBody( String.class ) );
+                        lookup = command != null ? command.getLookup() : ke.getLookup(body);
                     }
 
                     if (StringUtils.isEmpty(lookup)) {
@@ -312,7 +321,13 @@ public class KiePolicy implements Policy {
                 // Bad Hack - Need to remote it and fix it in Camel (if it's a camel problem)
                 // I need to re set the Body because the exchange loose the content at
                 // the begining of the method
-                exchange.getIn().setBody(new ByteArrayInputStream(body.getBytes("UTF-8")));
+                if (command != null) {
+                    exchange.getIn().setBody(command);
+                } else if (payload instanceof String) {
+                    exchange.getIn().setBody(body);
+                } else {
+                    exchange.getIn().setBody(new ByteArrayInputStream(body.getBytes("UTF-8")));
+                }
 
                 boolean soap = false;
                 if (!augmented && exchange.getFromEndpoint() instanceof CxfSpringEndpoint) {
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.camel.embedded.camel.component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.naming.Context;
+
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.Test;
+import org.kie.api.event.rule.AfterMatchFiredEvent;
+import org.kie.api.event.rule.AgendaEventListener;
+import org.kie.api.event.rule.ObjectInsertedEvent;
+import org.kie.api.event.rule.RuleRuntimeEventListener;
+import org.kie.api.runtime.KieSession;
+import org.kie.pipeline.camel.Person;
+import org.mockito.ArgumentCaptor;
+
+import static org.hamcrest.core.Is.is;
+import static org.mockito.Mockito.*;
+
+public class CamelEndpointActionBatchInsertTest extends KieCamelTestSupport {
+    private KieSession ksession;
+    private RuleRuntimeEventListener wmel;
+    private AgendaEventListener ael;
+
+    @Test
+    public void testBatchInsert() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            Person person = new Person();
+            person.setName("Bob" + i);
+            template.sendBody("direct:test-batch", person);
+        }
+
+        ArgumentCaptor<ObjectInsertedEvent> oie = ArgumentCaptor.forClass(ObjectInsertedEvent.class);
+        verify(wmel, times(5)).objectInserted(oie.capture());
+        assertThat(((Person)oie.getAllValues().get(4).getObject()).getName(), is("Bob4"));
+    }
+
+    @Test
+    public void testAsyncBatchInsertEntryPoint() throws Exception {
+        List<Future<Object>> replies = new ArrayList<Future<Object>>();
+        for (int i = 0; i < 25; i++) {
+            Person person = new Person();
+            person.setName("Bob" + i);
+            replies.add(template.asyncSendBody("direct:test-async-batch", person));
+        }
+        for (Future<Object> reply : replies) {
+            reply.get(5, TimeUnit.SECONDS);
+        }
+
+        verify(wmel, times(25)).objectInserted(any(ObjectInsertedEvent.class));
+        assertThat(ksession.getEntryPoint("ep1").getFactCount(), is(25L));
+    }
+
+    @Test
+    public void testBatchInsertDoesNotFireRules() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            Person person = new Person();
+            person.setName("Bob" + i);
+            template.sendBody("direct:test-batch", person);
+        }
+
+        verify(wmel, times(5)).objectInserted(any(ObjectInsertedEvent.class));
+        verify(ael, never()).afterMatchFired(any(AfterMatchFiredEvent.class));
+        assertThat(ksession.fireAllRules(), is(5));
+    }
+
+    @Test
+    public void testFailedBatchCompletesExchangesAndFlusherGoesOn() throws Exception {
+        try {
+            template.sendBody("direct:test-batch", new Faulty());
+            fail("Insert of a fact failing its constraint should fail the exchange");
+        } catch (CamelExecutionException e) {
+            // expected, the sender is not left waiting
+        }
+
+        Person person = new Person();
+        person.setName("Bob");
+        template.sendBody("direct:test-batch", person);
+
+        assertThat(ksession.getObjects().contains(person), is(true));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            public void configure() throws Exception {
+                from("direct:test-batch").to("kie-local://ksession1?action=insertBody&batchSize=10&batchLinger=20");
+                from("direct:test-async-batch").to("kie-local://ksession1?action=insertBody&entryPoint=ep1&batchSize=10&batchLinger=20&asyncBatch=true");
+            }
+        };
+    }
+
+    @Override
+    protected void configureDroolsContext(Context jndiContext) {
+        String rule = "";
+        rule += "import " + Person.class.getCanonicalName() + ";\n";
+        rule += "rule rule1 \n";
+        rule += "  when \n";
+        rule += "    $p : Person() \n";
+        rule += "  then \n";
+        rule += "    // no-op \n";
+        rule += "end\n";
+        rule += "rule rule3 \n";
+        rule += "  when \n";
+        rule += "    " + Faulty.class.getCanonicalName() + "( name == \"x\" ) \n";
+        rule += "  then \n";
+        rule += "    // no-op \n";
+        rule += "end\n";
+        rule += "rule rule2 \n";
+        rule += "  when \n";
+        rule += "    $p : Person() from entry-point ep1 \n";
+        rule += "  then \n";
+        rule += "    // no-op \n";
+        rule += "end\n";
+
+        ksession = registerKnowledgeRuntime("ksession1", rule);
+        wmel = mock(RuleRuntimeEventListener.class);
+        ksession.addEventListener(wmel);
+        ael = mock(AgendaEventListener.class);
+        ksession.addEventListener(ael);
+    }
+
+    public static class Faulty {
+
+        public String getName() {
+            throw new IllegalStateException("Faulty fact");
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.camel.embedded.camel.component;
+
+import java.util.regex.Matcher;
+
+import org.junit.Test;
+import org.kie.camel.embedded.component.KieEmbeddedEndpoint;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class KieEmbeddedEndpointLookupTest {
+
+    @Test
+    public void testXmlLookup() {
+        assertLookup("<batch-execution lookup=\"ksession1\"><insert out-identifier=\"lucaz\"/></batch-execution>", "ksession1");
+        assertLookup("<batch-execution lookup = 'ksession1'/>", "ksession1");
+    }
+
+    @Test
+    public void testJsonLookup() {
+        assertLookup("{\"batch-execution\":{\"lookup\" : \"ksession1\", \"commands\":[]}}", "ksession1");
+        assertLookup("{'lookup':'ksession1'}", "ksession1");
+    }
+
+    @Test
+    public void testFirstValidOccurrenceWins() {
+        assertLookup("<lookup-table/><batch-execution lookup=''/><batch-execution lookup='ks2'/><x lookup='ks3'/>", "ks2");
+    }
+
+    @Test
+    public void testNoLookup() {
+        assertLookup("<batch-execution><insert/></batch-execution>", null);
+        assertNull(KieEmbeddedEndpoint.findLookup(null));
+    }
+
+    private static void assertLookup(String body, String expected) {
+        Matcher m = KieEmbeddedEndpoint.P.matcher(body);
+        assertEquals(expected, m.find() ? m.group(1) : null);
+        assertEquals(expected, KieEmbeddedEndpoint.findLookup(body));
+    }
+}
@@ -16,7 +16,9 @@
 package org.kie.maven.plugin;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
@@ -32,6 +34,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -41,6 +46,7 @@ import org.apache.maven.artifact.DependencyResolutionRequiredException;
 import org.apache.maven.artifact.resolver.filter.CumulativeScopeArtifactFilter;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugin.logging.Log;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
@@ -54,6 +60,7 @@ import org.drools.compiler.kie.builder.impl.FileKieModule;
 import org.drools.compiler.kie.builder.impl.InternalKieModule;
 import org.drools.compiler.kie.builder.impl.KieBuilderImpl;
 import org.drools.compiler.kie.builder.impl.KieMetaInfoBuilder;
+import org.drools.compiler.kie.builder.impl.KieModuleKieProject;
 import org.drools.compiler.kie.builder.impl.MemoryKieModule;
 import org.drools.compiler.kie.builder.impl.ResultsImpl;
 import org.drools.compiler.kie.builder.impl.ZipKieModule;
@@ -66,6 +73,7 @@ import org.kie.api.KieServices;
 import org.kie.api.builder.KieFileSystem;
 import org.kie.api.builder.Message;
 import org.kie.api.builder.ReleaseId;
+import org.kie.api.builder.model.KieBaseModel;
 import org.kie.api.builder.model.KieModuleModel;
 import org.kie.internal.io.ResourceFactory;
 
@@ -113,6 +121,16 @@ public class BuildMojo extends AbstractKieMojo {
     @Parameter(property = "generateModel", defaultValue = "no")
     private String generateModel;
 
+    /**
+     * When enabled the fingerprints of resources, dependencies and project classes are kept in the build directory
+     * and the kjar is not compiled again while none of them changed and the previously written files are in place.
+     */
+    @Parameter(property = "incrementalBuild", defaultValue = "false")
+    private boolean incrementalBuild;
+
+    @Parameter(required = true, defaultValue = "${project.build.directory}")
+    private File buildDirectory;
+
     public void execute() throws MojoExecutionException, MojoFailureException {
         if(!ExecModelMode.shouldGenerateModel(generateModel)) {
             buildDrl();
@@ -120,6 +138,28 @@ public class BuildMojo extends AbstractKieMojo {
     }
 
     private void buildDrl() throws MojoFailureException {
+        // later goals of the same build rely on them even when compilation is skipped
+        setSystemProperties(properties);
+
+        KieBuildCache previousBuild = null;
+        KieBuildCache currentBuild = null;
+        if (incrementalBuild && isKieMapShared()) {
+            // the KieModule is handed over in memory and the outputs on disk are not the ones of this build
+            getLog().info("KieModule is shared through the kie map, incremental build is disabled");
+            KieBuildCache.delete(getBuildCacheFile());
+        } else if (incrementalBuild) {
+            previousBuild = KieBuildCache.read(getBuildCacheFile());
+            currentBuild = fingerprintInputs(previousBuild);
+            Set<String> changedInputs = currentBuild.changedInputs(previousBuild);
+            if (changedInputs.isEmpty() && previousBuild.verifyOutputs(outputDirectory)) {
+                getLog().info("KieModule is up to date, reusing " + previousBuild.getOutputs().size() + " previously built files");
+                return;
+            }
+            reportChanges(changedInputs);
+            // a failed build must not leave the previous fingerprints behind
+            KieBuildCache.delete(getBuildCacheFile());
+        }
+
         ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
 
         List<InternalKieModule> kmoduleDeps = new ArrayList<>();
@@ -156,8 +196,6 @@ public class BuildMojo extends AbstractKieMojo {
         KieServices ks = KieServices.Factory.get();
 
         try {
-            setSystemProperties(properties);
-
             KieFileSystem kfs = ks.newKieFileSystem();
             for (File file : getResourceFiles(sourceFolder)) {
                 if (!file.getPath().contains("META-INF")) {
@@ -171,7 +209,8 @@ public class BuildMojo extends AbstractKieMojo {
                 kModule.addKieDependency(kmoduleDep);
             }
 
-            kieBuilder.buildAll();
+            kieBuilder.buildAll((kieModule, classLoader) -> new TimedKieModuleKieProject(kieModule, classLoader, getLog()),
+                                className -> true);
             ResultsImpl messages = (ResultsImpl)kieBuilder.getResults();
 
             List<Message> errors = messages != null ? messages.filterMessages( Message.Level.ERROR): Collections.emptyList();
@@ -186,6 +225,7 @@ public class BuildMojo extends AbstractKieMojo {
                 }
             } else {
                 new KieMetaInfoBuilder(kModule).writeKieModuleMetaInfo(new DiskResourceStore(outputDirectory));
+                recordOutput(currentBuild, KieModuleModelImpl.KMODULE_INFO_JAR_PATH);
             }
 
             if (!errors.isEmpty()) {
@@ -194,7 +234,12 @@ public class BuildMojo extends AbstractKieMojo {
                 }
                 throw new MojoFailureException("Build failed!");
             } else {
-                writeClassFiles( kModule );
+                writeClassFiles( kModule, previousBuild, currentBuild );
+            }
+
+            if (currentBuild != null) {
+                deleteStaleOutputs(previousBuild, currentBuild);
+                writeBuildCache(currentBuild);
             }
         } finally {
             Thread.currentThread().setContextClassLoader(contextClassLoader);
@@ -220,23 +265,42 @@ public class BuildMojo extends AbstractKieMojo {
         return files;
     }
 
-    private void writeClassFiles( InternalKieModule kModule ) throws MojoFailureException {
+    private void writeClassFiles( InternalKieModule kModule, KieBuildCache previousBuild, KieBuildCache currentBuild ) throws MojoFailureException {
         MemoryFileSystem mfs = ((MemoryKieModule )kModule).getMemoryFileSystem();
+        int[] unchanged = new int[1];
         kModule.getFileNames()
                 .stream()
                 .filter(name -> name.endsWith(".class"))
                 .forEach( fileName -> {
                     try {
-                        saveFile( mfs, fileName );
+                        if (!saveFile( mfs, fileName, previousBuild, currentBuild )) {
+                            unchanged[0]++;
+                        }
                     } catch (MojoFailureException e) {
                         throw new RuntimeException( e );
                     }
                 } );
+        if (currentBuild != null) {
+            getLog().info("Written " + (currentBuild.getOutputs().size() - unchanged[0]) + " files, " + unchanged[0] + " were unchanged");
+        }
     }
 
-    private void saveFile(MemoryFileSystem mfs, String fileName) throws MojoFailureException {
+    /**
+     * @return false if the file was left untouched as the previous build already wrote the same content
+     */
+    private boolean saveFile(MemoryFileSystem mfs, String fileName, KieBuildCache previousBuild, KieBuildCache currentBuild) throws MojoFailureException {
         MemoryFile memFile = (MemoryFile)mfs.getFile(fileName);
-        final Path path = Paths.get(outputDirectory.getPath(), memFile.getPath().toPortableString());
+        final String outputPath = memFile.getPath().toPortableString();
+        final Path path = Paths.get(outputDirectory.getPath(), outputPath);
+
+        if (currentBuild != null) {
+            String fingerprint = KieBuildCache.fingerprint(mfs.getBytes(fileName));
+            currentBuild.addOutput(outputPath, fingerprint);
+            // keeps the timestamp so later steps working on changed classes only do not pick it up
+            if (previousBuild.hasOutput(outputPath, fingerprint) && Files.isRegularFile(path)) {
+                return false;
+            }
+        }
 
         try {
             Files.deleteIfExists(path);
@@ -246,6 +310,155 @@ public class BuildMojo extends AbstractKieMojo {
             iox.printStackTrace();
             throw new MojoFailureException("Unable to write file", iox);
         }
+        return true;
+    }
+
+    private File getBuildCacheFile() {
+        return new File(buildDirectory, KieBuildCache.CACHE_FILE_NAME);
+    }
+
+    /**
+     * Fingerprints everything the build reads: resources, kmodule dependencies, compiled project classes
+     * (except the ones written by the previous build), configured properties and the engine version.
+     */
+    private KieBuildCache fingerprintInputs(KieBuildCache previousBuild) throws MojoFailureException {
+        KieBuildCache cache = new KieBuildCache();
+        try {
+            for (File file : getResourceFiles(sourceFolder)) {
+                cache.addInput("resource:" + relativePath(sourceFolder, file), KieBuildCache.fingerprint(file));
+            }
+
+            project.setArtifactFilter(new CumulativeScopeArtifactFilter(Arrays.asList("compile", "runtime")));
+            for (Artifact artifact : project.getArtifacts()) {
+                File file = artifact.getFile();
+                if (file != null) {
+                    // released artifacts do not change, size and timestamp are enough to detect updated snapshots
+                    cache.addInput("dependency:" + artifact.getId(), file.length() + "@" + file.lastModified());
+                }
+            }
+
+            if (outputDirectory.isDirectory()) {
+                try (Stream<Path> classes = Files.walk(outputDirectory.toPath())) {
+                    for (Path path : classes.filter(p -> p.toString().endsWith(".class")).collect(Collectors.toList())) {
+                        String classPath = relativePath(outputDirectory, path.toFile());
+                        if (!previousBuild.getOutputs().containsKey(classPath)) {
+                            cache.addInput("class:" + classPath, KieBuildCache.fingerprint(path.toFile()));
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new MojoFailureException("Unable to fingerprint project files", e);
+        }
+
+        if (properties != null) {
+            properties.forEach((key, value) -> cache.addInput("property:" + key, KieBuildCache.fingerprint(value)));
+        }
+        cache.addInput("engine", KieBuildCache.fingerprint(KieBuilderImpl.class.getPackage().getImplementationVersion()));
+        return cache;
+    }
+
+    private void reportChanges(Set<String> changedInputs) {
+        if (changedInputs.isEmpty()) {
+            getLog().info("Previous build output is missing or was modified, rebuilding KieModule");
+            return;
+        }
+        getLog().info("Rebuilding KieModule, " + changedInputs.size() + " changed inputs affect KieBases " + getAffectedKieBases(changedInputs));
+        if (getLog().isDebugEnabled()) {
+            changedInputs.forEach(input -> getLog().debug("Changed " + input));
+        }
+    }
+
+    /**
+     * Changes of dependencies, classes or kmodule.xml can affect any KieBase, changed resources only affect
+     * the KieBases including their package.
+     */
+    private Set<String> getAffectedKieBases(Set<String> changedInputs) {
+        KieModuleModel kieModuleModel = getKieModuleModel();
+        if (kieModuleModel == null || kieModuleModel.getKieBaseModels().isEmpty()) {
+            return Collections.singleton("<default>");
+        }
+        Set<String> allKieBases = new TreeSet<>(kieModuleModel.getKieBaseModels().keySet());
+        Set<String> affected = new TreeSet<>();
+        for (String input : changedInputs) {
+            if (!input.startsWith("resource:") || input.contains("META-INF")) {
+                return allKieBases;
+            }
+            String resourcePath = input.substring("resource:".length());
+            int lastSlash = resourcePath.lastIndexOf('/');
+            String pkgName = lastSlash < 0 ? "" : resourcePath.substring(0, lastSlash).replace('/', '.');
+            for (KieBaseModel kieBaseModel : kieModuleModel.getKieBaseModels().values()) {
+                if (isPackageInKieBase(kieBaseModel, pkgName)) {
+                    affected.add(kieBaseModel.getName());
+                }
+            }
+        }
+        return affected;
+    }
+
+    private KieModuleModel getKieModuleModel() {
+        File kmoduleFile = new File(sourceFolder, KieModuleModelImpl.KMODULE_JAR_PATH);
+        if (!kmoduleFile.isFile()) {
+            return null;
+        }
+        try (InputStream in = new FileInputStream(kmoduleFile)) {
+            return KieModuleModelImpl.fromXML(in);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static boolean isPackageInKieBase(KieBaseModel kieBaseModel, String pkgName) {
+        List<String> packages = kieBaseModel.getPackages();
+        if (packages.isEmpty()) {
+            return true;
+        }
+        for (String pkg : packages) {
+            if (pkg.equals("*") || pkg.equals(pkgName)) {
+                return true;
+            }
+            if (pkg.endsWith(".*")) {
+                String prefix = pkg.substring(0, pkg.length() - 2);
+                if (pkgName.equals(prefix) || pkgName.startsWith(prefix + ".")) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean isKieMapShared() {
+        return container != null && !getKieMap().isEmpty();
+    }
+
+    private void recordOutput(KieBuildCache currentBuild, String outputPath) throws MojoFailureException {
+        File file = new File(outputDirectory, outputPath);
+        if (currentBuild != null && file.isFile()) {
+            try {
+                currentBuild.addOutput(outputPath, KieBuildCache.fingerprint(file));
+            } catch (IOException e) {
+                throw new MojoFailureException("Unable to fingerprint " + file, e);
+            }
+        }
+    }
+
+    private void deleteStaleOutputs(KieBuildCache previousBuild, KieBuildCache currentBuild) {
+        currentBuild.deleteStaleOutputs(previousBuild, outputDirectory)
+                .forEach(outputPath -> getLog().debug("Deleted " + outputPath + " which is no longer generated"));
+    }
+
+    private void writeBuildCache(KieBuildCache currentBuild) {
+        // outputs of this build are not inputs of the next one
+        currentBuild.getOutputs().keySet().forEach(outputPath -> currentBuild.removeInput("class:" + outputPath));
+        try {
+            currentBuild.write(getBuildCacheFile());
+        } catch (IOException e) {
+            getLog().warn("Unable to write build cache " + getBuildCacheFile() + ", next build will be a full build", e);
+        }
+    }
+
+    private static String relativePath(File root, File file) {
+        return root.toPath().relativize(file.toPath()).toString().replace(File.separatorChar, '/');
     }
 
     private Map<String, Object> getKieMap() {
@@ -285,4 +498,19 @@ public class BuildMojo extends AbstractKieMojo {
         }
         return null;
     }
-}
\ No newline at end of file
+
+    public static class TimedKieModuleKieProject extends KieModuleKieProject {
+
+        private final TimedKieBaseBuilder kieBaseBuilder;
+
+        public TimedKieModuleKieProject(InternalKieModule kieModule, ClassLoader classLoader, Log log) {
+            super(kieModule, classLoader);
+            this.kieBaseBuilder = new TimedKieBaseBuilder(this, log);
+        }
+
+        @Override
+        public void verify(ResultsImpl messages) {
+            kieBaseBuilder.verify(messages);
+        }
+    }
+}
@@ -28,6 +28,7 @@ import org.apache.maven.artifact.DependencyResolutionRequiredException;
 import org.apache.maven.artifact.resolver.filter.CumulativeScopeArtifactFilter;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugin.logging.Log;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
@@ -135,7 +136,7 @@ public class GenerateModelMojo extends AbstractKieMojo {
             setSystemProperties(properties);
 
             final KieBuilderImpl kieBuilder = (KieBuilderImpl) ks.newKieBuilder(projectDir);
-            kieBuilder.buildAll(ExecutableModelMavenProject.SUPPLIER, s -> {
+            kieBuilder.buildAll((kieModule, classLoader) -> new ExecutableModelMavenProject.ExecutableModelMavenPluginKieProject(kieModule, classLoader, getLog()), s -> {
                 return !s.contains("src/test/java") && !s.contains("src\\test\\java");
             });
 
@@ -244,8 +245,24 @@ public class GenerateModelMojo extends AbstractKieMojo {
 
         public static class ExecutableModelMavenPluginKieProject extends CanonicalModelKieProject {
 
+            private final TimedKieBaseBuilder kieBaseBuilder;
+
             public ExecutableModelMavenPluginKieProject(InternalKieModule kieModule, ClassLoader classLoader) {
+                this(kieModule, classLoader, null);
+            }
+
+            public ExecutableModelMavenPluginKieProject(InternalKieModule kieModule, ClassLoader classLoader, Log log) {
                 super(true, kieModule, classLoader);
+                this.kieBaseBuilder = log == null ? null : new TimedKieBaseBuilder(this, log);
+            }
+
+            @Override
+            public void verify(ResultsImpl messages) {
+                if (kieBaseBuilder == null) {
+                    super.verify(messages);
+                } else {
+                    kieBaseBuilder.verify(messages);
+                }
             }
 
             @Override
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.maven.plugin;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Fingerprints of everything a kjar build reads and of the files it writes to the output directory,
+ * kept between builds so a project that did not change does not have to be compiled again.
+ */
+public class KieBuildCache {
+
+    public static final String CACHE_FILE_NAME = "kie-build-cache.properties";
+
+    private static final String INPUT_PREFIX = "input.";
+    private static final String OUTPUT_PREFIX = "output.";
+
+    private final Map<String, String> inputs = new TreeMap<>();
+    private final Map<String, String> outputs = new TreeMap<>();
+
+    /**
+     * Reads the cache of a previous build, missing or unreadable cache results in an empty one
+     * which makes the next build a full build.
+     */
+    public static KieBuildCache read(File cacheFile) {
+        KieBuildCache cache = new KieBuildCache();
+        if (!cacheFile.isFile()) {
+            return cache;
+        }
+        Properties properties = new Properties();
+        try (InputStream in = new FileInputStream(cacheFile)) {
+            properties.load(in);
+        } catch (IOException e) {
+            return cache;
+        }
+        for (String key : properties.stringPropertyNames()) {
+            if (key.startsWith(INPUT_PREFIX)) {
+                cache.inputs.put(key.substring(INPUT_PREFIX.length()), properties.getProperty(key));
+            } else if (key.startsWith(OUTPUT_PREFIX)) {
+                cache.outputs.put(key.substring(OUTPUT_PREFIX.length()), properties.getProperty(key));
+            }
+        }
+        return cache;
+    }
+
+    public static void delete(File cacheFile) {
+        if (cacheFile.exists()) {
+            cacheFile.delete();
+        }
+    }
+
+    public void write(File cacheFile) throws IOException {
+        Properties properties = new Properties();
+        inputs.forEach((key, fingerprint) -> properties.setProperty(INPUT_PREFIX + key, fingerprint));
+        outputs.forEach((path, fingerprint) -> properties.setProperty(OUTPUT_PREFIX + path, fingerprint));
+
+        cacheFile.getParentFile().mkdirs();
+        try (OutputStream out = new FileOutputStream(cacheFile)) {
+            properties.store(out, "KIE build cache");
+        }
+    }
+
+    public void addInput(String key, String fingerprint) {
+        inputs.put(key, fingerprint);
+    }
+
+    public void addOutput(String path, String fingerprint) {
+        outputs.put(path, fingerprint);
+    }
+
+    public void removeInput(String key) {
+        inputs.remove(key);
+    }
+
+    public Map<String, String> getInputs() {
+        return Collections.unmodifiableMap(inputs);
+    }
+
+    public Map<String, String> getOutputs() {
+        return Collections.unmodifiableMap(outputs);
+    }
+
+    public boolean hasOutput(String path, String fingerprint) {
+        return fingerprint.equals(outputs.get(path));
+    }
+
+    /**
+     * @return keys of inputs that were added, removed or changed since given build
+     */
+    public Set<String> changedInputs(KieBuildCache previous) {
+        Set<String> changed = new TreeSet<>();
+        inputs.forEach((key, fingerprint) -> {
+            if (!fingerprint.equals(previous.inputs.get(key))) {
+                changed.add(key);
+            }
+        });
+        previous.inputs.keySet().stream()
+                .filter(key -> !inputs.containsKey(key))
+                .forEach(changed::add);
+        return changed;
+    }
+
+    /**
+     * @return true if this build wrote at least one file and all of them are still unchanged in given directory
+     */
+    public boolean verifyOutputs(File outputDirectory) {
+        if (outputs.isEmpty()) {
+            return false;
+        }
+        for (Map.Entry<String, String> output : outputs.entrySet()) {
+            File file = new File(outputDirectory, output.getKey());
+            try {
+                if (!file.isFile() || !output.getValue().equals(fingerprint(file))) {
+                    return false;
+                }
+            } catch (IOException e) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Deletes the files the previous build wrote which this build no longer generates. Files changed since
+     * the previous build wrote them are not its own anymore and are kept.
+     * @return paths of the deleted files
+     */
+    public Set<String> deleteStaleOutputs(KieBuildCache previous, File outputDirectory) {
+        Set<String> deleted = new TreeSet<>();
+        previous.outputs.forEach((path, fingerprint) -> {
+            if (outputs.containsKey(path)) {
+                return;
+            }
+            File stale = new File(outputDirectory, path);
+            try {
+                if (stale.isFile() && fingerprint.equals(fingerprint(stale)) && stale.delete()) {
+                    deleted.add(path);
+                }
+            } catch (IOException e) {
+                // unreadable file is left in place
+            }
+        });
+        return deleted;
+    }
+
+    public static String fingerprint(File file) throws IOException {
+        MessageDigest digest = newDigest();
+        byte[] buffer = new byte[8192];
+        try (InputStream in = new FileInputStream(file)) {
+            for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return toHex(digest.digest());
+    }
+
+    public static String fingerprint(byte[] content) {
+        return toHex(newDigest().digest(content));
+    }
+
+    public static String fingerprint(String content) {
+        return content == null ? "" : fingerprint(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+}
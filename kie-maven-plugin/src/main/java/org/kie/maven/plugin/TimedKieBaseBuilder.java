@@ -0,0 +1,61 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.maven.plugin;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.plugin.logging.Log;
+import org.drools.compiler.kie.builder.impl.KieProject;
+import org.drools.compiler.kie.builder.impl.ResultsImpl;
+
+/**
+ * Compiles the KieBases of a project one by one, each with its own KnowledgeBuilder, and reports the time spent
+ * compiling every KieBase, slowest first. KieBases are not compiled in parallel, as compiling one defines classes
+ * in the shared project class loader and fills the plain maps of its KieModule.
+ */
+public class TimedKieBaseBuilder {
+
+    private final KieProject kieProject;
+    private final Log log;
+
+    public TimedKieBaseBuilder(KieProject kieProject, Log log) {
+        this.kieProject = kieProject;
+        this.log = log;
+    }
+
+    public void verify(ResultsImpl messages) {
+        Map<String, Long> elapsedPerKieBase = new LinkedHashMap<>();
+        long start = System.nanoTime();
+        for (String kieBaseName : new ArrayList<>(kieProject.getKieBaseNames())) {
+            long kieBaseStart = System.nanoTime();
+            messages.getMessages().addAll(kieProject.verify(kieBaseName).getMessages());
+            elapsedPerKieBase.put(kieBaseName, System.nanoTime() - kieBaseStart);
+        }
+        report(elapsedPerKieBase, System.nanoTime() - start);
+    }
+
+    private void report(Map<String, Long> elapsedPerKieBase, long elapsed) {
+        log.info(String.format("Built %d KieBases in %d ms", elapsedPerKieBase.size(), TimeUnit.NANOSECONDS.toMillis(elapsed)));
+        elapsedPerKieBase.entrySet()
+                .stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, Long> e) -> e.getValue()).reversed())
+                .forEach(e -> log.info(String.format("  KieBase %s built in %d ms", e.getKey(), TimeUnit.NANOSECONDS.toMillis(e.getValue()))));
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.maven.plugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.TreeSet;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class KieBuildCacheTest {
+
+    private static final String CLASS_PATH = "org/example/Rule_1.class";
+
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
+    private File outputDirectory;
+    private File cacheFile;
+
+    @Before
+    public void setup() throws IOException {
+        outputDirectory = temp.newFolder("classes");
+        cacheFile = new File(temp.getRoot(), KieBuildCache.CACHE_FILE_NAME);
+    }
+
+    @Test
+    public void testCacheHitWhenNothingChanged() throws IOException {
+        writePreviousBuild("rule \"r1\" end", "class content");
+
+        KieBuildCache previous = KieBuildCache.read(cacheFile);
+        KieBuildCache current = new KieBuildCache();
+        current.addInput("resource:org/example/rules.drl", KieBuildCache.fingerprint("rule \"r1\" end"));
+
+        assertTrue(current.changedInputs(previous).isEmpty());
+        assertTrue(previous.verifyOutputs(outputDirectory));
+    }
+
+    @Test
+    public void testCacheMissWhenInputChanged() throws IOException {
+        writePreviousBuild("rule \"r1\" end", "class content");
+
+        KieBuildCache previous = KieBuildCache.read(cacheFile);
+        KieBuildCache current = new KieBuildCache();
+        current.addInput("resource:org/example/rules.drl", KieBuildCache.fingerprint("rule \"r2\" end"));
+        current.addInput("dependency:org.example:model:jar:1.0", "10@20");
+
+        assertEquals(new TreeSet<>(Arrays.asList("dependency:org.example:model:jar:1.0", "resource:org/example/rules.drl")),
+                     current.changedInputs(previous));
+    }
+
+    @Test
+    public void testCacheMissWhenOutputModifiedOrMissing() throws IOException {
+        writePreviousBuild("rule \"r1\" end", "class content");
+        KieBuildCache previous = KieBuildCache.read(cacheFile);
+
+        write(CLASS_PATH, "modified by someone else");
+        assertFalse(previous.verifyOutputs(outputDirectory));
+
+        new File(outputDirectory, CLASS_PATH).delete();
+        assertFalse(previous.verifyOutputs(outputDirectory));
+
+        // no previous build at all
+        assertFalse(KieBuildCache.read(new File(temp.getRoot(), "missing.properties")).verifyOutputs(outputDirectory));
+    }
+
+    @Test
+    public void testOnlyUnchangedOutputsOfPreviousBuildAreDeleted() throws IOException {
+        KieBuildCache previous = new KieBuildCache();
+        previous.addOutput(CLASS_PATH, KieBuildCache.fingerprint(write(CLASS_PATH, "class content")));
+        previous.addOutput("org/example/Rule_2.class", KieBuildCache.fingerprint(write("org/example/Rule_2.class", "old content")));
+        previous.addOutput("org/example/Rule_3.class", KieBuildCache.fingerprint("written by previous build"));
+        write("org/example/Rule_3.class", "written by another build");
+        write("META-INF/kmodule.info", "not written by previous build");
+
+        KieBuildCache current = new KieBuildCache();
+        current.addOutput(CLASS_PATH, KieBuildCache.fingerprint("class content".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(Collections.singleton("org/example/Rule_2.class"), current.deleteStaleOutputs(previous, outputDirectory));
+        assertTrue(new File(outputDirectory, CLASS_PATH).isFile());
+        assertFalse(new File(outputDirectory, "org/example/Rule_2.class").exists());
+        assertTrue(new File(outputDirectory, "org/example/Rule_3.class").isFile());
+        assertTrue(new File(outputDirectory, "META-INF/kmodule.info").isFile());
+    }
+
+    private void writePreviousBuild(String resource, String classContent) throws IOException {
+        KieBuildCache build = new KieBuildCache();
+        build.addInput("resource:org/example/rules.drl", KieBuildCache.fingerprint(resource));
+        build.addOutput(CLASS_PATH, KieBuildCache.fingerprint(write(CLASS_PATH, classContent)));
+        build.write(cacheFile);
+    }
+
+    private File write(String path, String content) throws IOException {
+        File file = new File(outputDirectory, path);
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
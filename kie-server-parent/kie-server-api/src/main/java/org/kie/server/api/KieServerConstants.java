@@ -31,6 +31,10 @@ public class KieServerConstants {
     public static final String KIE_OPTAPLANNER_SERVER_EXT_DISABLED = "org.optaplanner.server.ext.disabled";
     public static final String KIE_CASE_SERVER_EXT_DISABLED = "org.jbpm.case.server.ext.disabled";
     public static final String KIE_DMN_SERVER_EXT_DISABLED = "org.kie.dmn.server.ext.disabled";
+    public static final String KIE_DMN_SERVER_BATCH_THREADS = "org.kie.dmn.server.batch.threads";
+    public static final String KIE_DMN_SERVER_BATCH_MAX_SIZE = "org.kie.dmn.server.batch.max.size";
+    public static final String KIE_DMN_SERVER_RESULT_CACHE_SIZE = "org.kie.dmn.server.result.cache.size";
+    public static final String KIE_DMN_SERVER_RESULT_CACHE_TTL = "org.kie.dmn.server.result.cache.ttl";
     public static final String KIE_JBM_SEARCH_SERVER_EXT_DISABLED = "org.jbpm.search.server.ext.disabled";
     public static final String KIE_SWAGGER_SERVER_EXT_DISABLED = "org.kie.swagger.server.ext.disabled";
     public static final String KIE_PROMETHEUS_SERVER_EXT_DISABLED = "org.kie.prometheus.server.ext.disabled";
@@ -48,10 +52,14 @@ public class KieServerConstants {
     public static final String KIE_SERVER_STATE_REPO_TYPE_OPENSHIFT = "KieServerStateOpenShiftRepository";
     public static final String KIE_SERVER_STATE_IMMUTABLE = "org.kie.server.state.immutable";
     public static final String KIE_SERVER_STATE_IMMUTABLE_INIT = "org.kie.server.state.immutable.init";
+    public static final String KIE_SERVER_STATE_OPENSHIFT_WATCH = "org.kie.server.state.openshift.watch";
     public static final String KIE_SERVER_CONTAINER_DEPLOYMENT = "org.kie.server.container.deployment";
     public static final String KIE_SERVER_CONTAINER_LOCATOR = "org.kie.server.container.locator";
+    public static final String KIE_SERVER_CONTAINER_LOCATOR_CACHE_SIZE = "org.kie.server.container.locator.cache.size";
+    public static final String KIE_SERVER_CONTAINER_LOCATOR_NEGATIVE_CACHE_TTL = "org.kie.server.container.locator.cache.negative.ttl";
     public static final String KIE_SERVER_ACTIVATE_POLICIES = "org.kie.server.policy.activate";
     public static final String KIE_SERVER_MGMT_API_DISABLED = "org.kie.server.mgmt.api.disabled";
+    public static final String KIE_SERVER_REST_BUFFERING_DISABLED = "org.kie.server.rest.buffering.disabled";
     public static final String KIE_SERVER_STARTUP_STRATEGY = "org.kie.server.startup.strategy";
     public static final String KIE_SERVER_MODE = "org.kie.server.mode";
 
@@ -117,6 +125,9 @@ public class KieServerConstants {
     public static final String PCFG_KIE_SESSION = "KSession";
     public static final String PCFG_MERGE_MODE = "MergeMode";
 
+    // DMN container configuration item constants
+    public static final String PCFG_DMN_RESULT_CACHE = "DMNResultCache";
+
     public static final String CAPABILITY_BRM = "BRM"; // Business Rules Management
     public static final String CAPABILITY_BPM = "BPM"; // Business Process Management
     public static final String CAPABILITY_BPM_UI = "BPM-UI"; // Business Process Management UI
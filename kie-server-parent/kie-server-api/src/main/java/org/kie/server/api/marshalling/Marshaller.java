@@ -15,6 +15,10 @@
 
 package org.kie.server.api.marshalling;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
 /**
  * These Marshallers implementations must be thread-safe
  */
@@ -22,6 +26,22 @@ public interface Marshaller {
 
     public String marshall(Object input);
 
+    /**
+     * Marshalls given input directly into the output stream (UTF-8 encoded) without building the complete
+     * document as a string first. The output stream is left open.
+     */
+    default void marshall(Object input, OutputStream output) {
+        String marshalled = marshall(input);
+        if (marshalled == null) {
+            return;
+        }
+        try {
+            output.write(marshalled.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new MarshallingException("Error writing marshalled input", e);
+        }
+    }
+
     public <T> T unmarshall(String input, Class<T> type);
    
     public void dispose();
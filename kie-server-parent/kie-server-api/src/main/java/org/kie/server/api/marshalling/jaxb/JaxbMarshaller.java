@@ -15,6 +15,7 @@
 
 package org.kie.server.api.marshalling.jaxb;
 
+import java.io.OutputStream;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.util.ArrayList;
@@ -141,6 +142,9 @@ import org.kie.server.api.model.definition.QueryFilterSpec;
 import org.kie.server.api.model.definition.QueryParam;
 import org.kie.server.api.model.definition.TaskQueryFilterSpec;
 import org.kie.server.api.model.definition.TimerDefinition;
+import org.kie.server.api.model.dmn.DMNBatchContextKS;
+import org.kie.server.api.model.dmn.DMNBatchItemResultKS;
+import org.kie.server.api.model.dmn.DMNBatchResultKS;
 import org.kie.server.api.model.dmn.DMNContextKS;
 import org.kie.server.api.model.dmn.DMNDecisionInfo;
 import org.kie.server.api.model.dmn.DMNDecisionResultKS;
@@ -151,6 +155,8 @@ import org.kie.server.api.model.dmn.DMNModelInfo;
 import org.kie.server.api.model.dmn.DMNModelInfoList;
 import org.kie.server.api.model.dmn.DMNNodeStub;
 import org.kie.server.api.model.dmn.DMNResultKS;
+import org.kie.server.api.model.instance.BulkOperationResult;
+import org.kie.server.api.model.instance.BulkOperationResultList;
 import org.kie.server.api.model.instance.DocumentInstance;
 import org.kie.server.api.model.instance.DocumentInstanceList;
 import org.kie.server.api.model.instance.ErrorInfoInstance;
@@ -162,6 +168,8 @@ import org.kie.server.api.model.instance.ProcessInstance;
 import org.kie.server.api.model.instance.ProcessInstanceCustomVars;
 import org.kie.server.api.model.instance.ProcessInstanceCustomVarsList;
 import org.kie.server.api.model.instance.ProcessInstanceList;
+import org.kie.server.api.model.instance.ProcessStartRequest;
+import org.kie.server.api.model.instance.ProcessStartRequestList;
 import org.kie.server.api.model.instance.RequestInfoInstance;
 import org.kie.server.api.model.instance.RequestInfoInstanceList;
 import org.kie.server.api.model.instance.ScoreWrapper;
@@ -175,12 +183,16 @@ import org.kie.server.api.model.instance.TaskEventInstance;
 import org.kie.server.api.model.instance.TaskEventInstanceList;
 import org.kie.server.api.model.instance.TaskInstance;
 import org.kie.server.api.model.instance.TaskInstanceList;
+import org.kie.server.api.model.instance.TaskOperationRequest;
+import org.kie.server.api.model.instance.TaskOperationRequestList;
 import org.kie.server.api.model.instance.TaskSummary;
 import org.kie.server.api.model.instance.TaskSummaryList;
 import org.kie.server.api.model.instance.TaskWithProcessDescription;
 import org.kie.server.api.model.instance.TaskWithProcessDescriptionList;
 import org.kie.server.api.model.instance.VariableInstance;
 import org.kie.server.api.model.instance.VariableInstanceList;
+import org.kie.server.api.model.instance.WorkItemCompletionRequest;
+import org.kie.server.api.model.instance.WorkItemCompletionRequestList;
 import org.kie.server.api.model.instance.WorkItemInstance;
 import org.kie.server.api.model.instance.WorkItemInstanceList;
 import org.kie.server.api.model.type.JaxbByteArray;
@@ -294,6 +306,15 @@ public class JaxbMarshaller implements Marshaller {
                 WorkItemImpl.class,
                 WorkItemInstance.class,
                 WorkItemInstanceList.class,
+                WorkItemCompletionRequest.class,
+                WorkItemCompletionRequestList.class,
+
+                ProcessStartRequest.class,
+                ProcessStartRequestList.class,
+                BulkOperationResult.class,
+                BulkOperationResultList.class,
+                TaskOperationRequest.class,
+                TaskOperationRequestList.class,
 
                 RequestInfoInstance.class,
                 RequestInfoInstanceList.class,
@@ -377,6 +398,9 @@ public class JaxbMarshaller implements Marshaller {
                 DMNMessageKS.class,
                 DMNDecisionResultKS.class,
                 DMNModelInfoList.class,
+                DMNBatchContextKS.class,
+                DMNBatchResultKS.class,
+                DMNBatchItemResultKS.class,
                 DMNModelInfo.class,
                 DMNDecisionInfo.class,
                 DMNInputDataInfo.class,
@@ -438,6 +462,19 @@ public class JaxbMarshaller implements Marshaller {
         return writer.toString();
     }
 
+    @Override
+    public void marshall(Object input, OutputStream output) {
+        if (input == null) {
+            return;
+        }
+
+        try {
+            getMarshaller().marshal(ModelWrapper.wrap(input), output);
+        } catch ( JAXBException e ) {
+            throw new MarshallingException( "Can't marshall input object: "+input, e );
+        }
+    }
+
     @Override
     public <T> T unmarshall(String input, Class<T> type) {
         try {
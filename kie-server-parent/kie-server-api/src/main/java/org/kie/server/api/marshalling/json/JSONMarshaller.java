@@ -16,6 +16,7 @@
 package org.kie.server.api.marshalling.json;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Array;
@@ -281,6 +282,18 @@ public class JSONMarshaller implements Marshaller {
         }
     }
 
+    @Override
+    public void marshall(Object objectInput, OutputStream output) {
+        try {
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(output);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            objectMapper.writeValue(generator, wrap(objectInput));
+            generator.flush();
+        } catch (IOException e) {
+            throw new MarshallingException("Error marshalling input", e);
+        }
+    }
+
     @Override
     public <T> T unmarshall(String serializedInput, Class<T> type) {
 
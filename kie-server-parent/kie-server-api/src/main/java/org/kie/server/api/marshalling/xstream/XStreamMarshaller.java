@@ -15,6 +15,11 @@
 
 package org.kie.server.api.marshalling.xstream;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -49,6 +54,7 @@ import org.kie.server.api.commands.optaplanner.IsEveryProblemFactChangeProcessed
 import org.kie.server.api.commands.optaplanner.SolvePlanningProblemCommand;
 import org.kie.server.api.commands.optaplanner.TerminateSolverEarlyCommand;
 import org.kie.server.api.marshalling.Marshaller;
+import org.kie.server.api.marshalling.MarshallingException;
 import org.kie.server.api.marshalling.MarshallingFormat;
 import org.kie.server.api.model.KieContainerResource;
 import org.kie.server.api.model.KieContainerResourceFilter;
@@ -61,6 +67,9 @@ import org.kie.server.api.model.ReleaseId;
 import org.kie.server.api.model.ReleaseIdFilter;
 import org.kie.server.api.model.ServiceResponse;
 import org.kie.server.api.model.ServiceResponsesList;
+import org.kie.server.api.model.dmn.DMNBatchContextKS;
+import org.kie.server.api.model.dmn.DMNBatchItemResultKS;
+import org.kie.server.api.model.dmn.DMNBatchResultKS;
 import org.kie.server.api.model.dmn.DMNContextKS;
 import org.kie.server.api.model.dmn.DMNDecisionInfo;
 import org.kie.server.api.model.dmn.DMNDecisionResultKS;
@@ -197,6 +206,9 @@ public class XStreamMarshaller
         this.xstream.processAnnotations(DMNMessageKS.class);
         this.xstream.processAnnotations(DMNDecisionResultKS.class);
         this.xstream.processAnnotations(DMNModelInfoList.class);
+        this.xstream.processAnnotations(DMNBatchContextKS.class);
+        this.xstream.processAnnotations(DMNBatchResultKS.class);
+        this.xstream.processAnnotations(DMNBatchItemResultKS.class);
         this.xstream.processAnnotations(DMNModelInfo.class);
         this.xstream.processAnnotations(DMNDecisionInfo.class);
         this.xstream.processAnnotations(DMNInputDataInfo.class);
@@ -216,6 +228,18 @@ public class XStreamMarshaller
         return xstream.toXML(objectInput);
     }
 
+    @Override
+    public void marshall(Object objectInput, OutputStream output) {
+        // XStream writes to a stream in platform encoding, make it UTF-8 as the stream contract says
+        Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+        xstream.toXML(objectInput, writer);
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new MarshallingException("Error writing marshalled input", e);
+        }
+    }
+
     @Override
     public <T> T unmarshall(String input,
                             Class<T> type) {
@@ -32,6 +32,8 @@ import org.kie.api.pmml.PMML4Result;
 import org.kie.server.api.model.admin.*;
 import org.kie.server.api.model.cases.*;
 import org.kie.server.api.model.definition.*;
+import org.kie.server.api.model.dmn.DMNBatchContextKS;
+import org.kie.server.api.model.dmn.DMNBatchResultKS;
 import org.kie.server.api.model.dmn.DMNContextKS;
 import org.kie.server.api.model.dmn.DMNModelInfoList;
 import org.kie.server.api.model.dmn.DMNResultKS;
@@ -162,6 +164,8 @@ public class ServiceResponse<T> implements KieServiceResponse<T> {
             @XmlElement(name = "dmn-evaluation-context", type = DMNContextKS.class),
             @XmlElement(name = "dmn-evaluation-result" , type = DMNResultKS.class),
             @XmlElement(name = "dmn-model-info-list" , type = DMNModelInfoList.class),
+            @XmlElement(name = "dmn-batch-evaluation-context", type = DMNBatchContextKS.class),
+            @XmlElement(name = "dmn-batch-evaluation-result", type = DMNBatchResultKS.class),
             
             // PMML
             @XmlElement(name = "pmml-result", type = PMML4Result.class)
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.api.model.dmn;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import com.thoughtworks.xstream.annotations.XStreamAlias;
+import com.thoughtworks.xstream.annotations.XStreamImplicit;
+
+/**
+ * Contexts to be evaluated in one batch. Every context is evaluated on its own, as if it was sent
+ * in a separate request, and results are returned in the same order.
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlRootElement(name = "dmn-batch-evaluation-context")
+@XStreamAlias("dmn-batch-evaluation-context")
+public class DMNBatchContextKS {
+
+    @XmlElement(name="dmn-evaluation-context")
+    @XStreamImplicit(itemFieldName = "dmn-evaluation-context")
+    private List<DMNContextKS> contexts = new ArrayList<>();
+
+    public DMNBatchContextKS() {
+        // no-arg constructor for marshalling
+    }
+
+    public DMNBatchContextKS(List<DMNContextKS> contexts) {
+        this.contexts = contexts;
+    }
+
+    public List<DMNContextKS> getContexts() {
+        return contexts;
+    }
+
+    public void setContexts(List<DMNContextKS> contexts) {
+        this.contexts = contexts;
+    }
+
+    @Override
+    public String toString() {
+        return "DMNBatchContextKS [contexts=" + (contexts == null ? 0 : contexts.size()) + "]";
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.api.model.dmn;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.thoughtworks.xstream.annotations.XStreamAlias;
+
+/**
+ * Outcome of a single context of a batch evaluation, <code>index</code> is the position of the context
+ * in the batch, <code>result</code> holds the evaluation result and <code>error</code> the reason the
+ * context could not be evaluated.
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlRootElement(name = "dmn-batch-item-result")
+@XStreamAlias("dmn-batch-item-result")
+public class DMNBatchItemResultKS {
+
+    @XmlElement(name="index")
+    @XStreamAlias("index")
+    private Integer index;
+
+    @XmlElement(name="dmn-evaluation-result")
+    @XStreamAlias("dmn-evaluation-result")
+    private DMNResultKS result;
+
+    @XmlElement(name="error")
+    @XStreamAlias("error")
+    private String error;
+
+    public DMNBatchItemResultKS() {
+        // no-arg constructor for marshalling
+    }
+
+    public DMNBatchItemResultKS(Integer index, DMNResultKS result, String error) {
+        this.index = index;
+        this.result = result;
+        this.error = error;
+    }
+
+    public static DMNBatchItemResultKS succeeded(int index, DMNResultKS result) {
+        return new DMNBatchItemResultKS(index, result, null);
+    }
+
+    public static DMNBatchItemResultKS failed(int index, String error) {
+        return new DMNBatchItemResultKS(index, null, error);
+    }
+
+    public Integer getIndex() {
+        return index;
+    }
+
+    public void setIndex(Integer index) {
+        this.index = index;
+    }
+
+    public DMNResultKS getResult() {
+        return result;
+    }
+
+    public void setResult(DMNResultKS result) {
+        this.result = result;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    @JsonIgnore
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    @Override
+    public String toString() {
+        return "DMNBatchItemResultKS [index=" + index + ", result=" + result + ", error=" + error + "]";
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.api.model.dmn;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import com.thoughtworks.xstream.annotations.XStreamAlias;
+import com.thoughtworks.xstream.annotations.XStreamImplicit;
+
+/**
+ * Results of a batch evaluation, one per evaluated context in the order the contexts were given.
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlRootElement(name = "dmn-batch-evaluation-result")
+@XStreamAlias("dmn-batch-evaluation-result")
+public class DMNBatchResultKS {
+
+    @XmlElement(name="item")
+    @XStreamImplicit(itemFieldName = "item")
+    private List<DMNBatchItemResultKS> results = new ArrayList<>();
+
+    public DMNBatchResultKS() {
+        // no-arg constructor for marshalling
+    }
+
+    public DMNBatchResultKS(List<DMNBatchItemResultKS> results) {
+        this.results = results;
+    }
+
+    public List<DMNBatchItemResultKS> getResults() {
+        return results;
+    }
+
+    public void setResults(List<DMNBatchItemResultKS> results) {
+        this.results = results;
+    }
+
+    @Override
+    public String toString() {
+        return "DMNBatchResultKS [results=" + (results == null ? 0 : results.size()) + "]";
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.api.model.instance;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+/**
+ * Outcome of a single item of a bulk operation. Results are returned in the order
+ * of the requested items, <code>id</code> holds the started process instance id or
+ * the completed work item id and <code>error</code> the reason the item failed.
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlRootElement(name = "bulk-operation-result")
+public class BulkOperationResult {
+
+    @XmlElement(name="index")
+    private Integer index;
+
+    @XmlElement(name="id")
+    private Long id;
+
+    @XmlElement(name="success")
+    private Boolean success;
+
+    @XmlElement(name="error")
+    private String error;
+
+    public BulkOperationResult() {
+    }
+
+    public BulkOperationResult(Integer index, Long id, Boolean success, String error) {
+        this.index = index;
+        this.id = id;
+        this.success = success;
+        this.error = error;
+    }
+
+    public static BulkOperationResult succeeded(int index, Long id) {
+        return new BulkOperationResult(index, id, Boolean.TRUE, null);
+    }
+
+    public static BulkOperationResult failed(int index, Long id, String error) {
+        return new BulkOperationResult(index, id, Boolean.FALSE, error);
+    }
+
+    public Integer getIndex() {
+        return index;
+    }
+
+    public void setIndex(Integer index) {
+        this.index = index;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Boolean getSuccess() {
+        return success;
+    }
+
+    public void setSuccess(Boolean success) {
+        this.success = success;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkOperationResult{" +
+                "index=" + index +
+                ", id=" + id +
+                ", success=" + success +
+                ", error='" + error + '\'' +
+                '}';
+    }
+}
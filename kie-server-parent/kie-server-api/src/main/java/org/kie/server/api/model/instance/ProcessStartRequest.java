@@ -0,0 +1,92 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.api.model.instance;
+
+import java.util.HashMap;
+import java.util.Map;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+/**
+ * Single process instance to be started as part of a bulk start, with optional
+ * correlation key (properties separated by ':') and process variables.
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlRootElement(name = "process-start-request")
+public class ProcessStartRequest {
+
+    @XmlElement(name="correlation-key")
+    private String correlationKey;
+
+    @XmlElement(name="variables")
+    private Map<String, Object> variables;
+
+    public ProcessStartRequest() {
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public String getCorrelationKey() {
+        return correlationKey;
+    }
+
+    public void setCorrelationKey(String correlationKey) {
+        this.correlationKey = correlationKey;
+    }
+
+    public Map<String, Object> getVariables() {
+        if (this.variables == null) {
+            this.variables = new HashMap<String, Object>();
+        }
+        return variables;
+    }
+
+    public void setVariables(Map<String, Object> variables) {
+        this.variables = variables;
+    }
+
+    @Override
+    public String toString() {
+        return "ProcessStartRequest{" +
+                "correlationKey='" + correlationKey + '\'' +
+                ", variables=" + variables +
+                '}';
+    }
+
+    public static class Builder {
+
+        private ProcessStartRequest request = new ProcessStartRequest();
+
+        public ProcessStartRequest build() {
+            return request;
+        }
+
+        public Builder correlationKey(String correlationKey) {
+            request.setCorrelationKey(correlationKey);
+            return this;
+        }
+
+        public Builder variables(Map<String, Object> variables) {
+            request.setVariables(variables);
+            return this;
+        }
+    }
+}
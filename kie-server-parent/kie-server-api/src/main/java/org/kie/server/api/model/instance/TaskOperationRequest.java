@@ -0,0 +1,78 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.api.model.instance;
+
+import java.util.HashMap;
+import java.util.Map;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+/**
+ * Single task to be processed as part of a bulk task operation, <code>data</code> holds
+ * the task outcome and is only used when completing tasks.
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlRootElement(name = "task-operation-request")
+public class TaskOperationRequest {
+
+    @XmlElement(name="task-id")
+    private Long taskId;
+
+    @XmlElement(name="data")
+    private Map<String, Object> data;
+
+    public TaskOperationRequest() {
+    }
+
+    public TaskOperationRequest(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public TaskOperationRequest(Long taskId, Map<String, Object> data) {
+        this.taskId = taskId;
+        this.data = data;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public Map<String, Object> getData() {
+        if (this.data == null) {
+            this.data = new HashMap<String, Object>();
+        }
+        return data;
+    }
+
+    public void setData(Map<String, Object> data) {
+        this.data = data;
+    }
+
+    @Override
+    public String toString() {
+        return "TaskOperationRequest{" +
+                "taskId=" + taskId +
+                ", data=" + data +
+                '}';
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.api.model.instance;
+
+import java.util.HashMap;
+import java.util.Map;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+/**
+ * Single work item to be completed as part of a bulk completion.
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlRootElement(name = "work-item-completion-request")
+public class WorkItemCompletionRequest {
+
+    @XmlElement(name="process-instance-id")
+    private Long processInstanceId;
+
+    @XmlElement(name="work-item-id")
+    private Long workItemId;
+
+    @XmlElement(name="results")
+    private Map<String, Object> results;
+
+    public WorkItemCompletionRequest() {
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public Long getProcessInstanceId() {
+        return processInstanceId;
+    }
+
+    public void setProcessInstanceId(Long processInstanceId) {
+        this.processInstanceId = processInstanceId;
+    }
+
+    public Long getWorkItemId() {
+        return workItemId;
+    }
+
+    public void setWorkItemId(Long workItemId) {
+        this.workItemId = workItemId;
+    }
+
+    public Map<String, Object> getResults() {
+        if (this.results == null) {
+            this.results = new HashMap<String, Object>();
+        }
+        return results;
+    }
+
+    public void setResults(Map<String, Object> results) {
+        this.results = results;
+    }
+
+    @Override
+    public String toString() {
+        return "WorkItemCompletionRequest{" +
+                "processInstanceId=" + processInstanceId +
+                ", workItemId=" + workItemId +
+                ", results=" + results +
+                '}';
+    }
+
+    public static class Builder {
+
+        private WorkItemCompletionRequest request = new WorkItemCompletionRequest();
+
+        public WorkItemCompletionRequest build() {
+            return request;
+        }
+
+        public Builder processInstanceId(Long processInstanceId) {
+            request.setProcessInstanceId(processInstanceId);
+            return this;
+        }
+
+        public Builder workItemId(Long workItemId) {
+            request.setWorkItemId(workItemId);
+            return this;
+        }
+
+        public Builder results(Map<String, Object> results) {
+            request.setResults(results);
+            return this;
+        }
+    }
+}
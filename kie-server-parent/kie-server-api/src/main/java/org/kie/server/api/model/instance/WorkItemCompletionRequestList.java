@@ -0,0 +1,62 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.api.model.instance;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import org.kie.server.api.model.ItemList;
+
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlRootElement(name = "work-item-completion-request-list")
+public class WorkItemCompletionRequestList implements ItemList<WorkItemCompletionRequest> {
+
+    @XmlElement(name="work-item-completion-request")
+    private WorkItemCompletionRequest[] requests;
+
+    public WorkItemCompletionRequestList() {
+    }
+
+    public WorkItemCompletionRequestList(WorkItemCompletionRequest[] requests) {
+        this.requests = requests;
+    }
+
+    public WorkItemCompletionRequestList(List<WorkItemCompletionRequest> requests) {
+        this.requests = requests.toArray(new WorkItemCompletionRequest[requests.size()]);
+    }
+
+    public WorkItemCompletionRequest[] getRequests() {
+        return requests;
+    }
+
+    public void setRequests(WorkItemCompletionRequest[] requests) {
+        this.requests = requests;
+    }
+
+    @Override
+    public List<WorkItemCompletionRequest> getItems() {
+        if (requests == null) {
+            return Collections.emptyList();
+        }
+        return Arrays.asList(requests);
+    }
+}
@@ -83,6 +83,7 @@ public class RestURI {
     // process related prefixed by PROCESS_URI
     public static final String START_PROCESS_POST_URI = "{" + PROCESS_ID + "}/instances";
     public static final String START_PROCESS_WITH_CORRELATION_KEY_POST_URI = "{" + PROCESS_ID + "}/instances/correlation/{" + CORRELATION_KEY + "}";
+    public static final String START_PROCESSES_BULK_POST_URI = "{" + PROCESS_ID + "}/instances/bulk";
     public static final String ABORT_PROCESS_INST_DEL_URI = "instances/{" + PROCESS_INST_ID + "}";
     public static final String ABORT_PROCESS_INSTANCES_DEL_URI = "instances";
     public static final String SIGNAL_PROCESS_INST_POST_URI = "instances/{" + PROCESS_INST_ID + "}/signal/{" + SIGNAL_NAME + "}";
@@ -103,6 +104,7 @@ public class RestURI {
     public static final String PROCESS_INSTANCE_WORK_ITEM_ABORT_PUT_URI = "instances/{" + PROCESS_INST_ID + "}/workitems/{" + WORK_ITEM_ID + "}/aborted";
     public static final String PROCESS_INSTANCE_WORK_ITEM_BY_ID_GET_URI = "instances/{" + PROCESS_INST_ID + "}/workitems/{" + WORK_ITEM_ID + "}";
     public static final String PROCESS_INSTANCE_WORK_ITEMS_BY_PROC_INST_ID_GET_URI = "instances/{" + PROCESS_INST_ID + "}/workitems";
+    public static final String WORK_ITEMS_COMPLETE_BULK_POST_URI = "instances/workitems/completed";
 
     // process definition related prefixed by PROCESS_DEF_URI
     public static final String PROCESS_DEF_GET_URI = "{" + PROCESS_ID + "}";
@@ -161,6 +163,12 @@ public class RestURI {
     public static final String TASK_INSTANCE_SUSPEND_PUT_URI = "{" + TASK_INSTANCE_ID + "}/states/suspended";
     public static final String TASK_INSTANCE_NOMINATE_PUT_URI = "{" + TASK_INSTANCE_ID + "}/states/nominated";
 
+    public static final String TASK_INSTANCES_BULK_CLAIM_PUT_URI = "bulk/claimed";
+    public static final String TASK_INSTANCES_BULK_START_PUT_URI = "bulk/started";
+    public static final String TASK_INSTANCES_BULK_COMPLETE_PUT_URI = "bulk/completed";
+    public static final String TASK_INSTANCES_BULK_RELEASE_PUT_URI = "bulk/released";
+    public static final String TASK_INSTANCES_BULK_DELEGATE_PUT_URI = "bulk/delegated";
+
     public static final String TASK_INSTANCE_PRIORITY_PUT_URI = "{" + TASK_INSTANCE_ID + "}/priority";
     public static final String TASK_INSTANCE_DESCRIPTION_PUT_URI = "{" + TASK_INSTANCE_ID + "}/description";
     public static final String TASK_INSTANCE_NAME_PUT_URI = "{" + TASK_INSTANCE_ID + "}/name";
@@ -230,6 +238,7 @@ public class RestURI {
 
     // DMN URI
     public static final String DMN_URI = "containers/{" + CONTAINER_ID + "}/dmn";
+    public static final String DMN_BATCH_URI = "batch";
     
     // document related
     public static final String DOCUMENT_INSTANCE_GET_URI = "{" + DOCUMENT_ID + "}";
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.server.api.util;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.kie.server.api.model.KieContainerResource;
+import org.kie.server.api.model.KieServerConfigItem;
+
+/**
+ * Fingerprint of the container attributes managed by the controller - id, alias, release id, status, scanner and
+ * config items - used by the controller to detect changed containers and by kie servers to detect containers
+ * changed since the controller's version was acknowledged, so both sides compare the same attributes.
+ */
+public final class KieContainerFingerprint {
+
+    private KieContainerFingerprint() {
+    }
+
+    public static String of(KieContainerResource container) {
+        StringBuilder fingerprint = new StringBuilder();
+        fingerprint.append(container.getContainerId())
+                .append('|').append(container.getContainerAlias())
+                .append('|').append(container.getReleaseId())
+                .append('|').append(container.getStatus());
+        if (container.getScanner() != null) {
+            fingerprint.append('|').append(container.getScanner().getStatus())
+                    .append(':').append(container.getScanner().getPollInterval());
+        }
+        if (container.getConfigItems() != null) {
+            Map<String, String> configItems = new TreeMap<>();
+            for (KieServerConfigItem item : container.getConfigItems()) {
+                configItems.put(item.getType() + "/" + item.getName(), item.getValue());
+            }
+            fingerprint.append('|').append(configItems);
+        }
+        return fingerprint.toString();
+    }
+}
@@ -1,5 +1,7 @@
 package org.kie.server.api.marshalling;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -65,4 +67,22 @@ public class JAXBMarshallerTest {
         assertEquals( OffsetDateTime.of( LocalDateTime.of( 2017, 1, 1, 10, 10, 10 ), ZoneOffset.ofHours( 1 ) ), dateObject.getOffsetDateTime() );
     }
 
+    @Test
+    public void testMarshallDateObjectToStream() {
+        Set<Class<?>> extraClasses = new HashSet<Class<?>>();
+        extraClasses.add(DateObject.class);
+        Marshaller marshaller = MarshallerFactory.getMarshaller( extraClasses, MarshallingFormat.JAXB, getClass().getClassLoader() );
+
+        DateObject dateObject = new DateObject();
+        dateObject.setLocalDate( LocalDate.of( 2017, 1, 1 ) );
+        dateObject.setLocalDateTime( LocalDateTime.of( 2017, 1, 1, 10, 10, 10 ) );
+        dateObject.setLocalTime( LocalTime.of( 10, 10, 10 ) );
+        dateObject.setOffsetDateTime( OffsetDateTime.of( LocalDateTime.of( 2017, 1, 1, 10, 10, 10 ), ZoneOffset.ofHours( 1 ) ) );
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        marshaller.marshall( dateObject, output );
+
+        assertEquals( marshaller.marshall( dateObject ), new String( output.toByteArray(), StandardCharsets.UTF_8 ) );
+    }
+
 }
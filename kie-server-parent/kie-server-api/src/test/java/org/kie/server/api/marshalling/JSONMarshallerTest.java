@@ -1,5 +1,7 @@
 package org.kie.server.api.marshalling;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.time.LocalDate;
@@ -184,4 +186,20 @@ public class JSONMarshallerTest {
                 
     }
 
+    @Test
+    public void testMarshallDateObjectToStream() {
+        Marshaller marshaller = MarshallerFactory.getMarshaller( MarshallingFormat.JSON, getClass().getClassLoader() );
+
+        DateObject dateObject = new DateObject();
+        dateObject.setLocalDate( LocalDate.of( 2017, 1, 1 ) );
+        dateObject.setLocalDateTime( LocalDateTime.of( 2017, 1, 1, 10, 10, 10 ) );
+        dateObject.setLocalTime( LocalTime.of( 10, 10, 10 ) );
+        dateObject.setOffsetDateTime( OffsetDateTime.of( LocalDateTime.of( 2017, 1, 1, 10, 10, 10 ), ZoneOffset.ofHours( 1 ) ) );
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        marshaller.marshall( dateObject, output );
+
+        assertEquals( marshaller.marshall( dateObject ), new String( output.toByteArray(), StandardCharsets.UTF_8 ) );
+    }
+
 }
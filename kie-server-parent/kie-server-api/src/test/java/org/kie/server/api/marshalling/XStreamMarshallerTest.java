@@ -16,11 +16,13 @@
 package org.kie.server.api.marshalling;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -249,4 +251,17 @@ public class XStreamMarshallerTest {
         assertEquals( OffsetDateTime.of( LocalDateTime.of( 2017, 1, 1, 10, 10, 10 ), ZoneOffset.ofHours( 1 ) ), dateObject.getOffsetDateTime() );
     }
 
+    @Test
+    public void testMarshallToStreamIsUtf8() {
+        Set<Class<?>> extraClasses = new HashSet<Class<?>>();
+        extraClasses.add(Message.class);
+        Marshaller marshaller = MarshallerFactory.getMarshaller(extraClasses, MarshallingFormat.XSTREAM, this.getClass().getClassLoader());
+
+        Message testMessage = new Message("\u017elu\u0165ou\u010dk\u00fd k\u016f\u0148 \u20ac");
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        marshaller.marshall(testMessage, output);
+
+        assertEquals(marshaller.marshall(testMessage), new String(output.toByteArray(), StandardCharsets.UTF_8));
+    }
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.api.model.dmn;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+import org.kie.dmn.api.core.DMNContext;
+import org.kie.dmn.core.impl.DMNContextImpl;
+import org.kie.dmn.core.impl.DMNResultImpl;
+import org.kie.server.api.marshalling.Marshaller;
+import org.kie.server.api.marshalling.MarshallerFactory;
+import org.kie.server.api.marshalling.MarshallingFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DMNBatchResultKSTest {
+
+    @Test
+    public void testBatchResultMarshalling() {
+        for (MarshallingFormat format : MarshallingFormat.values()) {
+            Marshaller marshaller = MarshallerFactory.getMarshaller(Collections.emptySet(), format, getClass().getClassLoader());
+
+            DMNBatchResultKS unmarshalled = marshaller.unmarshall(marshaller.marshall(batchResult()), DMNBatchResultKS.class);
+
+            assertThat(unmarshalled.getResults()).hasSize(2);
+            assertThat(unmarshalled.getResults().get(0).getIndex()).isEqualTo(0);
+            assertThat(unmarshalled.getResults().get(0).isSuccess()).isTrue();
+            assertThat(unmarshalled.getResults().get(0).getResult().getModelName()).isEqualTo("model");
+            assertThat(unmarshalled.getResults().get(1).getIndex()).isEqualTo(1);
+            assertThat(unmarshalled.getResults().get(1).isSuccess()).isFalse();
+            assertThat(unmarshalled.getResults().get(1).getError()).isEqualTo("Unable to locate DMN Model to evaluate");
+        }
+    }
+
+    @Test
+    public void testBatchContextMarshalling() {
+        for (MarshallingFormat format : MarshallingFormat.values()) {
+            Marshaller marshaller = MarshallerFactory.getMarshaller(Collections.emptySet(), format, getClass().getClassLoader());
+            DMNBatchContextKS batch = new DMNBatchContextKS(Arrays.asList(new DMNContextKS("ns", "model", Collections.singletonMap("age", "18")),
+                                                                          new DMNContextKS("ns", "model", Collections.singletonMap("age", "65"))));
+
+            DMNBatchContextKS unmarshalled = marshaller.unmarshall(marshaller.marshall(batch), DMNBatchContextKS.class);
+
+            assertThat(unmarshalled.getContexts()).hasSize(2);
+            assertThat(unmarshalled.getContexts().get(0).getDmnContext()).containsEntry("age", "18");
+            assertThat(unmarshalled.getContexts().get(1).getDmnContext()).containsEntry("age", "65");
+        }
+    }
+
+    private static DMNBatchResultKS batchResult() {
+        DMNContext ctx = new DMNContextImpl();
+        ctx.set("eligible", "yes");
+        DMNResultImpl dmnResult = new DMNResultImpl(null);
+        dmnResult.setContext(ctx);
+
+        return new DMNBatchResultKS(Arrays.asList(DMNBatchItemResultKS.succeeded(0, new DMNResultKS("ns", "model", dmnResult)),
+                                                  DMNBatchItemResultKS.failed(1, "Unable to locate DMN Model to evaluate")));
+    }
+}
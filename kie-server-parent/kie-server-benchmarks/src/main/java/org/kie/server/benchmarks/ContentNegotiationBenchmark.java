@@ -0,0 +1,74 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Variant;
+
+import org.jboss.resteasy.specimpl.MultivaluedMapImpl;
+import org.jboss.resteasy.specimpl.ResteasyHttpHeaders;
+import org.kie.server.api.KieServerConstants;
+import org.kie.server.remote.rest.common.util.RestUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Selection of the response variant and request content type from the HTTP headers, done for every REST call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ContentNegotiationBenchmark {
+
+    @Param({"application/json", "application/xml", "application/json;q=0.9, application/xml;q=0.8, */*;q=0.1"})
+    private String accept;
+
+    @Param({"", "xstream"})
+    private String kieContentType;
+
+    private HttpHeaders headers;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        MultivaluedMapImpl<String, String> requestHeaders = new MultivaluedMapImpl<>();
+        requestHeaders.add(HttpHeaders.ACCEPT, accept);
+        requestHeaders.add(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+        if (!kieContentType.isEmpty()) {
+            requestHeaders.add(KieServerConstants.KIE_CONTENT_TYPE_HEADER, kieContentType);
+        }
+        headers = new ResteasyHttpHeaders(requestHeaders);
+    }
+
+    @Benchmark
+    public Variant variant() {
+        return RestUtils.getVariant(headers);
+    }
+
+    @Benchmark
+    public String contentType() {
+        return RestUtils.getContentType(headers);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.server.api.marshalling.Marshaller;
+import org.kie.server.api.marshalling.MarshallerFactory;
+import org.kie.server.api.marshalling.MarshallingFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Marshalling and unmarshalling of representative payloads by each of the server marshallers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class MarshallerBenchmark {
+
+    @Param({"JSON", "JAXB", "XSTREAM"})
+    private MarshallingFormat format;
+
+    @Param({"BATCH_EXECUTION", "PROCESS_INSTANCE_LIST", "TASK_SUMMARY_LIST", "DMN_CONTEXT"})
+    private Payloads payload;
+
+    @Param({"10", "1000"})
+    private int size;
+
+    private Marshaller marshaller;
+    private Object input;
+    private String marshalled;
+    private ByteArrayOutputStream output;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        marshaller = MarshallerFactory.getMarshaller(Payloads.extraClasses(), format, MarshallerBenchmark.class.getClassLoader());
+        input = payload.create(size);
+        marshalled = marshaller.marshall(input);
+        output = new ByteArrayOutputStream(marshalled.length() * 2);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        marshaller.dispose();
+    }
+
+    @Benchmark
+    public String marshall() {
+        return marshaller.marshall(input);
+    }
+
+    @Benchmark
+    public int marshallToStream() {
+        output.reset();
+        marshaller.marshall(input, output);
+        return output.size();
+    }
+
+    @Benchmark
+    public Object unmarshall() {
+        return marshaller.unmarshall(marshalled, payload.getType());
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.server.services.impl.KieServerRegistryImpl;
+import org.kie.server.services.impl.marshal.MarshallerHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Marshalling through MarshallerHelper as the REST endpoints do it, including resolution of the marshalling
+ * format from the content type and the lookup of the server marshaller.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class MarshallerHelperBenchmark {
+
+    @Param({"application/json", "application/xml", "application/xstream"})
+    private String contentType;
+
+    @Param({"PROCESS_INSTANCE_LIST", "TASK_SUMMARY_LIST"})
+    private Payloads payload;
+
+    @Param({"10", "1000"})
+    private int size;
+
+    private MarshallerHelper marshallerHelper;
+    private Object input;
+    private String marshalled;
+    private ByteArrayOutputStream output;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        KieServerRegistryImpl registry = new KieServerRegistryImpl();
+        registry.addExtraClasses(Payloads.extraClasses());
+        marshallerHelper = new MarshallerHelper(registry);
+        input = payload.create(size);
+        marshalled = marshallerHelper.marshal(contentType, input);
+        output = new ByteArrayOutputStream(marshalled.length() * 2);
+    }
+
+    @Benchmark
+    public String marshal() {
+        return marshallerHelper.marshal(contentType, input);
+    }
+
+    @Benchmark
+    public int marshalToStream() {
+        output.reset();
+        marshallerHelper.marshal(contentType, input, output);
+        return output.size();
+    }
+
+    @Benchmark
+    public Object unmarshal() {
+        return marshallerHelper.unmarshal(marshalled, contentType, payload.getType());
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.drools.core.command.runtime.BatchExecutionCommandImpl;
+import org.kie.api.KieServices;
+import org.kie.api.command.Command;
+import org.kie.api.command.KieCommands;
+import org.kie.server.api.model.dmn.DMNContextKS;
+import org.kie.server.api.model.instance.ProcessInstance;
+import org.kie.server.api.model.instance.ProcessInstanceList;
+import org.kie.server.api.model.instance.TaskSummary;
+import org.kie.server.api.model.instance.TaskSummaryList;
+
+/**
+ * Representative request and response payloads, all values are derived from the index so every run
+ * marshalls exactly the same content.
+ */
+public enum Payloads {
+
+    BATCH_EXECUTION(BatchExecutionCommandImpl.class) {
+        @Override
+        public Object create(int size) {
+            KieCommands commands = KieServices.Factory.get().getCommands();
+            List<Command<?>> inserts = new ArrayList<>(size + 1);
+            for (int i = 0; i < size; i++) {
+                inserts.add(commands.newInsert(new BenchmarkFact("fact-" + i, i % 100, BigDecimal.valueOf(i, 2), date(i)), "fact-" + i));
+            }
+            inserts.add(commands.newFireAllRules());
+            return commands.newBatchExecution(inserts, "ksession");
+        }
+    },
+    PROCESS_INSTANCE_LIST(ProcessInstanceList.class) {
+        @Override
+        public Object create(int size) {
+            List<ProcessInstance> processInstances = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                Map<String, Object> variables = new HashMap<>();
+                variables.put("name", "name-" + i);
+                variables.put("approved", i % 2 == 0);
+                processInstances.add(ProcessInstance.builder()
+                                             .id((long) i)
+                                             .processId("org.kie.benchmark.process")
+                                             .processName("Benchmark process")
+                                             .processVersion("1.0")
+                                             .state(1)
+                                             .containerId("benchmark")
+                                             .initiator("john")
+                                             .date(date(i))
+                                             .processInstanceDescription("Benchmark process " + i)
+                                             .correlationKey(String.valueOf(i))
+                                             .parentInstanceId(-1L)
+                                             .variables(variables)
+                                             .build());
+            }
+            return new ProcessInstanceList(processInstances);
+        }
+    },
+    TASK_SUMMARY_LIST(TaskSummaryList.class) {
+        @Override
+        public Object create(int size) {
+            List<TaskSummary> tasks = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                tasks.add(TaskSummary.builder()
+                                  .id((long) i)
+                                  .name("Review " + i)
+                                  .subject("Review")
+                                  .description("Review of benchmark item " + i)
+                                  .status("Reserved")
+                                  .priority(i % 10)
+                                  .actualOwner("john")
+                                  .createdBy("mary")
+                                  .createdOn(date(i))
+                                  .activationTime(date(i))
+                                  .processInstanceId((long) i)
+                                  .processId("org.kie.benchmark.process")
+                                  .containerId("benchmark")
+                                  .build());
+            }
+            return new TaskSummaryList(tasks);
+        }
+    },
+    DMN_CONTEXT(DMNContextKS.class) {
+        @Override
+        public Object create(int size) {
+            Map<String, Object> context = new LinkedHashMap<>();
+            for (int i = 0; i < size; i++) {
+                Map<String, Object> applicant = new LinkedHashMap<>();
+                applicant.put("Name", "applicant-" + i);
+                applicant.put("Age", i % 100);
+                applicant.put("Income", BigDecimal.valueOf(1000L * i, 2));
+                context.put("Applicant " + i, applicant);
+            }
+            return new DMNContextKS("https://www.drools.org/kie-dmn/benchmark", "benchmark", context);
+        }
+    };
+
+    private static final long EPOCH = 1546300800000L;
+
+    private final Class<?> type;
+
+    Payloads(Class<?> type) {
+        this.type = type;
+    }
+
+    public abstract Object create(int size);
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Custom classes marshallers need to know about.
+     */
+    public static Set<Class<?>> extraClasses() {
+        return Collections.singleton(BenchmarkFact.class);
+    }
+
+    private static Date date(int i) {
+        return new Date(EPOCH + i * 60_000L);
+    }
+}
@@ -17,6 +17,9 @@ package org.kie.server.common.rest;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
@@ -28,6 +31,9 @@ import org.kie.server.common.rest.variant.ServerDrivenNegotiation;
 /**
  * This utility compensates for RESTEASY-960: 
  * https://issues.jboss.org/browse/RESTEASY-960
+ * <p>
+ * Negotiated variants are memoized by the raw Accept* header values, as clients tend to send
+ * the same few combinations and parsing them is comparatively expensive.
  */
 public class RestEasy960Util {
 
@@ -35,6 +41,11 @@ public class RestEasy960Util {
     private static final String ACCEPT_CHARSET = "Accept-Charset";
     private static final String ACCEPT_ENCODING = "Accept-Encoding";
     private static final String ACCEPT_LANGUAGE = "Accept-Language";
+
+    private static final int MAX_CACHED_NEGOTIATIONS = 256;
+    // marks a negotiation that did not match any of the variants, as the map cannot hold nulls
+    private static final Variant NO_MATCH = new Variant(MediaType.WILDCARD_TYPE, (Locale) null, null);
+    private static final ConcurrentMap<String, Variant> negotiated = new ConcurrentHashMap<String, Variant>();
    
     public static List<Variant> variants 
         = Variant.mediaTypes(MediaType.APPLICATION_XML_TYPE, MediaType.APPLICATION_JSON_TYPE).add().build();
@@ -44,26 +55,52 @@ public class RestEasy960Util {
         = Variant.mediaTypes(MediaType.APPLICATION_JSON_TYPE).add().build().get(0);
     
     public static Variant getVariant(HttpHeaders headers) { 
-        // copied (except for the acceptHeaders fix) from RestEasy's RequestImpl class
-        ServerDrivenNegotiation negotiation = new ServerDrivenNegotiation();
         MultivaluedMap<String, String> requestHeaders = headers.getRequestHeaders();
         List<String> acceptHeaders = requestHeaders.get(ACCEPT);
-        // Fix
-        if( acceptHeaders != null && ! acceptHeaders.isEmpty() ) { 
-            List<String> fixedAcceptHeaders = new ArrayList<String>();
-            for(String header : acceptHeaders ) { 
-                fixedAcceptHeaders.add(header.replaceAll("q=\\.", "q=0.")); 
+        if( acceptHeaders == null || acceptHeaders.isEmpty() ) {
+            return null;
+        }
+        List<String> acceptCharsetHeaders = requestHeaders.get(ACCEPT_CHARSET);
+        List<String> acceptEncodingHeaders = requestHeaders.get(ACCEPT_ENCODING);
+        List<String> acceptLanguageHeaders = requestHeaders.get(ACCEPT_LANGUAGE);
+
+        String key = acceptHeaders + "\n" + acceptCharsetHeaders + "\n" + acceptEncodingHeaders + "\n" + acceptLanguageHeaders;
+        Variant variant = negotiated.get(key);
+        if( variant == null ) {
+            variant = negotiate(acceptHeaders, acceptCharsetHeaders, acceptEncodingHeaders, acceptLanguageHeaders);
+            if( variant == null ) {
+                variant = NO_MATCH;
             }
-            acceptHeaders = fixedAcceptHeaders;
-            negotiation.setAcceptHeaders(acceptHeaders);
-            negotiation.setAcceptCharsetHeaders(requestHeaders.get(ACCEPT_CHARSET));
-            negotiation.setAcceptEncodingHeaders(requestHeaders.get(ACCEPT_ENCODING));
-            negotiation.setAcceptLanguageHeaders(requestHeaders.get(ACCEPT_LANGUAGE));
+            if( negotiated.size() >= MAX_CACHED_NEGOTIATIONS ) {
+                // unusual header combinations should not make the cache grow without bounds
+                negotiated.clear();
+            }
+            negotiated.put(key, variant);
+        }
+        return variant == NO_MATCH ? null : variant;
+    }
+
+    // for testing purposes
+    static ConcurrentMap<String, Variant> getNegotiated() {
+        return negotiated;
+    }
 
-            return negotiation.getBestMatch(variants);
-            // ** use below instead of above when RESTEASY-960 is fixed **
-            // return restRequest.selectVariant(variants);
+    private static Variant negotiate(List<String> acceptHeaders, List<String> acceptCharsetHeaders,
+                                     List<String> acceptEncodingHeaders, List<String> acceptLanguageHeaders) {
+        // copied (except for the acceptHeaders fix) from RestEasy's RequestImpl class
+        ServerDrivenNegotiation negotiation = new ServerDrivenNegotiation();
+        // Fix
+        List<String> fixedAcceptHeaders = new ArrayList<String>();
+        for(String header : acceptHeaders ) { 
+            fixedAcceptHeaders.add(header.replaceAll("q=\\.", "q=0.")); 
         }
-        return null;
+        negotiation.setAcceptHeaders(fixedAcceptHeaders);
+        negotiation.setAcceptCharsetHeaders(acceptCharsetHeaders);
+        negotiation.setAcceptEncodingHeaders(acceptEncodingHeaders);
+        negotiation.setAcceptLanguageHeaders(acceptLanguageHeaders);
+
+        return negotiation.getBestMatch(variants);
+        // ** use below instead of above when RESTEASY-960 is fixed **
+        // return restRequest.selectVariant(variants);
     }
 }
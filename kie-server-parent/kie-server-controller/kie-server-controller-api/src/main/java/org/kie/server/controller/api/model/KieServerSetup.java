@@ -28,7 +28,11 @@ import org.kie.server.api.model.KieContainerResource;
 import org.kie.server.api.model.KieServerConfig;
 
 /**
- * Complete setup of KieServer that covers containers and its configuration
+ * Complete setup of KieServer that covers containers and its configuration.
+ * <p>
+ * When the setup is a delta (see {@link #isDelta()}) containers hold only containers that changed since the version
+ * the server acknowledged, and removed containers lists ids of containers that are no longer assigned to the server.
+ * Version and change log id identify the state of the controller's change log the setup corresponds to.
  */
 @XmlAccessorType(XmlAccessType.FIELD)
 @XmlRootElement(name = "kie-server-setup")
@@ -40,6 +44,19 @@ public class KieServerSetup {
     @XmlElementWrapper(name = "server-containers")
     private Set<KieContainerResource> containers;
 
+    @XmlElement(name = "change-log-id")
+    private String changeLogId;
+
+    @XmlElement(name = "version")
+    private Long version;
+
+    @XmlElement(name = "delta")
+    private boolean delta;
+
+    @XmlElementWrapper(name = "removed-containers")
+    @XmlElement(name = "container-id")
+    private Set<String> removedContainers;
+
     public KieServerConfig getServerConfig() {
         return serverConfig;
     }
@@ -58,4 +75,39 @@ public class KieServerSetup {
     public void setContainers(Set<KieContainerResource> containers) {
         this.containers = containers;
     }
+
+    public String getChangeLogId() {
+        return changeLogId;
+    }
+
+    public void setChangeLogId(String changeLogId) {
+        this.changeLogId = changeLogId;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public boolean isDelta() {
+        return delta;
+    }
+
+    public void setDelta(boolean delta) {
+        this.delta = delta;
+    }
+
+    public Set<String> getRemovedContainers() {
+        if (removedContainers == null) {
+            removedContainers = new HashSet<String>();
+        }
+        return removedContainers;
+    }
+
+    public void setRemovedContainers(Set<String> removedContainers) {
+        this.removedContainers = removedContainers;
+    }
 }
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.server.controller.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.kie.server.api.model.KieContainerResource;
+import org.kie.server.api.util.KieContainerFingerprint;
+
+/**
+ * Versioned log of changes of containers of server templates, used to send kie servers only containers that changed
+ * since the version they acknowledged instead of their complete setup.
+ * <p>
+ * The log is compact, it keeps only the latest change of every container of a template - the version it changed at and
+ * its fingerprint, or a tombstone when it was removed. Changes are discovered by comparing containers of a template
+ * with the ones recorded before, so the log does not depend on how the templates were modified. Versions are unique
+ * within the log only, each log has its own id and versions of any other log (e.g. of a restarted controller) are not
+ * understood, as aren't versions older than the oldest tombstone that was dropped - that requires complete resync.
+ */
+public class ContainerSpecChangeLog {
+
+    /**
+     * Max number of tombstones of removed containers kept per server template
+     */
+    public static final String MAX_REMOVED = "org.kie.server.controller.changelog.removed.max";
+
+    private static ContainerSpecChangeLog INSTANCE = new ContainerSpecChangeLog();
+
+    private final String id = UUID.randomUUID().toString();
+    private final int maxRemoved;
+
+    private final Map<String, TemplateLog> templateLogs = new HashMap<>();
+    private long version;
+
+    public ContainerSpecChangeLog() {
+        this(Integer.getInteger(MAX_REMOVED, 1000));
+    }
+
+    public ContainerSpecChangeLog(int maxRemoved) {
+        this.maxRemoved = maxRemoved;
+    }
+
+    public static ContainerSpecChangeLog getInstance() {
+        return INSTANCE;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Records current containers of given server template, every container that was added, changed or removed since
+     * the previous record gets a new version.
+     * @return current version of the log
+     */
+    public synchronized long record(String serverTemplateId, Collection<KieContainerResource> containers) {
+        TemplateLog templateLog = templateLogs.computeIfAbsent(serverTemplateId, templateId -> new TemplateLog(version));
+        long next = version + 1;
+        boolean changed = false;
+
+        Set<String> current = new HashSet<>();
+        for (KieContainerResource container : containers) {
+            current.add(container.getContainerId());
+            String fingerprint = fingerprint(container);
+            Entry entry = templateLog.entries.get(container.getContainerId());
+            if (entry == null || entry.removed || !entry.fingerprint.equals(fingerprint)) {
+                templateLog.entries.put(container.getContainerId(), new Entry(next, fingerprint, false));
+                changed = true;
+            }
+        }
+        for (Map.Entry<String, Entry> entry : templateLog.entries.entrySet()) {
+            if (!entry.getValue().removed && !current.contains(entry.getKey())) {
+                entry.setValue(new Entry(next, null, true));
+                changed = true;
+            }
+        }
+
+        if (changed) {
+            version = next;
+            templateLog.dropOldestTombstones(maxRemoved);
+        }
+        return version;
+    }
+
+    /**
+     * @return changes of given server template recorded after given version or null when they cannot be determined
+     * from this log and complete setup needs to be sent
+     */
+    public synchronized Changes changesSince(String serverTemplateId, long since) {
+        TemplateLog templateLog = templateLogs.get(serverTemplateId);
+        if (templateLog == null || since < templateLog.floor || since > version) {
+            return null;
+        }
+        Changes changes = new Changes();
+        templateLog.entries.forEach((containerId, entry) -> {
+            if (entry.version > since) {
+                if (entry.removed) {
+                    changes.removed.add(containerId);
+                } else {
+                    changes.changed.add(containerId);
+                }
+            }
+        });
+        return changes;
+    }
+
+    public synchronized void clear() {
+        templateLogs.clear();
+    }
+
+    protected static String fingerprint(KieContainerResource container) {
+        return KieContainerFingerprint.of(container);
+    }
+
+    /**
+     * Ids of containers changed (added or updated) and removed after given version
+     */
+    public static class Changes {
+
+        private final Set<String> changed = new HashSet<>();
+        private final Set<String> removed = new HashSet<>();
+
+        public Set<String> getChanged() {
+            return Collections.unmodifiableSet(changed);
+        }
+
+        public Set<String> getRemoved() {
+            return Collections.unmodifiableSet(removed);
+        }
+    }
+
+    private static class TemplateLog {
+
+        // versions lower than floor are not covered by the log
+        private long floor;
+        private final Map<String, Entry> entries = new HashMap<>();
+
+        TemplateLog(long floor) {
+            this.floor = floor;
+        }
+
+        void dropOldestTombstones(int max) {
+            List<Map.Entry<String, Entry>> tombstones = new ArrayList<>();
+            entries.entrySet().stream().filter(entry -> entry.getValue().removed).forEach(tombstones::add);
+            if (tombstones.size() <= max) {
+                return;
+            }
+            tombstones.sort((one, two) -> Long.compare(one.getValue().version, two.getValue().version));
+            for (Map.Entry<String, Entry> tombstone : tombstones.subList(0, tombstones.size() - max)) {
+                floor = Math.max(floor, tombstone.getValue().version);
+                entries.remove(tombstone.getKey());
+            }
+        }
+    }
+
+    private static class Entry {
+
+        private final long version;
+        private final String fingerprint;
+        private final boolean removed;
+
+        Entry(long version, String fingerprint, boolean removed) {
+            this.version = version;
+            this.fingerprint = fingerprint;
+            this.removed = removed;
+        }
+    }
+}
@@ -20,6 +20,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.kie.server.api.KieServerConstants;
 import org.kie.server.api.model.KieContainerResource;
@@ -62,8 +63,20 @@ public abstract class KieServerControllerImpl implements KieServerController {
 
     private NotificationService notificationService = LoggingNotificationService.getInstance();
 
+    private ContainerSpecChangeLog changeLog = ContainerSpecChangeLog.getInstance();
+
     @Override
-    public synchronized KieServerSetup connect(KieServerInfo serverInfo) {
+    public KieServerSetup connect(KieServerInfo serverInfo) {
+        return connect(serverInfo, null, null);
+    }
+
+    /**
+     * Connects given server and returns its setup, as a delta of containers changed since given version when
+     * the server acknowledged version of this controller's change log that is still covered by the log.
+     * @param changeLogId id of the change log the server acknowledged version of, might be null
+     * @param acknowledgedVersion version the server applied, might be null
+     */
+    public synchronized KieServerSetup connect(KieServerInfo serverInfo, String changeLogId, Long acknowledgedVersion) {
 
         ServerTemplate serverTemplate = templateStorage.load(serverInfo.getServerId());
         KieServerSetup serverSetup = new KieServerSetup();
@@ -145,7 +158,7 @@ public abstract class KieServerControllerImpl implements KieServerController {
                         containerSpec.getReleasedId(),
                         serverInstanceKey.getUrl()+"/containers/"+containerSpec.getId()));
             }
-            serverSetup.setContainers(containers);
+            setContainers(serverSetup, serverTemplate.getId(), containers, changeLogId, acknowledgedVersion);
 
             // server configuration
             KieServerConfig serverConfig = new KieServerConfig();
@@ -188,6 +201,7 @@ public abstract class KieServerControllerImpl implements KieServerController {
 
             logger.debug("KieServerInstance stored after connect (register) from server {}", serverInfo.getLocation());
             templateStorage.store(serverTemplate);
+            setContainers(serverSetup, serverTemplate.getId(), new HashSet<KieContainerResource>(), changeLogId, acknowledgedVersion);
 
             notificationService.notify(new ServerTemplateUpdated(serverTemplate));
         }
@@ -225,6 +239,26 @@ public abstract class KieServerControllerImpl implements KieServerController {
         }
     }
 
+    protected void setContainers(KieServerSetup serverSetup, String serverTemplateId, Set<KieContainerResource> containers, String changeLogId, Long acknowledgedVersion) {
+        long version = changeLog.record(serverTemplateId, containers);
+        serverSetup.setChangeLogId(changeLog.getId());
+        serverSetup.setVersion(version);
+
+        ContainerSpecChangeLog.Changes changes = null;
+        if (changeLog.getId().equals(changeLogId) && acknowledgedVersion != null) {
+            changes = changeLog.changesSince(serverTemplateId, acknowledgedVersion);
+        }
+        if (changes == null) {
+            serverSetup.setContainers(containers);
+            return;
+        }
+        final Set<String> changed = changes.getChanged();
+        logger.debug("Sending {} changed and {} removed containers of server template {} since version {}", changed.size(), changes.getRemoved().size(), serverTemplateId, acknowledgedVersion);
+        serverSetup.setDelta(true);
+        serverSetup.setContainers(containers.stream().filter(container -> changed.contains(container.getContainerId())).collect(Collectors.toSet()));
+        serverSetup.setRemovedContainers(new HashSet<String>(changes.getRemoved()));
+    }
+
     protected void notifyOnConnect(ServerInstance serverInstance) {
         notificationService.notify(new ServerInstanceUpdated(serverInstance));
         notificationService.notify(new ServerInstanceConnected(serverInstance));
@@ -245,6 +279,14 @@ public abstract class KieServerControllerImpl implements KieServerController {
     }
 
 
+    public ContainerSpecChangeLog getChangeLog() {
+        return changeLog;
+    }
+
+    public void setChangeLog(ContainerSpecChangeLog changeLog) {
+        this.changeLog = changeLog;
+    }
+
     public NotificationService getNotificationService() {
         return notificationService;
     }
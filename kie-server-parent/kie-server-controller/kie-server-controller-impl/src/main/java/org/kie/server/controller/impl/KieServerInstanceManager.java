@@ -16,18 +16,37 @@
 package org.kie.server.controller.impl;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.kie.server.api.KieServerConstants;
+import org.kie.server.api.commands.ActivateContainerCommand;
+import org.kie.server.api.commands.CommandScript;
+import org.kie.server.api.commands.CreateContainerCommand;
+import org.kie.server.api.commands.DeactivateContainerCommand;
+import org.kie.server.api.commands.DisposeContainerCommand;
+import org.kie.server.api.commands.GetContainerInfoCommand;
+import org.kie.server.api.commands.UpdateReleaseIdCommand;
+import org.kie.server.api.commands.UpdateScannerCommand;
 import org.kie.server.api.model.KieContainerResource;
 import org.kie.server.api.model.KieContainerResourceList;
 import org.kie.server.api.model.KieScannerResource;
 import org.kie.server.api.model.KieScannerStatus;
+import org.kie.server.api.model.KieServerCommand;
 import org.kie.server.api.model.KieServerConfigItem;
 import org.kie.server.api.model.Message;
 import org.kie.server.api.model.ReleaseId;
 import org.kie.server.api.model.ServiceResponse;
+import org.kie.server.api.model.ServiceResponsesList;
 import org.kie.server.client.KieServicesClient;
 import org.kie.server.controller.api.KieServerControllerIllegalArgumentException;
 import org.kie.server.controller.api.model.runtime.Container;
@@ -46,8 +65,13 @@ public class KieServerInstanceManager {
 
     private static final Logger logger = LoggerFactory.getLogger(KieServerInstanceManager.class);
     private static final String CONTAINERS_URI_PART = "/containers/";
+    /**
+     * Max number of server instances that bulk operations talk to at the same time
+     */
+    public static final String BULK_CONCURRENCY = "org.kie.server.controller.bulk.concurrency";
     private static KieServerInstanceManager INSTANCE = new KieServerInstanceManager();
     private List<KieServicesClientProvider> clientProviders = new ArrayList<>();
+    private int bulkConcurrency = Integer.getInteger(BULK_CONCURRENCY, 10);
 
     public KieServerInstanceManager() {
         ServiceLoader<KieServicesClientProvider> loader = ServiceLoader.load(KieServicesClientProvider.class);
@@ -88,6 +112,24 @@ public class KieServerInstanceManager {
 
                                                     return null;
                                                 }
+
+                                                @Override
+                                                public List<KieServerCommand> makeCommands(Container container) {
+                                                    KieScannerResource scannerResource = new KieScannerResource();
+                                                    scannerResource.setPollInterval(interval);
+                                                    scannerResource.setStatus(KieScannerStatus.STARTED);
+
+                                                    return Collections.singletonList(new UpdateScannerCommand(containerSpec.getId(),
+                                                                                                              scannerResource));
+                                                }
+
+                                                @Override
+                                                public void onFailure(Container container,
+                                                                      String message) {
+                                                    logger.debug("Scanner failed to start on server instance {} due to {}",
+                                                                 container.getUrl(),
+                                                                 message);
+                                                }
                                             });
     }
 
@@ -118,6 +160,24 @@ public class KieServerInstanceManager {
 
                                                     return null;
                                                 }
+
+                                                @Override
+                                                public List<KieServerCommand> makeCommands(Container container) {
+                                                    KieScannerResource scannerResource = new KieScannerResource();
+                                                    scannerResource.setPollInterval(null);
+                                                    scannerResource.setStatus(KieScannerStatus.STOPPED);
+
+                                                    return Collections.singletonList(new UpdateScannerCommand(containerSpec.getId(),
+                                                                                                              scannerResource));
+                                                }
+
+                                                @Override
+                                                public void onFailure(Container container,
+                                                                      String message) {
+                                                    logger.debug("Scanner failed to stop on server instance {} due to {}",
+                                                                 container.getUrl(),
+                                                                 message);
+                                                }
                                             });
     }
 
@@ -146,6 +206,24 @@ public class KieServerInstanceManager {
                                                                          container);
                                                     return null;
                                                 }
+
+                                                @Override
+                                                public List<KieServerCommand> makeCommands(Container container) {
+                                                    KieScannerResource scannerResource = new KieScannerResource();
+                                                    scannerResource.setPollInterval(null);
+                                                    scannerResource.setStatus(KieScannerStatus.SCANNING);
+
+                                                    return Collections.singletonList(new UpdateScannerCommand(containerSpec.getId(),
+                                                                                                              scannerResource));
+                                                }
+
+                                                @Override
+                                                public void onFailure(Container container,
+                                                                      String message) {
+                                                    logger.debug("Scanner (scan now) failed on server instance {} due to {}",
+                                                                 container.getUrl(),
+                                                                 message);
+                                                }
                                             });
     }
 
@@ -174,9 +252,39 @@ public class KieServerInstanceManager {
 
                 return null;
             }
+
+            @Override
+            public List<KieServerCommand> makeCommands(final Container container) {
+                return Collections.singletonList(new CreateContainerCommand(makeContainerResource(container, containerSpec)));
+            }
+
+            @Override
+            public void onFailure(final Container container,
+                                  final String message) {
+                log("Container {} failed to start on server instance {} due to {}", containerSpec.getId(), container.getUrl(), message);
+            }
         };
     }
 
+    /**
+     * Starts all given containers on every server instance of the template. Each server instance receives
+     * all its container operations as a single command script (one exchange instead of two per container),
+     * server instances are called in parallel, up to <code>org.kie.server.controller.bulk.concurrency</code> at a time.
+     * @return containers per container spec id, only including server instances that could be reached
+     */
+    public synchronized Map<String, List<Container>> startContainers(final ServerTemplate serverTemplate,
+                                                                     final Collection<ContainerSpec> containerSpecs) {
+        Map<String, List<Container>> containers = new LinkedHashMap<>();
+        if (containerSpecs == null || containerSpecs.isEmpty()) {
+            return containers;
+        }
+        List<ContainerSpec> specs = new ArrayList<>(containerSpecs);
+        List<RemoteKieServerOperation> operations = new ArrayList<>();
+        specs.forEach(containerSpec -> operations.add(makeStartContainerOperation(containerSpec)));
+
+        return callRemoteKieServerOperations(serverTemplate, specs, operations);
+    }
+
     void log(final String message,
              final Object... objects) {
         logger.debug(message, objects);
@@ -280,6 +388,20 @@ public class KieServerInstanceManager {
                                                                          container);
                                                     return null;
                                                 }
+
+                                                @Override
+                                                public List<KieServerCommand> makeCommands(Container container) {
+                                                    return Collections.singletonList(new DisposeContainerCommand(containerSpec.getId()));
+                                                }
+
+                                                @Override
+                                                public void onFailure(Container container,
+                                                                      String message) {
+                                                    logger.debug("Container {} failed to stop on server instance {} due to {}",
+                                                                 containerSpec.getId(),
+                                                                 container.getUrl(),
+                                                                 message);
+                                                }
                                             });
     }
 
@@ -322,6 +444,17 @@ public class KieServerInstanceManager {
 
                 return null;
             }
+
+            @Override
+            public List<KieServerCommand> makeCommands(final Container container) {
+                return Collections.singletonList(new UpdateReleaseIdCommand(containerSpec.getId(), containerSpec.getReleasedId(), resetBeforeUpdate));
+            }
+
+            @Override
+            public void onFailure(final Container container,
+                                  final String message) {
+                logUpgradeFailure(container, containerSpec, message);
+            }
         };
     }
 
@@ -338,6 +471,18 @@ public class KieServerInstanceManager {
 
                 return null;
             }
+
+            @Override
+            public List<KieServerCommand> makeCommands(final Container container) {
+                return Arrays.asList(new CreateContainerCommand(makeContainerResource(container, containerSpec)),
+                                     new UpdateReleaseIdCommand(containerSpec.getId(), containerSpec.getReleasedId(), resetBeforeUpdate));
+            }
+
+            @Override
+            public void onFailure(final Container container,
+                                  final String message) {
+                logUpgradeFailure(container, containerSpec, message);
+            }
         };
     }
 
@@ -349,12 +494,16 @@ public class KieServerInstanceManager {
         final ServiceResponse<ReleaseId> response = client.updateReleaseId(containerSpec.getId(), containerSpec.getReleasedId(), resetBeforeUpdate);
 
         if (response.getType() != ServiceResponse.ResponseType.SUCCESS) {
-            log("Container {} failed to upgrade on server instance {} due to {}", containerSpec.getId(), container.getUrl(), response.getMsg());
+            logUpgradeFailure(container, containerSpec, response.getMsg());
         }
 
         collectContainerInfo(containerSpec, client, container);
     }
 
+    private void logUpgradeFailure(final Container container, final ContainerSpec containerSpec, final String message) {
+        log("Container {} failed to upgrade on server instance {} due to {}", containerSpec.getId(), container.getUrl(), message);
+    }
+
     public List<Container> getContainers(final ServerTemplate serverTemplate,
                                          final ContainerSpec containerSpec) {
 
@@ -451,6 +600,16 @@ public class KieServerInstanceManager {
 
                 return null;
             }
+
+            @Override
+            public List<KieServerCommand> makeCommands(final Container container) {
+                return Collections.singletonList(new ActivateContainerCommand(containerSpec.getId()));
+            }
+
+            @Override
+            public void onFailure(final Container container, final String message) {
+                log("Container {} failed to activate on server instance {} due to {}", containerSpec.getId(), container.getUrl(), message);
+            }
         };
     }
     
@@ -477,6 +636,16 @@ public class KieServerInstanceManager {
 
                 return null;
             }
+
+            @Override
+            public List<KieServerCommand> makeCommands(final Container container) {
+                return Collections.singletonList(new DeactivateContainerCommand(containerSpec.getId()));
+            }
+
+            @Override
+            public void onFailure(final Container container, final String message) {
+                log("Container {} failed to deactivate on server instance {} due to {}", containerSpec.getId(), container.getUrl(), message);
+            }
         };
     }    
 
@@ -487,34 +656,128 @@ public class KieServerInstanceManager {
     protected List<Container> callRemoteKieServerOperation(ServerTemplate serverTemplate,
                                                            ContainerSpec containerSpec,
                                                            RemoteKieServerOperation operation) {
-        List<Container> containers = new ArrayList<org.kie.server.controller.api.model.runtime.Container>();
+        if (containerSpec == null) {
+            return new ArrayList<org.kie.server.controller.api.model.runtime.Container>();
+        }
+
+        return callRemoteKieServerOperations(serverTemplate,
+                                             Collections.singletonList(containerSpec),
+                                             Collections.singletonList(operation)).get(containerSpec.getId());
+    }
 
-        if (serverTemplate.getServerInstanceKeys() == null || serverTemplate.getServerInstanceKeys().isEmpty() || containerSpec == null) {
+    /*
+     * performs operation of each container spec on every server instance of the template, server instances are called
+     * in parallel, up to bulkConcurrency at a time, returns containers per container spec id, only including server
+     * instances that could be reached
+     */
+    Map<String, List<Container>> callRemoteKieServerOperations(final ServerTemplate serverTemplate,
+                                                               final List<ContainerSpec> containerSpecs,
+                                                               final List<RemoteKieServerOperation> operations) {
+        Map<String, List<Container>> containers = new LinkedHashMap<>();
+        containerSpecs.forEach(containerSpec -> containers.put(containerSpec.getId(), new ArrayList<>()));
+        if (serverTemplate.getServerInstanceKeys() == null || serverTemplate.getServerInstanceKeys().isEmpty()) {
             return containers;
         }
 
-        for (ServerInstanceKey instanceUrl : serverTemplate.getServerInstanceKeys()) {
+        final List<ServerInstanceKey> instanceKeys = new ArrayList<>(serverTemplate.getServerInstanceKeys());
+        if (instanceKeys.size() == 1) {
+            try {
+                addContainers(containers, containerSpecs, callRemoteKieServerOperations(serverTemplate, instanceKeys.get(0), containerSpecs, operations));
+            } catch (Exception e) {
+                logger.debug("Unable to connect to {}", instanceKeys.get(0), e);
+            }
+            return containers;
+        }
 
-            Container container = new Container();
-            container.setContainerSpecId(containerSpec.getId());
-            container.setServerTemplateId(serverTemplate.getId());
-            container.setServerInstanceId(instanceUrl.getServerInstanceId());
-            container.setUrl(instanceUrl.getUrl() + "/containers/" + containerSpec.getId());
-            container.setStatus(containerSpec.getStatus());
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(bulkConcurrency, instanceKeys.size())));
+        try {
+            List<Future<List<Container>>> results = new ArrayList<>();
+            for (ServerInstanceKey instanceKey : instanceKeys) {
+                results.add(executor.submit(() -> callRemoteKieServerOperations(serverTemplate, instanceKey, containerSpecs, operations)));
+            }
 
+            for (int i = 0; i < results.size(); i++) {
+                try {
+                    addContainers(containers, containerSpecs, results.get(i).get());
+                } catch (ExecutionException e) {
+                    logger.debug("Unable to connect to {}", instanceKeys.get(i), e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Interrupted while calling server instances of server template {}", serverTemplate.getId());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return containers;
+    }
+
+    /*
+     * performs operations on single server instance, all of them are sent as single command script followed by
+     * container info commands, if the operations and the client support it, otherwise one by one
+     */
+    @SuppressWarnings("unchecked")
+    List<Container> callRemoteKieServerOperations(final ServerTemplate serverTemplate,
+                                                  final ServerInstanceKey instanceKey,
+                                                  final List<ContainerSpec> containerSpecs,
+                                                  final List<RemoteKieServerOperation> operations) {
+        final KieServicesClient client = getClient(instanceKey.getUrl());
+
+        List<Container> containers = new ArrayList<>();
+        List<KieServerCommand> commands = new ArrayList<>();
+        List<Integer> resultIndexes = new ArrayList<>();
+        boolean scripted = true;
+        for (int i = 0; i < containerSpecs.size(); i++) {
+            Container container = makeContainer(serverTemplate, containerSpecs.get(i), instanceKey);
+            containers.add(container);
+
+            List<KieServerCommand> operationCommands = operations.get(i).makeCommands(container);
+            if (operationCommands == null || operationCommands.isEmpty()) {
+                scripted = false;
+            } else {
+                commands.addAll(operationCommands);
+                resultIndexes.add(commands.size() - 1);
+            }
+        }
+
+        if (scripted) {
+            int infoIndex = commands.size();
+            for (ContainerSpec containerSpec : containerSpecs) {
+                commands.add(new GetContainerInfoCommand(containerSpec.getId()));
+            }
             try {
-                final KieServicesClient client = getClient(instanceUrl.getUrl());
-                operation.doOperation(client, container);
-                containers.add(container);
-            } catch (Exception e) {
-                logger.debug("Unable to connect to {}",
-                             instanceUrl);
+                ServiceResponsesList responsesList = client.executeScript(new CommandScript(commands));
+
+                // kie server replies to each command of the script, in the same order
+                List<ServiceResponse<?>> responses = responsesList == null || responsesList.getResponses() == null ? new ArrayList<>() : responsesList.getResponses();
+                for (int i = 0; i < containerSpecs.size(); i++) {
+                    ServiceResponse<?> response = resultIndexes.get(i) < responses.size() ? responses.get(resultIndexes.get(i)) : null;
+                    if (response == null || response.getType() != ServiceResponse.ResponseType.SUCCESS) {
+                        operations.get(i).onFailure(containers.get(i), response == null ? "missing response" : response.getMsg());
+                    }
+                    if (infoIndex + i < responses.size()) {
+                        updateContainer(containers.get(i), (ServiceResponse<KieContainerResource>) responses.get(infoIndex + i));
+                    }
+                }
+                return containers;
+            } catch (UnsupportedOperationException e) {
+                // client does not support scripts, fall back to operations per container
             }
         }
 
+        for (int i = 0; i < containerSpecs.size(); i++) {
+            operations.get(i).doOperation(client, containers.get(i));
+        }
         return containers;
     }
 
+    private void addContainers(Map<String, List<Container>> containersPerSpec, List<ContainerSpec> containerSpecs, List<Container> containers) {
+        for (int i = 0; i < containers.size(); i++) {
+            containersPerSpec.get(containerSpecs.get(i).getId()).add(containers.get(i));
+        }
+    }
+
     public boolean isAlive(ServerInstanceKey serverInstanceKey) {
         boolean alive = false;
         try {
@@ -545,7 +808,12 @@ public class KieServerInstanceManager {
                                         Container container) {
         // collect up to date information
         ServiceResponse<KieContainerResource> serviceResponse = client.getContainerInfo(containerSpec.getId());
-        if (serviceResponse.getType().equals(ServiceResponse.ResponseType.SUCCESS)) {
+        updateContainer(container, serviceResponse);
+    }
+
+    protected void updateContainer(Container container,
+                                   ServiceResponse<KieContainerResource> serviceResponse) {
+        if (serviceResponse != null && ServiceResponse.ResponseType.SUCCESS.equals(serviceResponse.getType())) {
             KieContainerResource containerResource = serviceResponse.getResult();
             container.setResolvedReleasedId(containerResource.getResolvedReleaseId() == null ? containerResource.getReleaseId() : containerResource.getResolvedReleaseId());
             container.setMessages(containerResource.getMessages());
@@ -553,6 +821,18 @@ public class KieServerInstanceManager {
         }
     }
 
+    protected Container makeContainer(ServerTemplate serverTemplate,
+                                      ContainerSpec containerSpec,
+                                      ServerInstanceKey instanceUrl) {
+        Container container = new Container();
+        container.setContainerSpecId(containerSpec.getId());
+        container.setServerTemplateId(serverTemplate.getId());
+        container.setServerInstanceId(instanceUrl.getServerInstanceId());
+        container.setUrl(instanceUrl.getUrl() + "/containers/" + containerSpec.getId());
+        container.setStatus(containerSpec.getStatus());
+        return container;
+    }
+
     protected class RemoteKieServerOperation<T> {
 
         public T doOperation(KieServicesClient client,
@@ -560,5 +840,21 @@ public class KieServerInstanceManager {
 
             return null;
         }
+
+        /**
+         * @return commands that perform this operation on given container when sent in a command script, outcome of
+         * the operation is the response to the last one, null if the operation can only be performed by the client
+         */
+        public List<KieServerCommand> makeCommands(Container container) {
+
+            return null;
+        }
+
+        /**
+         * Called when the last command of this operation failed on the server instance of given container
+         */
+        public void onFailure(Container container,
+                              String message) {
+        }
     }
 }
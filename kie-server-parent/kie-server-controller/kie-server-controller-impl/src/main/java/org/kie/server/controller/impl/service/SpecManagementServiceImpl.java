@@ -18,9 +18,11 @@ package org.kie.server.controller.impl.service;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.kie.server.api.model.KieContainerStatus;
 import org.kie.server.api.model.KieScannerStatus;
@@ -137,9 +139,14 @@ public class SpecManagementServiceImpl implements SpecManagementService {
 
         Collection<ContainerSpec> containerSpecs = serverTemplate.getContainersSpec();
         if (containerSpecs != null && !containerSpecs.isEmpty()) {
-            for (ContainerSpec containerSpec : containerSpecs) {
-                if (containerSpec.getStatus().equals(KieContainerStatus.STARTED)) {
-                    List<Container> containers = kieServerInstanceManager.startContainer(serverTemplate, containerSpec);
+            List<ContainerSpec> startedSpecs = containerSpecs.stream()
+                    .filter(containerSpec -> containerSpec.getStatus().equals(KieContainerStatus.STARTED))
+                    .collect(Collectors.toList());
+            if (!startedSpecs.isEmpty()) {
+                // all containers are pushed to each server instance at once
+                Map<String, List<Container>> containersPerSpec = kieServerInstanceManager.startContainers(serverTemplate, startedSpecs);
+                for (ContainerSpec containerSpec : startedSpecs) {
+                    List<Container> containers = containersPerSpec.getOrDefault(containerSpec.getId(), Collections.emptyList());
                     notificationService.notify(serverTemplate, containerSpec, containers);
                 }
             }
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.server.controller.impl;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+import org.kie.server.api.model.KieContainerResource;
+import org.kie.server.api.model.KieContainerStatus;
+import org.kie.server.api.model.ReleaseId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ContainerSpecChangeLogTest {
+
+    private static final String TEMPLATE = "template";
+
+    private ContainerSpecChangeLog changeLog = new ContainerSpecChangeLog(2);
+
+    @Test
+    public void testOnlyChangedContainersAreReturned() {
+        long initial = changeLog.record(TEMPLATE, Arrays.asList(container("c1", "1.0"), container("c2", "1.0")));
+
+        assertThat(changeLog.record(TEMPLATE, Arrays.asList(container("c1", "1.0"), container("c2", "1.0")))).isEqualTo(initial);
+        assertThat(changeLog.changesSince(TEMPLATE, initial).getChanged()).isEmpty();
+
+        long updated = changeLog.record(TEMPLATE, Arrays.asList(container("c1", "1.0"), container("c2", "1.1"), container("c3", "1.0")));
+        assertThat(updated).isGreaterThan(initial);
+
+        ContainerSpecChangeLog.Changes changes = changeLog.changesSince(TEMPLATE, initial);
+        assertThat(changes.getChanged()).containsOnly("c2", "c3");
+        assertThat(changes.getRemoved()).isEmpty();
+
+        changeLog.record(TEMPLATE, Collections.singletonList(container("c2", "1.1")));
+        changes = changeLog.changesSince(TEMPLATE, updated);
+        assertThat(changes.getChanged()).isEmpty();
+        assertThat(changes.getRemoved()).containsOnly("c1", "c3");
+
+        changes = changeLog.changesSince(TEMPLATE, initial);
+        assertThat(changes.getChanged()).containsOnly("c2");
+        assertThat(changes.getRemoved()).containsOnly("c1", "c3");
+    }
+
+    @Test
+    public void testChangesAreNotKnownAfterGap() {
+        long initial = changeLog.record(TEMPLATE, Arrays.asList(container("c1", "1.0"), container("c2", "1.0"), container("c3", "1.0")));
+        changeLog.record(TEMPLATE, Arrays.asList(container("c2", "1.0"), container("c3", "1.0")));
+        long removedTwo = changeLog.record(TEMPLATE, Collections.singletonList(container("c3", "1.0")));
+
+        assertThat(changeLog.changesSince(TEMPLATE, initial).getRemoved()).containsOnly("c1", "c2");
+
+        // third tombstone drops the oldest one, versions before it are no longer covered
+        changeLog.record(TEMPLATE, Collections.emptyList());
+        assertThat(changeLog.changesSince(TEMPLATE, initial)).isNull();
+        assertThat(changeLog.changesSince(TEMPLATE, removedTwo - 1)).isNotNull();
+        assertThat(changeLog.changesSince(TEMPLATE, removedTwo).getRemoved()).containsOnly("c3");
+
+        // versions this log did not produce and unknown templates
+        assertThat(changeLog.changesSince(TEMPLATE, removedTwo + 10)).isNull();
+        assertThat(changeLog.changesSince("other", initial)).isNull();
+    }
+
+    @Test
+    public void testStatusChangeIsRecorded() {
+        long initial = changeLog.record(TEMPLATE, Collections.singletonList(container("c1", "1.0")));
+
+        KieContainerResource stopped = container("c1", "1.0");
+        stopped.setStatus(KieContainerStatus.STOPPED);
+        changeLog.record(TEMPLATE, Collections.singletonList(stopped));
+
+        assertThat(changeLog.changesSince(TEMPLATE, initial).getChanged()).containsOnly("c1");
+    }
+
+    private static KieContainerResource container(String containerId, String version) {
+        return new KieContainerResource(containerId, new ReleaseId("org.kie", containerId, version), KieContainerStatus.STARTED);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.server.controller.impl;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.server.api.model.KieContainerResource;
+import org.kie.server.api.model.KieContainerStatus;
+import org.kie.server.api.model.KieServerInfo;
+import org.kie.server.api.model.ReleaseId;
+import org.kie.server.controller.api.model.KieServerSetup;
+import org.kie.server.controller.api.model.spec.ContainerSpec;
+import org.kie.server.controller.api.model.spec.ServerTemplate;
+import org.kie.server.controller.api.service.NotificationService;
+import org.kie.server.controller.api.storage.KieServerTemplateStorage;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class KieServerControllerImplTest {
+
+    private static final String TEMPLATE_ID = "template";
+
+    @Mock
+    private KieServerTemplateStorage templateStorage;
+
+    @Mock
+    private NotificationService notificationService;
+
+    private ServerTemplate serverTemplate;
+    private KieServerInfo serverInfo;
+    private KieServerControllerImpl controller;
+
+    @Before
+    public void setup() {
+        serverTemplate = new ServerTemplate(TEMPLATE_ID, TEMPLATE_ID);
+        serverTemplate.addContainerSpec(containerSpec("c1", "1.0"));
+        serverTemplate.addContainerSpec(containerSpec("c2", "1.0"));
+        when(templateStorage.load(TEMPLATE_ID)).thenReturn(serverTemplate);
+
+        serverInfo = new KieServerInfo(TEMPLATE_ID, "server", "1.0", Collections.emptyList(), "http://localhost:8080/server");
+
+        controller = new KieServerControllerImpl() {
+        };
+        controller.setTemplateStorage(templateStorage);
+        controller.setNotificationService(notificationService);
+        controller.setChangeLog(new ContainerSpecChangeLog());
+    }
+
+    @Test
+    public void testConnectReturnsDeltaSinceAcknowledgedVersion() {
+        KieServerSetup initial = controller.connect(serverInfo);
+        assertThat(initial.isDelta()).isFalse();
+        assertThat(containerIds(initial)).containsOnly("c1", "c2");
+
+        serverTemplate.deleteContainerSpec("c1");
+        serverTemplate.getContainerSpec("c2").setReleasedId(new ReleaseId("org.kie", "c2", "1.1"));
+        serverTemplate.addContainerSpec(containerSpec("c3", "1.0"));
+
+        KieServerSetup delta = controller.connect(serverInfo, initial.getChangeLogId(), initial.getVersion());
+
+        assertThat(delta.isDelta()).isTrue();
+        assertThat(containerIds(delta)).containsOnly("c2", "c3");
+        assertThat(delta.getRemovedContainers()).containsOnly("c1");
+        assertThat(delta.getVersion()).isGreaterThan(initial.getVersion());
+
+        KieServerSetup unchanged = controller.connect(serverInfo, delta.getChangeLogId(), delta.getVersion());
+
+        assertThat(unchanged.isDelta()).isTrue();
+        assertThat(unchanged.getContainers()).isEmpty();
+        assertThat(unchanged.getRemovedContainers()).isEmpty();
+    }
+
+    @Test
+    public void testConnectReturnsCompleteSetupForUnknownChangeLog() {
+        KieServerSetup initial = controller.connect(serverInfo);
+        serverTemplate.deleteContainerSpec("c1");
+
+        KieServerSetup setup = controller.connect(serverInfo, "other-log", initial.getVersion());
+
+        assertThat(setup.isDelta()).isFalse();
+        assertThat(containerIds(setup)).containsOnly("c2");
+        assertThat(setup.getChangeLogId()).isEqualTo(initial.getChangeLogId());
+    }
+
+    private static Set<String> containerIds(KieServerSetup setup) {
+        return setup.getContainers().stream().map(KieContainerResource::getContainerId).collect(Collectors.toSet());
+    }
+
+    private static ContainerSpec containerSpec(String containerId, String version) {
+        return new ContainerSpec(containerId, containerId, null, new ReleaseId("org.kie", containerId, version),
+                                 KieContainerStatus.STARTED, new HashMap<>());
+    }
+}
@@ -17,6 +17,7 @@
 package org.kie.server.controller.impl;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -26,6 +27,10 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.kie.server.api.KieServerConstants;
+import org.kie.server.api.commands.CommandScript;
+import org.kie.server.api.commands.CreateContainerCommand;
+import org.kie.server.api.commands.GetContainerInfoCommand;
+import org.kie.server.api.commands.UpdateReleaseIdCommand;
 import org.kie.server.api.model.KieContainerResource;
 import org.kie.server.api.model.KieContainerStatus;
 import org.kie.server.api.model.KieScannerResource;
@@ -34,6 +39,7 @@ import org.kie.server.api.model.KieServerConfigItem;
 import org.kie.server.api.model.Message;
 import org.kie.server.api.model.ReleaseId;
 import org.kie.server.api.model.ServiceResponse;
+import org.kie.server.api.model.ServiceResponsesList;
 import org.kie.server.client.KieServicesClient;
 import org.kie.server.controller.api.model.runtime.Container;
 import org.kie.server.controller.api.model.runtime.ServerInstanceKey;
@@ -58,6 +64,7 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -544,4 +551,113 @@ public class KieServerInstanceManagerTest {
                                                        pcfgKieBase,
                                                        kBase);
     }
+
+    @Test
+    public void testStartContainersSendsSingleScriptPerServerInstance() {
+        final ServerTemplate template = new ServerTemplate("template", "template");
+        template.addServerInstance(new ServerInstanceKey("template", "server1", "server1", "http://server1"));
+        template.addServerInstance(new ServerInstanceKey("template", "server2", "server2", "http://server2"));
+        final ContainerSpec spec1 = new ContainerSpec("c1", "c1", template, new ReleaseId("org.kie", "c1", "1.0"), KieContainerStatus.STARTED, null);
+        final ContainerSpec spec2 = new ContainerSpec("c2", "c2", template, new ReleaseId("org.kie", "c2", "1.0"), KieContainerStatus.STARTED, null);
+
+        final KieContainerResource startedResource = new KieContainerResource("c1", new ReleaseId("org.kie", "c1", "1.0"), KieContainerStatus.STARTED);
+        final List<ServiceResponse<?>> responses = Arrays.asList(new ServiceResponse<>(ServiceResponse.ResponseType.SUCCESS, null),
+                                                                 new ServiceResponse<>(ServiceResponse.ResponseType.FAILURE, "failed"),
+                                                                 new ServiceResponse<>(ServiceResponse.ResponseType.SUCCESS, null, startedResource),
+                                                                 new ServiceResponse<>(ServiceResponse.ResponseType.FAILURE, "not found"));
+        doReturn(client).when(instanceManager).getClient(any());
+        doReturn(new ServiceResponsesList(responses)).when(client).executeScript(any(CommandScript.class));
+
+        final Map<String, List<Container>> containers = instanceManager.startContainers(template, Arrays.asList(spec1, spec2));
+
+        final ArgumentCaptor<CommandScript> scriptCaptor = ArgumentCaptor.forClass(CommandScript.class);
+        verify(client, times(2)).executeScript(scriptCaptor.capture());
+        verify(client, never()).createContainer(anyString(), any());
+        for (CommandScript script : scriptCaptor.getAllValues()) {
+            assertEquals(4, script.getCommands().size());
+            assertTrue(script.getCommands().get(0) instanceof CreateContainerCommand);
+            assertTrue(script.getCommands().get(1) instanceof CreateContainerCommand);
+            assertTrue(script.getCommands().get(2) instanceof GetContainerInfoCommand);
+            assertTrue(script.getCommands().get(3) instanceof GetContainerInfoCommand);
+        }
+
+        assertEquals(2, containers.get("c1").size());
+        assertEquals(2, containers.get("c2").size());
+        for (Container container : containers.get("c1")) {
+            assertEquals(KieContainerStatus.STARTED, container.getStatus());
+            assertEquals(new ReleaseId("org.kie", "c1", "1.0"), container.getResolvedReleasedId());
+        }
+        verify(instanceManager, times(2)).log(eq("Container {} failed to start on server instance {} due to {}"), eq("c2"), anyString(), eq("failed"));
+    }
+
+    @Test
+    public void testUpgradeAndStartContainerSendsSingleScriptPerServerInstance() {
+        final ServerTemplate template = new ServerTemplate("template", "template");
+        template.addServerInstance(new ServerInstanceKey("template", "server1", "server1", "http://server1"));
+        template.addServerInstance(new ServerInstanceKey("template", "server2", "server2", "http://server2"));
+        final ReleaseId upgradedReleaseId = new ReleaseId("org.kie", "c1", "2.0");
+        final ContainerSpec spec = new ContainerSpec("c1", "c1", template, upgradedReleaseId, KieContainerStatus.STARTED, null);
+
+        final KieContainerResource upgradedResource = new KieContainerResource("c1", upgradedReleaseId, KieContainerStatus.STARTED);
+        final List<ServiceResponse<?>> responses = Arrays.asList(new ServiceResponse<>(ServiceResponse.ResponseType.FAILURE, "already exists"),
+                                                                 new ServiceResponse<>(ServiceResponse.ResponseType.FAILURE, "failed"),
+                                                                 new ServiceResponse<>(ServiceResponse.ResponseType.SUCCESS, null, upgradedResource));
+        doReturn(client).when(instanceManager).getClient(any());
+        doReturn(new ServiceResponsesList(responses)).when(client).executeScript(any(CommandScript.class));
+
+        final List<Container> containers = instanceManager.upgradeAndStartContainer(template, spec);
+
+        final ArgumentCaptor<CommandScript> scriptCaptor = ArgumentCaptor.forClass(CommandScript.class);
+        verify(client, times(2)).executeScript(scriptCaptor.capture());
+        verify(client, never()).updateReleaseId(anyString(), any(), anyBoolean());
+        for (CommandScript script : scriptCaptor.getAllValues()) {
+            assertEquals(3, script.getCommands().size());
+            assertTrue(script.getCommands().get(0) instanceof CreateContainerCommand);
+            assertTrue(script.getCommands().get(1) instanceof UpdateReleaseIdCommand);
+            assertTrue(script.getCommands().get(2) instanceof GetContainerInfoCommand);
+        }
+
+        assertEquals(2, containers.size());
+        for (Container container : containers) {
+            assertEquals(upgradedReleaseId, container.getResolvedReleasedId());
+        }
+        // only the outcome of the upgrade is reported, container being already started is expected
+        verify(instanceManager, times(2)).log(eq("Container {} failed to upgrade on server instance {} due to {}"), eq("c1"), anyString(), eq("failed"));
+        verify(instanceManager, never()).log(anyString(), any(), any(), eq("already exists"));
+    }
+
+    @Test
+    public void testStartContainersFallsBackToOperationPerContainer() {
+        final ServerTemplate template = new ServerTemplate("template", "template");
+        template.addServerInstance(new ServerInstanceKey("template", "server1", "server1", "http://server1"));
+        final ContainerSpec spec1 = new ContainerSpec("c1", "c1", template, new ReleaseId("org.kie", "c1", "1.0"), KieContainerStatus.STARTED, null);
+        final ContainerSpec spec2 = new ContainerSpec("c2", "c2", template, new ReleaseId("org.kie", "c2", "1.0"), KieContainerStatus.STARTED, null);
+
+        doReturn(client).when(instanceManager).getClient(any());
+        doThrow(new UnsupportedOperationException()).when(client).executeScript(any(CommandScript.class));
+        doReturn(operation).when(instanceManager).makeStartContainerOperation(any());
+        doReturn(Collections.singletonList(new GetContainerInfoCommand("c1"))).when(operation).makeCommands(any(Container.class));
+
+        final Map<String, List<Container>> containers = instanceManager.startContainers(template, Arrays.asList(spec1, spec2));
+
+        verify(instanceManager).makeStartContainerOperation(spec1);
+        verify(instanceManager).makeStartContainerOperation(spec2);
+        verify(client).executeScript(any(CommandScript.class));
+        verify(operation, times(2)).doOperation(eq(client), any(Container.class));
+        assertEquals(1, containers.get("c1").size());
+        assertEquals(1, containers.get("c2").size());
+    }
+
+    @Test
+    public void testStartContainersSkipsUnreachableServerInstance() {
+        final ServerTemplate template = new ServerTemplate("template", "template");
+        template.addServerInstance(new ServerInstanceKey("template", "server1", "server1", "http://server1"));
+        final ContainerSpec spec1 = new ContainerSpec("c1", "c1", template, new ReleaseId("org.kie", "c1", "1.0"), KieContainerStatus.STARTED, null);
+
+        doThrow(new NullPointerException()).when(instanceManager).getClient(any());
+
+        final Map<String, List<Container>> containers = instanceManager.startContainers(template, Collections.singletonList(spec1));
+
+        assertTrue(containers.get("c1").isEmpty());
+    }
 }
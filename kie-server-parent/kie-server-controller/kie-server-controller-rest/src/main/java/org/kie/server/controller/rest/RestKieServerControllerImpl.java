@@ -47,12 +47,14 @@ public class RestKieServerControllerImpl extends KieServerControllerImpl {
     @Produces({MediaType.APPLICATION_XML, MediaType.APPLICATION_JSON})
     public Response connectKieServer(@Context HttpHeaders headers,
                                      @PathParam("serverInstanceId") String id,
+                                     @QueryParam("changeLogId") String changeLogId,
+                                     @QueryParam("version") Long version,
                                      String serverInfoPayload) {
         String contentType = getContentType(headers);
-        logger.debug("Received connect request from server with id {}", id);
+        logger.debug("Received connect request from server with id {} that acknowledged version {} of change log {}", id, version, changeLogId);
         KieServerInfo serverInfo = unmarshal(serverInfoPayload, contentType, KieServerInfo.class);
         logger.debug("Server info {}", serverInfo);
-        KieServerSetup serverSetup = connect(serverInfo);
+        KieServerSetup serverSetup = connect(serverInfo, changeLogId, version);
 
         logger.info("Server with id '{}' connected", id);
         String response = marshal(contentType, serverSetup);
@@ -16,7 +16,8 @@
 package org.kie.server.controller.websocket.common.handlers;
 
 import java.io.IOException;
-import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import javax.websocket.MessageHandler;
 import javax.websocket.Session;
@@ -27,7 +28,8 @@ import org.slf4j.LoggerFactory;
 public class KieServerMessageHandler implements MessageHandler.Whole<String> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(KieServerMessageHandler.class);
-    private ArrayDeque<InternalMessageHandler> internalHandlers = new ArrayDeque<>();
+    // handlers are added by requesting threads and polled by the thread receiving messages
+    private Queue<InternalMessageHandler> internalHandlers = new ConcurrentLinkedQueue<>();
     
     private Session session;    
     
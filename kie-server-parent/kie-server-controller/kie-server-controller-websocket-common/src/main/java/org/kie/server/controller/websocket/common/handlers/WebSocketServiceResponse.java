@@ -26,12 +26,23 @@ import org.kie.server.api.model.ServiceResponse;
 @SuppressWarnings("rawtypes")
 public class WebSocketServiceResponse extends ServiceResponse implements InternalMessageHandler {
 
+    private static final long DEFAULT_TIMEOUT = TimeUnit.MINUTES.toMillis(1);
+
     private CountDownLatch latch;
-    private KieServiceResponse<?> result;
+    private long timeout;
+    private volatile KieServiceResponse<?> result;
     private Function<String, KieServiceResponse<?>> handler;
     
     public WebSocketServiceResponse(boolean isBlocking, Function<String, KieServiceResponse<?>> handler) {
+        this(isBlocking, DEFAULT_TIMEOUT, handler);
+    }
+
+    /**
+     * @param timeout how long (in milliseconds) blocking response waits for the message
+     */
+    public WebSocketServiceResponse(boolean isBlocking, long timeout, Function<String, KieServiceResponse<?>> handler) {
         this.handler = handler;
+        this.timeout = timeout;
         if (isBlocking) {
             this.latch = new CountDownLatch(1);
         }
@@ -65,7 +76,7 @@ public class WebSocketServiceResponse extends ServiceResponse implements Interna
     protected KieServiceResponse<?> getWrapperResult() {
         if (latch != null) {
             try {
-                this.latch.await(1, TimeUnit.MINUTES);
+                this.latch.await(timeout, TimeUnit.MILLISECONDS);
             } catch (InterruptedException e) {                
             }
         }
@@ -75,6 +75,12 @@ import org.slf4j.LoggerFactory;
 public class WebSocketKieServerClient implements KieServicesClient {
     
     private static final Logger logger = LoggerFactory.getLogger(WebSocketKieServerClient.class);
+
+    /**
+     * How long (in milliseconds) to wait for kie server to reply to a command script, scripts carry operations
+     * of many containers so they can take much longer than single commands
+     */
+    public static final String SCRIPT_RESPONSE_TIMEOUT = "org.kie.server.controller.websocket.script.timeout";
     
     private WebSocketSessionManager manager = WebSocketSessionManager.getInstance();
     private String url;
@@ -370,10 +376,7 @@ public class WebSocketKieServerClient implements KieServicesClient {
         String content = WebSocketUtils.marshal(script);
         logger.debug("Content to be sent over Web Socket '{}'", content);
         try {
-            manager.getHandler(session.getId()).addHandler(response);
-            
-            session.getBasicRemote().sendText(content);
-            logger.debug("Message successfully sent to kie server");
+            send(session, content, response);
             return new ServiceResponsesList(Arrays.asList(response));
         } catch (IOException e) {
            throw new RuntimeException(e);
@@ -393,10 +396,7 @@ public class WebSocketKieServerClient implements KieServicesClient {
             String content = WebSocketUtils.marshal(script);
             logger.debug("Content to be sent over Web Socket '{}'", content);
             try {
-                manager.getHandler(session.getId()).addHandler(response);
-                
-                session.getBasicRemote().sendText(content);
-                logger.debug("Message successfully sent to kie server");
+                send(session, content, response);
                 responses.add(response);
             } catch (IOException e) {
                throw new RuntimeException(e);
@@ -406,6 +406,21 @@ public class WebSocketKieServerClient implements KieServicesClient {
         return result;
     }
 
+    /*
+     * messages carry no id, kie server handles messages of a session one at a time and replies to each before
+     * reading the next one, so responses are matched with requests by their order on the session. Registering the
+     * response handler and sending the message must not interleave with other requests. A request that timed out
+     * keeps its handler queued, so its late reply does not shift replies of later requests.
+     */
+    protected void send(Session session, String content, WebSocketServiceResponse response) throws IOException {
+        synchronized (session) {
+            manager.getHandler(session.getId()).addHandler(response);
+
+            session.getBasicRemote().sendText(content);
+        }
+        logger.debug("Message successfully sent to kie server");
+    }
+
     
     @Override
     public ServiceResponse<KieServerInfo> getServerInfo() {
@@ -468,9 +483,19 @@ public class WebSocketKieServerClient implements KieServicesClient {
         return response;
     }
 
+    /**
+     * Sends all commands of the script to kie server in a single message, kie server replies with single message
+     * that has response for each command in the same order.
+     */
     @Override
     public ServiceResponsesList executeScript(CommandScript script) {
-        return throwUnsupportedException();
+        long timeout = Long.getLong(SCRIPT_RESPONSE_TIMEOUT, 300000L);
+        ServiceResponse<ServiceResponsesList> response = (ServiceResponse<ServiceResponsesList>) sendCommandToAllSessions(script, new WebSocketServiceResponse(true, timeout, (message) -> {
+            ServiceResponsesList list = WebSocketUtils.unmarshal(message, ServiceResponsesList.class);
+            return new ServiceResponse<ServiceResponsesList>(ServiceResponse.ResponseType.SUCCESS, null, list);
+        })).getResponses().get(0);
+
+        return response.getResult();
     }
 
     @Override
@@ -15,9 +15,12 @@
 
 package org.kie.server.client;
 
+import java.util.List;
+
 import org.kie.dmn.api.core.DMNContext;
 import org.kie.dmn.api.core.DMNResult;
 import org.kie.server.api.model.ServiceResponse;
+import org.kie.server.api.model.dmn.DMNBatchResultKS;
 import org.kie.server.api.model.dmn.DMNModelInfoList;
 
 public interface DMNServicesClient {
@@ -101,4 +104,31 @@ public interface DMNServicesClient {
      */
     ServiceResponse<DMNResult> evaluateDecisionService(String containerId, String namespace, String modelName, String decisionServiceName, DMNContext context);
 
+    /**
+     * Evaluate all decisions of the model identified by namespace and modelName for every given context within a single request.
+     * Contexts are evaluated in parallel on the server, each as if it was sent in its own request.
+     *
+     * @param containerId the container id deploying the DMN model
+     * @param namespace namespace to identify the model to evaluate
+     * @param modelName model name to identify the model to evaluate
+     * @param dmnContexts the contexts with all the input variables
+     *
+     * @return result or error of every context in the order of the given contexts
+     */
+    ServiceResponse<DMNBatchResultKS> evaluateAllBatch(String containerId, String namespace, String modelName, List<DMNContext> dmnContexts);
+
+    /**
+     * Evaluate the decision service identified by the given name for every given context within a single request.
+     * Contexts are evaluated in parallel on the server, each as if it was sent in its own request.
+     *
+     * @param containerId the container id deploying the DMN model
+     * @param namespace namespace to identify the model to evaluate
+     * @param modelName model name to identify the model to evaluate
+     * @param decisionServiceName the decision service to evaluate
+     * @param dmnContexts the contexts with all the input variables
+     *
+     * @return result or error of every context in the order of the given contexts
+     */
+    ServiceResponse<DMNBatchResultKS> evaluateDecisionServiceBatch(String containerId, String namespace, String modelName, String decisionServiceName, List<DMNContext> dmnContexts);
+
 }
@@ -27,9 +27,12 @@ import org.kie.server.api.model.definition.TaskInputsDefinition;
 import org.kie.server.api.model.definition.TaskOutputsDefinition;
 import org.kie.server.api.model.definition.UserTaskDefinitionList;
 import org.kie.server.api.model.definition.VariablesDefinition;
+import org.kie.server.api.model.instance.BulkOperationResult;
 import org.kie.server.api.model.instance.NodeInstance;
 import org.kie.server.api.model.instance.ProcessInstance;
+import org.kie.server.api.model.instance.ProcessStartRequest;
 import org.kie.server.api.model.instance.VariableInstance;
+import org.kie.server.api.model.instance.WorkItemCompletionRequest;
 import org.kie.server.api.model.instance.WorkItemInstance;
 import org.kie.server.client.jms.ResponseHandler;
 
@@ -61,6 +64,15 @@ public interface ProcessServicesClient {
 
     Long startProcess(String containerId, String processId, CorrelationKey correlationKey, Map<String, Object> variables);
 
+    List<BulkOperationResult> startProcesses(String containerId, String processId, List<ProcessStartRequest> requests);
+
+    /**
+     * Starts all requested process instances within a single request, <code>chunkSize</code> instances
+     * per transaction (server default when null or not positive). Returns the result of every request in
+     * the same order, failed instances carry the error instead of the process instance id.
+     */
+    List<BulkOperationResult> startProcesses(String containerId, String processId, List<ProcessStartRequest> requests, Integer chunkSize);
+
     void abortProcessInstance(String containerId, Long processInstanceId);
 
     void abortProcessInstances(String containerId, List<Long> processInstanceIds);
@@ -89,6 +101,15 @@ public interface ProcessServicesClient {
 
     void completeWorkItem(String containerId, Long processInstanceId, Long id, Map<String, Object> results);
 
+    List<BulkOperationResult> completeWorkItems(String containerId, List<WorkItemCompletionRequest> requests);
+
+    /**
+     * Completes all requested work items within a single request, <code>chunkSize</code> work items
+     * per transaction (server default when null or not positive). Returns the result of every request in
+     * the same order.
+     */
+    List<BulkOperationResult> completeWorkItems(String containerId, List<WorkItemCompletionRequest> requests, Integer chunkSize);
+
     void abortWorkItem(String containerId, Long processInstanceId, Long id);
 
     WorkItemInstance getWorkItem(String containerId, Long processInstanceId, Long id);
@@ -143,6 +143,16 @@ public interface QueryServicesClient {
 
     <T> List<T> query(String queryName, String mapper, String builder, Map<String, Object> parameters, Integer page, Integer pageSize, Class<T> resultType);
 
+    /**
+     * Keyset (seek) pagination - returns up to pageSize results that come after the last result of previous page,
+     * ordered by the order by column and direction of the filter spec and then by unique id column. Values of both
+     * columns of the last result are then used to fetch the next page, which avoids offset scans for deep pages.
+     * @param idColumn unique column, e.g. an id, ordering results with equal value of the order by column
+     * @param after value of the order by column of the last result of previous page
+     * @param afterId value of the id column of the last result of previous page, not needed when ordered by id column
+     */
+    <T> List<T> queryAfter(String queryName, String mapper, QueryFilterSpec filterSpec, String idColumn, Object after, Object afterId, Integer pageSize, Class<T> resultType);
+
     <T> List<T> query(String containerId, String queryName, String mapper, String builder, Map<String, Object> parameters, Integer page, Integer pageSize, Class<T> resultType);
 
     List<ProcessInstance> findProcessInstancesWithFilters(String queryName, ProcessInstanceQueryFilterSpec filterSpec, Integer page, Integer pageSize);
@@ -19,10 +19,12 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 
+import org.kie.server.api.model.instance.BulkOperationResult;
 import org.kie.server.api.model.instance.TaskAttachment;
 import org.kie.server.api.model.instance.TaskComment;
 import org.kie.server.api.model.instance.TaskEventInstance;
 import org.kie.server.api.model.instance.TaskInstance;
+import org.kie.server.api.model.instance.TaskOperationRequest;
 import org.kie.server.api.model.instance.TaskSummary;
 import org.kie.server.client.jms.ResponseHandler;
 
@@ -43,6 +45,48 @@ public interface UserTaskServicesClient {
 
     void failTask(String containerId, Long taskId, String userId, Map<String, Object> params);
 
+    // bulk task operations - each task is reported individually in the returned results
+
+    /**
+     * Claims all given tasks on behalf of given user.
+     * @param containerId container id that tasks belong to
+     * @param taskIds ids of the tasks to claim
+     * @param userId user claiming the tasks
+     * @param chunkSize number of tasks processed within a single transaction, null selects server default
+     * @return result of the operation for every task in the order they were given
+     */
+    List<BulkOperationResult> claimTasks(String containerId, List<Long> taskIds, String userId, Integer chunkSize);
+
+    /**
+     * Starts all given tasks on behalf of given user.
+     * @see #claimTasks(String, List, String, Integer)
+     */
+    List<BulkOperationResult> startTasks(String containerId, List<Long> taskIds, String userId, Integer chunkSize);
+
+    /**
+     * Releases all given tasks on behalf of given user.
+     * @see #claimTasks(String, List, String, Integer)
+     */
+    List<BulkOperationResult> releaseTasks(String containerId, List<Long> taskIds, String userId, Integer chunkSize);
+
+    /**
+     * Delegates all given tasks to target user.
+     * @see #claimTasks(String, List, String, Integer)
+     */
+    List<BulkOperationResult> delegateTasks(String containerId, List<Long> taskIds, String userId, String targetUserId, Integer chunkSize);
+
+    /**
+     * Completes all given tasks with the data carried by every request, tasks must be already in progress.
+     * @see #claimTasks(String, List, String, Integer)
+     */
+    List<BulkOperationResult> completeTasks(String containerId, List<TaskOperationRequest> requests, String userId, Integer chunkSize);
+
+    /**
+     * Completes all given tasks with the data carried by every request, claiming and starting them first when needed.
+     * @see #claimTasks(String, List, String, Integer)
+     */
+    List<BulkOperationResult> completeAutoProgressTasks(String containerId, List<TaskOperationRequest> requests, String userId, Integer chunkSize);
+
     void forwardTask(String containerId, Long taskId, String userId, String targetEntityId);
 
     void releaseTask(String containerId, Long taskId, String userId);
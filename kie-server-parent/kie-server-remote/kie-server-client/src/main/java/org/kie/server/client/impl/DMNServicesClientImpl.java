@@ -19,6 +19,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.MathContext;
 import java.util.Collection;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -39,6 +40,9 @@ import org.kie.server.api.marshalling.MarshallingFormat;
 import org.kie.server.api.model.KieServerCommand;
 import org.kie.server.api.model.ServiceResponse;
 import org.kie.server.api.model.Wrapped;
+import org.kie.server.api.model.dmn.DMNBatchContextKS;
+import org.kie.server.api.model.dmn.DMNBatchItemResultKS;
+import org.kie.server.api.model.dmn.DMNBatchResultKS;
 import org.kie.server.api.model.dmn.DMNContextKS;
 import org.kie.server.api.model.dmn.DMNModelInfoList;
 import org.kie.server.api.model.dmn.DMNResultKS;
@@ -46,6 +50,7 @@ import org.kie.server.client.DMNServicesClient;
 import org.kie.server.client.KieServicesConfiguration;
 
 import static org.kie.server.api.rest.RestURI.CONTAINER_ID;
+import static org.kie.server.api.rest.RestURI.DMN_BATCH_URI;
 import static org.kie.server.api.rest.RestURI.DMN_URI;
 import static org.kie.server.api.rest.RestURI.build;
 
@@ -160,6 +165,70 @@ public class DMNServicesClientImpl extends AbstractKieServicesClientImpl impleme
             return result2;
         }
         
+        @Override
+        public ServiceResponse<DMNBatchResultKS> evaluateAllBatch(String containerId, String namespace, String modelName, List<DMNContext> dmnContexts) {
+            return evaluateDecisionsBatch(containerId, toBatch(namespace, modelName, null, dmnContexts));
+        }
+
+        @Override
+        public ServiceResponse<DMNBatchResultKS> evaluateDecisionServiceBatch(String containerId, String namespace, String modelName, String decisionServiceName, List<DMNContext> dmnContexts) {
+            Objects.requireNonNull(decisionServiceName, "Parameter decisionServiceName cannot be null; method evaluateAllBatch() can be used to evaluate all decisions in a model.");
+            return evaluateDecisionsBatch(containerId, toBatch(namespace, modelName, decisionServiceName, dmnContexts));
+        }
+
+        private static DMNBatchContextKS toBatch(String namespace, String modelName, String decisionServiceName, List<DMNContext> dmnContexts) {
+            List<DMNContextKS> contexts = new ArrayList<>(dmnContexts.size());
+            for (DMNContext dmnContext : dmnContexts) {
+                DMNContextKS payload = new DMNContextKS(namespace, modelName, dmnContext.getAll());
+                payload.setDecisionServiceName(decisionServiceName);
+                contexts.add(payload);
+            }
+            return new DMNBatchContextKS(contexts);
+        }
+
+        /**
+         * Please notice this method is NOT exposed to the API interface.
+         */
+        // DO NOT ADD @Override
+        public ServiceResponse<DMNBatchResultKS> evaluateDecisionsBatch(String containerId, DMNBatchContextKS payload) {
+            ServiceResponse<DMNBatchResultKS> result = null;
+            if( config.isRest() ) {
+                Map<String, Object> valuesMap = new HashMap<String, Object>();
+                valuesMap.put(CONTAINER_ID, containerId);
+                
+                result = (ServiceResponse<DMNBatchResultKS>)(ServiceResponse<?>) makeHttpPostRequestAndCreateServiceResponse(
+                        build(loadBalancer.getUrl(), DMN_URI + "/" + DMN_BATCH_URI, valuesMap), payload, DMNBatchResultKS.class);
+
+            } else {
+                CommandScript script = new CommandScript( Collections.singletonList(
+                        (KieServerCommand) new DescriptorCommand("DMNService", "evaluateDecisionsBatch", serialize(payload), marshaller.getFormat().getType(), new Object[]{containerId})) );
+                result = (ServiceResponse<DMNBatchResultKS>) executeJmsCommand( script, DescriptorCommand.class.getName(), KieServerConstants.CAPABILITY_DMN, containerId ).getResponses().get(0);
+
+                throwExceptionOnFailure( result );
+                if (shouldReturnWithNullResponse(result)) {
+                    return null;
+                }
+            }
+
+            if (result instanceof Wrapped) {
+                return (ServiceResponse<DMNBatchResultKS>) ((Wrapped) result).unwrap();
+            }
+
+            // coerce numbers to BigDecimal as per DMN spec, same as for single evaluation
+            if ( config.getMarshallingFormat() == MarshallingFormat.JSON && result.getResult() != null ) {
+                for ( DMNBatchItemResultKS item : result.getResult().getResults() ) {
+                    if ( item.getResult() != null ) {
+                        recurseAndModifyByCoercingNumbers(item.getResult().getContext());
+                        for ( DMNDecisionResult dr : item.getResult().getDecisionResults() ) {
+                            recurseAndModifyByCoercingNumbers( dr.getResult() );
+                        }
+                    }
+                }
+            }
+
+            return result;
+        }
+
         private static Object recurseAndModifyByCoercingNumbers(Object result) {
             if ( result instanceof DMNContext ) {
                 DMNContext ctx = (DMNContext) result;
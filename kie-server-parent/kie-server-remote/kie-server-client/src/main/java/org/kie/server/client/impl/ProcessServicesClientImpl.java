@@ -36,12 +36,18 @@ import org.kie.server.api.model.definition.TaskInputsDefinition;
 import org.kie.server.api.model.definition.TaskOutputsDefinition;
 import org.kie.server.api.model.definition.UserTaskDefinitionList;
 import org.kie.server.api.model.definition.VariablesDefinition;
+import org.kie.server.api.model.instance.BulkOperationResult;
+import org.kie.server.api.model.instance.BulkOperationResultList;
 import org.kie.server.api.model.instance.NodeInstance;
 import org.kie.server.api.model.instance.NodeInstanceList;
 import org.kie.server.api.model.instance.ProcessInstance;
 import org.kie.server.api.model.instance.ProcessInstanceList;
+import org.kie.server.api.model.instance.ProcessStartRequest;
+import org.kie.server.api.model.instance.ProcessStartRequestList;
 import org.kie.server.api.model.instance.VariableInstance;
 import org.kie.server.api.model.instance.VariableInstanceList;
+import org.kie.server.api.model.instance.WorkItemCompletionRequest;
+import org.kie.server.api.model.instance.WorkItemCompletionRequestList;
 import org.kie.server.api.model.instance.WorkItemInstance;
 import org.kie.server.api.model.instance.WorkItemInstanceList;
 import org.kie.server.client.KieServicesConfiguration;
@@ -320,6 +326,44 @@ public class ProcessServicesClientImpl extends AbstractKieServicesClientImpl imp
         return ((Number) result).longValue();
     }
 
+    @Override
+    public List<BulkOperationResult> startProcesses(String containerId, String processId, List<ProcessStartRequest> requests) {
+        return startProcesses(containerId, processId, requests, null);
+    }
+
+    @Override
+    public List<BulkOperationResult> startProcesses(String containerId, String processId, List<ProcessStartRequest> requests, Integer chunkSize) {
+        BulkOperationResultList result = null;
+        ProcessStartRequestList requestList = new ProcessStartRequestList(requests);
+        if( config.isRest() ) {
+
+            Map<String, Object> valuesMap = new HashMap<String, Object>();
+            valuesMap.put(CONTAINER_ID, containerId);
+            valuesMap.put(PROCESS_ID, processId);
+
+            result = makeHttpPostRequestAndCreateCustomResponse(
+                    build(loadBalancer.getUrl(), PROCESS_URI + "/" + START_PROCESSES_BULK_POST_URI, valuesMap) + getChunkSizeQueryString(chunkSize), requestList,
+                    BulkOperationResultList.class);
+
+        } else {
+            CommandScript script = new CommandScript( Collections.singletonList(
+                    (KieServerCommand) new DescriptorCommand( "ProcessService", "startProcesses", serialize(requestList), marshaller.getFormat().getType(), new Object[]{containerId, processId, getChunkSize(chunkSize)}) ) );
+            ServiceResponse<String> response = (ServiceResponse<String>) executeJmsCommand( script, DescriptorCommand.class.getName(), "BPM", containerId ).getResponses().get(0);
+
+            throwExceptionOnFailure(response);
+            if (shouldReturnWithNullResponse(response)) {
+                return null;
+            }
+            result = deserialize(response.getResult(), BulkOperationResultList.class);
+        }
+
+        if (result != null) {
+            return result.getItems();
+        }
+
+        return Collections.emptyList();
+    }
+
     @Override
     public void abortProcessInstance(String containerId, Long processInstanceId) {
         if( config.isRest() ) {
@@ -622,6 +666,41 @@ public class ProcessServicesClientImpl extends AbstractKieServicesClientImpl imp
         }
     }
 
+    @Override
+    public List<BulkOperationResult> completeWorkItems(String containerId, List<WorkItemCompletionRequest> requests) {
+        return completeWorkItems(containerId, requests, null);
+    }
+
+    @Override
+    public List<BulkOperationResult> completeWorkItems(String containerId, List<WorkItemCompletionRequest> requests, Integer chunkSize) {
+        BulkOperationResultList result = null;
+        WorkItemCompletionRequestList requestList = new WorkItemCompletionRequestList(requests);
+        if( config.isRest() ) {
+            Map<String, Object> valuesMap = new HashMap<String, Object>();
+            valuesMap.put(CONTAINER_ID, containerId);
+
+            result = makeHttpPostRequestAndCreateCustomResponse(
+                    build(loadBalancer.getUrl(), PROCESS_URI + "/" + WORK_ITEMS_COMPLETE_BULK_POST_URI, valuesMap) + getChunkSizeQueryString(chunkSize), requestList,
+                    BulkOperationResultList.class);
+        } else {
+            CommandScript script = new CommandScript( Collections.singletonList(
+                    (KieServerCommand) new DescriptorCommand( "ProcessService", "completeWorkItems", serialize(requestList), marshaller.getFormat().getType(), new Object[]{containerId, getChunkSize(chunkSize)})));
+            ServiceResponse<String> response = (ServiceResponse<String>) executeJmsCommand( script, DescriptorCommand.class.getName(), "BPM", containerId ).getResponses().get(0);
+
+            throwExceptionOnFailure(response);
+            if (shouldReturnWithNullResponse(response)) {
+                return null;
+            }
+            result = deserialize(response.getResult(), BulkOperationResultList.class);
+        }
+
+        if (result != null) {
+            return result.getItems();
+        }
+
+        return Collections.emptyList();
+    }
+
     @Override
     public void abortWorkItem(String containerId, Long processInstanceId, Long id) {
         if( config.isRest() ) {
@@ -946,4 +1025,16 @@ public class ProcessServicesClientImpl extends AbstractKieServicesClientImpl imp
 
         return Collections.emptyList();
     }
+
+    protected String getChunkSizeQueryString(Integer chunkSize) {
+        if (chunkSize == null) {
+            return "";
+        }
+        return "?chunkSize=" + chunkSize;
+    }
+
+    protected Integer getChunkSize(Integer chunkSize) {
+        // arguments of descriptor commands cannot be null, non positive value selects server default
+        return chunkSize == null ? Integer.valueOf(0) : chunkSize;
+    }
 }
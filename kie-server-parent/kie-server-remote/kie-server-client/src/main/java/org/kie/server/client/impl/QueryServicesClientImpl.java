@@ -1028,6 +1028,49 @@ public class QueryServicesClientImpl extends AbstractKieServicesClientImpl imple
         return Collections.emptyList();
     }
 
+    @Override
+    public <T> List<T> queryAfter(String queryName, String mapper, QueryFilterSpec filterSpec, String idColumn, Object after, Object afterId, Integer pageSize, Class<T> resultType) {
+        Object result = null;
+        Class<?> resultTypeList = getResultTypeList(resultType);
+        if (config.isRest()) {
+            Map<String, Object> valuesMap = new HashMap<String, Object>();
+            valuesMap.put(QUERY_NAME, queryName);
+
+            String queryString = "?mapper=" + mapper + "&after=" + encode(String.valueOf(after)) + "&pageSize=" + pageSize;
+            if (idColumn != null) {
+                queryString += "&idColumn=" + encode(idColumn);
+            }
+            if (afterId != null) {
+                queryString += "&afterId=" + encode(String.valueOf(afterId));
+            }
+
+            result = makeHttpPostRequestAndCreateCustomResponse(build(loadBalancer.getUrl(), QUERY_DEF_URI + "/" + RUN_FILTERED_QUERY_DEF_POST_URI, valuesMap) + queryString, filterSpec, resultTypeList);
+
+        } else {
+            CommandScript script = new CommandScript(Collections.singletonList((KieServerCommand) new DescriptorCommand("QueryDataService", "queryFilteredAfter", serialize(filterSpec), marshaller.getFormat().getType(), new Object[]{queryName, mapper, idColumn, String.valueOf(after), afterId == null ? null : String.valueOf(afterId), pageSize})));
+            ServiceResponse<Object> response = (ServiceResponse<Object>) executeJmsCommand(script, DescriptorCommand.class.getName(), "BPM").getResponses().get(0);
+
+            throwExceptionOnFailure(response);
+            if (shouldReturnWithNullResponse(response)) {
+                return null;
+            }
+            result = response.getResult();
+        }
+
+        if (result != null) {
+
+            if (result instanceof ItemList) {
+                return ((ItemList<T>) result).getItems();
+            } else if (result instanceof List) {
+                return (List) result;
+            } else if (result instanceof Wrapped) {
+                return (List) ((Wrapped) result).unwrap();
+            }
+        }
+
+        return Collections.emptyList();
+    }
+
     @Override
     public <T> List<T> query(String queryName, String mapper, String builder, Map<String, Object> parameters, Integer page, Integer pageSize, Class<T> resultType) {
         Object result = null;
@@ -29,6 +29,8 @@ import org.kie.server.api.model.KieServerCommand;
 import org.kie.server.api.model.ServiceResponse;
 import org.kie.server.api.model.Wrapped;
 import org.kie.server.api.model.definition.TaskOutputsDefinition;
+import org.kie.server.api.model.instance.BulkOperationResult;
+import org.kie.server.api.model.instance.BulkOperationResultList;
 import org.kie.server.api.model.instance.TaskAttachment;
 import org.kie.server.api.model.instance.TaskAttachmentList;
 import org.kie.server.api.model.instance.TaskComment;
@@ -36,6 +38,8 @@ import org.kie.server.api.model.instance.TaskCommentList;
 import org.kie.server.api.model.instance.TaskEventInstance;
 import org.kie.server.api.model.instance.TaskEventInstanceList;
 import org.kie.server.api.model.instance.TaskInstance;
+import org.kie.server.api.model.instance.TaskOperationRequest;
+import org.kie.server.api.model.instance.TaskOperationRequestList;
 import org.kie.server.api.model.instance.TaskSummary;
 import org.kie.server.api.model.instance.TaskSummaryList;
 import org.kie.server.client.KieServicesConfiguration;
@@ -176,6 +180,42 @@ public class UserTaskServicesClientImpl extends AbstractKieServicesClientImpl im
         }
     }
 
+    @Override
+    public List<BulkOperationResult> claimTasks(String containerId, List<Long> taskIds, String userId, Integer chunkSize) {
+        return sendBulkTaskOperation(containerId, TASK_INSTANCES_BULK_CLAIM_PUT_URI, getUserQueryStr(userId), chunkSize, toRequests(taskIds),
+                "claimTasks", new Object[]{containerId, userId, getChunkSize(chunkSize)});
+    }
+
+    @Override
+    public List<BulkOperationResult> startTasks(String containerId, List<Long> taskIds, String userId, Integer chunkSize) {
+        return sendBulkTaskOperation(containerId, TASK_INSTANCES_BULK_START_PUT_URI, getUserQueryStr(userId), chunkSize, toRequests(taskIds),
+                "startTasks", new Object[]{containerId, userId, getChunkSize(chunkSize)});
+    }
+
+    @Override
+    public List<BulkOperationResult> releaseTasks(String containerId, List<Long> taskIds, String userId, Integer chunkSize) {
+        return sendBulkTaskOperation(containerId, TASK_INSTANCES_BULK_RELEASE_PUT_URI, getUserQueryStr(userId), chunkSize, toRequests(taskIds),
+                "releaseTasks", new Object[]{containerId, userId, getChunkSize(chunkSize)});
+    }
+
+    @Override
+    public List<BulkOperationResult> delegateTasks(String containerId, List<Long> taskIds, String userId, String targetUserId, Integer chunkSize) {
+        return sendBulkTaskOperation(containerId, TASK_INSTANCES_BULK_DELEGATE_PUT_URI, getUserAndAdditionalParam(userId, "targetUser", targetUserId), chunkSize, toRequests(taskIds),
+                "delegateTasks", new Object[]{containerId, userId, targetUserId, getChunkSize(chunkSize)});
+    }
+
+    @Override
+    public List<BulkOperationResult> completeTasks(String containerId, List<TaskOperationRequest> requests, String userId, Integer chunkSize) {
+        return sendBulkTaskOperation(containerId, TASK_INSTANCES_BULK_COMPLETE_PUT_URI, getUserQueryStr(userId), chunkSize, requests,
+                "completeTasks", new Object[]{containerId, userId, false, getChunkSize(chunkSize)});
+    }
+
+    @Override
+    public List<BulkOperationResult> completeAutoProgressTasks(String containerId, List<TaskOperationRequest> requests, String userId, Integer chunkSize) {
+        return sendBulkTaskOperation(containerId, TASK_INSTANCES_BULK_COMPLETE_PUT_URI, getUserAndAdditionalParam(userId, "auto-progress", "true"), chunkSize, requests,
+                "completeTasks", new Object[]{containerId, userId, true, getChunkSize(chunkSize)});
+    }
+
     @Override
     public void forwardTask(String containerId, Long taskId, String userId, String targetEntityId) {
         if( config.isRest() ) {
@@ -1387,4 +1427,54 @@ public class UserTaskServicesClientImpl extends AbstractKieServicesClientImpl im
             throwExceptionOnFailure(response);
         }
     }
+
+    protected List<BulkOperationResult> sendBulkTaskOperation(String containerId, String operation, String queryString, Integer chunkSize,
+            List<TaskOperationRequest> requests, String methodName, Object[] arguments) {
+        BulkOperationResultList result = null;
+        TaskOperationRequestList requestList = new TaskOperationRequestList(requests);
+        if( config.isRest() ) {
+            Map<String, Object> valuesMap = new HashMap<String, Object>();
+            valuesMap.put(CONTAINER_ID, containerId);
+
+            result = makeHttpPutRequestAndCreateCustomResponse(
+                    build(loadBalancer.getUrl(), TASK_URI + "/" + operation, valuesMap) + getChunkSizeQueryString(queryString, chunkSize),
+                    requestList, BulkOperationResultList.class, getHeaders(null));
+        } else {
+            CommandScript script = new CommandScript( Collections.singletonList( (KieServerCommand)
+                    new DescriptorCommand( "UserTaskService", methodName, serialize(requestList), marshaller.getFormat().getType(), arguments) ) );
+            ServiceResponse<String> response = (ServiceResponse<String>) executeJmsCommand( script, DescriptorCommand.class.getName(), "BPM", containerId ).getResponses().get(0);
+
+            throwExceptionOnFailure(response);
+            if (shouldReturnWithNullResponse(response)) {
+                return null;
+            }
+            result = deserialize(response.getResult(), BulkOperationResultList.class);
+        }
+
+        if (result != null) {
+            return result.getItems();
+        }
+
+        return Collections.emptyList();
+    }
+
+    protected List<TaskOperationRequest> toRequests(List<Long> taskIds) {
+        List<TaskOperationRequest> requests = new ArrayList<TaskOperationRequest>(taskIds.size());
+        for (Long taskId : taskIds) {
+            requests.add(new TaskOperationRequest(taskId));
+        }
+        return requests;
+    }
+
+    protected String getChunkSizeQueryString(String inQueryString, Integer chunkSize) {
+        if (chunkSize == null) {
+            return inQueryString;
+        }
+        return inQueryString + (inQueryString.isEmpty() ? "?" : "&") + "chunkSize=" + chunkSize;
+    }
+
+    protected Integer getChunkSize(Integer chunkSize) {
+        // arguments of descriptor commands cannot be null, non positive value selects server default
+        return chunkSize == null ? Integer.valueOf(0) : chunkSize;
+    }
 }
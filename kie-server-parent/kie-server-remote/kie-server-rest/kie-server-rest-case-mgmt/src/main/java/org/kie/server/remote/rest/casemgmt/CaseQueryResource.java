@@ -33,7 +33,7 @@ import static org.kie.server.remote.rest.casemgmt.docs.ParameterSamples.GET_CASE
 import static org.kie.server.remote.rest.casemgmt.docs.ParameterSamples.GET_PROCESS_DEFS_RESPONSE_JSON;
 import static org.kie.server.remote.rest.casemgmt.docs.ParameterSamples.GET_TASK_SUMMARY_RESPONSE_JSON;
 import static org.kie.server.remote.rest.casemgmt.docs.ParameterSamples.JSON;
-import static org.kie.server.remote.rest.common.util.RestUtils.createCorrectVariant;
+import static org.kie.server.remote.rest.common.util.RestUtils.createBufferedVariant;
 
 import java.util.List;
 
@@ -123,7 +123,7 @@ public class CaseQueryResource extends AbstractCaseResource {
                     }
 
                     logger.debug("Returning OK response with content '{}'", responseObject);
-                    return createCorrectVariant(responseObject, headers, Response.Status.OK, customHeaders);
+                    return createBufferedVariant(responseObject, headers, Response.Status.OK, customHeaders);
                 });
     }
 
@@ -152,7 +152,7 @@ public class CaseQueryResource extends AbstractCaseResource {
                     CaseInstanceList responseObject = this.caseManagementRuntimeDataServiceBase.getCaseInstancesByRole(roleName, status, page, pageSize, sort, sortOrder);
 
                     logger.debug("Returning OK response with content '{}'", responseObject);
-                    return createCorrectVariant(responseObject, headers, Response.Status.OK, customHeaders);
+                    return createBufferedVariant(responseObject, headers, Response.Status.OK, customHeaders);
                 });
     }
 
@@ -183,7 +183,7 @@ public class CaseQueryResource extends AbstractCaseResource {
                     CaseDefinitionList responseObject = this.caseManagementRuntimeDataServiceBase.getCaseDefinitions(filter, page, pageSize, sort, sortOrder);
 
                     logger.debug("Returning OK response with content '{}'", responseObject);
-                    return createCorrectVariant(responseObject, headers, Response.Status.OK, customHeaders);
+                    return createBufferedVariant(responseObject, headers, Response.Status.OK, customHeaders);
                 });
     }
 
@@ -214,7 +214,7 @@ public class CaseQueryResource extends AbstractCaseResource {
                     ProcessDefinitionList responseObject = this.caseManagementRuntimeDataServiceBase.getProcessDefinitions(filter, null, page, pageSize, sort, sortOrder);
 
                     logger.debug("Returning OK response with content '{}'", responseObject);
-                    return createCorrectVariant(responseObject, headers, Response.Status.OK, customHeaders);
+                    return createBufferedVariant(responseObject, headers, Response.Status.OK, customHeaders);
                 });
     }
 
@@ -242,7 +242,7 @@ public class CaseQueryResource extends AbstractCaseResource {
                     ProcessDefinitionList responseObject = this.caseManagementRuntimeDataServiceBase.getProcessDefinitions(null, containerId, page, pageSize, sort, sortOrder);
 
                     logger.debug("Returning OK response with content '{}'", responseObject);
-                    return createCorrectVariant(responseObject, headers, Response.Status.OK, customHeaders);
+                    return createBufferedVariant(responseObject, headers, Response.Status.OK, customHeaders);
                 });
     }
 
@@ -275,7 +275,7 @@ public class CaseQueryResource extends AbstractCaseResource {
                     TaskSummaryList responseObject = this.caseManagementRuntimeDataServiceBase.getCaseTasks(caseId, user, status, page, pageSize, sort, sortOrder);
 
                     logger.debug("Returning OK response with content '{}'", responseObject);
-                    return createCorrectVariant(responseObject, headers, Response.Status.OK, customHeaders);
+                    return createBufferedVariant(responseObject, headers, Response.Status.OK, customHeaders);
                 });
     }
 
@@ -304,7 +304,7 @@ public class CaseQueryResource extends AbstractCaseResource {
                     TaskSummaryList responseObject = this.caseManagementRuntimeDataServiceBase.getCaseTasksAsBusinessAdmin(caseId, user, status, page, pageSize, sort, sortOrder);
 
                     logger.debug("Returning OK response with content '{}'", responseObject);
-                    return createCorrectVariant(responseObject, headers, Response.Status.OK, customHeaders);
+                    return createBufferedVariant(responseObject, headers, Response.Status.OK, customHeaders);
                 });
     }
 
@@ -333,7 +333,7 @@ public class CaseQueryResource extends AbstractCaseResource {
                     TaskSummaryList responseObject = this.caseManagementRuntimeDataServiceBase.getCaseTasksAsStakeholder(caseId, user, status, page, pageSize, sort, sortOrder);
 
                     logger.debug("Returning OK response with content '{}'", responseObject);
-                    return createCorrectVariant(responseObject, headers, Response.Status.OK, customHeaders);
+                    return createBufferedVariant(responseObject, headers, Response.Status.OK, customHeaders);
                 });
     }
 
@@ -359,7 +359,7 @@ public class CaseQueryResource extends AbstractCaseResource {
                     CaseFileDataItemList response = this.caseManagementRuntimeDataServiceBase.getCaseInstanceDataItems(caseId, names, types, page, pageSize);
 
                     logger.debug("Returning OK response with content '{}'", response);
-                    return createCorrectVariant(response, headers, Response.Status.OK, customHeaders);
+                    return createBufferedVariant(response, headers, Response.Status.OK, customHeaders);
                 });
     }
 }
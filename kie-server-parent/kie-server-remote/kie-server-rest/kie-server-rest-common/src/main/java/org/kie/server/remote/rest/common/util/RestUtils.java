@@ -15,12 +15,14 @@
 
 package org.kie.server.remote.rest.common.util;
 
+import java.io.ByteArrayOutputStream;
 import java.util.List;
 import java.util.Locale;
 
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.Variant;
 
 import org.kie.server.common.rest.RestEasy960Util;
@@ -39,6 +41,7 @@ public class RestUtils {
 
     private static MarshallerHelper marshallerHelper = new MarshallerHelper(null);
     private static Variant ERROR_VARIANT = new Variant(MediaType.TEXT_PLAIN_TYPE, (Locale) null, null);
+    private static final boolean BUFFERING_DISABLED = Boolean.getBoolean(KieServerConstants.KIE_SERVER_REST_BUFFERING_DISABLED);
     
     public static Response createCorrectVariant(Object responseObj, HttpHeaders headers, Header... customHeaders) {
         return createCorrectVariant(responseObj, headers, null, customHeaders);
@@ -46,8 +49,10 @@ public class RestUtils {
 
     public static Response createCorrectVariant(Object responseObj, HttpHeaders headers, javax.ws.rs.core.Response.Status status, Header... customHeaders) {
         Response.ResponseBuilder responseBuilder = null;
-        Variant v = getVariant(headers);
-        String contentType = getContentType(headers);
+        // negotiate once and derive both the response variant and the marshalling content type from it
+        Variant negotiated = RestEasy960Util.getVariant(headers);
+        String contentType = getContentType(headers, negotiated);
+        Variant v = negotiated != null ? negotiated : getVariant(contentType);
 
         if( status != null ) {
             responseBuilder = Response.status(status).entity(marshallerHelper.marshal(contentType, responseObj)).variant(v);
@@ -58,10 +63,67 @@ public class RestUtils {
         return responseBuilder.build();
     }
 
+    /**
+     * Same as {@link #createCorrectVariant(Object, HttpHeaders, javax.ws.rs.core.Response.Status, Header...)} but the
+     * response object is marshalled into a UTF-8 byte buffer that is then copied to the response stream, so the
+     * document is not held as a string in addition to its bytes. The response is still built completely in memory,
+     * it is not streamed. Marshalling is done before the response is returned so that its failures are still reported
+     * as error responses and not after the status and headers were sent. Meant for potentially large results such
+     * as query and list responses.
+     */
+    public static Response createBufferedVariant(Object responseObj, HttpHeaders headers, javax.ws.rs.core.Response.Status status, Header... customHeaders) {
+        if (BUFFERING_DISABLED) {
+            return createCorrectVariant(responseObj, headers, status, customHeaders);
+        }
+        Variant negotiated = RestEasy960Util.getVariant(headers);
+        String contentType = getContentType(headers, negotiated);
+        Variant v = negotiated != null ? negotiated : getVariant(contentType);
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        marshallerHelper.marshal(contentType, responseObj, buffer);
+        StreamingOutput entity = buffer::writeTo;
+        Response.ResponseBuilder responseBuilder = null;
+        if( status != null ) {
+            responseBuilder = Response.status(status).entity(entity).variant(v);
+        } else {
+            responseBuilder = Response.ok(entity, v);
+        }
+        applyCustomHeaders(responseBuilder, customHeaders);
+        return responseBuilder.build();
+    }
+
+    /**
+     * Same as {@link #createCorrectVariant(MarshallerHelper, String, Object, HttpHeaders, javax.ws.rs.core.Response.Status, Header...)}
+     * but the response object is marshalled with the container marshaller into a byte buffer, as
+     * {@link #createBufferedVariant(Object, HttpHeaders, javax.ws.rs.core.Response.Status, Header...)} does.
+     */
+    public static Response createBufferedVariant(MarshallerHelper marshallerHelper, String containerId, Object responseObj, HttpHeaders headers, javax.ws.rs.core.Response.Status status, Header... customHeaders) {
+        if (BUFFERING_DISABLED || marshallerHelper.getRegistry().getContainer(containerId) == null) {
+            return createCorrectVariant(marshallerHelper, containerId, responseObj, headers, status, customHeaders);
+        }
+        Variant negotiated = RestEasy960Util.getVariant(headers);
+        String contentType = getContentType(headers, negotiated);
+        Variant v = negotiated != null ? negotiated : getVariant(contentType);
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        marshallerHelper.marshal(containerId, contentType, responseObj, buffer);
+        StreamingOutput entity = buffer::writeTo;
+        Response.ResponseBuilder responseBuilder = null;
+        if( status != null ) {
+            responseBuilder = Response.status(status).entity(entity).variant(v);
+        } else {
+            responseBuilder = Response.ok(entity, v);
+        }
+        applyCustomHeaders(responseBuilder, customHeaders);
+        return responseBuilder.build();
+    }
+
     public static Response createCorrectVariant(MarshallerHelper marshallerHelper, String containerId, Object responseObj, HttpHeaders headers, javax.ws.rs.core.Response.Status status, Header... customHeaders) {
         Response.ResponseBuilder responseBuilder = null;
-        Variant v = getVariant(headers);
-        String contentType = getContentType(headers);
+        // negotiate once and derive both the response variant and the marshalling content type from it
+        Variant negotiated = RestEasy960Util.getVariant(headers);
+        String contentType = getContentType(headers, negotiated);
+        Variant v = negotiated != null ? negotiated : getVariant(contentType);
 
         String marshalledResponse;
         if (marshallerHelper.getRegistry().getContainer(containerId) == null) {
@@ -93,11 +155,22 @@ public class RestUtils {
     public static Variant getVariant(HttpHeaders headers) { 
         Variant v = RestEasy960Util.getVariant(headers);
         if( v == null ) {
-            v = Variant.mediaTypes(getMediaType(headers)).add().build().get(0);
+            v = getVariant(getContentType(headers, null));
         }
         return v;
     }
 
+    private static Variant getVariant(String contentType) {
+        MediaType mediaType = getMediaType(contentType);
+        // reuse the prebuilt variants for the common media types
+        if (MediaType.APPLICATION_XML_TYPE.equals(mediaType)) {
+            return RestEasy960Util.defaultVariant;
+        } else if (MediaType.APPLICATION_JSON_TYPE.equals(mediaType)) {
+            return RestEasy960Util.jsonVariant;
+        }
+        return Variant.mediaTypes(mediaType).add().build().get(0);
+    }
+
     public static String getClassType(HttpHeaders headers) {
         String classType = null;
 
@@ -110,10 +183,13 @@ public class RestUtils {
     }
 
     public static String getContentType(HttpHeaders headers) {
+        return getContentType(headers, RestEasy960Util.getVariant(headers));
+    }
+
+    private static String getContentType(HttpHeaders headers, Variant v) {
         // default to application/xml
         String contentType = MediaType.APPLICATION_XML_TYPE.toString();
         // check variant that is based on accept header important in case of GET as then Content-Type might not be given
-        Variant v = RestEasy960Util.getVariant(headers);
         if (v != null) {
             // set the default to selected variant
             contentType = v.getMediaType().toString();
@@ -132,7 +208,10 @@ public class RestUtils {
     }
 
     public static MediaType getMediaType(HttpHeaders httpHeaders) {
-        String contentType = getContentType(httpHeaders);
+        return getMediaType(getContentType(httpHeaders));
+    }
+
+    private static MediaType getMediaType(String contentType) {
         try {
             return MediaType.valueOf(contentType);
         } catch (IllegalArgumentException e) {
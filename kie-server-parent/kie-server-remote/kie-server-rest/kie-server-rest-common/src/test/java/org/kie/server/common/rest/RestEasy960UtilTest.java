@@ -0,0 +1,96 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.server.common.rest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Variant;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class RestEasy960UtilTest {
+
+    private MultivaluedMap<String, String> requestHeaders;
+    private HttpHeaders headers;
+
+    @Before
+    public void setup() {
+        RestEasy960Util.getNegotiated().clear();
+        requestHeaders = new MultivaluedHashMap<String, String>();
+        headers = Mockito.mock(HttpHeaders.class);
+        when(headers.getRequestHeaders()).thenReturn(requestHeaders);
+    }
+
+    @Test
+    public void testNegotiationIsCachedPerHeaderLists() {
+        requestHeaders.add("Accept", "application/json");
+
+        assertEquals(RestEasy960Util.jsonVariant, RestEasy960Util.getVariant(headers));
+        assertEquals(RestEasy960Util.jsonVariant, RestEasy960Util.getVariant(headers));
+        assertEquals(1, RestEasy960Util.getNegotiated().size());
+
+        // other values of any of the Accept* headers are negotiated on their own
+        requestHeaders.add("Accept-Language", "en");
+        assertEquals(RestEasy960Util.jsonVariant, RestEasy960Util.getVariant(headers));
+        requestHeaders.add("Accept", "application/xml;q=.5");
+        assertEquals(RestEasy960Util.jsonVariant, RestEasy960Util.getVariant(headers));
+        assertEquals(3, RestEasy960Util.getNegotiated().size());
+    }
+
+    @Test
+    public void testNoMatchIsCached() {
+        requestHeaders.add("Accept", "text/plain");
+
+        assertNull(RestEasy960Util.getVariant(headers));
+        assertEquals(1, RestEasy960Util.getNegotiated().size());
+        Variant cached = RestEasy960Util.getNegotiated().values().iterator().next();
+        assertNotNull(cached);
+
+        assertNull(RestEasy960Util.getVariant(headers));
+        assertEquals(1, RestEasy960Util.getNegotiated().size());
+    }
+
+    @Test
+    public void testMissingAcceptHeaderIsNotCached() {
+        requestHeaders.add("Accept-Language", "en");
+
+        assertNull(RestEasy960Util.getVariant(headers));
+        assertTrue(RestEasy960Util.getNegotiated().isEmpty());
+    }
+
+    @Test
+    public void testCacheIsClearedWhenFull() {
+        requestHeaders.add("Accept", "application/xml");
+        for (int i = 0; i < 256; i++) {
+            requestHeaders.putSingle("Accept-Language", "lang-" + i);
+            assertEquals(RestEasy960Util.defaultVariant, RestEasy960Util.getVariant(headers));
+        }
+        assertEquals(256, RestEasy960Util.getNegotiated().size());
+
+        requestHeaders.putSingle("Accept-Language", "lang-256");
+        assertEquals(RestEasy960Util.defaultVariant, RestEasy960Util.getVariant(headers));
+        assertEquals(1, RestEasy960Util.getNegotiated().size());
+    }
+}
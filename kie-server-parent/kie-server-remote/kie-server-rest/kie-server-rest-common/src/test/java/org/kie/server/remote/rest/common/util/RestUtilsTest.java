@@ -19,17 +19,27 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.kie.server.api.KieServerConstants;
 import org.kie.server.api.KieServerEnvironment;
+import org.kie.server.api.model.KieContainerResource;
+import org.kie.server.api.model.KieContainerResourceList;
 import org.kie.server.api.model.KieContainerStatus;
 import org.kie.server.api.model.ReleaseId;
 import org.kie.server.remote.rest.common.Header;
@@ -48,6 +58,7 @@ public class RestUtilsTest {
     public void setup() {
         registry = Mockito.mock(KieServerRegistry.class);
         headers = Mockito.mock(HttpHeaders.class);
+        when(headers.getRequestHeaders()).thenReturn(Mockito.mock(MultivaluedMap.class));
     }
 
     @Test
@@ -112,4 +123,32 @@ public class RestUtilsTest {
 
         assertNull(conversationIdHeader);
     }
+
+    @Test
+    public void createBufferedVariantWritesSameContentAsCorrectVariant() throws Exception {
+        when(headers.getRequestHeader(HttpHeaders.CONTENT_TYPE)).thenReturn(Collections.singletonList(MediaType.APPLICATION_JSON));
+        KieContainerResourceList containers = new KieContainerResourceList(Collections.singletonList(
+                new KieContainerResource("container-\u00e9", new ReleaseId("org.kie", "test", "1.0"), KieContainerStatus.STARTED)));
+
+        Response marshalled = RestUtils.createCorrectVariant(containers, headers, Response.Status.OK);
+        Response bufferedBytes = RestUtils.createBufferedVariant(containers, headers, Response.Status.OK);
+
+        assertEquals(Response.Status.OK.getStatusCode(), bufferedBytes.getStatus());
+        assertEquals(MediaType.APPLICATION_JSON_TYPE, bufferedBytes.getMediaType());
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ((StreamingOutput) bufferedBytes.getEntity()).write(output);
+        assertEquals(marshalled.getEntity(), new String(output.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void createBufferedVariantFailsBeforeResponseIsReturned() {
+        when(headers.getRequestHeader(HttpHeaders.CONTENT_TYPE)).thenReturn(Collections.singletonList("text/csv"));
+
+        try {
+            RestUtils.createBufferedVariant(new KieContainerResourceList(), headers, Response.Status.OK);
+            fail("Marshalling failure must not be deferred until the response is written");
+        } catch (RuntimeException e) {
+            assertTrue(e.getMessage().contains("text/csv"));
+        }
+    }
 }
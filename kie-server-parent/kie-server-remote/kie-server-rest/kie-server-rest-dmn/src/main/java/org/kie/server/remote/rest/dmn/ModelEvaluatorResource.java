@@ -16,8 +16,10 @@
 package org.kie.server.remote.rest.dmn;
 
 import static org.kie.server.api.rest.RestURI.CONTAINER_ID;
+import static org.kie.server.api.rest.RestURI.DMN_BATCH_URI;
 import static org.kie.server.remote.rest.common.util.RestUtils.buildConversationIdHeader;
 import static org.kie.server.remote.rest.common.util.RestUtils.createCorrectVariant;
+import static org.kie.server.remote.rest.common.util.RestUtils.createBufferedVariant;
 import static org.kie.server.remote.rest.common.util.RestUtils.getContentType;
 import static org.kie.server.remote.rest.common.util.RestUtils.getVariant;
 import static org.kie.server.remote.rest.common.util.RestUtils.internalServerError;
@@ -36,11 +38,13 @@ import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Variant;
 
 import org.kie.server.api.model.ServiceResponse;
+import org.kie.server.api.model.dmn.DMNBatchResultKS;
 import org.kie.server.api.model.dmn.DMNModelInfoList;
 import org.kie.server.api.model.dmn.DMNResultKS;
 import org.kie.server.api.rest.RestURI;
 import org.kie.server.remote.rest.common.Header;
 import org.kie.server.services.dmn.ModelEvaluatorServiceBase;
+import org.kie.server.services.impl.locator.ContainerLocatorProvider;
 import org.kie.server.services.impl.marshal.MarshallerHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -116,5 +120,45 @@ public class ModelEvaluatorResource {
         }
     }
 
+    @ApiOperation(value="Evaluates decisions for every given input of a batch, results are returned in the order of the inputs",
+            response=ServiceResponse.class, code=200)
+    @ApiResponses(value = { @ApiResponse(code = 500, message = "Unexpected error"), @ApiResponse(code = 404, message = "Container not found"),
+            @ApiResponse(code = 400, message = "Batch cannot be read or has too many contexts") })
+    @POST
+    @Path(DMN_BATCH_URI)
+    @Consumes({MediaType.APPLICATION_XML, MediaType.APPLICATION_JSON})
+    @Produces({MediaType.APPLICATION_XML, MediaType.APPLICATION_JSON})
+    public Response evaluateDecisionsBatch(@javax.ws.rs.core.Context HttpHeaders headers, 
+            @ApiParam(value = "Container id to be used to evaluate decisions on", required = true) @PathParam(CONTAINER_ID) String containerId, 
+            @ApiParam(value = "DMN contexts to be evaluated as DMNBatchContextKS type", required = true) String payload) {
+        LOG.debug( "About to evaluateDecisionsBatch() on container {}", containerId );
+        Variant v = getVariant( headers );
+        Header conversationIdHeader = buildConversationIdHeader(containerId, modelEvaluatorService.getKieServerRegistry(), headers);
+        try {
+            String contentType = getContentType( headers );
+
+            if (!isContainerAvailable(containerId)) {
+                ServiceResponse<DMNBatchResultKS> notFound = new ServiceResponse<DMNBatchResultKS>(ServiceResponse.ResponseType.FAILURE,
+                                                                                                  "Container '" + containerId + "' is not instantiated");
+                return createCorrectVariant(notFound, headers, Response.Status.NOT_FOUND, conversationIdHeader );
+            }
+            ServiceResponse<DMNBatchResultKS> result = modelEvaluatorService.evaluateDecisionsBatch(containerId, payload, contentType);
+            if( result.getType() == ServiceResponse.ResponseType.SUCCESS ) {
+                return createBufferedVariant(marshallerHelper, containerId, result, headers, Response.Status.OK, conversationIdHeader );
+            }
+            // the container was found, the batch itself was rejected
+            return createCorrectVariant(marshallerHelper, containerId, result, headers, Response.Status.BAD_REQUEST, conversationIdHeader );
+        }  catch (Exception e) {
+            LOG.error("Unexpected error evaluating batch. Message: '{}'", e.getMessage(), e);
+            return internalServerError(MessageFormat.format( "ERROR", e.getMessage()), v, conversationIdHeader);
+        }
+    }
 
+    private boolean isContainerAvailable(String containerId) {
+        try {
+            return modelEvaluatorService.getKieServerRegistry().getContainer(containerId, ContainerLocatorProvider.get().getLocator()) != null;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
 }
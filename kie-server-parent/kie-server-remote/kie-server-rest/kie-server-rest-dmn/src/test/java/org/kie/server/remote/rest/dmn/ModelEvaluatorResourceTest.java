@@ -0,0 +1,100 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.server.remote.rest.dmn;
+
+import java.util.Collections;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.Response;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.server.api.model.ServiceResponse;
+import org.kie.server.api.model.dmn.DMNBatchResultKS;
+import org.kie.server.services.api.ContainerLocator;
+import org.kie.server.services.api.KieServerRegistry;
+import org.kie.server.services.dmn.ModelEvaluatorServiceBase;
+import org.kie.server.services.impl.KieContainerInstanceImpl;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ModelEvaluatorResourceTest {
+
+    private static final String CONTAINER_ID = "dmn-container";
+    private static final String PAYLOAD = "{}";
+
+    @Mock
+    HttpHeaders httpHeaders;
+
+    @Mock
+    ModelEvaluatorServiceBase modelEvaluatorService;
+
+    @Mock
+    KieServerRegistry kieServerRegistry;
+
+    @Mock
+    KieContainerInstanceImpl kieContainerInstance;
+
+    ModelEvaluatorResource resource;
+
+    @Before
+    public void init() {
+        when(httpHeaders.getRequestHeaders()).thenReturn(new MultivaluedHashMap<>());
+        when(modelEvaluatorService.getKieServerRegistry()).thenReturn(kieServerRegistry);
+        when(kieServerRegistry.getContainer(eq(CONTAINER_ID), any(ContainerLocator.class))).thenReturn(kieContainerInstance);
+        when(kieServerRegistry.getContainer(eq("missing"), any(ContainerLocator.class))).thenThrow(new IllegalArgumentException("Container 'missing' is not instantiated"));
+
+        resource = new ModelEvaluatorResource(modelEvaluatorService);
+    }
+
+    @Test
+    public void testBatchEvaluated() {
+        when(modelEvaluatorService.evaluateDecisionsBatch(eq(CONTAINER_ID), eq(PAYLOAD), anyString()))
+                .thenReturn(new ServiceResponse<>(ServiceResponse.ResponseType.SUCCESS, "OK", new DMNBatchResultKS(Collections.emptyList())));
+
+        Response response = resource.evaluateDecisionsBatch(httpHeaders, CONTAINER_ID, PAYLOAD);
+
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+    }
+
+    @Test
+    public void testRejectedBatchIsBadRequest() {
+        when(modelEvaluatorService.evaluateDecisionsBatch(eq(CONTAINER_ID), eq(PAYLOAD), anyString()))
+                .thenReturn(new ServiceResponse<DMNBatchResultKS>(ServiceResponse.ResponseType.FAILURE, "Batch of 2000 contexts exceeds the maximum of 1000"));
+
+        Response response = resource.evaluateDecisionsBatch(httpHeaders, CONTAINER_ID, PAYLOAD);
+
+        assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), response.getStatus());
+    }
+
+    @Test
+    public void testMissingContainerIsNotFound() {
+        Response response = resource.evaluateDecisionsBatch(httpHeaders, "missing", PAYLOAD);
+
+        assertEquals(Response.Status.NOT_FOUND.getStatusCode(), response.getStatus());
+        verify(modelEvaluatorService, never()).evaluateDecisionsBatch(anyString(), anyString(), anyString());
+    }
+}
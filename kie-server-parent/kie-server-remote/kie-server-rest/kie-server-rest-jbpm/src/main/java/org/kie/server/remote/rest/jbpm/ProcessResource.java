@@ -40,7 +40,9 @@ import static org.kie.server.api.rest.RestURI.SIGNAL_NAME;
 import static org.kie.server.api.rest.RestURI.SIGNAL_PROCESS_INSTANCES_PORT_URI;
 import static org.kie.server.api.rest.RestURI.SIGNAL_PROCESS_INST_POST_URI;
 import static org.kie.server.api.rest.RestURI.START_PROCESS_POST_URI;
+import static org.kie.server.api.rest.RestURI.START_PROCESSES_BULK_POST_URI;
 import static org.kie.server.api.rest.RestURI.START_PROCESS_WITH_CORRELATION_KEY_POST_URI;
+import static org.kie.server.api.rest.RestURI.WORK_ITEMS_COMPLETE_BULK_POST_URI;
 import static org.kie.server.remote.rest.common.util.RestUtils.badRequest;
 import static org.kie.server.remote.rest.common.util.RestUtils.buildConversationIdHeader;
 import static org.kie.server.remote.rest.common.util.RestUtils.createCorrectVariant;
@@ -50,6 +52,8 @@ import static org.kie.server.remote.rest.common.util.RestUtils.getVariant;
 import static org.kie.server.remote.rest.common.util.RestUtils.internalServerError;
 import static org.kie.server.remote.rest.common.util.RestUtils.noContent;
 import static org.kie.server.remote.rest.common.util.RestUtils.notFound;
+import static org.kie.server.remote.rest.jbpm.docs.ParameterSamples.BULK_OPERATION_RESULTS_RESPONSE_JSON;
+import static org.kie.server.remote.rest.jbpm.docs.ParameterSamples.COMPLETE_WORK_ITEMS_JSON;
 import static org.kie.server.remote.rest.jbpm.docs.ParameterSamples.GET_PROCESS_DEFS_RESPONSE_JSON;
 import static org.kie.server.remote.rest.jbpm.docs.ParameterSamples.GET_PROCESS_INSTANCES_RESPONSE_JSON;
 import static org.kie.server.remote.rest.jbpm.docs.ParameterSamples.GET_PROCESS_INSTANCE_NODES_RESPONSE_JSON;
@@ -63,6 +67,7 @@ import static org.kie.server.remote.rest.jbpm.docs.ParameterSamples.GET_PROCESS_
 import static org.kie.server.remote.rest.jbpm.docs.ParameterSamples.JSON;
 import static org.kie.server.remote.rest.jbpm.docs.ParameterSamples.LONG_RESPONSE_JSON;
 import static org.kie.server.remote.rest.jbpm.docs.ParameterSamples.LONG_RESPONSE_XML;
+import static org.kie.server.remote.rest.jbpm.docs.ParameterSamples.START_PROCESSES_JSON;
 import static org.kie.server.remote.rest.jbpm.docs.ParameterSamples.VAR_JSON;
 import static org.kie.server.remote.rest.jbpm.docs.ParameterSamples.VAR_MAP_JSON;
 import static org.kie.server.remote.rest.jbpm.docs.ParameterSamples.VAR_MAP_XML;
@@ -102,6 +107,7 @@ import org.jbpm.services.api.ProcessDefinitionNotFoundException;
 import org.jbpm.services.api.ProcessInstanceNotFoundException;
 import org.jbpm.services.api.WorkItemNotFoundException;
 import org.kie.server.api.model.definition.ProcessDefinitionList;
+import org.kie.server.api.model.instance.BulkOperationResultList;
 import org.kie.server.api.model.instance.NodeInstanceList;
 import org.kie.server.api.model.instance.ProcessInstance;
 import org.kie.server.api.model.instance.ProcessInstanceList;
@@ -235,6 +241,47 @@ public class ProcessResource  {
         }
     }
 
+    @ApiOperation(value="Starts multiple process instances of a specified process, optionally with correlation keys. Instances are started in chunks, each chunk within a single transaction. When an instance fails to start no instance of its chunk is started.",
+            response=BulkOperationResultList.class, code=200)
+    @ApiResponses(value = { @ApiResponse(code = 200, response=BulkOperationResultList.class, message = "Result of every requested process instance, in request order", examples=@Example(value= {
+            @ExampleProperty(mediaType=JSON, value=BULK_OPERATION_RESULTS_RESPONSE_JSON)})),
+            @ApiResponse(code = 500, message = "Unexpected error"),
+            @ApiResponse(code = 404, message = "Process ID or Container Id not found") })
+    @POST
+    @Path(START_PROCESSES_BULK_POST_URI)
+    @Consumes({MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML})
+    @Produces({MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML})
+    public Response startProcesses(@javax.ws.rs.core.Context HttpHeaders headers, 
+            @ApiParam(value = "container id where the process definition resides", required = true, example = "evaluation_1.0.0-SNAPSHOT") @PathParam(CONTAINER_ID) String containerId, 
+            @ApiParam(value = "process id that new instances should be created from", required = true, example = "evaluation") @PathParam(PROCESS_ID) String processId,
+            @ApiParam(value = "optional number of instances started within a single transaction", required = false) @QueryParam("chunkSize") Integer chunkSize,
+            @ApiParam(value = "list of process instances to start, each with optional correlation key and process variables", required = true, examples=@Example(value= {
+                    @ExampleProperty(mediaType=JSON, value=START_PROCESSES_JSON)})) String payload) {
+        Variant v = getVariant(headers);
+        String type = getContentType(headers);
+
+        try {
+            String response = processServiceBase.startProcesses(containerId, processId, chunkSize, payload, type);
+
+            logger.debug("Returning OK response with content '{}'", response);
+            Header conversationIdHeader = buildConversationIdHeader(containerId, context, headers);
+            return createResponse(response, v, Response.Status.OK, conversationIdHeader);
+        } catch (DeploymentNotActiveException e) {
+            return badRequest(
+                    e.getMessage(), v);
+        } catch (DeploymentNotFoundException e) {
+            return notFound(
+                    MessageFormat.format(CONTAINER_NOT_FOUND, containerId), v);
+        } catch (ProcessDefinitionNotFoundException e) {
+            return notFound(
+                    MessageFormat.format(PROCESS_DEFINITION_NOT_FOUND, processId, containerId), v);
+        } catch (Exception e) {
+            logger.error("Unexpected error during processing {}", e.getMessage(), e);
+            return internalServerError(
+                    MessageFormat.format(CREATE_RESPONSE_ERROR, e.getMessage()), v);
+        }
+    }
+
     @ApiOperation(value="Aborts a specified process instance in a specified KIE container.",
             response=Void.class, code=204)
     @ApiResponses(value = { @ApiResponse(code = 500, message = "Unexpected error"),
@@ -604,6 +651,41 @@ public class ProcessResource  {
     }
 
 
+    @ApiOperation(value="Completes multiple work items of process instances in a specified KIE container. Work items are completed in chunks, each chunk within a single transaction. When a work item fails to complete no work item of its chunk is completed.",
+            response=BulkOperationResultList.class, code=200)
+    @ApiResponses(value = { @ApiResponse(code = 200, response=BulkOperationResultList.class, message = "Result of every requested work item, in request order", examples=@Example(value= {
+            @ExampleProperty(mediaType=JSON, value=BULK_OPERATION_RESULTS_RESPONSE_JSON)})),
+            @ApiResponse(code = 500, message = "Unexpected error"),
+            @ApiResponse(code = 404, message = "Container Id not found") })
+    @POST
+    @Path(WORK_ITEMS_COMPLETE_BULK_POST_URI)
+    @Consumes({MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML})
+    @Produces({MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML})
+    public Response completeWorkItems(@javax.ws.rs.core.Context HttpHeaders headers, 
+            @ApiParam(value = "container id that process instances belong to", required = true, example = "evaluation_1.0.0-SNAPSHOT") @PathParam(CONTAINER_ID) String containerId,
+            @ApiParam(value = "optional number of work items completed within a single transaction", required = false) @QueryParam("chunkSize") Integer chunkSize,
+            @ApiParam(value = "list of work items to complete, each with its process instance id and optional outcome data", required = true, examples=@Example(value= {
+                    @ExampleProperty(mediaType=JSON, value=COMPLETE_WORK_ITEMS_JSON)})) String payload) {
+
+        Variant v = getVariant(headers);
+        String type = getContentType(headers);
+        Header conversationIdHeader = buildConversationIdHeader(containerId, context, headers);
+        try {
+
+            String response = processServiceBase.completeWorkItems(containerId, chunkSize, payload, type);
+
+            logger.debug("Returning OK response with content '{}'", response);
+            return createResponse(response, v, Response.Status.OK, conversationIdHeader);
+
+        } catch (DeploymentNotFoundException e) {
+            return notFound(MessageFormat.format(CONTAINER_NOT_FOUND, containerId), v, conversationIdHeader);
+        } catch (Exception e) {
+            logger.error("Unexpected error during processing {}", e.getMessage(), e);
+            return internalServerError(MessageFormat.format(UNEXPECTED_ERROR, e.getMessage()), v, conversationIdHeader);
+        }
+    }
+
+
     @ApiOperation(value="Aborts a specified work item for a specified process instance.",
             response=Void.class, code=201)
     @ApiResponses(value = { @ApiResponse(code = 500, message = "Unexpected error"),
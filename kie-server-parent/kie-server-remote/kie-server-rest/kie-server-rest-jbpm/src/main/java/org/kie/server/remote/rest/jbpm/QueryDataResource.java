@@ -28,6 +28,7 @@ import static org.kie.server.remote.rest.common.util.RestUtils.alreadyExists;
 import static org.kie.server.remote.rest.common.util.RestUtils.badRequest;
 import static org.kie.server.remote.rest.common.util.RestUtils.buildConversationIdHeader;
 import static org.kie.server.remote.rest.common.util.RestUtils.createCorrectVariant;
+import static org.kie.server.remote.rest.common.util.RestUtils.createBufferedVariant;
 import static org.kie.server.remote.rest.common.util.RestUtils.getContentType;
 import static org.kie.server.remote.rest.common.util.RestUtils.getVariant;
 import static org.kie.server.remote.rest.common.util.RestUtils.internalServerError;
@@ -311,6 +312,9 @@ public class QueryDataResource {
             @ApiParam(value = "identifier of the query definition to be used for query", required = true, example = "customQuery") @PathParam("queryName") String queryName,
             @ApiParam(value = "identifier of the query mapper to be used when transforming results", required = true) @QueryParam("mapper") String mapper,
             @ApiParam(value = "optional sort order", required = false) @QueryParam("orderBy") String orderBy,
+            @ApiParam(value = "optional keyset pagination - value of the ordering column of the last row of previous page, when given page is ignored and rows after it are returned", required = false) @QueryParam("after") String after,
+            @ApiParam(value = "keyset pagination - unique column (e.g. id) ordering rows with equal value of the ordering column, required with after", required = false) @QueryParam("idColumn") String idColumn,
+            @ApiParam(value = "keyset pagination - value of the unique column of the last row of previous page, required with after unless ordered by the unique column", required = false) @QueryParam("afterId") String afterId,
             @ApiParam(value = "optional pagination - at which page to start, defaults to 0 (meaning first)", required = false) @QueryParam("page") @DefaultValue("0") Integer page,
             @ApiParam(value = "optional pagination - size of the result, defaults to 10", required = false) @QueryParam("pageSize") @DefaultValue("10") Integer pageSize ) {
 
@@ -320,18 +324,29 @@ public class QueryDataResource {
                                                                  context,
                                                                  headers );
 
-        Object result = queryDataServiceBase.query( queryName,
-                                                    mapper,
-                                                    orderBy,
-                                                    page,
-                                                    pageSize );
+        Object result = null;
+        if ( after != null ) {
+            result = queryDataServiceBase.queryAfter( queryName,
+                                                      mapper,
+                                                      orderBy,
+                                                      idColumn,
+                                                      after,
+                                                      afterId,
+                                                      pageSize );
+        } else {
+            result = queryDataServiceBase.query( queryName,
+                                                 mapper,
+                                                 orderBy,
+                                                 page,
+                                                 pageSize );
+        }
         logger.debug( "Returning result of process instance search: {}",
                       result );
 
-        return createCorrectVariant( result,
-                                     headers,
-                                     Response.Status.OK,
-                                     conversationIdHeader );
+        return createBufferedVariant( result,
+                                       headers,
+                                       Response.Status.OK,
+                                       conversationIdHeader );
     }
 
     @ApiOperation(value="Returns the results of a specified custom query and filters the results based on a provided builder or filter request body.",
@@ -348,6 +363,9 @@ public class QueryDataResource {
             @ApiParam(value = "identifier of the query definition to be used for query", required = true, example = "customQuery") @PathParam("queryName") String queryName,
             @ApiParam(value = "identifier of the query mapper to be used when transforming results", required = true) @QueryParam("mapper") String mapper,
             @ApiParam(value = "optional identifier of the query builder to be used for query conditions", required = false)  @QueryParam("builder") String builder,
+            @ApiParam(value = "optional keyset pagination - value of the ordering column of the last row of previous page, when given page is ignored and rows after it are returned", required = false) @QueryParam("after") String after,
+            @ApiParam(value = "keyset pagination - unique column (e.g. id) ordering rows with equal value of the ordering column, required with after", required = false) @QueryParam("idColumn") String idColumn,
+            @ApiParam(value = "keyset pagination - value of the unique column of the last row of previous page, required with after unless ordered by the unique column", required = false) @QueryParam("afterId") String afterId,
             @ApiParam(value = "optional pagination - at which page to start, defaults to 0 (meaning first)", required = false) @QueryParam("page") @DefaultValue("0") Integer page,
             @ApiParam(value = "optional pagination - size of the result, defaults to 10", required = false) @QueryParam("pageSize") @DefaultValue("10") Integer pageSize,
             @ApiParam(value = "optional query filter specification represented as QueryFilterSpec", required = false, examples=@Example(value= {
@@ -364,6 +382,9 @@ public class QueryDataResource {
 
         try {
             if ( builder != null && !builder.isEmpty() ) {
+                if ( after != null ) {
+                    throw new IllegalArgumentException( "Keyset pagination is not supported together with query param builder" );
+                }
                 result = queryDataServiceBase.queryFilteredWithBuilder( queryName,
                                                                         mapper,
                                                                         builder,
@@ -371,6 +392,15 @@ public class QueryDataResource {
                                                                         pageSize,
                                                                         payload,
                                                                         type );
+            } else if ( after != null ) {
+                result = queryDataServiceBase.queryFilteredAfter( queryName,
+                                                                  mapper,
+                                                                  idColumn,
+                                                                  after,
+                                                                  afterId,
+                                                                  pageSize,
+                                                                  payload,
+                                                                  type );
             } else {
                 result = queryDataServiceBase.queryFiltered( queryName,
                                                              mapper,
@@ -382,10 +412,10 @@ public class QueryDataResource {
             logger.debug( "Returning result of process instance search: {}",
                           result );
 
-            return createCorrectVariant( result,
-                                         headers,
-                                         Response.Status.OK,
-                                         conversationIdHeader );
+            return createBufferedVariant( result,
+                                           headers,
+                                           Response.Status.OK,
+                                           conversationIdHeader );
         } catch ( Exception e ) {
             Throwable root = ExceptionUtils.getRootCause( e );
             if ( root == null ) {
@@ -431,6 +461,9 @@ public class QueryDataResource {
                                                     @ApiParam(value = "identifier of the query definition to be used for query", required = true, example = "customQuery") @PathParam("queryName") String queryName,
                                                     @ApiParam(value = "identifier of the query mapper to be used when transforming results", required = true) @QueryParam("mapper") String mapper,
                                                     @ApiParam(value = "optional identifier of the query builder to be used for query conditions", required = false)  @QueryParam("builder") String builder,
+                                                    @ApiParam(value = "optional keyset pagination - value of the ordering column of the last row of previous page, when given page is ignored and rows after it are returned", required = false) @QueryParam("after") String after,
+                                                    @ApiParam(value = "keyset pagination - unique column (e.g. id) ordering rows with equal value of the ordering column, required with after", required = false) @QueryParam("idColumn") String idColumn,
+                                                    @ApiParam(value = "keyset pagination - value of the unique column of the last row of previous page, required with after unless ordered by the unique column", required = false) @QueryParam("afterId") String afterId,
                                                     @ApiParam(value = "optional pagination - at which page to start, defaults to 0 (meaning first)", required = false) @QueryParam("page") @DefaultValue("0") Integer page,
                                                     @ApiParam(value = "optional pagination - size of the result, defaults to 10", required = false) @QueryParam("pageSize") @DefaultValue("10") Integer pageSize,
                                                     @ApiParam(value = "optional query filter specification represented as QueryFilterSpec", required = false, examples=@Example(value= {
@@ -445,6 +478,9 @@ public class QueryDataResource {
 
         try {
             if ( builder != null && !builder.isEmpty() ) {
+                if ( after != null ) {
+                    throw new IllegalArgumentException( "Keyset pagination is not supported together with query param builder" );
+                }
                 result = queryDataServiceBase.queryFilteredWithBuilder( containerId,
                                                                         queryName,
                                                                         mapper,
@@ -453,6 +489,16 @@ public class QueryDataResource {
                                                                         pageSize,
                                                                         payload,
                                                                         type );
+            } else if ( after != null ) {
+                result = queryDataServiceBase.queryFilteredAfter( containerId,
+                                                                  queryName,
+                                                                  mapper,
+                                                                  idColumn,
+                                                                  after,
+                                                                  afterId,
+                                                                  pageSize,
+                                                                  payload,
+                                                                  type );
             } else {
                 result = queryDataServiceBase.queryFiltered( containerId,
                                                              queryName,
@@ -465,10 +511,10 @@ public class QueryDataResource {
             logger.debug( "Returning result of process instance search: {}",
                           result );
 
-            return createCorrectVariant( result,
-                                         headers,
-                                         Response.Status.OK,
-                                         conversationIdHeader );
+            return createBufferedVariant( result,
+                                           headers,
+                                           Response.Status.OK,
+                                           conversationIdHeader );
         } catch ( Exception e ) {
             Throwable root = ExceptionUtils.getRootCause( e );
             if ( root == null ) {
@@ -46,6 +46,7 @@ import static org.kie.server.api.rest.RestURI.VAR_INSTANCES_BY_INSTANCE_ID_GET_U
 import static org.kie.server.api.rest.RestURI.VAR_INSTANCES_BY_VAR_INSTANCE_ID_GET_URI;
 import static org.kie.server.remote.rest.common.util.RestUtils.buildConversationIdHeader;
 import static org.kie.server.remote.rest.common.util.RestUtils.createCorrectVariant;
+import static org.kie.server.remote.rest.common.util.RestUtils.createBufferedVariant;
 import static org.kie.server.remote.rest.common.util.RestUtils.getVariant;
 import static org.kie.server.remote.rest.common.util.RestUtils.internalServerError;
 import static org.kie.server.remote.rest.common.util.RestUtils.notFound;
@@ -150,7 +151,7 @@ public class RuntimeDataResource {
         ProcessInstanceList processInstanceList = runtimeDataServiceBase.getProcessInstances(status, initiator, processName, page, pageSize, sort, sortOrder);
         logger.debug("Returning result of process instance search: {}", processInstanceList);
 
-        return createCorrectVariant(processInstanceList, headers, Response.Status.OK, conversationIdHeader);
+        return createBufferedVariant(processInstanceList, headers, Response.Status.OK, conversationIdHeader);
     }
 
 
@@ -176,7 +177,7 @@ public class RuntimeDataResource {
         ProcessInstanceList processInstanceList = runtimeDataServiceBase.getProcessInstancesByProcessId(processId, status, initiator, page, pageSize, sort, sortOrder);
         logger.debug("Returning result of process instance search: {}", processInstanceList);
 
-        return createCorrectVariant(processInstanceList, headers, Response.Status.OK, conversationIdHeader);
+        return createBufferedVariant(processInstanceList, headers, Response.Status.OK, conversationIdHeader);
     }
 
     @ApiOperation(value="Returns all process instances for a specified KIE container.",
@@ -203,7 +204,7 @@ public class RuntimeDataResource {
             ProcessInstanceList processInstanceList = runtimeDataServiceBase.getProcessInstancesByDeploymentId(containerId, status, page, pageSize, sort, sortOrder);
             logger.debug("Returning result of process instance search: {}", processInstanceList);
 
-            return createCorrectVariant(processInstanceList, headers, Response.Status.OK, conversationIdHeader);
+            return createBufferedVariant(processInstanceList, headers, Response.Status.OK, conversationIdHeader);
         
         } catch (DeploymentNotFoundException e) {
             return notFound(MessageFormat.format(CONTAINER_NOT_FOUND, containerId), v, conversationIdHeader);
@@ -256,7 +257,7 @@ public class RuntimeDataResource {
 
         ProcessInstanceList processInstanceList = runtimeDataServiceBase.getProcessInstancesByCorrelationKey(correlationKey, page, pageSize, sort, sortOrder);
 
-        return createCorrectVariant(processInstanceList, headers, Response.Status.OK, conversationIdHeader);
+        return createBufferedVariant(processInstanceList, headers, Response.Status.OK, conversationIdHeader);
 
     }
 
@@ -283,7 +284,7 @@ public class RuntimeDataResource {
         ProcessInstanceList processInstanceList = runtimeDataServiceBase.getProcessInstanceByVariables(variableName, variableValue, status, page, pageSize, sort, sortOrder);
         logger.debug("Returning result of process instance search: {}", processInstanceList);
 
-        return createCorrectVariant(processInstanceList, headers, Response.Status.OK, conversationIdHeader);
+        return createBufferedVariant(processInstanceList, headers, Response.Status.OK, conversationIdHeader);
     }
 
     @ApiOperation(value="Returns information about a specified process instance.",
@@ -354,7 +355,7 @@ public class RuntimeDataResource {
 
         NodeInstanceList nodeInstanceList = runtimeDataServiceBase.getProcessInstanceHistory(processInstanceId, active, completed, page, pageSize);
         logger.debug("Returning result of node instances search: {}", nodeInstanceList);
-        return createCorrectVariant(nodeInstanceList, headers, Response.Status.OK, conversationIdHeader);
+        return createBufferedVariant(nodeInstanceList, headers, Response.Status.OK, conversationIdHeader);
     }
 
     @ApiOperation(value="Returns current variable values of a specified process instance.",
@@ -374,7 +375,7 @@ public class RuntimeDataResource {
         VariableInstanceList variableInstanceList = runtimeDataServiceBase.getVariablesCurrentState(processInstanceId);
         logger.debug("Returning result of variables search: {}", variableInstanceList);
 
-        return createCorrectVariant(variableInstanceList, headers, Response.Status.OK, conversationIdHeader);
+        return createBufferedVariant(variableInstanceList, headers, Response.Status.OK, conversationIdHeader);
     }
 
     @ApiOperation(value="Returns the history of a specified variable in a specified process instance.",
@@ -397,7 +398,7 @@ public class RuntimeDataResource {
         VariableInstanceList variableInstanceList = runtimeDataServiceBase.getVariableHistory(processInstanceId, variableName, page, pageSize);
         logger.debug("Returning result of variable '{}; history search: {}", variableName, variableInstanceList);
 
-        return createCorrectVariant(variableInstanceList, headers, Response.Status.OK, conversationIdHeader);
+        return createBufferedVariant(variableInstanceList, headers, Response.Status.OK, conversationIdHeader);
     }
 
     @ApiOperation(value="Returns all process definitions in a specified KIE container.",
@@ -421,7 +422,7 @@ public class RuntimeDataResource {
         ProcessDefinitionList processDefinitionList = runtimeDataServiceBase.getProcessesByDeploymentId(containerId, page, pageSize, sort, sortOrder);
         logger.debug("Returning result of process definition search: {}", processDefinitionList);
 
-        return createCorrectVariant(processDefinitionList, headers, Response.Status.OK, conversationIdHeader);
+        return createBufferedVariant(processDefinitionList, headers, Response.Status.OK, conversationIdHeader);
 
     }
 
@@ -446,7 +447,7 @@ public class RuntimeDataResource {
         ProcessDefinitionList processDefinitionList = runtimeDataServiceBase.getProcessesByFilter(filter, page, pageSize, sort, sortOrder);
         logger.debug("Returning result of process definition search: {}", processDefinitionList);
 
-        return createCorrectVariant(processDefinitionList, headers, Response.Status.OK, conversationIdHeader);
+        return createBufferedVariant(processDefinitionList, headers, Response.Status.OK, conversationIdHeader);
     }
 
     @ApiOperation(value="Returns all process definitions for a specified process.",
@@ -466,7 +467,7 @@ public class RuntimeDataResource {
         ProcessDefinitionList processDefinitionList = runtimeDataServiceBase.getProcessesById(processId);
         logger.debug("Returning result of process definition search: {}", processDefinitionList);
 
-        return createCorrectVariant(processDefinitionList, headers, Response.Status.OK, conversationIdHeader);
+        return createBufferedVariant(processDefinitionList, headers, Response.Status.OK, conversationIdHeader);
     }
 
     @ApiOperation(value="Returns information about a specified process definition in a specified KIE container.",
@@ -568,7 +569,7 @@ public class RuntimeDataResource {
 
             TaskSummaryList result = runtimeDataServiceBase.getTasksAssignedAsBusinessAdministratorByStatus(status, userId, page, pageSize, sort, sortOrder);
 
-            return createCorrectVariant(result, headers, Response.Status.OK, conversationIdHeader);
+            return createBufferedVariant(result, headers, Response.Status.OK, conversationIdHeader);
 
         } catch (Exception e) {
             logger.error("Unexpected error during processing {}", e.getMessage(), e);
@@ -602,7 +603,7 @@ public class RuntimeDataResource {
 
             TaskSummaryList result = runtimeDataServiceBase.getTasksAssignedAsPotentialOwner(status, groupIds, userId, page, pageSize, sort, sortOrder, filter);
 
-            return createCorrectVariant(result, headers, Response.Status.OK, conversationIdHeader);
+            return createBufferedVariant(result, headers, Response.Status.OK, conversationIdHeader);
 
         } catch (Exception e) {
             logger.error("Unexpected error during processing {}", e.getMessage(), e);
@@ -634,7 +635,7 @@ public class RuntimeDataResource {
 
             TaskSummaryList result = runtimeDataServiceBase.getTasksOwnedByStatus(status, userId, page, pageSize, sort, sortOrder);
 
-            return createCorrectVariant(result, headers, Response.Status.OK, conversationIdHeader);
+            return createBufferedVariant(result, headers, Response.Status.OK, conversationIdHeader);
 
         } catch (Exception e) {
             logger.error("Unexpected error during processing {}", e.getMessage(), e);
@@ -664,7 +665,7 @@ public class RuntimeDataResource {
 
             TaskSummaryList result = runtimeDataServiceBase.getTasksByStatusByProcessInstanceId(processInstanceId, status, page, pageSize, sort, sortOrder);
 
-            return createCorrectVariant(result, headers, Response.Status.OK, conversationIdHeader);
+            return createBufferedVariant(result, headers, Response.Status.OK, conversationIdHeader);
 
         } catch (Exception e) {
             logger.error("Unexpected error during processing {}", e.getMessage(), e);
@@ -694,7 +695,7 @@ public class RuntimeDataResource {
 
             TaskSummaryList result = runtimeDataServiceBase.getAllAuditTask(userId, page, pageSize, sort, sortOrder);
 
-            return createCorrectVariant(result, headers, Response.Status.OK, conversationIdHeader);
+            return createBufferedVariant(result, headers, Response.Status.OK, conversationIdHeader);
 
         } catch (Exception e) {
             logger.error("Unexpected error during processing {}", e.getMessage(), e);
@@ -721,7 +722,7 @@ public class RuntimeDataResource {
         Header conversationIdHeader = buildConversationIdHeader("", context, headers);
         try {
             TaskEventInstanceList result = runtimeDataServiceBase.getTaskEvents(taskId, page, pageSize, sort, sortOrder);
-            return createCorrectVariant(result, headers, Response.Status.OK, conversationIdHeader);
+            return createBufferedVariant(result, headers, Response.Status.OK, conversationIdHeader);
         } catch (TaskNotFoundException e) {
             return notFound(MessageFormat.format(TASK_INSTANCE_NOT_FOUND, taskId), v, conversationIdHeader);
         } catch (Exception e) {
@@ -756,7 +757,7 @@ public class RuntimeDataResource {
 
             TaskSummaryList result = runtimeDataServiceBase.getTasksByVariables(userId, variableName, variableValue, status, page, pageSize, sort, sortOrder);
 
-            return createCorrectVariant(result, headers, Response.Status.OK, conversationIdHeader);
+            return createBufferedVariant(result, headers, Response.Status.OK, conversationIdHeader);
 
         } catch (Exception e) {
             logger.error("Unexpected error during processing {}", e.getMessage(), e);
@@ -16,6 +16,11 @@
 package org.kie.server.remote.rest.jbpm;
 
 import static org.kie.server.api.rest.RestURI.CONTAINER_ID;
+import static org.kie.server.api.rest.RestURI.TASK_INSTANCES_BULK_CLAIM_PUT_URI;
+import static org.kie.server.api.rest.RestURI.TASK_INSTANCES_BULK_COMPLETE_PUT_URI;
+import static org.kie.server.api.rest.RestURI.TASK_INSTANCES_BULK_DELEGATE_PUT_URI;
+import static org.kie.server.api.rest.RestURI.TASK_INSTANCES_BULK_RELEASE_PUT_URI;
+import static org.kie.server.api.rest.RestURI.TASK_INSTANCES_BULK_START_PUT_URI;
 import static org.kie.server.api.rest.RestURI.TASK_INSTANCE_ACTIVATE_PUT_URI;
 import static org.kie.server.api.rest.RestURI.TASK_INSTANCE_ATTACHMENTS_GET_URI;
 import static org.kie.server.api.rest.RestURI.TASK_INSTANCE_ATTACHMENT_ADD_POST_URI;
@@ -63,6 +68,7 @@ import static org.kie.server.remote.rest.common.util.RestUtils.internalServerErr
 import static org.kie.server.remote.rest.common.util.RestUtils.noContent;
 import static org.kie.server.remote.rest.common.util.RestUtils.notFound;
 import static org.kie.server.remote.rest.jbpm.docs.ParameterSamples.BOOLEAN_JSON;
+import static org.kie.server.remote.rest.jbpm.docs.ParameterSamples.BULK_OPERATION_RESULTS_RESPONSE_JSON;
 import static org.kie.server.remote.rest.jbpm.docs.ParameterSamples.BOOLEAN_XML;
 import static org.kie.server.remote.rest.jbpm.docs.ParameterSamples.DATE_JSON;
 import static org.kie.server.remote.rest.jbpm.docs.ParameterSamples.DATE_XML;
@@ -81,6 +87,7 @@ import static org.kie.server.remote.rest.jbpm.docs.ParameterSamples.TASK_ATTACHM
 import static org.kie.server.remote.rest.jbpm.docs.ParameterSamples.TASK_COMMENT_JSON;
 import static org.kie.server.remote.rest.jbpm.docs.ParameterSamples.TASK_COMMENT_XML;
 import static org.kie.server.remote.rest.jbpm.docs.ParameterSamples.TASK_JSON;
+import static org.kie.server.remote.rest.jbpm.docs.ParameterSamples.TASK_OPERATIONS_JSON;
 import static org.kie.server.remote.rest.jbpm.docs.ParameterSamples.TASK_XML;
 import static org.kie.server.remote.rest.jbpm.docs.ParameterSamples.VAR_JSON;
 import static org.kie.server.remote.rest.jbpm.docs.ParameterSamples.VAR_MAP_JSON;
@@ -92,6 +99,7 @@ import static org.kie.server.remote.rest.jbpm.resources.Messages.UNEXPECTED_ERRO
 import java.text.MessageFormat;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
@@ -111,6 +119,7 @@ import javax.ws.rs.core.Variant;
 
 import org.jbpm.services.api.TaskNotFoundException;
 import org.jbpm.services.task.exception.PermissionDeniedException;
+import org.kie.server.api.model.instance.BulkOperationResultList;
 import org.kie.server.api.model.instance.TaskAttachment;
 import org.kie.server.api.model.instance.TaskAttachmentList;
 import org.kie.server.api.model.instance.TaskComment;
@@ -550,6 +559,119 @@ public class UserTaskResource {
         }
     }
 
+    @ApiOperation(value="Claims (reserves) multiple task instances for the user sending the request. Tasks are processed in chunks, each chunk within a single transaction. When a task fails no task of its chunk is changed.",
+            response=BulkOperationResultList.class, code=200)
+    @ApiResponses(value = { @ApiResponse(code = 500, message = "Unexpected error"),
+                            @ApiResponse(code = 200, response=BulkOperationResultList.class, message = "Result of every requested task, in request order", examples=@Example(value= {
+                                    @ExampleProperty(mediaType=JSON, value=BULK_OPERATION_RESULTS_RESPONSE_JSON)}))})
+    @PUT
+    @Path(TASK_INSTANCES_BULK_CLAIM_PUT_URI)
+    @Consumes({MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML})
+    @Produces({MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML})
+    public Response claimTasks(@Context HttpHeaders headers, 
+            @ApiParam(value = "container id that task instances belong to", required = true, example = "evaluation_1.0.0-SNAPSHOT") @PathParam(CONTAINER_ID) String containerId,
+            @ApiParam(value = "optional user id to be used instead of authenticated user - only when bypass authenticated user is enabled", required = false) @QueryParam("user") String userId, 
+            @ApiParam(value = "optional number of tasks processed within a single transaction", required = false) @QueryParam("chunkSize") Integer chunkSize,
+            @ApiParam(value = "list of task instances to process", required = true, examples=@Example(value= {
+                    @ExampleProperty(mediaType=JSON, value=TASK_OPERATIONS_JSON)})) String payload) {
+
+        return executeBulk(headers, containerId, type -> userTaskServiceBase.claimTasks(containerId, userId, chunkSize, payload, type));
+    }
+
+    @ApiOperation(value="Starts multiple task instances. Tasks are processed in chunks, each chunk within a single transaction. When a task fails no task of its chunk is changed.",
+            response=BulkOperationResultList.class, code=200)
+    @ApiResponses(value = { @ApiResponse(code = 500, message = "Unexpected error"),
+                            @ApiResponse(code = 200, response=BulkOperationResultList.class, message = "Result of every requested task, in request order", examples=@Example(value= {
+                                    @ExampleProperty(mediaType=JSON, value=BULK_OPERATION_RESULTS_RESPONSE_JSON)}))})
+    @PUT
+    @Path(TASK_INSTANCES_BULK_START_PUT_URI)
+    @Consumes({MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML})
+    @Produces({MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML})
+    public Response startTasks(@Context HttpHeaders headers, 
+            @ApiParam(value = "container id that task instances belong to", required = true, example = "evaluation_1.0.0-SNAPSHOT") @PathParam(CONTAINER_ID) String containerId,
+            @ApiParam(value = "optional user id to be used instead of authenticated user - only when bypass authenticated user is enabled", required = false) @QueryParam("user") String userId, 
+            @ApiParam(value = "optional number of tasks processed within a single transaction", required = false) @QueryParam("chunkSize") Integer chunkSize,
+            @ApiParam(value = "list of task instances to process", required = true, examples=@Example(value= {
+                    @ExampleProperty(mediaType=JSON, value=TASK_OPERATIONS_JSON)})) String payload) {
+
+        return executeBulk(headers, containerId, type -> userTaskServiceBase.startTasks(containerId, userId, chunkSize, payload, type));
+    }
+
+    @ApiOperation(value="Completes multiple task instances, each with its own output data. Tasks are processed in chunks, each chunk within a single transaction. When a task fails no task of its chunk is changed.",
+            response=BulkOperationResultList.class, code=200)
+    @ApiResponses(value = { @ApiResponse(code = 500, message = "Unexpected error"),
+                            @ApiResponse(code = 200, response=BulkOperationResultList.class, message = "Result of every requested task, in request order", examples=@Example(value= {
+                                    @ExampleProperty(mediaType=JSON, value=BULK_OPERATION_RESULTS_RESPONSE_JSON)}))})
+    @PUT
+    @Path(TASK_INSTANCES_BULK_COMPLETE_PUT_URI)
+    @Consumes({MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML})
+    @Produces({MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML})
+    public Response completeTasks(@Context HttpHeaders headers, 
+            @ApiParam(value = "container id that task instances belong to", required = true, example = "evaluation_1.0.0-SNAPSHOT") @PathParam(CONTAINER_ID) String containerId,
+            @ApiParam(value = "optional user id to be used instead of authenticated user - only when bypass authenticated user is enabled", required = false) @QueryParam("user") String userId, 
+            @ApiParam(value = "optional flag that allows to directly claim and start tasks (if needed) before completion", required = false) @QueryParam("auto-progress") boolean autoProgress, 
+            @ApiParam(value = "optional number of tasks processed within a single transaction", required = false) @QueryParam("chunkSize") Integer chunkSize,
+            @ApiParam(value = "list of task instances to process", required = true, examples=@Example(value= {
+                    @ExampleProperty(mediaType=JSON, value=TASK_OPERATIONS_JSON)})) String payload) {
+
+        return executeBulk(headers, containerId, type -> userTaskServiceBase.completeTasks(containerId, userId, autoProgress, chunkSize, payload, type));
+    }
+
+    @ApiOperation(value="Releases multiple claimed task instances. Tasks are processed in chunks, each chunk within a single transaction. When a task fails no task of its chunk is changed.",
+            response=BulkOperationResultList.class, code=200)
+    @ApiResponses(value = { @ApiResponse(code = 500, message = "Unexpected error"),
+                            @ApiResponse(code = 200, response=BulkOperationResultList.class, message = "Result of every requested task, in request order", examples=@Example(value= {
+                                    @ExampleProperty(mediaType=JSON, value=BULK_OPERATION_RESULTS_RESPONSE_JSON)}))})
+    @PUT
+    @Path(TASK_INSTANCES_BULK_RELEASE_PUT_URI)
+    @Consumes({MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML})
+    @Produces({MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML})
+    public Response releaseTasks(@Context HttpHeaders headers, 
+            @ApiParam(value = "container id that task instances belong to", required = true, example = "evaluation_1.0.0-SNAPSHOT") @PathParam(CONTAINER_ID) String containerId,
+            @ApiParam(value = "optional user id to be used instead of authenticated user - only when bypass authenticated user is enabled", required = false) @QueryParam("user") String userId, 
+            @ApiParam(value = "optional number of tasks processed within a single transaction", required = false) @QueryParam("chunkSize") Integer chunkSize,
+            @ApiParam(value = "list of task instances to process", required = true, examples=@Example(value= {
+                    @ExampleProperty(mediaType=JSON, value=TASK_OPERATIONS_JSON)})) String payload) {
+
+        return executeBulk(headers, containerId, type -> userTaskServiceBase.releaseTasks(containerId, userId, chunkSize, payload, type));
+    }
+
+    @ApiOperation(value="Delegates multiple task instances to a specified target user as the new task owner. Tasks are processed in chunks, each chunk within a single transaction. When a task fails no task of its chunk is changed.",
+            response=BulkOperationResultList.class, code=200)
+    @ApiResponses(value = { @ApiResponse(code = 500, message = "Unexpected error"),
+                            @ApiResponse(code = 200, response=BulkOperationResultList.class, message = "Result of every requested task, in request order", examples=@Example(value= {
+                                    @ExampleProperty(mediaType=JSON, value=BULK_OPERATION_RESULTS_RESPONSE_JSON)}))})
+    @PUT
+    @Path(TASK_INSTANCES_BULK_DELEGATE_PUT_URI)
+    @Consumes({MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML})
+    @Produces({MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML})
+    public Response delegateTasks(@Context HttpHeaders headers, 
+            @ApiParam(value = "container id that task instances belong to", required = true, example = "evaluation_1.0.0-SNAPSHOT") @PathParam(CONTAINER_ID) String containerId,
+            @ApiParam(value = "optional user id to be used instead of authenticated user - only when bypass authenticated user is enabled", required = false) @QueryParam("user") String userId, 
+            @ApiParam(value = "user that tasks should be delegated to", required = true) @QueryParam("targetUser") String targetUserId, 
+            @ApiParam(value = "optional number of tasks processed within a single transaction", required = false) @QueryParam("chunkSize") Integer chunkSize,
+            @ApiParam(value = "list of task instances to process", required = true, examples=@Example(value= {
+                    @ExampleProperty(mediaType=JSON, value=TASK_OPERATIONS_JSON)})) String payload) {
+
+        return executeBulk(headers, containerId, type -> userTaskServiceBase.delegateTasks(containerId, userId, targetUserId, chunkSize, payload, type));
+    }
+
+    private Response executeBulk(HttpHeaders headers, String containerId, Function<String, String> operation) {
+        Variant v = getVariant(headers);
+        String type = getContentType(headers);
+        Header conversationIdHeader = buildConversationIdHeader(containerId, context, headers);
+        try {
+            // failures of single tasks are part of the response, only failures of the whole request end up here
+            String response = operation.apply(type);
+
+            logger.debug("Returning OK response with content '{}'", response);
+            return createResponse(response, v, Response.Status.OK, conversationIdHeader);
+        } catch (Exception e) {
+            logger.error("Unexpected error during processing {}", e.getMessage(), e);
+            return internalServerError(MessageFormat.format(UNEXPECTED_ERROR, e.getMessage()), v, conversationIdHeader);
+        }
+    }
+
     @ApiOperation(value="Updates the priority of a specified task instance.",
             response=Void.class, code=201)
     @ApiResponses(value = { @ApiResponse(code = 500, message = "Unexpected error"), @ApiResponse(code = 404, message = "Task with given id not found") })
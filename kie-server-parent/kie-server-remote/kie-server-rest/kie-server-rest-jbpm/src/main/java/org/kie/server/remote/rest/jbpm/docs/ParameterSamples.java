@@ -68,6 +68,42 @@ public class ParameterSamples {
             "  }\n" + 
             "}";
     
+    public static final String START_PROCESSES_JSON = "{\n" + 
+            "  \"process-start-request\" : [ {\n" + 
+            "    \"correlation-key\" : \"john-evaluation-2019\",\n" + 
+            "    \"variables\" : {\n" + 
+            "      \"age\" : 25\n" + 
+            "    }\n" + 
+            "  }, {\n" + 
+            "    \"correlation-key\" : null,\n" + 
+            "    \"variables\" : {\n" + 
+            "      \"age\" : 30\n" + 
+            "    }\n" + 
+            "  } ]\n" + 
+            "}";
+    
+    public static final String COMPLETE_WORK_ITEMS_JSON = "{\n" + 
+            "  \"work-item-completion-request\" : [ {\n" + 
+            "    \"process-instance-id\" : 123,\n" + 
+            "    \"work-item-id\" : 567,\n" + 
+            "    \"results\" : {\n" + 
+            "      \"approved\" : true\n" + 
+            "    }\n" + 
+            "  } ]\n" + 
+            "}";
+    
+    public static final String TASK_OPERATIONS_JSON = "{\n" + 
+            "  \"task-operation-request\" : [ {\n" + 
+            "    \"task-id\" : 123,\n" + 
+            "    \"data\" : {\n" + 
+            "      \"approved\" : true\n" + 
+            "    }\n" + 
+            "  }, {\n" + 
+            "    \"task-id\" : 124,\n" + 
+            "    \"data\" : null\n" + 
+            "  } ]\n" + 
+            "}";
+    
     public static final String QUERY_DEF_JSON = "{\n" + 
             "  \"query-name\" : \"allProcessInstances\",\n" + 
             "  \"query-source\" : \"jdbc/jbpm-ds\",\n" + 
@@ -581,6 +617,20 @@ public class ParameterSamples {
             "    }\n" + 
             "  ]\n" + 
             "}";
+    public static final String BULK_OPERATION_RESULTS_RESPONSE_JSON = "{\n" + 
+            "  \"bulk-operation-result\" : [ {\n" + 
+            "    \"index\" : 0,\n" + 
+            "    \"id\" : 123,\n" + 
+            "    \"success\" : true,\n" + 
+            "    \"error\" : null\n" + 
+            "  }, {\n" + 
+            "    \"index\" : 1,\n" + 
+            "    \"id\" : null,\n" + 
+            "    \"success\" : false,\n" + 
+            "    \"error\" : \"Correlation key john-evaluation-2019 already exists\"\n" + 
+            "  } ]\n" + 
+            "}";
+    
     public static final String GET_PROCESS_DEFS_RESPONSE_JSON = "{\n" + 
             "  \"processes\": [\n" + 
             "    {\n" + 
@@ -19,11 +19,13 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.BiConsumer;
 
 import org.jboss.logging.Logger;
 import org.kie.server.router.spi.ConfigRepository;
@@ -208,83 +210,79 @@ public class Configuration {
         }
     }
     
+    /**
+     * Brings this configuration to the state of given one by applying only the differences, listeners are notified
+     * about hosts that were actually added or removed and about the reload itself only when anything changed.
+     */
     public synchronized void reloadFrom(Configuration updated) {
-        this.containerInfosPerContainer = updated.getContainerInfosPerContainer();
+        boolean changed = reloadHosts(hostsPerServer, updated.getHostsPerServer(),
+                                      (server, url) -> listeners.forEach(l -> l.onServerAdded(server, url)),
+                                      (server, url) -> listeners.forEach(l -> l.onServerRemoved(server, url)));
+
+        changed |= reloadHosts(hostsPerContainer, updated.getHostsPerContainer(),
+                               (container, url) -> listeners.forEach(l -> l.onContainerAdded(container, url)),
+                               (container, url) -> listeners.forEach(l -> l.onContainerRemoved(container, url)));
+
+        changed |= reloadContainerInfos(updated.getContainerInfosPerContainer());
+
+        if (changed) {
+            this.listeners.forEach(l -> l.onConfigurationReloaded());
+        }
+    }
+    
+    public synchronized void reloadFromRepository(ConfigRepository repository) {
         
-        // remove items if they are not existing in updated configuration        
-        this.hostsPerServer.keySet().forEach(server -> {
-            if (!updated.hostsPerServer.containsKey(server)) {
-                
-                List<String> serverUrls = new ArrayList<>(this.hostsPerServer.remove(server));
-                
-                serverUrls.forEach(url -> removeServerHost(server, url));
+        reloadFrom(repository.load());
+    }
+
+    /*
+     * replaces host lists that differ keeping order of hosts that stay, returns true if anything changed
+     */
+    private static boolean reloadHosts(Map<String, List<String>> current, Map<String, List<String>> updated,
+                                       BiConsumer<String, String> onAdded, BiConsumer<String, String> onRemoved) {
+        boolean changed = false;
+
+        for (String key : new ArrayList<>(current.keySet())) {
+            if (!updated.containsKey(key)) {
+                List<String> removed = current.remove(key);
+                new LinkedHashSet<>(removed).forEach(url -> onRemoved.accept(key, url));
+                changed = true;
             }
-        });
-        
-        this.hostsPerContainer.keySet().forEach(container -> {
-            if (!updated.hostsPerContainer.containsKey(container)) {
-                
-                List<String> serverUrls = new ArrayList<>(this.hostsPerContainer.remove(container));
-                
-                serverUrls.forEach(url -> removeContainerHost(container, url));
+        }
+
+        for (Map.Entry<String, List<String>> entry : updated.entrySet()) {
+            List<String> currentUrls = current.getOrDefault(entry.getKey(), Collections.emptyList());
+            if (current.containsKey(entry.getKey()) && currentUrls.equals(entry.getValue())) {
+                continue;
             }
-        });
-        
-        // update remaining items hosts per server
-        this.hostsPerServer.keySet().forEach(server -> {
-            
-            List<String> serverUrls = new ArrayList<>(this.hostsPerServer.get(server));
-            List<String> updatedServerUrls = updated.hostsPerServer.remove(server);
-
-            for (String serverUrl : serverUrls) {
-                if (updatedServerUrls.contains(serverUrl)) {
-                    updatedServerUrls.remove(serverUrl);
-                } else {
-                    removeServerHost(server, serverUrl);
+            List<String> remaining = new ArrayList<>(entry.getValue());
+            List<String> reloaded = new ArrayList<>();
+            for (String url : currentUrls) {
+                if (remaining.remove(url)) {
+                    reloaded.add(url);
                 }
             }
+            reloaded.addAll(remaining);
+            current.put(entry.getKey(), reloaded);
+
+            Set<String> before = new LinkedHashSet<>(currentUrls);
+            Set<String> after = new LinkedHashSet<>(reloaded);
+            before.stream().filter(url -> !after.contains(url)).forEach(url -> onRemoved.accept(entry.getKey(), url));
+            after.stream().filter(url -> !before.contains(url)).forEach(url -> onAdded.accept(entry.getKey(), url));
+            changed = true;
+        }
+        return changed;
+    }
 
-            // all remaining from updated list add to this configuration
-            updatedServerUrls.forEach(url -> addServerHost(server, url));
-        });
-        // update remaining items hosts per container
-        this.hostsPerContainer.keySet().forEach(container -> {
-            
-            List<String> serverUrls = new ArrayList<>(this.hostsPerContainer.get(container));
-            List<String> updatedServerUrls = updated.hostsPerContainer.remove(container);
-
-            for (String serverUrl : serverUrls) {
-                if (updatedServerUrls.contains(serverUrl)) {
-                    updatedServerUrls.remove(serverUrl);
-                } else {
-                    removeContainerHost(container, serverUrl);
-                }
+    private boolean reloadContainerInfos(Map<String, List<ContainerInfo>> updated) {
+        boolean changed = containerInfosPerContainer.keySet().retainAll(updated.keySet());
+
+        for (Map.Entry<String, List<ContainerInfo>> entry : updated.entrySet()) {
+            if (!entry.getValue().equals(containerInfosPerContainer.get(entry.getKey()))) {
+                containerInfosPerContainer.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+                changed = true;
             }
-            
-            // all remaining from updated list add to this configuration
-            updatedServerUrls.forEach(url -> addContainerHost(container, url));
-        });
-        
-        // last add all left items
-        updated.hostsPerServer.forEach((server, urls) -> {
-            
-            urls.forEach(url -> addServerHost(server, url));
-        });
-        
-        updated.hostsPerContainer.forEach((container, urls) -> {
-            
-            urls.forEach(url -> addContainerHost(container, url));
-        });
-        
-        this.listeners.forEach(l -> l.onConfigurationReloaded());
-    }
-    
-    public synchronized void reloadFromRepository(ConfigRepository repository) {
-        
-        Configuration loaded = repository.load();
-        
-        this.containerInfosPerContainer = loaded.getContainerInfosPerContainer();
-        this.hostsPerContainer = loaded.getHostsPerContainer();
-        this.hostsPerServer = loaded.getHostsPerServer();
+        }
+        return changed;
     }
 }
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.server.router;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Bounded index of process instances, tasks, cases and jobs to the id of the kie server that owns them, learned
+ * from replies to creation requests and from broadcast single instance requests that exactly one server answered.
+ * Used to route requests for a single instance (that have no container in their path) to its owning server instead
+ * of broadcasting them to all servers.
+ * <p>
+ * Instance ids are only unique within a single kie server (its data base), so when the same instance is seen
+ * on more than one server it is marked as ambiguous and requests for it keep being broadcast.
+ */
+public class InstanceRoutingIndex {
+
+    public static final String PROCESS_INSTANCE = "process";
+    public static final String TASK = "task";
+    public static final String CASE = "case";
+    public static final String JOB = "job";
+
+    private static final String AMBIGUOUS = "";
+
+    private static final Pattern INSTANCE_QUERY_PATH = Pattern.compile("^/queries/(?:(processes|tasks)/instances/(\\d+)|cases/instances/([^/]+))(?:/|$)");
+    private static final Pattern JOB_PATH = Pattern.compile("^/jobs/(\\d+)/?$");
+    private static final Pattern CREATE_INSTANCE_PATH = Pattern.compile("^/containers/[^/]+/(processes|cases)/[^/]+/instances/?$");
+    private static final Pattern CREATE_JOB_PATH = Pattern.compile("^/jobs/?$");
+    private static final Pattern XML_VALUE = Pattern.compile(">\\s*([^<>\\s]+)\\s*<");
+
+    private final Map<String, String> serverIdsByInstance;
+
+    public InstanceRoutingIndex() {
+        this(Integer.parseInt(System.getProperty(KieServerRouterConstants.ROUTER_INSTANCE_INDEX_SIZE, "10000")));
+    }
+
+    public InstanceRoutingIndex(int maxSize) {
+        this.serverIdsByInstance = Collections.synchronizedMap(new LinkedHashMap<String, String>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    public static String key(String type, String id) {
+        return type + ":" + id;
+    }
+
+    /**
+     * @return key of the instance given request path targets when it is a request for single instance
+     * without container in its path, otherwise null
+     */
+    public static String keyOf(String requestPath) {
+        Matcher matcher = INSTANCE_QUERY_PATH.matcher(requestPath);
+        if (matcher.find()) {
+            if (matcher.group(3) != null) {
+                return key(CASE, matcher.group(3));
+            }
+            return key("processes".equals(matcher.group(1)) ? PROCESS_INSTANCE : TASK, matcher.group(2));
+        }
+        matcher = JOB_PATH.matcher(requestPath);
+        if (matcher.find()) {
+            return key(JOB, matcher.group(1));
+        }
+        return null;
+    }
+
+    /**
+     * @return type of instance created by given request (process instance, case or job) or null if request
+     * does not create one
+     */
+    public static String createdInstanceType(String method, String requestPath) {
+        if (!"POST".equals(method)) {
+            return null;
+        }
+        Matcher matcher = CREATE_INSTANCE_PATH.matcher(requestPath);
+        if (matcher.find()) {
+            return "processes".equals(matcher.group(1)) ? PROCESS_INSTANCE : CASE;
+        }
+        if (CREATE_JOB_PATH.matcher(requestPath).find()) {
+            return JOB;
+        }
+        return null;
+    }
+
+    /**
+     * @return id of created instance as returned by kie server in any of the supported formats, null if
+     * the body does not hold one
+     */
+    public static String parseCreatedId(String type, String responseBody) {
+        String value = responseBody.trim();
+        Matcher matcher = XML_VALUE.matcher(value);
+        if (matcher.find()) {
+            value = matcher.group(1);
+        } else if (value.length() > 1 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1);
+        }
+        if (value.isEmpty() || value.contains("/")) {
+            return null;
+        }
+        if (!CASE.equals(type)) {
+            for (int i = 0; i < value.length(); i++) {
+                if (!Character.isDigit(value.charAt(i))) {
+                    return null;
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * @return id of the server owning given instance or null if it is not known or not unique
+     */
+    public String getServerId(String key) {
+        String serverId = serverIdsByInstance.get(key);
+        if (serverId == null || AMBIGUOUS.equals(serverId)) {
+            return null;
+        }
+        return serverId;
+    }
+
+    public void register(String key, String serverId) {
+        if (serverId == null) {
+            return;
+        }
+        serverIdsByInstance.merge(key, serverId, (existing, added) -> existing.equals(added) ? existing : AMBIGUOUS);
+    }
+
+    public void remove(String key) {
+        serverIdsByInstance.remove(key);
+    }
+
+    public int size() {
+        return serverIdsByInstance.size();
+    }
+
+    @Override
+    public String toString() {
+        return "InstanceRoutingIndex{size=" + size() + "}";
+    }
+}
@@ -45,12 +45,15 @@ import org.json.JSONObject;
 import org.kie.server.router.handlers.AdminHttpHandler;
 import org.kie.server.router.handlers.ContainersHttpHandler;
 import org.kie.server.router.handlers.DocumentsHttpHandler;
+import org.kie.server.router.handlers.InstanceCaptureHttpHandler;
 import org.kie.server.router.handlers.JobsHttpHandler;
 import org.kie.server.router.handlers.KieServerInfoHandler;
 import org.kie.server.router.handlers.QueriesDataHttpHandler;
 import org.kie.server.router.handlers.QueriesHttpHandler;
+import org.kie.server.router.handlers.ReplicationHttpHandler;
 import org.kie.server.router.proxy.KieServerProxyClient;
 import org.kie.server.router.repository.FileRepository;
+import org.kie.server.router.repository.ReplicatedRepository;
 import org.kie.server.router.spi.ConfigRepository;
 import org.kie.server.router.utils.HttpUtils;
 import org.kie.server.router.utils.SSLContextBuilder;
@@ -63,6 +66,7 @@ import static org.kie.server.router.KieServerRouterConstants.ROUTER_KEYSTORE_KEY
 import static org.kie.server.router.KieServerRouterConstants.ROUTER_KEYSTORE_PASSWORD;
 import static org.kie.server.router.KieServerRouterConstants.ROUTER_PORT;
 import static org.kie.server.router.KieServerRouterConstants.ROUTER_PORT_TLS;
+import static org.kie.server.router.KieServerRouterConstants.ROUTER_REPLICATION_PEERS;
 
 public class KieServerRouter {
 
@@ -96,16 +100,22 @@ public class KieServerRouter {
     private ServiceLoader<ConfigRepository> configRepositoryServiceLoader = ServiceLoader.load(ConfigRepository.class);
 
     private Undertow server;
-    private ConfigRepository repository = new FileRepository();
+    private ConfigRepository repository;
 
     private ScheduledExecutorService executorService = Executors.newSingleThreadScheduledExecutor();
     private ScheduledFuture<?> controllerConnectionAttempts;
 
     public KieServerRouter() {
+        repository = System.getProperty(ROUTER_REPLICATION_PEERS) != null ? new ReplicatedRepository() : new FileRepository();
         configRepositoryServiceLoader.forEach(repo -> repository = repo);
         log.info("KIE Server router repository implementation is " + repository);
     }
 
+    public KieServerRouter(ConfigRepository repository) {
+        this.repository = repository;
+        log.info("KIE Server router repository implementation is " + repository);
+    }
+
     public static void main(String[] args) {
         KieServerRouter router = new KieServerRouter();
         router.start(HOST,
@@ -167,7 +177,9 @@ public class KieServerRouter {
                                                      notFoundHandler,
                                                      true,
                                                      false);
-        PathHandler pathHandler = Handlers.path(proxyHandler);
+        HttpHandler instanceCaptureHandler = new InstanceCaptureHttpHandler(proxyHandler,
+                                                                           adminHandler);
+        PathHandler pathHandler = Handlers.path(instanceCaptureHandler);
         pathHandler.addPrefixPath("/queries/definitions",
                                   new QueriesDataHttpHandler(notFoundHandler,
                                                              adminHandler));
@@ -175,7 +187,7 @@ public class KieServerRouter {
                                   new QueriesHttpHandler(notFoundHandler,
                                                          adminHandler));
         pathHandler.addPrefixPath("/jobs",
-                                  new JobsHttpHandler(proxyHandler,
+                                  new JobsHttpHandler(instanceCaptureHandler,
                                                       adminHandler));
         pathHandler.addPrefixPath("/documents",
                                   new DocumentsHttpHandler(notFoundHandler,
@@ -185,6 +197,10 @@ public class KieServerRouter {
                                                            adminHandler));
         pathHandler.addPrefixPath("/mgmt",
                                   adminHandler);
+        if (repository instanceof ReplicatedRepository) {
+            pathHandler.addPrefixPath("/mgmt/replication",
+                                      new ReplicationHttpHandler((ReplicatedRepository) repository));
+        }
         pathHandler.addExactPath("/",
                                  new KieServerInfoHandler());
 
@@ -30,6 +30,8 @@ public class KieServerRouterConstants {
     public static final String ROUTER_KEYSTORE_KEYALIAS = "org.kie.server.router.tls.keystore.keyalias";
 
     public static final String ROUTER_REPOSITORY_DIR = "org.kie.server.router.repo";
+    public static final String ROUTER_REPLICATION_PEERS = "org.kie.server.router.replication.peers";
+    public static final String ROUTER_REPLICATION_INTERVAL = "org.kie.server.router.replication.interval";
 
     public static final String KIE_CONTROLLER = "org.kie.server.controller";
     public static final String KIE_CONTROLLER_USER = "org.kie.server.controller.user";
@@ -39,5 +41,6 @@ public class KieServerRouterConstants {
     public static final String CONFIG_FILE_WATCHER_INTERVAL = "org.kie.server.router.config.watcher.interval";
     public static final String KIE_SERVER_CONTROLLER_ATTEMPT_INTERVAL = "org.kie.server.controller.retry.interval";
     public static final String KIE_SERVER_RECOVERY_ATTEMPT_LIMIT = "org.kie.server.recovery.retry.limit";
+    public static final String ROUTER_INSTANCE_INDEX_SIZE = "org.kie.server.router.instance.index.size";
     
 }
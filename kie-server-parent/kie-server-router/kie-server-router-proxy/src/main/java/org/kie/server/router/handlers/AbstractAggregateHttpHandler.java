@@ -21,6 +21,7 @@ import java.net.HttpURLConnection;
 import java.net.SocketException;
 import java.net.URL;
 import java.net.UnknownHostException;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -31,6 +32,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.jboss.logging.Logger;
+import org.kie.server.router.InstanceRoutingIndex;
 import org.kie.server.router.proxy.aggragate.ResponseAggregator;
 
 import io.undertow.server.HttpHandler;
@@ -98,20 +100,22 @@ public abstract class AbstractAggregateHttpHandler implements HttpHandler {
 
 
         final Map<String,List<String>> responseHeaders = new ConcurrentHashMap<>();
-        List<String> returnResponses = getServerHosts().parallelStream().map(url -> {
-            String response = null;
-            try {
-                response = sendRequest(url, exchange, responseHeaders, routerPage, routerPageSize);
-            } catch (Exception e) {
-                log.error("Error when forwarding request to server", e);
-
-                removeHostOnException(url, e);
+        List<String> returnResponses = Collections.emptyList();
+
+        // requests for single instance go only to the server known to own it
+        String instanceKey = InstanceRoutingIndex.keyOf(exchange.getRequestPath());
+        String ownerHost = selectOwnerHost(instanceKey);
+        if (ownerHost != null) {
+            returnResponses = collectResponses(Collections.singleton(ownerHost), exchange, responseHeaders, routerPage, routerPageSize, null);
+            if (returnResponses.isEmpty()) {
+                log.debugf("Instance %s not found on %s, broadcasting request", instanceKey, ownerHost);
+                adminHandler.getInstanceRoutingIndex().remove(instanceKey);
+                responseHeaders.clear();
             }
-
-            return response;
-        })
-                .filter(msg -> msg != null && !msg.trim().isEmpty())
-                .collect(Collectors.toList());
+        }
+        if (returnResponses.isEmpty()) {
+            returnResponses = collectResponses(getServerHosts(), exchange, responseHeaders, routerPage, routerPageSize, instanceKey);
+        }
 
         if (returnResponses.isEmpty()) {
             ResponseCodeHandler.HANDLE_404.handleRequest(exchange);
@@ -141,6 +145,35 @@ public abstract class AbstractAggregateHttpHandler implements HttpHandler {
         exchange.getResponseSender().send(response);
     }
 
+    protected List<String> collectResponses(Set<String> hosts, HttpServerExchange exchange, Map<String,List<String>> responseHeaders, String page, String pageSize, String instanceKey) {
+        Set<String> answeredBy = ConcurrentHashMap.newKeySet();
+
+        List<String> responses = hosts.parallelStream().map(url -> {
+            String response = null;
+            try {
+                response = sendRequest(url, exchange, responseHeaders, page, pageSize);
+
+                if (instanceKey != null && response != null && !response.trim().isEmpty()) {
+                    answeredBy.add(url);
+                }
+            } catch (Exception e) {
+                log.error("Error when forwarding request to server", e);
+
+                removeHostOnException(url, e);
+            }
+
+            return response;
+        })
+                .filter(msg -> msg != null && !msg.trim().isEmpty())
+                .collect(Collectors.toList());
+
+        // owner of the instance is known only when exactly one server has it
+        if (answeredBy.size() == 1) {
+            adminHandler.getInstanceRoutingIndex().register(instanceKey, adminHandler.getServerId(answeredBy.iterator().next()));
+        }
+        return responses;
+    }
+
     protected String sendRequest(String url, HttpServerExchange exchange, Map<String,List<String>> responseHeaders, String page, String pageSize) throws Exception {
 
         URL obj = new URL(url + exchange.getRequestPath() + "?" + exchange.getQueryString().replaceAll(REPLACE_PAGE, "page=" + page).replaceAll(REPLACE_PAGE_SIZE, "pageSize="+pageSize));
@@ -185,6 +218,22 @@ public abstract class AbstractAggregateHttpHandler implements HttpHandler {
          .collect(Collectors.toSet());
     }
 
+    protected String selectOwnerHost(String instanceKey) {
+        if (instanceKey == null) {
+            return null;
+        }
+        String serverId = adminHandler.getInstanceRoutingIndex().getServerId(instanceKey);
+        if (serverId == null) {
+            return null;
+        }
+        List<String> hosts = adminHandler.getHostsPerServer().get(serverId);
+        if (hosts == null || hosts.isEmpty()) {
+            return null;
+        }
+        Set<String> uniqueHosts = new LinkedHashSet<>(hosts);
+        return selector.selectHost(uniqueHosts.toArray(new String[uniqueHosts.size()]));
+    }
+
     protected void removeHostOnException(String url, Exception e) {
         if (e instanceof SocketException || e instanceof UnknownHostException) {
             adminHandler.removeUnavailableServer(url);
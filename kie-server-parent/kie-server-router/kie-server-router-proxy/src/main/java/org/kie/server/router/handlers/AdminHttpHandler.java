@@ -31,6 +31,7 @@ import org.jboss.logging.Logger;
 import org.json.JSONObject;
 import org.kie.server.router.Configuration;
 import org.kie.server.router.ContainerInfo;
+import org.kie.server.router.InstanceRoutingIndex;
 import org.kie.server.router.proxy.aggragate.JSONResponseAggregator;
 import org.kie.server.router.proxy.aggragate.JaxbXMLResponseAggregator;
 import org.kie.server.router.proxy.aggragate.ResponseAggregator;
@@ -58,6 +59,7 @@ public class AdminHttpHandler implements HttpHandler {
 //    private KieServerProxyClient proxyClient;
     private Configuration configuration = new Configuration();
     private List<ResponseAggregator> aggregators = new ArrayList<>();
+    private InstanceRoutingIndex instanceRoutingIndex = new InstanceRoutingIndex();
     
     private ConfigRepository repository = null;
     private ConfigurationMarshaller marshaller = new ConfigurationMarshaller();
@@ -178,6 +180,25 @@ public class AdminHttpHandler implements HttpHandler {
         return configuration.getHostsPerServer();
     }
 
+    public InstanceRoutingIndex getInstanceRoutingIndex() {
+        return instanceRoutingIndex;
+    }
+
+    /**
+     * @return id of the server given host (url) belongs to or null if host is not known
+     */
+    public String getServerId(String url) {
+        if (url == null) {
+            return null;
+        }
+        for (Map.Entry<String, List<String>> entry : configuration.getHostsPerServer().entrySet()) {
+            if (entry.getValue().contains(url)) {
+                return entry.getKey();
+            }
+        }
+        return null;
+    }
+
     
     public List<ResponseAggregator> getAggregators() {
         return Collections.unmodifiableList(aggregators);
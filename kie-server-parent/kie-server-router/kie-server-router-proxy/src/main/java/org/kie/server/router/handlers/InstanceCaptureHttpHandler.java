@@ -0,0 +1,174 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.server.router.handlers;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+
+import org.jboss.logging.Logger;
+import org.kie.server.router.InstanceRoutingIndex;
+import org.kie.server.router.proxy.CaptureHostLoadBalancingProxyClient;
+import org.xnio.channels.StreamSourceChannel;
+import org.xnio.conduits.AbstractStreamSinkConduit;
+import org.xnio.conduits.StreamSinkConduit;
+
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.Headers;
+
+/**
+ * Captures ids of process instances, cases and jobs created through the router from responses of the owning
+ * server and registers them in the instance routing index, so later requests for them can be routed directly.
+ */
+public class InstanceCaptureHttpHandler implements HttpHandler {
+
+    private static final Logger log = Logger.getLogger(InstanceCaptureHttpHandler.class);
+
+    // ids are short, anything longer is not a reply with created id
+    private static final int CAPTURE_LIMIT = 512;
+
+    private HttpHandler httpHandler;
+    private AdminHttpHandler adminHandler;
+
+    public InstanceCaptureHttpHandler(HttpHandler httpHandler, AdminHttpHandler adminHandler) {
+        this.httpHandler = httpHandler;
+        this.adminHandler = adminHandler;
+    }
+
+    @Override
+    public void handleRequest(HttpServerExchange exchange) throws Exception {
+        String instanceType = InstanceRoutingIndex.createdInstanceType(exchange.getRequestMethod().toString(), exchange.getRequestPath());
+        if (instanceType != null) {
+            ResponseCaptureConduit[] capture = new ResponseCaptureConduit[1];
+            exchange.addResponseWrapper((factory, ex) -> capture[0] = new ResponseCaptureConduit(factory.create()));
+            exchange.addExchangeCompleteListener((ex, nextListener) -> {
+                try {
+                    registerCreatedInstance(ex, instanceType, capture[0]);
+                } finally {
+                    nextListener.proceed();
+                }
+            });
+        }
+        httpHandler.handleRequest(exchange);
+    }
+
+    protected void registerCreatedInstance(HttpServerExchange exchange, String instanceType, ResponseCaptureConduit capture) {
+        if (capture == null || capture.isOverflown() || exchange.getStatusCode() < 200 || exchange.getStatusCode() >= 300
+                || exchange.getResponseHeaders().contains(Headers.CONTENT_ENCODING)) {
+            return;
+        }
+        String serverId = adminHandler.getServerId(exchange.getAttachment(CaptureHostLoadBalancingProxyClient.SELECTED_HOST));
+        String id = InstanceRoutingIndex.parseCreatedId(instanceType, capture.getCaptured());
+        if (serverId != null && id != null) {
+            log.debugf("Registered %s %s created on server %s", instanceType, id, serverId);
+            adminHandler.getInstanceRoutingIndex().register(InstanceRoutingIndex.key(instanceType, id), serverId);
+        }
+    }
+
+    static class ResponseCaptureConduit extends AbstractStreamSinkConduit<StreamSinkConduit> {
+
+        private final byte[] captured = new byte[CAPTURE_LIMIT];
+        private int size;
+        private boolean overflown;
+
+        ResponseCaptureConduit(StreamSinkConduit next) {
+            super(next);
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            int position = src.position();
+            int written = super.write(src);
+            capture(src, position, written);
+            return written;
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs, int offs, int len) throws IOException {
+            int[] positions = positions(srcs, offs, len);
+            long written = super.write(srcs, offs, len);
+            capture(srcs, offs, len, positions);
+            return written;
+        }
+
+        @Override
+        public int writeFinal(ByteBuffer src) throws IOException {
+            int position = src.position();
+            int written = super.writeFinal(src);
+            capture(src, position, written);
+            return written;
+        }
+
+        @Override
+        public long writeFinal(ByteBuffer[] srcs, int offs, int len) throws IOException {
+            int[] positions = positions(srcs, offs, len);
+            long written = super.writeFinal(srcs, offs, len);
+            capture(srcs, offs, len, positions);
+            return written;
+        }
+
+        @Override
+        public long transferFrom(FileChannel src, long position, long count) throws IOException {
+            // transferred data bypasses this conduit so response can't be captured
+            overflown = true;
+            return super.transferFrom(src, position, count);
+        }
+
+        @Override
+        public long transferFrom(StreamSourceChannel source, long count, ByteBuffer throughBuffer) throws IOException {
+            overflown = true;
+            return super.transferFrom(source, count, throughBuffer);
+        }
+
+        String getCaptured() {
+            return new String(captured, 0, size, StandardCharsets.UTF_8);
+        }
+
+        boolean isOverflown() {
+            return overflown;
+        }
+
+        private static int[] positions(ByteBuffer[] srcs, int offs, int len) {
+            int[] positions = new int[len];
+            for (int i = 0; i < len; i++) {
+                positions[i] = srcs[offs + i].position();
+            }
+            return positions;
+        }
+
+        private void capture(ByteBuffer[] srcs, int offs, int len, int[] positions) {
+            for (int i = 0; i < len; i++) {
+                ByteBuffer src = srcs[offs + i];
+                capture(src, positions[i], src.position() - positions[i]);
+            }
+        }
+
+        private void capture(ByteBuffer src, int position, int written) {
+            if (written <= 0 || overflown) {
+                return;
+            }
+            if (size + written > CAPTURE_LIMIT) {
+                overflown = true;
+                return;
+            }
+            for (int i = 0; i < written; i++) {
+                captured[size++] = src.get(position + i);
+            }
+        }
+    }
+}
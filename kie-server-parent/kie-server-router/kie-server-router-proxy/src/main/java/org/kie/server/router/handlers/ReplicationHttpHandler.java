@@ -0,0 +1,74 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.server.router.handlers;
+
+import java.util.Deque;
+
+import org.jboss.logging.Logger;
+import org.kie.server.router.repository.ReplicatedRepository;
+
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.server.handlers.ResponseCodeHandler;
+import io.undertow.util.Headers;
+import io.undertow.util.HttpString;
+
+/**
+ * Endpoint of configuration replication between routers - GET returns changes after given position
+ * (<code>since</code> query parameter) of this router's change log, POST receives changes pushed by a peer.
+ */
+public class ReplicationHttpHandler implements HttpHandler {
+
+    private static final Logger log = Logger.getLogger(ReplicationHttpHandler.class);
+
+    private ReplicatedRepository repository;
+
+    public ReplicationHttpHandler(ReplicatedRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public void handleRequest(HttpServerExchange exchange) throws Exception {
+        if (exchange.getRequestMethod().equals(HttpString.tryFromString("GET"))) {
+            long since = 0;
+            Deque<String> sinceParam = exchange.getQueryParameters().get("since");
+            if (sinceParam != null && !sinceParam.isEmpty()) {
+                since = Long.parseLong(sinceParam.getFirst());
+            }
+            String changes = repository.changesSince(since);
+            exchange.getResponseHeaders().put(Headers.CONTENT_TYPE, "application/json");
+            exchange.getResponseHeaders().put(Headers.CONTENT_LENGTH, changes.getBytes("UTF-8").length);
+            exchange.getResponseSender().send(changes);
+
+        } else if (exchange.getRequestMethod().equals(HttpString.tryFromString("POST"))) {
+            exchange.getRequestReceiver().receiveFullString((ex, data) -> {
+                try {
+                    repository.receive(data);
+                    ResponseCodeHandler.HANDLE_200.handleRequest(ex);
+                } catch (Exception e) {
+                    log.error("Error while receiving replicated configuration changes", e);
+                    try {
+                        ResponseCodeHandler.HANDLE_500.handleRequest(ex);
+                    } catch (Exception re) {
+                        log.debug(re);
+                    }
+                }
+            });
+        } else {
+            ResponseCodeHandler.HANDLE_405.handleRequest(exchange);
+        }
+    }
+}
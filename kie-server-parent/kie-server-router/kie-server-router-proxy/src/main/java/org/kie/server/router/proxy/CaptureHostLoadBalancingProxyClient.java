@@ -17,8 +17,15 @@ package org.kie.server.router.proxy;
 
 import io.undertow.server.HttpServerExchange;
 import io.undertow.server.handlers.proxy.LoadBalancingProxyClient;
+import io.undertow.util.AttachmentKey;
 
 public class CaptureHostLoadBalancingProxyClient extends LoadBalancingProxyClient {
+
+    /**
+     * Host (url) the exchange was routed to
+     */
+    public static final AttachmentKey<String> SELECTED_HOST = AttachmentKey.create(String.class);
+
     private String uri = null;
     @Override
     protected Host selectHost(HttpServerExchange exchange) {
@@ -26,6 +33,7 @@ public class CaptureHostLoadBalancingProxyClient extends LoadBalancingProxyClien
 
         if (host != null) {
             uri = host.getUri().toString();
+            exchange.putAttachment(SELECTED_HOST, uri);
         }
 
         return host;
@@ -18,37 +18,66 @@ package org.kie.server.router.proxy;
 import java.util.Deque;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.kie.server.router.ContainerInfo;
 import org.kie.server.router.spi.ContainerResolver;
 
 import io.undertow.server.HttpServerExchange;
 
+/**
+ * Resolves container (id or alias) from the path of the request in a single pass over its segments, taking
+ * the segment following the last <code>/containers/</code> when it is a known container or alias and otherwise
+ * the one following the last <code>/containers/instances/</code>. Falls back to <code>containerId</code>
+ * query parameter.
+ */
 public class DefaultContainerResolver implements ContainerResolver {
 
-    private Pattern p = Pattern.compile(".*/containers/([^/]+).*");
-    private Pattern p2 = Pattern.compile(".*/containers/instances/([^/]+).*");
+    private static final String CONTAINERS_SEGMENT = "containers";
+    private static final String INSTANCES_SEGMENT = "instances";
 
     @Override
     public String resolveContainerId(HttpServerExchange exchange, Map<String, List<ContainerInfo>> containerInfoPerContainer) {
         String relativePath = exchange.getRelativePath();
-        Matcher matcher = p.matcher(relativePath);
+        int length = relativePath.length();
 
-        Set<String> knownContainers = containerInfoPerContainer.keySet();
+        int containerStart = -1;
+        int containerEnd = -1;
+        int instancesContainerStart = -1;
+        int instancesContainerEnd = -1;
 
-        if (matcher.find()) {
-            String containerId = matcher.group(1);
-            if (knownContainers.contains(containerId)) {
+        // every segment of interest is preceded by '/', segmentStart points at it
+        int segmentStart = relativePath.indexOf('/');
+        while (segmentStart >= 0 && segmentStart < length) {
+            int start = segmentStart + 1;
+            int end = segmentEnd(relativePath, start);
+
+            if (isSegment(relativePath, start, end, CONTAINERS_SEGMENT) && end < length) {
+                int idEnd = segmentEnd(relativePath, end + 1);
+                if (idEnd > end + 1) {
+                    containerStart = end + 1;
+                    containerEnd = idEnd;
+
+                    if (isSegment(relativePath, containerStart, containerEnd, INSTANCES_SEGMENT) && idEnd < length) {
+                        int instancesIdEnd = segmentEnd(relativePath, idEnd + 1);
+                        if (instancesIdEnd > idEnd + 1) {
+                            instancesContainerStart = idEnd + 1;
+                            instancesContainerEnd = instancesIdEnd;
+                        }
+                    }
+                }
+            }
+            segmentStart = end;
+        }
+
+        if (containerStart >= 0) {
+            String containerId = relativePath.substring(containerStart, containerEnd);
+            if (containerInfoPerContainer.containsKey(containerId)) {
                 return containerId;
             }
         }
-        matcher = p2.matcher(relativePath);
 
-        if (matcher.find()) {
-            return matcher.group(1);
+        if (instancesContainerStart >= 0) {
+            return relativePath.substring(instancesContainerStart, instancesContainerEnd);
         }
         
         Deque<String> containerIdQueryParam = exchange.getQueryParameters().get("containerId");
@@ -58,6 +87,15 @@ public class DefaultContainerResolver implements ContainerResolver {
         return NOT_FOUND;
     }
 
+    private static int segmentEnd(String path, int start) {
+        int end = path.indexOf('/', start);
+        return end < 0 ? path.length() : end;
+    }
+
+    private static boolean isSegment(String path, int start, int end, String segment) {
+        return end - start == segment.length() && path.regionMatches(start, segment, 0, segment.length());
+    }
+
     @Override
     public String toString() {
         return "Default container resolver";
@@ -15,12 +15,18 @@
 
 package org.kie.server.router.repository;
 
-import java.io.FileReader;
 import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.attribute.FileTime;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.jboss.logging.Logger;
@@ -28,6 +34,13 @@ import org.kie.server.router.Configuration;
 import org.kie.server.router.KieServerRouter;
 import org.kie.server.router.KieServerRouterConstants;
 
+/**
+ * Watches routers config file and applies its changes to the configuration. Changes are detected by watch service
+ * as soon as the file is written, in addition the file is checked for modification every interval as watch service
+ * does not see changes made by other hosts on shared (network) volumes. Only content that differs from the last
+ * applied or written one is reloaded and only as a diff, see {@link Configuration#reloadFrom(Configuration)}.
+ * Content that cannot be read is skipped and read again only once the file changes again.
+ */
 public class ConfigFileWatcher implements Runnable {
     
     private static final Logger log = Logger.getLogger(KieServerRouter.class);
@@ -36,11 +49,15 @@ public class ConfigFileWatcher implements Runnable {
 
     private Path toWatch;
     private AtomicBoolean active = new AtomicBoolean(true);
+    private volatile WatchService watchService;
     
     private ConfigurationMarshaller marshaller;    
     private Configuration configuration;
     
+    // guarded by configuration, which is also locked while the configuration is persisted
     private long lastUpdate = -1;
+    private String lastContent;
+    private String failedContent;
     
     public ConfigFileWatcher(String configFilePath, ConfigurationMarshaller marshaller, Configuration configuration) {
         this.marshaller = marshaller;
@@ -54,6 +71,7 @@ public class ConfigFileWatcher implements Runnable {
         try {
             if(toWatch.toFile().exists()) {
                 lastUpdate = Files.getLastModifiedTime(toWatch).toMillis();
+                lastContent = new String(Files.readAllBytes(toWatch), StandardCharsets.UTF_8);
             } else {
                 log.warnv("configuration file does not exists {0} ", this.toWatch);
             }
@@ -64,38 +82,130 @@ public class ConfigFileWatcher implements Runnable {
 
     public void stop() {
         this.active.set(false);
+        closeWatchService();
     }
     
     @Override
     public void run() {
+        watchService = createWatchService();
         try{
             while(active.get()) {
+                boolean fileChanged = awaitChange();
+                if (!active.get()) {
+                    break;
+                }
                 try {
-                    if(!toWatch.toFile().exists()) {
-                       log.warnv("configuration file does not exists {0} ", this.toWatch);
-                       Thread.sleep(sleepTime);
-                       continue;
-                    }
-                    FileTime lastModified = Files.getLastModifiedTime(toWatch);
-                    log.debug("Config file " + toWatch + " last modified " + lastModified);
-                    if (lastModified.toMillis() > lastUpdate) {
-                   
-                        log.debug("Config file updated, reloading...");
-                        try (FileReader reader = new FileReader(toWatch.toFile())){                                
-                            Configuration updated = marshaller.unmarshall(reader);
-                            this.configuration.reloadFrom(updated);
-                        } catch (Exception e) {
-                            log.error("Unexpected exception while reading updated configuration file :: " + e.getMessage(), e);
-                        }
-                        lastUpdate = lastModified.toMillis();
-                    }
+                    reload(fileChanged);
                 } catch(IOException ioe) {
                     log.warn("Unexpected exception while watching config file, maybe file does not exist ?", ioe);
                 }
-                Thread.sleep(sleepTime);
             }
-        } catch (InterruptedException e) {
-            log.debug("Interrupted exception received...");
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            log.debug("Config file watcher stopped...");
+        } finally {
+            closeWatchService();
+        }
+    }
+
+    /*
+     * waits for watch service to report change of the config file or for the interval to elapse,
+     * returns true if the config file was reported as changed
+     */
+    protected boolean awaitChange() throws InterruptedException {
+        if (watchService == null) {
+            Thread.sleep(sleepTime);
+            return false;
+        }
+        WatchKey key = watchService.poll(sleepTime, TimeUnit.MILLISECONDS);
+        if (key == null) {
+            return false;
+        }
+        boolean fileChanged = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || toWatch.getFileName().equals(event.context())) {
+                fileChanged = true;
+            }
+        }
+        key.reset();
+        return fileChanged;
+    }
+
+    /**
+     * Records content written to the config file by this router, so it is not reloaded and a later change back
+     * to the previous content is not mistaken for an already applied one
+     * @param content content of the config file
+     */
+    public void written(String content) {
+        synchronized (configuration) {
+            lastContent = content;
+            failedContent = null;
+            try {
+                lastUpdate = Files.getLastModifiedTime(toWatch).toMillis();
+            } catch (IOException e) {
+                log.debug("Unable to read last modified date of routers config file", e);
+            }
+        }
+    }
+
+    protected void reload(boolean fileChanged) throws IOException {
+        synchronized (configuration) {
+            reloadFile(fileChanged);
+        }
+    }
+
+    private void reloadFile(boolean fileChanged) throws IOException {
+        if(!toWatch.toFile().exists()) {
+            log.warnv("configuration file does not exists {0} ", this.toWatch);
+            return;
+        }
+        long lastModified = Files.getLastModifiedTime(toWatch).toMillis();
+        log.debug("Config file " + toWatch + " last modified " + lastModified);
+        if (!fileChanged && lastModified <= lastUpdate) {
+            return;
+        }
+        String content = new String(Files.readAllBytes(toWatch), StandardCharsets.UTF_8);
+        if (content.equals(lastContent) || content.equals(failedContent)) {
+            // written by this router, touched only or already known to be unreadable
+            lastUpdate = lastModified;
+            return;
+        }
+
+        log.debug("Config file updated, reloading...");
+        try {
+            Configuration updated = marshaller.unmarshall(new StringReader(content));
+            this.configuration.reloadFrom(updated);
+
+            lastContent = content;
+            failedContent = null;
+            lastUpdate = lastModified;
+        } catch (Exception e) {
+            // file edited in place might be still being written, it is read again on its next change
+            failedContent = content;
+            lastUpdate = lastModified;
+            log.warn("Unable to read updated configuration file, it is skipped until next change :: " + e.getMessage());
+            log.debug("Config file read failure", e);
+        }
+    }
+
+    private WatchService createWatchService() {
+        try {
+            WatchService service = toWatch.getFileSystem().newWatchService();
+            toWatch.getParent().register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            return service;
+        } catch (Exception e) {
+            log.warn("Unable to watch config file " + toWatch + " for changes, it is checked every " + sleepTime + " ms (cause " + e.getMessage() + ")");
+            return null;
+        }
+    }
+
+    private void closeWatchService() {
+        WatchService service = watchService;
+        if (service != null) {
+            try {
+                service.close();
+            } catch (IOException e) {
+                log.debug("Unable to close watch service", e);
+            }
         }
     }
 }
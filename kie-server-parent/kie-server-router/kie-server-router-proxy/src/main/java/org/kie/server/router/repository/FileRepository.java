@@ -16,10 +16,13 @@
 package org.kie.server.router.repository;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.FileReader;
 import java.io.IOException;
-import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 
 import org.kie.server.router.Configuration;
 import org.kie.server.router.KieServerRouterConstants;
@@ -43,29 +46,34 @@ public class FileRepository implements ConfigRepository {
         this.repositoryDir = repositoryDir;   
     }
 
+    /**
+     * Writes given configuration to a temporary file that then replaces the config file in one (atomic when supported)
+     * move, so the config file watcher and other routers never read a partially written file.
+     */
     @Override
     public void persist(Configuration configuration) {
-                
-        
-        FileOutputStream fos = null;
+        File configFile = new File(repositoryDir, "kie-server-router.json");
+        Path tempFile = null;
         try {
-            File configFile = new File(repositoryDir, "kie-server-router.json");
-            fos = new FileOutputStream(configFile);
-            
             String config = marshaller.marshall(configuration);
-            
-            PrintWriter writer = new PrintWriter(fos);
-            writer.write(config);
-            writer.close();
-            
+
+            tempFile = Files.createTempFile(repositoryDir.toPath(), "kie-server-router", ".json.tmp");
+            Files.write(tempFile, config.getBytes(StandardCharsets.UTF_8));
+            try {
+                Files.move(tempFile, configFile.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, configFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
             configFile.setLastModified(System.currentTimeMillis());
 
+            if (watcher != null) {
+                watcher.written(config);
+            }
         } catch (Exception ex) {
             ex.printStackTrace();
-        } finally {
-            if (fos != null) {
+            if (tempFile != null) {
                 try {
-                    fos.close();
+                    Files.deleteIfExists(tempFile);
                 } catch (IOException e) {
                 }
             }
@@ -85,8 +93,9 @@ public class FileRepository implements ConfigRepository {
                 e.printStackTrace();
             }
         }
-        // setup config file watcher to be updated when changes are discovered
-        if (configWatcherEnabled ) {
+        // setup config file watcher to be updated when changes are discovered, only the first loaded (live)
+        // configuration is watched, later loads are used to compare with it
+        if (configWatcherEnabled && watcher == null) {
             this.watcher = new ConfigFileWatcher(serverStateFile.getParentFile().getAbsolutePath(), marshaller, configuration);
             Thread watcherThread = new Thread(watcher, "Kie Router Config Watch Thread");
             watcherThread.start();
@@ -94,6 +103,10 @@ public class FileRepository implements ConfigRepository {
         return this.configuration;
     }
 
+    ConfigFileWatcher getWatcher() {
+        return watcher;
+    }
+
     @Override
     public void clean() {
         persist(new Configuration());
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.server.router.repository;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import io.undertow.util.Headers;
+
+/**
+ * Peer router reached over HTTP at its <code>/mgmt/replication</code> endpoint.
+ */
+public class HttpReplicationPeer implements ReplicationPeer {
+
+    private static final int TIMEOUT = 5000;
+
+    private final String replicationUrl;
+
+    public HttpReplicationPeer(String routerUrl) {
+        this.replicationUrl = (routerUrl.endsWith("/") ? routerUrl.substring(0, routerUrl.length() - 1) : routerUrl) + "/mgmt/replication";
+    }
+
+    @Override
+    public void push(String changes) throws Exception {
+        HttpURLConnection con = open(new URL(replicationUrl), "POST");
+        con.setDoOutput(true);
+        try (OutputStream out = con.getOutputStream()) {
+            out.write(changes.getBytes(StandardCharsets.UTF_8));
+        }
+        checkResponse(con);
+    }
+
+    @Override
+    public String pull(long since) throws Exception {
+        HttpURLConnection con = open(new URL(replicationUrl + "?since=" + since), "GET");
+        checkResponse(con);
+
+        StringBuilder response = new StringBuilder();
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(con.getInputStream(), StandardCharsets.UTF_8))) {
+            String inputLine;
+            while ((inputLine = in.readLine()) != null) {
+                response.append(inputLine);
+            }
+        }
+        return response.toString();
+    }
+
+    private HttpURLConnection open(URL url, String method) throws IOException {
+        HttpURLConnection con = (HttpURLConnection) url.openConnection();
+        con.setRequestMethod(method);
+        con.setConnectTimeout(TIMEOUT);
+        con.setReadTimeout(TIMEOUT);
+        con.setRequestProperty(Headers.ACCEPT_STRING, "application/json");
+        con.setRequestProperty(Headers.CONTENT_TYPE_STRING, "application/json");
+        return con;
+    }
+
+    private void checkResponse(HttpURLConnection con) throws IOException {
+        int responseCode = con.getResponseCode();
+        if (responseCode >= 300) {
+            throw new IOException("Unsucessful response code " + responseCode + " from " + con.getURL());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return replicationUrl;
+    }
+}
@@ -0,0 +1,408 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.server.router.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.logging.Logger;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.kie.server.router.Configuration;
+import org.kie.server.router.ContainerInfo;
+import org.kie.server.router.KieServerRouterConstants;
+import org.kie.server.router.spi.ConfigRepository;
+
+/**
+ * Repository that replicates container and server registrations between routers instead of sharing a file.
+ * <p>
+ * Every registration is kept as a versioned {@link ReplicationEntry}. On persist only the registrations that changed
+ * since the last persist are turned into new entries and pushed to all peers right away; peers merge them (higher
+ * version wins) and apply the result to their live configuration one registration at a time, so listeners see only
+ * what actually changed. To recover from lost pushes and to bring up new routers, every router also periodically
+ * pulls from each peer the entries applied after the last position of the peer's change log it has seen.
+ * <p>
+ * Peers are given as comma separated router urls in <code>org.kie.server.router.replication.peers</code> system
+ * property and pulled every <code>org.kie.server.router.replication.interval</code> milliseconds (5000 by default).
+ * Registrations, both local and replicated ones, are also persisted by given local repository so a router can
+ * restart on its own, the locally persisted ones lose against any replicated change.
+ */
+public class ReplicatedRepository implements ConfigRepository {
+
+    private static final Logger log = Logger.getLogger(ReplicatedRepository.class);
+
+    private static final String LOCAL_ORIGIN = "";
+
+    // identifies this router instance, change log positions are only meaningful within one instance
+    private final String origin = UUID.randomUUID().toString();
+
+    private final ConfigRepository localRepository;
+    // serializes writes of local repository so the last one always writes the latest state
+    private final Object persistLock = new Object();
+    private final Executor pushExecutor;
+    private final long syncInterval;
+
+    private final Map<String, ReplicationPeer> peers = new ConcurrentHashMap<>();
+    private final Map<String, PeerPosition> peerPositions = new ConcurrentHashMap<>();
+
+    // guarded by this
+    private final Map<String, ReplicationEntry> entries = new HashMap<>();
+    private long sequence;
+    private long clock;
+
+    private volatile Configuration configuration;
+    private ScheduledExecutorService syncExecutor;
+
+    public ReplicatedRepository() {
+        this(new FileRepository(),
+             Executors.newSingleThreadExecutor(ReplicatedRepository::newDaemonThread),
+             Long.parseLong(System.getProperty(KieServerRouterConstants.ROUTER_REPLICATION_INTERVAL, "5000")));
+
+        String peerUrls = System.getProperty(KieServerRouterConstants.ROUTER_REPLICATION_PEERS, "");
+        for (String peerUrl : peerUrls.split(",")) {
+            if (!peerUrl.trim().isEmpty()) {
+                addPeer(peerUrl.trim(), new HttpReplicationPeer(peerUrl.trim()));
+            }
+        }
+    }
+
+    /**
+     * @param localRepository repository to persist configuration locally, might be null
+     * @param pushExecutor executor pushing changes to peers
+     * @param syncInterval interval of pulling changes from peers in milliseconds, zero or less disables pulling
+     */
+    public ReplicatedRepository(ConfigRepository localRepository, Executor pushExecutor, long syncInterval) {
+        this.localRepository = localRepository;
+        this.pushExecutor = pushExecutor;
+        this.syncInterval = syncInterval;
+    }
+
+    public void addPeer(String name, ReplicationPeer peer) {
+        peers.put(name, peer);
+    }
+
+    public void removePeer(String name) {
+        peers.remove(name);
+        peerPositions.remove(name);
+    }
+
+    @Override
+    public Configuration load() {
+        Configuration live = configuration;
+        if (live != null) {
+            return snapshot();
+        }
+        synchronized (this) {
+            if (configuration == null) {
+                Configuration loaded = new Configuration();
+                if (localRepository != null) {
+                    // locally persisted registrations have the lowest version
+                    for (ReplicationEntry entry : entriesOf(localRepository.load()).values()) {
+                        record(entry.withState(true, 0, LOCAL_ORIGIN));
+                    }
+                }
+                applyTo(loaded, entries.values());
+                configuration = loaded;
+
+                if (syncInterval > 0) {
+                    syncExecutor = Executors.newSingleThreadScheduledExecutor(ReplicatedRepository::newDaemonThread);
+                    syncExecutor.scheduleWithFixedDelay(this::sync, 0, syncInterval, TimeUnit.MILLISECONDS);
+                }
+                return loaded;
+            }
+        }
+        return snapshot();
+    }
+
+    @Override
+    public void persist(Configuration configuration) {
+        List<ReplicationEntry> changes = new ArrayList<>();
+        synchronized (this) {
+            Map<String, ReplicationEntry> current = entriesOf(configuration);
+
+            for (ReplicationEntry entry : current.values()) {
+                ReplicationEntry existing = entries.get(entry.getKey());
+                if (existing == null || !existing.isPresent()) {
+                    changes.add(entry.withState(true, tick(), origin));
+                }
+            }
+            for (ReplicationEntry existing : entries.values()) {
+                if (existing.isPresent() && !current.containsKey(existing.getKey())) {
+                    changes.add(existing.withState(false, tick(), origin));
+                }
+            }
+            changes.forEach(this::record);
+        }
+        persistLocally();
+        if (!changes.isEmpty()) {
+            push(changes);
+        }
+    }
+
+    @Override
+    public void clean() {
+        // removes only what this router keeps, other routers keep their registrations
+        synchronized (this) {
+            entries.clear();
+        }
+        if (localRepository != null) {
+            localRepository.clean();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (syncExecutor != null) {
+            syncExecutor.shutdownNow();
+        }
+        if (pushExecutor instanceof ExecutorService) {
+            ((ExecutorService) pushExecutor).shutdownNow();
+        }
+        if (localRepository != null) {
+            localRepository.close();
+        }
+    }
+
+    /**
+     * @return JSON with all entries applied by this router after given position of its change log
+     */
+    public synchronized String changesSince(long since) {
+        List<ReplicationEntry> changes = new ArrayList<>();
+        for (ReplicationEntry entry : entries.values()) {
+            if (entry.getSequence() > since) {
+                changes.add(entry);
+            }
+        }
+        try {
+            return toJson(changes, sequence).toString();
+        } catch (JSONException e) {
+            throw new IllegalStateException("Unable to write replication changes", e);
+        }
+    }
+
+    /**
+     * Merges changes pushed by or pulled from a peer, applies the ones that won to the live configuration and persists
+     * them locally.
+     * @return origin and position of the sending peer's change log, null when not included (pushed changes)
+     */
+    public String receive(String changes) throws JSONException {
+        JSONObject json = new JSONObject(changes);
+        JSONArray array = json.getJSONArray("entries");
+        List<ReplicationEntry> received = new ArrayList<>();
+        for (int i = 0; i < array.length(); i++) {
+            received.add(ReplicationEntry.fromJson(array.getJSONObject(i)));
+        }
+
+        List<ReplicationEntry> applied = new ArrayList<>();
+        Configuration live = configuration;
+        synchronized (live != null ? live : this) {
+            synchronized (this) {
+                for (ReplicationEntry entry : received) {
+                    clock = Math.max(clock, entry.getVersion());
+                    if (entry.isNewerThan(entries.get(entry.getKey()))) {
+                        record(entry);
+                        applied.add(entry);
+                    }
+                }
+                // configuration might have been loaded meanwhile
+                Configuration target = configuration;
+                if (target != null && !applied.isEmpty()) {
+                    log.debugf("Applying %s replicated changes", applied.size());
+                    applyTo(target, applied);
+                }
+            }
+        }
+        if (!applied.isEmpty()) {
+            persistLocally();
+        }
+        if (json.has("sequence")) {
+            return json.getString("origin") + ":" + json.getLong("sequence");
+        }
+        return null;
+    }
+
+    /**
+     * Pulls changes from all peers that were not seen yet.
+     */
+    public void sync() {
+        peers.forEach((name, peer) -> {
+            try {
+                PeerPosition position = peerPositions.getOrDefault(name, PeerPosition.INITIAL);
+                PeerPosition pulled = PeerPosition.of(receive(peer.pull(position.sequence)));
+                if (position.origin != null && !position.origin.equals(pulled.origin)) {
+                    // peer was restarted, its change log starts over
+                    pulled = PeerPosition.of(receive(peer.pull(0)));
+                }
+                peerPositions.put(name, pulled);
+            } catch (Exception e) {
+                log.debugf("Unable to pull configuration changes from %s due to %s", peer, e.getMessage());
+            }
+        });
+    }
+
+    protected void push(List<ReplicationEntry> changes) {
+        final String json;
+        try {
+            json = toJson(changes, -1).toString();
+        } catch (JSONException e) {
+            log.error("Unable to write replication changes", e);
+            return;
+        }
+        peers.forEach((name, peer) -> pushExecutor.execute(() -> {
+            try {
+                peer.push(json);
+            } catch (Exception e) {
+                // peer will pull the changes on next sync
+                log.debugf("Unable to push configuration changes to %s due to %s", peer, e.getMessage());
+            }
+        }));
+    }
+
+    private void persistLocally() {
+        if (localRepository != null) {
+            synchronized (persistLock) {
+                localRepository.persist(snapshot());
+            }
+        }
+    }
+
+    private JSONObject toJson(Collection<ReplicationEntry> changes, long sequence) throws JSONException {
+        JSONArray array = new JSONArray();
+        for (ReplicationEntry entry : changes) {
+            array.put(entry.toJson());
+        }
+        JSONObject json = new JSONObject();
+        json.put("origin", origin);
+        if (sequence >= 0) {
+            json.put("sequence", sequence);
+        }
+        json.put("entries", array);
+        return json;
+    }
+
+    private void record(ReplicationEntry entry) {
+        entry.setSequence(++sequence);
+        entries.put(entry.getKey(), entry);
+    }
+
+    private long tick() {
+        clock = Math.max(clock + 1, System.currentTimeMillis());
+        return clock;
+    }
+
+    private synchronized Configuration snapshot() {
+        Configuration snapshot = new Configuration();
+        applyTo(snapshot, entries.values());
+        return snapshot;
+    }
+
+    /*
+     * present registrations of given configuration keyed by entry key, versions are not set
+     */
+    private static Map<String, ReplicationEntry> entriesOf(Configuration configuration) {
+        Map<String, ReplicationEntry> current = new LinkedHashMap<>();
+        configuration.getHostsPerContainer().forEach((container, urls) -> urls.forEach(url -> {
+            ReplicationEntry entry = new ReplicationEntry(ReplicationEntry.CONTAINER, container, url, null, true, 0, LOCAL_ORIGIN);
+            current.put(entry.getKey(), entry);
+        }));
+        configuration.getHostsPerServer().forEach((server, urls) -> urls.forEach(url -> {
+            ReplicationEntry entry = new ReplicationEntry(ReplicationEntry.SERVER, server, url, null, true, 0, LOCAL_ORIGIN);
+            current.put(entry.getKey(), entry);
+        }));
+        configuration.getContainerInfosPerContainer().values().forEach(infos -> infos.forEach(info -> {
+            ReplicationEntry entry = new ReplicationEntry(ReplicationEntry.CONTAINER_INFO, info.getContainerId(), info.getAlias(), info.getReleaseId(), true, 0, LOCAL_ORIGIN);
+            current.put(entry.getKey(), entry);
+        }));
+        return current;
+    }
+
+    /*
+     * applies given entries one by one, hosts go first as removal of container info depends on them
+     */
+    private static void applyTo(Configuration configuration, Collection<ReplicationEntry> entries) {
+        List<ReplicationEntry> containerInfos = new ArrayList<>();
+        for (ReplicationEntry entry : entries) {
+            if (ReplicationEntry.CONTAINER.equals(entry.getType())) {
+                boolean known = configuration.getHostsPerContainer().getOrDefault(entry.getId(), Collections.emptyList()).contains(entry.getValue());
+                if (entry.isPresent() && !known) {
+                    configuration.addContainerHost(entry.getId(), entry.getValue());
+                } else if (!entry.isPresent() && known) {
+                    configuration.removeContainerHost(entry.getId(), entry.getValue());
+                }
+            } else if (ReplicationEntry.SERVER.equals(entry.getType())) {
+                boolean known = configuration.getHostsPerServer().getOrDefault(entry.getId(), Collections.emptyList()).contains(entry.getValue());
+                if (entry.isPresent() && !known) {
+                    configuration.addServerHost(entry.getId(), entry.getValue());
+                } else if (!entry.isPresent() && known) {
+                    configuration.removeServerHost(entry.getId(), entry.getValue());
+                }
+            } else {
+                containerInfos.add(entry);
+            }
+        }
+        for (ReplicationEntry entry : containerInfos) {
+            ContainerInfo containerInfo = new ContainerInfo(entry.getId(), entry.getValue(), entry.getReleaseId());
+            boolean known = configuration.getContainerInfosPerContainer().getOrDefault(entry.getId(), Collections.emptyList()).contains(containerInfo);
+            if (entry.isPresent() && !known) {
+                configuration.addContainerInfo(containerInfo);
+            } else if (!entry.isPresent() && known) {
+                configuration.removeContainerInfo(containerInfo);
+            }
+        }
+    }
+
+    private static Thread newDaemonThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "KIE Router Replication Thread");
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    @Override
+    public String toString() {
+        return "Replicated repository (peers " + peers.keySet() + ")";
+    }
+
+    private static class PeerPosition {
+
+        static final PeerPosition INITIAL = new PeerPosition(null, 0);
+
+        final String origin;
+        final long sequence;
+
+        PeerPosition(String origin, long sequence) {
+            this.origin = origin;
+            this.sequence = sequence;
+        }
+
+        static PeerPosition of(String position) {
+            int separator = position.lastIndexOf(':');
+            return new PeerPosition(position.substring(0, separator), Long.parseLong(position.substring(separator + 1)));
+        }
+    }
+}
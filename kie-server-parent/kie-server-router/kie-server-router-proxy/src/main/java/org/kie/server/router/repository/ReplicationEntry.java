@@ -0,0 +1,136 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.server.router.repository;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+/**
+ * Single registration replicated between routers - container host, server host or container info - together
+ * with its version. Removed registrations are kept as entries that are not present (tombstones) so removals
+ * replicate the same way as additions. Of two entries with the same key the one with higher version wins,
+ * ties are broken by id of the router that made the change.
+ */
+public class ReplicationEntry {
+
+    public static final String CONTAINER = "container";
+    public static final String SERVER = "server";
+    public static final String CONTAINER_INFO = "containerInfo";
+
+    private final String type;
+    // container id, server id or container id of container info
+    private final String id;
+    // server url or alias of container info
+    private final String value;
+    private final String releaseId;
+
+    private final boolean present;
+    private final long version;
+    private final String origin;
+
+    // position of the entry in the change log of the local router, not replicated
+    private long sequence;
+
+    public ReplicationEntry(String type, String id, String value, String releaseId, boolean present, long version, String origin) {
+        this.type = type;
+        this.id = id;
+        this.value = value;
+        this.releaseId = releaseId;
+        this.present = present;
+        this.version = version;
+        this.origin = origin;
+    }
+
+    public static ReplicationEntry fromJson(JSONObject json) throws JSONException {
+        return new ReplicationEntry(json.getString("type"),
+                                    json.getString("id"),
+                                    json.getString("value"),
+                                    json.optString("releaseId", null),
+                                    json.getBoolean("present"),
+                                    json.getLong("version"),
+                                    json.getString("origin"));
+    }
+
+    public JSONObject toJson() throws JSONException {
+        JSONObject json = new JSONObject();
+        json.put("type", type);
+        json.put("id", id);
+        json.put("value", value);
+        if (releaseId != null) {
+            json.put("releaseId", releaseId);
+        }
+        json.put("present", present);
+        json.put("version", version);
+        json.put("origin", origin);
+        return json;
+    }
+
+    public String getKey() {
+        return type + "\n" + id + "\n" + value + "\n" + releaseId;
+    }
+
+    public ReplicationEntry withState(boolean present, long version, String origin) {
+        return new ReplicationEntry(type, id, value, releaseId, present, version, origin);
+    }
+
+    public boolean isNewerThan(ReplicationEntry other) {
+        if (other == null || version != other.version) {
+            return other == null || version > other.version;
+        }
+        return origin.compareTo(other.origin) > 0;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public String getReleaseId() {
+        return releaseId;
+    }
+
+    public boolean isPresent() {
+        return present;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    long getSequence() {
+        return sequence;
+    }
+
+    void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    @Override
+    public String toString() {
+        return "ReplicationEntry{" + type + " " + id + " -> " + value + (present ? "" : " (removed)") + ", version=" + version + ", origin=" + origin + "}";
+    }
+}
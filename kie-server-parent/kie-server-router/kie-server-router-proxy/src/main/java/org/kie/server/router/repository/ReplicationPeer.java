@@ -0,0 +1,35 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.server.router.repository;
+
+/**
+ * Other router that configuration changes are replicated to and pulled from.
+ */
+public interface ReplicationPeer {
+
+    /**
+     * Sends changes made or received by this router to the peer.
+     * @param changes changes as produced by {@link ReplicatedRepository#changesSince(long)}
+     */
+    void push(String changes) throws Exception;
+
+    /**
+     * Retrieves changes applied by the peer after given position of its change log.
+     * @param since last position of peer's change log already received from it
+     * @return changes as produced by {@link ReplicatedRepository#changesSince(long)}
+     */
+    String pull(long since) throws Exception;
+}
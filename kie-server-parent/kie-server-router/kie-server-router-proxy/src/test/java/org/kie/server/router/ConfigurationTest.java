@@ -15,6 +15,9 @@
 
 package org.kie.server.router;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.Test;
 import org.kie.server.router.spi.ConfigRepository;
 
@@ -372,4 +375,69 @@ public class ConfigurationTest {
         Assertions.assertThat(config.getHostsPerContainer().get("container1")).hasSize(1);
         Assertions.assertThat(config.getHostsPerServer().get("server1")).hasSize(1);
     }
+
+    @Test
+    public void testReloadFromNotifiesOnlyChanges() {
+
+        Configuration config = new Configuration();
+        config.addContainerHost("container1", "http://localhost:8080/server");
+        config.addContainerHost("container1", "http://localhost:8180/server");
+        config.addServerHost("server1", "http://localhost:8080/server");
+        config.addServerHost("server2", "http://localhost:8180/server");
+        config.addContainerInfo(new ContainerInfo("test1.0", "test", "org.kie:test:1.0"));
+
+        List<String> events = new ArrayList<>();
+        config.addListener(new ConfigurationListener() {
+
+            @Override
+            public void onContainerAdded(String container, String serverUrl) {
+                events.add("container added " + container + " " + serverUrl);
+            }
+
+            @Override
+            public void onContainerRemoved(String container, String serverUrl) {
+                events.add("container removed " + container + " " + serverUrl);
+            }
+
+            @Override
+            public void onServerAdded(String serverId, String serverUrl) {
+                events.add("server added " + serverId + " " + serverUrl);
+            }
+
+            @Override
+            public void onServerRemoved(String serverId, String serverUrl) {
+                events.add("server removed " + serverId + " " + serverUrl);
+            }
+
+            @Override
+            public void onConfigurationReloaded() {
+                events.add("reloaded");
+            }
+        });
+
+        Configuration same = new Configuration();
+        same.addContainerHost("container1", "http://localhost:8080/server");
+        same.addContainerHost("container1", "http://localhost:8180/server");
+        same.addServerHost("server1", "http://localhost:8080/server");
+        same.addServerHost("server2", "http://localhost:8180/server");
+        same.addContainerInfo(new ContainerInfo("test1.0", "test", "org.kie:test:1.0"));
+
+        config.reloadFrom(same);
+        Assertions.assertThat(events).isEmpty();
+
+        Configuration updated = new Configuration();
+        updated.addContainerHost("container1", "http://localhost:8180/server");
+        updated.addContainerHost("container1", "http://localhost:8280/server");
+        updated.addServerHost("server2", "http://localhost:8180/server");
+        updated.addServerHost("server3", "http://localhost:8280/server");
+        updated.addContainerInfo(new ContainerInfo("test1.0", "test", "org.kie:test:1.0"));
+
+        config.reloadFrom(updated);
+        Assertions.assertThat(events).containsExactly("server removed server1 http://localhost:8080/server",
+                                                      "server added server3 http://localhost:8280/server",
+                                                      "container removed container1 http://localhost:8080/server",
+                                                      "container added container1 http://localhost:8280/server",
+                                                      "reloaded");
+        Assertions.assertThat(config.getHostsPerContainer().get("container1")).containsExactly("http://localhost:8180/server", "http://localhost:8280/server");
+    }
 }
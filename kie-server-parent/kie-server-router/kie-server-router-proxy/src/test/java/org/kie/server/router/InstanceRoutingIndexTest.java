@@ -0,0 +1,85 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.server.router;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class InstanceRoutingIndexTest {
+
+    @Test
+    public void testKeyOfSingleInstanceRequests() {
+        assertEquals("process:5", InstanceRoutingIndex.keyOf("/queries/processes/instances/5"));
+        assertEquals("process:5", InstanceRoutingIndex.keyOf("/queries/processes/instances/5/variables/instances"));
+        assertEquals("task:12", InstanceRoutingIndex.keyOf("/queries/tasks/instances/12/events"));
+        assertEquals("case:CASE-0000000001", InstanceRoutingIndex.keyOf("/queries/cases/instances/CASE-0000000001/caseFile"));
+        assertEquals("job:3", InstanceRoutingIndex.keyOf("/jobs/3"));
+    }
+
+    @Test
+    public void testKeyOfListRequests() {
+        assertNull(InstanceRoutingIndex.keyOf("/queries/processes/instances"));
+        assertNull(InstanceRoutingIndex.keyOf("/queries/tasks/instances/pot-owners"));
+        assertNull(InstanceRoutingIndex.keyOf("/queries/processes/instances/correlation/key"));
+        assertNull(InstanceRoutingIndex.keyOf("/queries/cases/instances"));
+        assertNull(InstanceRoutingIndex.keyOf("/jobs"));
+    }
+
+    @Test
+    public void testCreatedInstanceType() {
+        assertEquals(InstanceRoutingIndex.PROCESS_INSTANCE, InstanceRoutingIndex.createdInstanceType("POST", "/containers/evaluation/processes/evaluation/instances"));
+        assertEquals(InstanceRoutingIndex.CASE, InstanceRoutingIndex.createdInstanceType("POST", "/containers/insurance/cases/claim/instances"));
+        assertEquals(InstanceRoutingIndex.JOB, InstanceRoutingIndex.createdInstanceType("POST", "/jobs"));
+        assertNull(InstanceRoutingIndex.createdInstanceType("GET", "/containers/evaluation/processes/evaluation/instances"));
+        assertNull(InstanceRoutingIndex.createdInstanceType("POST", "/containers/evaluation/processes/instances/5/signal/start"));
+    }
+
+    @Test
+    public void testParseCreatedId() {
+        assertEquals("5", InstanceRoutingIndex.parseCreatedId(InstanceRoutingIndex.PROCESS_INSTANCE, "5"));
+        assertEquals("5", InstanceRoutingIndex.parseCreatedId(InstanceRoutingIndex.PROCESS_INSTANCE,
+                                                              "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n<long-type>\n    <value>5</value>\n</long-type>"));
+        assertEquals("5", InstanceRoutingIndex.parseCreatedId(InstanceRoutingIndex.PROCESS_INSTANCE, "<long>5</long>"));
+        assertEquals("CASE-0000000001", InstanceRoutingIndex.parseCreatedId(InstanceRoutingIndex.CASE, "\"CASE-0000000001\""));
+        assertNull(InstanceRoutingIndex.parseCreatedId(InstanceRoutingIndex.PROCESS_INSTANCE, "{ \"type\" : \"FAILURE\" }"));
+    }
+
+    @Test
+    public void testInstanceSeenOnMoreServersIsNotRouted() {
+        InstanceRoutingIndex index = new InstanceRoutingIndex(100);
+        index.register("process:5", "server1");
+        index.register("process:5", "server1");
+        assertEquals("server1", index.getServerId("process:5"));
+
+        index.register("process:5", "server2");
+        assertNull(index.getServerId("process:5"));
+    }
+
+    @Test
+    public void testIndexIsBounded() {
+        InstanceRoutingIndex index = new InstanceRoutingIndex(2);
+        index.register("process:1", "server1");
+        index.register("process:2", "server1");
+        index.getServerId("process:1");
+        index.register("process:3", "server1");
+
+        assertEquals(2, index.size());
+        assertEquals("server1", index.getServerId("process:1"));
+        assertNull(index.getServerId("process:2"));
+    }
+}
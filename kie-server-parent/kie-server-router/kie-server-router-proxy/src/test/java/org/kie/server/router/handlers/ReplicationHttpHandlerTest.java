@@ -0,0 +1,128 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.server.router.handlers;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.Collections;
+
+import io.undertow.Undertow;
+import io.undertow.server.handlers.BlockingHandler;
+import io.undertow.server.handlers.PathHandler;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.server.router.Configuration;
+import org.kie.server.router.ContainerInfo;
+import org.kie.server.router.repository.HttpReplicationPeer;
+import org.kie.server.router.repository.ReplicatedRepository;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ReplicationHttpHandlerTest {
+
+    private static final String SERVER_URL = "http://localhost:8080/server";
+
+    private ReplicatedRepository local;
+    private ReplicatedRepository remote;
+    private HttpReplicationPeer remotePeer;
+    private Undertow server;
+
+    @Before
+    public void setup() throws IOException {
+        local = new ReplicatedRepository(null, Runnable::run, 0);
+        remote = new ReplicatedRepository(null, Runnable::run, 0);
+
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        PathHandler pathHandler = new PathHandler();
+        pathHandler.addPrefixPath("/mgmt/replication", new ReplicationHttpHandler(remote));
+        server = Undertow.builder()
+                .addHttpListener(port, "localhost")
+                .setHandler(new BlockingHandler(pathHandler))
+                .build();
+        server.start();
+
+        remotePeer = new HttpReplicationPeer("http://localhost:" + port + "/");
+        local.addPeer("remote", remotePeer);
+    }
+
+    @After
+    public void tearDown() {
+        server.stop();
+        local.close();
+        remote.close();
+    }
+
+    @Test
+    public void testChangesArePushedOverHttp() {
+        Configuration localConfig = local.load();
+        Configuration remoteConfig = remote.load();
+
+        register(local, localConfig, "container1", SERVER_URL);
+        assertEquals(Collections.singletonList(SERVER_URL), remoteConfig.getHostsPerContainer().get("container1"));
+        assertTrue(remoteConfig.getContainerInfosPerContainer().containsKey("container1"));
+
+        unregister(local, localConfig, "container1", SERVER_URL);
+        assertTrue(remoteConfig.getHostsPerContainer().getOrDefault("container1", Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    public void testChangesArePulledOverHttp() {
+        Configuration localConfig = local.load();
+        Configuration remoteConfig = remote.load();
+
+        register(remote, remoteConfig, "container1", SERVER_URL);
+        local.sync();
+        assertEquals(Collections.singletonList(SERVER_URL), localConfig.getHostsPerContainer().get("container1"));
+
+        unregister(remote, remoteConfig, "container1", SERVER_URL);
+        local.sync();
+        assertTrue(localConfig.getHostsPerContainer().getOrDefault("container1", Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    public void testRejectedPushFails() throws Exception {
+        try {
+            remotePeer.push("not json");
+            fail("Push of invalid changes should fail");
+        } catch (IOException e) {
+            assertTrue(e.getMessage().contains("500"));
+        }
+    }
+
+    private static void register(ReplicatedRepository repository, Configuration configuration, String containerId, String serverUrl) {
+        synchronized (configuration) {
+            configuration.addContainerHost(containerId, serverUrl);
+            configuration.addServerHost("server-" + containerId, serverUrl);
+            configuration.addContainerInfo(new ContainerInfo(containerId, "alias-" + containerId, "org.kie:" + containerId + ":1.0"));
+            repository.persist(configuration);
+        }
+    }
+
+    private static void unregister(ReplicatedRepository repository, Configuration configuration, String containerId, String serverUrl) {
+        synchronized (configuration) {
+            configuration.removeContainerHost(containerId, serverUrl);
+            configuration.removeServerHost("server-" + containerId, serverUrl);
+            configuration.removeContainerInfo(new ContainerInfo(containerId, "alias-" + containerId, "org.kie:" + containerId + ":1.0"));
+            repository.persist(configuration);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.router.proxy;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.undertow.server.HttpServerExchange;
+import io.undertow.server.ServerConnection;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.server.router.ContainerInfo;
+import org.kie.server.router.spi.ContainerResolver;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DefaultContainerResolverTest {
+
+    @Mock
+    private ServerConnection serverConnection;
+
+    private DefaultContainerResolver containerResolver;
+    private Map<String, List<ContainerInfo>> containerInfoPerContainer;
+
+    @Before
+    public void setup() {
+        containerResolver = new DefaultContainerResolver();
+        containerInfoPerContainer = new HashMap<>();
+        ContainerInfo containerInfo = new ContainerInfo("evaluation_1.0.0", "evaluation", "org.jbpm:evaluation:1.0.0");
+        containerInfoPerContainer.put(containerInfo.getContainerId(), Collections.singletonList(containerInfo));
+        containerInfoPerContainer.put(containerInfo.getAlias(), Collections.singletonList(containerInfo));
+    }
+
+    @Test
+    public void testResolveContainerId() {
+        assertEquals("evaluation_1.0.0", resolve("/containers/evaluation_1.0.0"));
+        assertEquals("evaluation_1.0.0", resolve("/containers/evaluation_1.0.0/processes/evaluation/instances"));
+        assertEquals("evaluation_1.0.0", resolve("/queries/containers/evaluation_1.0.0/process/instances"));
+    }
+
+    @Test
+    public void testResolveContainerAlias() {
+        assertEquals("evaluation", resolve("/containers/evaluation/dmn"));
+    }
+
+    @Test
+    public void testResolveContainerIdOfInstancesResource() {
+        assertEquals("other", resolve("/containers/instances/other"));
+        assertEquals("other", resolve("/queries/containers/instances/other/tasks"));
+    }
+
+    @Test
+    public void testLastContainersSegmentWins() {
+        assertEquals("evaluation", resolve("/containers/other/containers/evaluation"));
+    }
+
+    @Test
+    public void testSegmentsArePrefixSensitive() {
+        assertEquals(ContainerResolver.NOT_FOUND, resolve("/mycontainers/evaluation"));
+        assertEquals(ContainerResolver.NOT_FOUND, resolve("/containersx/evaluation"));
+        assertEquals(ContainerResolver.NOT_FOUND, resolve("/containers/"));
+        assertEquals(ContainerResolver.NOT_FOUND, resolve("/containers"));
+    }
+
+    @Test
+    public void testFallbackToQueryParameter() {
+        HttpServerExchange exchange = makeHttpServerExchange("/queries/processes/instances");
+        exchange.addQueryParam("containerId", "evaluation");
+
+        assertEquals("evaluation", containerResolver.resolveContainerId(exchange, containerInfoPerContainer));
+    }
+
+    @Test
+    public void testUnknownContainerWithoutQueryParameter() {
+        assertEquals(ContainerResolver.NOT_FOUND, resolve("/containers/unknown/processes"));
+        assertEquals(ContainerResolver.NOT_FOUND, resolve("/queries/processes/instances"));
+    }
+
+    private String resolve(String relativePath) {
+        return containerResolver.resolveContainerId(makeHttpServerExchange(relativePath), containerInfoPerContainer);
+    }
+
+    private HttpServerExchange makeHttpServerExchange(final String relativePath) {
+        final HttpServerExchange exchange = new HttpServerExchange(serverConnection);
+        exchange.setRelativePath(relativePath);
+        return exchange;
+    }
+}
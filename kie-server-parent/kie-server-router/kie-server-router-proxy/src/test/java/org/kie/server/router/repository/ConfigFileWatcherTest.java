@@ -0,0 +1,139 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.server.router.repository;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.UUID;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.server.router.Configuration;
+import org.kie.server.router.KieServerRouterConstants;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class ConfigFileWatcherTest {
+
+    private static final String SERVER_URL = "http://localhost:8080/server";
+    private static final String OTHER_SERVER_URL = "http://localhost:8180/server";
+
+    private ConfigurationMarshaller marshaller = new ConfigurationMarshaller();
+    private File repositoryDirectory;
+    private File configFile;
+
+    @Before
+    public void setup() {
+        repositoryDirectory = new File("target" + File.separator + UUID.randomUUID().toString());
+        repositoryDirectory.mkdirs();
+        configFile = new File(repositoryDirectory, "kie-server-router.json");
+    }
+
+    @After
+    public void cleanup() {
+        System.clearProperty(KieServerRouterConstants.CONFIG_FILE_WATCHER_ENABLED);
+    }
+
+    @Test
+    public void testPartiallyWrittenFileIsSkipped() throws Exception {
+        write(configuration("container1", SERVER_URL));
+        Configuration live = configuration("container1", SERVER_URL);
+        ConfigFileWatcher watcher = new ConfigFileWatcher(repositoryDirectory.getAbsolutePath(), marshaller, live);
+
+        String updated = marshaller.marshall(configuration("container2", OTHER_SERVER_URL));
+        Files.write(configFile.toPath(), updated.substring(0, updated.length() / 2).getBytes(StandardCharsets.UTF_8));
+        watcher.reload(true);
+
+        assertEquals(Collections.singletonList(SERVER_URL), live.getHostsPerContainer().get("container1"));
+
+        Files.write(configFile.toPath(), updated.getBytes(StandardCharsets.UTF_8));
+        watcher.reload(true);
+
+        assertTrue(live.getHostsPerContainer().getOrDefault("container1", Collections.emptyList()).isEmpty());
+        assertEquals(Collections.singletonList(OTHER_SERVER_URL), live.getHostsPerContainer().get("container2"));
+    }
+
+    @Test
+    public void testUnreadableFileIsReadAgainOnlyWhenModified() throws Exception {
+        write(configuration("container1", SERVER_URL));
+        Configuration live = configuration("container1", SERVER_URL);
+        ConfigFileWatcher watcher = new ConfigFileWatcher(repositoryDirectory.getAbsolutePath(), marshaller, live);
+        long modified = configFile.lastModified() + 10000;
+
+        Files.write(configFile.toPath(), "{ broken".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(configFile.toPath(), FileTime.fromMillis(modified));
+        watcher.reload(false);
+        assertEquals(Collections.singletonList(SERVER_URL), live.getHostsPerContainer().get("container1"));
+
+        // interval check does not read the file again while its modification time stays the same
+        write(configuration("container2", OTHER_SERVER_URL));
+        Files.setLastModifiedTime(configFile.toPath(), FileTime.fromMillis(modified));
+        watcher.reload(false);
+        assertTrue(live.getHostsPerContainer().getOrDefault("container2", Collections.emptyList()).isEmpty());
+
+        Files.setLastModifiedTime(configFile.toPath(), FileTime.fromMillis(modified + 10000));
+        watcher.reload(false);
+        assertEquals(Collections.singletonList(OTHER_SERVER_URL), live.getHostsPerContainer().get("container2"));
+    }
+
+    @Test
+    public void testChangeBackToPreviouslyReadContentIsApplied() throws Exception {
+        Configuration initial = configuration("container1", SERVER_URL);
+        write(initial);
+
+        System.setProperty(KieServerRouterConstants.CONFIG_FILE_WATCHER_ENABLED, "true");
+        FileRepository repository = new FileRepository(repositoryDirectory);
+        Configuration live = repository.load();
+        ConfigFileWatcher watcher = repository.getWatcher();
+        assertNotNull(watcher);
+        try {
+            synchronized (live) {
+                live.addContainerHost("container2", OTHER_SERVER_URL);
+                repository.persist(live);
+            }
+            // written atomically, no temporary file is left behind
+            assertEquals(1, repositoryDirectory.listFiles().length);
+            watcher.reload(true);
+            assertEquals(Collections.singletonList(OTHER_SERVER_URL), live.getHostsPerContainer().get("container2"));
+
+            // other router removes the container again, the file gets its initial content back
+            write(initial);
+            watcher.reload(true);
+
+            assertTrue(live.getHostsPerContainer().getOrDefault("container2", Collections.emptyList()).isEmpty());
+            assertEquals(Collections.singletonList(SERVER_URL), live.getHostsPerContainer().get("container1"));
+        } finally {
+            repository.close();
+        }
+    }
+
+    private void write(Configuration configuration) throws Exception {
+        Files.write(configFile.toPath(), marshaller.marshall(configuration).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Configuration configuration(String containerId, String serverUrl) {
+        Configuration configuration = new Configuration();
+        configuration.addContainerHost(containerId, serverUrl);
+        configuration.addServerHost("server-" + containerId, serverUrl);
+        return configuration;
+    }
+}
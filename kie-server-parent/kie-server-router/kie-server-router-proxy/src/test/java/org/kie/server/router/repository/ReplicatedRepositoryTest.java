@@ -0,0 +1,245 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.server.router.repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.server.router.Configuration;
+import org.kie.server.router.ConfigurationListener;
+import org.kie.server.router.ContainerInfo;
+import org.kie.server.router.spi.ConfigRepository;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ReplicatedRepositoryTest {
+
+    private static final String SERVER_URL = "http://localhost:8080/server";
+    private static final String OTHER_SERVER_URL = "http://localhost:8180/server";
+
+    private ReplicatedRepository router1;
+    private ReplicatedRepository router2;
+    private ReplicatedRepository router3;
+
+    @Before
+    public void setup() {
+        // changes are pushed in the calling thread and pulled only on explicit sync
+        router1 = new ReplicatedRepository(null, Runnable::run, 0);
+        router2 = new ReplicatedRepository(null, Runnable::run, 0);
+        router3 = new ReplicatedRepository(null, Runnable::run, 0);
+    }
+
+    @Test
+    public void testRegistrationIsPushedToPeers() {
+        connect(router1, router2);
+        connect(router1, router3);
+        connect(router2, router1);
+        Configuration config1 = router1.load();
+        Configuration config2 = router2.load();
+        Configuration config3 = router3.load();
+        RecordingListener listener = new RecordingListener();
+        config2.addListener(listener);
+
+        register(router1, config1, "container1", "server1", SERVER_URL);
+
+        assertRegistered(config2, "container1", "server1", SERVER_URL);
+        assertRegistered(config3, "container1", "server1", SERVER_URL);
+        assertEquals(1, config2.getContainerInfosPerContainer().get("container1").size());
+        assertEquals(2, listener.events.size());
+
+        unregister(router2, config2, "container1", "server1", SERVER_URL);
+
+        assertFalse(config1.getHostsPerContainer().get("container1").contains(SERVER_URL));
+        assertFalse(config1.getHostsPerServer().get("server1").contains(SERVER_URL));
+        assertFalse(config1.getContainerInfosPerContainer().containsKey("container1"));
+        // router3 is not a peer of router2 so it is not updated until it syncs
+        assertTrue(config3.getHostsPerContainer().get("container1").contains(SERVER_URL));
+    }
+
+    @Test
+    public void testRouterCatchesUpOnSync() {
+        connect(router1, router2);
+        connect(router3, router1);
+        Configuration config1 = router1.load();
+        Configuration config3 = router3.load();
+
+        register(router1, config1, "container1", "server1", SERVER_URL);
+        register(router1, config1, "container2", "server2", OTHER_SERVER_URL);
+        unregister(router1, config1, "container1", "server1", SERVER_URL);
+
+        router3.sync();
+
+        assertFalse(config3.getHostsPerContainer().getOrDefault("container1", Collections.emptyList()).contains(SERVER_URL));
+        assertRegistered(config3, "container2", "server2", OTHER_SERVER_URL);
+
+        RecordingListener listener = new RecordingListener();
+        config3.addListener(listener);
+        router3.sync();
+        assertTrue(listener.events.isEmpty());
+    }
+
+    @Test
+    public void testConcurrentChangesConverge() {
+        connect(router1, router2);
+        connect(router2, router1);
+        Configuration config1 = router1.load();
+        Configuration config2 = router2.load();
+        register(router1, config1, "container1", "server1", SERVER_URL);
+
+        // both routers change the same registration without reaching each other
+        router1.removePeer(peerName(router2));
+        router2.removePeer(peerName(router1));
+        unregister(router1, config1, "container1", "server1", SERVER_URL);
+        unregister(router2, config2, "container1", "server1", SERVER_URL);
+        register(router2, config2, "container1", "server1", SERVER_URL);
+
+        connect(router1, router2);
+        connect(router2, router1);
+        router1.sync();
+        router2.sync();
+
+        assertEquals(config1.getHostsPerContainer().get("container1"), config2.getHostsPerContainer().get("container1"));
+        assertEquals(config1.getHostsPerServer().get("server1"), config2.getHostsPerServer().get("server1"));
+        assertEquals(config1.getContainerInfosPerContainer().containsKey("container1"), config2.getContainerInfosPerContainer().containsKey("container1"));
+    }
+
+    @Test
+    public void testLoadReturnsCurrentState() {
+        connect(router1, router2);
+        Configuration config1 = router1.load();
+        Configuration config2 = router2.load();
+        register(router1, config1, "container1", "server1", SERVER_URL);
+
+        Configuration loaded = router2.load();
+
+        assertRegistered(loaded, "container1", "server1", SERVER_URL);
+        assertEquals(config2.getHostsPerContainer(), loaded.getHostsPerContainer());
+    }
+
+    @Test
+    public void testReplicatedChangesArePersistedLocally() {
+        InMemoryRepository localRepository = new InMemoryRepository();
+        router2 = new ReplicatedRepository(localRepository, Runnable::run, 0);
+        connect(router1, router2);
+        Configuration config1 = router1.load();
+        router2.load();
+
+        register(router1, config1, "container1", "server1", SERVER_URL);
+        assertRegistered(localRepository.persisted, "container1", "server1", SERVER_URL);
+
+        unregister(router1, config1, "container1", "server1", SERVER_URL);
+        assertFalse(localRepository.persisted.getHostsPerContainer().getOrDefault("container1", Collections.emptyList()).contains(SERVER_URL));
+
+        // restarted router starts from what it received
+        ReplicatedRepository restarted = new ReplicatedRepository(localRepository, Runnable::run, 0);
+        register(router1, config1, "container2", "server2", OTHER_SERVER_URL);
+        assertRegistered(restarted.load(), "container2", "server2", OTHER_SERVER_URL);
+    }
+
+    private static void connect(ReplicatedRepository from, ReplicatedRepository to) {
+        from.addPeer(peerName(to), new ReplicationPeer() {
+            @Override
+            public void push(String changes) throws Exception {
+                to.receive(changes);
+            }
+
+            @Override
+            public String pull(long since) {
+                return to.changesSince(since);
+            }
+        });
+    }
+
+    private static String peerName(ReplicatedRepository repository) {
+        return "router-" + System.identityHashCode(repository);
+    }
+
+    private static void register(ReplicatedRepository repository, Configuration configuration, String containerId, String serverId, String serverUrl) {
+        synchronized (configuration) {
+            configuration.reloadFromRepository(repository);
+            configuration.addContainerHost(containerId, serverUrl);
+            configuration.addServerHost(serverId, serverUrl);
+            configuration.addContainerInfo(new ContainerInfo(containerId, "alias-" + containerId, "org.kie:" + containerId + ":1.0"));
+            repository.persist(configuration);
+        }
+    }
+
+    private static void unregister(ReplicatedRepository repository, Configuration configuration, String containerId, String serverId, String serverUrl) {
+        synchronized (configuration) {
+            configuration.reloadFromRepository(repository);
+            configuration.removeContainerHost(containerId, serverUrl);
+            configuration.removeServerHost(serverId, serverUrl);
+            configuration.removeContainerInfo(new ContainerInfo(containerId, "alias-" + containerId, "org.kie:" + containerId + ":1.0"));
+            repository.persist(configuration);
+        }
+    }
+
+    private static void assertRegistered(Configuration configuration, String containerId, String serverId, String serverUrl) {
+        assertEquals(Collections.singletonList(serverUrl), configuration.getHostsPerContainer().get(containerId));
+        assertEquals(Collections.singletonList(serverUrl), configuration.getHostsPerServer().get(serverId));
+        assertTrue(configuration.getContainerInfosPerContainer().containsKey(containerId));
+    }
+
+    private static class InMemoryRepository implements ConfigRepository {
+
+        private volatile Configuration persisted = new Configuration();
+
+        @Override
+        public void persist(Configuration configuration) {
+            persisted = configuration;
+        }
+
+        @Override
+        public Configuration load() {
+            return persisted;
+        }
+
+        @Override
+        public void clean() {
+            persisted = new Configuration();
+        }
+    }
+
+    private static class RecordingListener implements ConfigurationListener {
+
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public void onContainerAdded(String container, String serverUrl) {
+            events.add("container added " + container);
+        }
+
+        @Override
+        public void onContainerRemoved(String container, String serverUrl) {
+            events.add("container removed " + container);
+        }
+
+        @Override
+        public void onServerAdded(String serverId, String serverUrl) {
+            events.add("server added " + serverId);
+        }
+
+        @Override
+        public void onServerRemoved(String serverId, String serverUrl) {
+            events.add("server removed " + serverId);
+        }
+    }
+}
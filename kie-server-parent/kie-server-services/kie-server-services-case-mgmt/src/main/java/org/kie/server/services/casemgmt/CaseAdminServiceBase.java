@@ -22,6 +22,7 @@ import org.jbpm.casemgmt.api.admin.CaseInstanceMigrationService;
 import org.jbpm.casemgmt.api.admin.CaseMigrationReport;
 import org.kie.server.api.model.cases.CaseMigrationReportInstance;
 import org.kie.server.services.api.KieServerRegistry;
+import org.kie.server.services.impl.locator.ContainerLookupCache;
 import org.kie.server.services.impl.marshal.MarshallerHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -57,6 +58,8 @@ public class CaseAdminServiceBase {
                      caseId, containerId, targetContainerId, processMapping, nodeMapping);
         
         CaseMigrationReport report = caseInstanceMigrationService.migrate(caseId, targetContainerId, processMapping, nodeMapping);
+        // case, its process instances and tasks no longer belong to the source container
+        ContainerLookupCache.invalidateContainer(containerId);
         logger.debug("Migration of case instance {} finished with report {}", caseId, report);
         return ConvertUtils.convertCaseMigrationReport(caseId, report);
     }
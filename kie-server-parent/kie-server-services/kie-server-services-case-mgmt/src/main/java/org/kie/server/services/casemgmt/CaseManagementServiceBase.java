@@ -56,6 +56,7 @@ import org.kie.server.services.api.KieServerRegistry;
 import org.kie.server.services.casemgmt.locator.ByCaseIdContainerLocator;
 import org.kie.server.services.impl.KieContainerInstanceImpl;
 import org.kie.server.services.impl.locator.ContainerLocatorProvider;
+import org.kie.server.services.impl.locator.ContainerLookupCache;
 import org.kie.server.services.impl.marshal.MarshallerHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -207,6 +208,8 @@ public class CaseManagementServiceBase {
         Map<String, Object> data = marshallerHelper.unmarshal(containerId, payload, marshallingType, Map.class);
 
         caseService.reopenCase(caseId, containerId, caseDefinitionId, data);
+        // reopened case might live in another container than the one cached for it
+        ContainerLookupCache.get(ContainerLookupCache.CASE).remove(caseId);
         logger.debug("Case {} successfully reopened", caseId);
 
     }
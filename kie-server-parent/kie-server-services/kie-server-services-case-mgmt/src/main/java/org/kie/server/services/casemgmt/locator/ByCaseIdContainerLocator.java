@@ -24,6 +24,7 @@ import org.jbpm.runtime.manager.impl.jpa.EntityManagerFactoryManager;
 import org.kie.server.api.KieServerConstants;
 import org.kie.server.services.api.ContainerLocator;
 import org.kie.server.services.api.KieContainerInstance;
+import org.kie.server.services.impl.locator.ContainerLookupCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -32,6 +33,7 @@ import org.slf4j.LoggerFactory;
  * To improve performance the operation of locating the container id is done only once
  * and stored as part of the instance of this class so in case of multiple method calls will require it
  * single instance of this class should be used to avoid too many look ups.
+ * Found container ids are also kept in server wide ContainerLookupCache shared by all instances.
  */
 public class ByCaseIdContainerLocator implements ContainerLocator {
 
@@ -39,6 +41,8 @@ public class ByCaseIdContainerLocator implements ContainerLocator {
 
     // Distinct added for the purpose of reopening a case
     private static final String CONTAINER_ID_QUERY = "select distinct log.externalId from ProcessInstanceLog log where log.correlationKey = :caseId";
+    private static final ContainerLookupCache cache = ContainerLookupCache.get(ContainerLookupCache.CASE);
+
     private String caseId;
 
     private String containerId;
@@ -54,6 +58,13 @@ public class ByCaseIdContainerLocator implements ContainerLocator {
             return containerId;
         }
         logger.debug("Searching for container id for case id {} and alias {}", caseId, alias);
+        containerId = cache.getContainerId(caseId);
+        if (containerId != null) {
+            return containerId;
+        }
+        if (cache.isNotFound(caseId)) {
+            throw new IllegalArgumentException("Case with id " + caseId + " not found");
+        }
         EntityManager em = EntityManagerFactoryManager.get().getOrCreate(KieServerConstants.KIE_SERVER_PERSISTENCE_UNIT_NAME).createEntityManager();
 
         try {
@@ -62,9 +73,11 @@ public class ByCaseIdContainerLocator implements ContainerLocator {
                     .setParameter("caseId", caseId)
                     .getSingleResult();
             logger.debug("Found container id '{}' for case id {}", containerId, caseId);
+            cache.put(caseId, containerId);
             return containerId;
 
         } catch (NoResultException e) {
+            cache.putNotFound(caseId);
             throw new IllegalArgumentException("Case with id " + caseId + " not found");
         } catch (NonUniqueResultException e) {
             throw new IllegalArgumentException("Multiple containerIds found for caseId " + caseId);
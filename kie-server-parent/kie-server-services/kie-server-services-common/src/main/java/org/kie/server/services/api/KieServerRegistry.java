@@ -42,6 +42,14 @@ public interface KieServerRegistry {
 
     List<KieContainerInstanceImpl> getContainersForAlias(String alias);
 
+    /**
+     * Notifies registry that status or release id of given registered container changed
+     * so resolution of its alias can be updated.
+     * @param id container id
+     */
+    default void refreshContainer(String id) {
+    }
+
     void registerIdentityProvider(IdentityProvider identityProvider);
 
     IdentityProvider unregisterIdentityProvider();
@@ -15,6 +15,9 @@
 
 package org.kie.server.services.impl;
 
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 
 import org.kie.server.api.KieServerEnvironment;
@@ -49,10 +52,28 @@ public class ContainerManager {
             }
         }
         currentState.setContainers(containers);
+        currentState.acknowledgeControllerVersion(kieServerSetup.getChangeLogId(), kieServerSetup.getVersion());
         if (kieServerSetup.getServerConfig() != null) {
             currentState.setConfiguration(kieServerSetup.getServerConfig());
         }
         kieServer.getServerRegistry().getStateRepository().store(KieServerEnvironment.getServerId(), currentState);
         kieServer.markAsReady();
     }
+
+    /**
+     * @return containers the server should run according to given setup, in case of delta setup these are
+     * containers of current state with changes of the setup applied
+     */
+    public Set<KieContainerResource> resolveContainers(KieServerSetup kieServerSetup, KieServerState currentState) {
+        if (!kieServerSetup.isDelta()) {
+            return kieServerSetup.getContainers();
+        }
+        Map<String, KieContainerResource> containers = new LinkedHashMap<>();
+        currentState.getContainers().forEach(container -> containers.put(container.getContainerId(), container));
+        kieServerSetup.getRemovedContainers().forEach(containers::remove);
+        kieServerSetup.getContainers().forEach(container -> containers.put(container.getContainerId(), container));
+        logger.info("Applied {} changed and {} removed containers received from controller", kieServerSetup.getContainers().size(), kieServerSetup.getRemovedContainers().size());
+
+        return new HashSet<>(containers.values());
+    }
 }
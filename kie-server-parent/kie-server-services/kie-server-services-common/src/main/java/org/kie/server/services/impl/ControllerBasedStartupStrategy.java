@@ -50,7 +50,7 @@ public class ControllerBasedStartupStrategy implements StartupStrategy {
         try {
             kieServerSetup = kieController.connect(kieServerInfo);
 
-            containers = kieServerSetup.getContainers();
+            containers = containerManager.resolveContainers(kieServerSetup, currentState);
             readyToRun = true;
         } catch (KieControllerNotDefinedException e) {
             // if no controllers use local storage
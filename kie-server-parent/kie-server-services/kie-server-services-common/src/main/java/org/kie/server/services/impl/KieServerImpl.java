@@ -298,6 +298,7 @@ public class KieServerImpl implements KieServer {
                             }
 
                             ci.getResource().setStatus(KieContainerStatus.STARTED);
+                            context.refreshContainer(containerId);
                             logger.info("Container {} (for release id {}) successfully started", containerId, releaseId);
 
                             // store the current state of the server
@@ -388,6 +389,7 @@ public class KieServerImpl implements KieServer {
                     }
                     
                     kci.setStatus(KieContainerStatus.STARTED);
+                    context.refreshContainer(containerId);
 
                     // store the current state of the server
                     storeServerState(currentState -> {
@@ -436,6 +438,7 @@ public class KieServerImpl implements KieServer {
                     }
                     
                     kci.setStatus(KieContainerStatus.DEACTIVATED);
+                    context.refreshContainer(containerId);
                     
                     // store the current state of the server
                     storeServerState(currentState -> {
@@ -947,6 +950,7 @@ public class KieServerImpl implements KieServer {
             logger.error("Error updating releaseId for container " + containerId + " to version " + releaseId + "\nMessages: " + results.getMessages());
         } else {
             kci.updateReleaseId();
+            context.refreshContainer(containerId);
             response = new Message(Severity.INFO, "Kie container updated successfully to version " + releaseId);
         }
 
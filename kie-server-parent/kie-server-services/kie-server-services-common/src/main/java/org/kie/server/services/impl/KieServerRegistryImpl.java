@@ -18,8 +18,10 @@ package org.kie.server.services.impl;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -34,13 +36,15 @@ import org.kie.server.services.api.ContainerLocator;
 import org.kie.server.services.api.KieContainerInstance;
 import org.kie.server.services.api.KieServerExtension;
 import org.kie.server.services.api.KieServerRegistry;
+import org.kie.server.services.impl.locator.ContainerLookupCache;
+import org.kie.server.services.impl.locator.LatestContainerLocator;
 import org.kie.server.services.impl.storage.KieServerState;
 import org.kie.server.services.impl.storage.KieServerStateRepository;
 
 public class KieServerRegistryImpl implements KieServerRegistry {
 
     private final ConcurrentMap<String, KieContainerInstanceImpl> containers = new ConcurrentHashMap<String, KieContainerInstanceImpl>();
-    private final ConcurrentMap<String, List<KieContainerInstanceImpl>> containersByAlias = new ConcurrentHashMap<String, List<KieContainerInstanceImpl>>();
+    private final ConcurrentMap<String, AliasResolution> containersByAlias = new ConcurrentHashMap<String, AliasResolution>();
     private IdentityProvider identityProvider;
     private ConcurrentMap<String, KieServerExtension> serverExtensions = new ConcurrentHashMap<String, KieServerExtension>();
 
@@ -54,6 +58,7 @@ public class KieServerRegistryImpl implements KieServerRegistry {
 
     @Override
     public KieContainerInstanceImpl registerContainer(String id, KieContainerInstanceImpl kieContainerInstance) {
+        ContainerLookupCache.invalidateContainer(id);
         synchronized ( containers ) {
             KieContainerInstanceImpl kci = containers.putIfAbsent(id, kieContainerInstance);
             if( kci != null && kci.getStatus() == KieContainerStatus.FAILED ) {
@@ -71,11 +76,24 @@ public class KieServerRegistryImpl implements KieServerRegistry {
     @Override
     public KieContainerInstanceImpl unregisterContainer(String id) {
         KieContainerInstanceImpl containerInstance = containers.remove(id);
+        ContainerLookupCache.invalidateContainer(id);
 
-        removeFromAlias(containerInstance);
+        synchronized ( containers ) {
+            removeFromAlias(containerInstance);
+        }
         return containerInstance;
     }
 
+    @Override
+    public void refreshContainer(String id) {
+        synchronized ( containers ) {
+            KieContainerInstanceImpl containerInstance = containers.get(id);
+            if (containerInstance != null) {
+                resolveAlias(getContainerAlias(containerInstance.getResource()));
+            }
+        }
+    }
+
     @Override
     public KieContainerInstanceImpl getContainer(String id) {
         return containers.get(id);
@@ -86,20 +104,23 @@ public class KieServerRegistryImpl implements KieServerRegistry {
         KieContainerInstanceImpl containerInstance = getContainer(alias);
 
         if (containerInstance == null) {
-            List<KieContainerInstanceImpl> aliasedContainers = containersByAlias.getOrDefault(alias, new ArrayList<KieContainerInstanceImpl>());
-            if (aliasedContainers.isEmpty()) {
+            AliasResolution resolution = containersByAlias.getOrDefault(alias, AliasResolution.EMPTY);
+            if (resolution.containers.isEmpty()) {
                 // since there are no containers for given alias reject it
                 throw new IllegalArgumentException("Container '" + alias + "' is not instantiated or cannot find container for alias '" + alias + "'");
             }
-            String containerId = locator.locateContainer(alias, aliasedContainers);
+            // latest container is resolved up front, anything else (or a latest container that is no longer started) goes to the locator
+            KieContainerInstanceImpl latest = resolution.latest;
+            if (locator == LatestContainerLocator.get() && latest != null && latest.getStatus() == KieContainerStatus.STARTED) {
+                return latest;
+            }
+            String containerId = locator.locateContainer(alias, resolution.containers);
             if (containerId == null) {
                 throw new IllegalArgumentException("Cannot find container for alias '" + alias + "'");
             }
-            
-            aliasedContainers.stream()
-            .filter(kci -> kci.getContainerId().equals(containerId))
-            .findAny()
-            .orElseThrow(() ->  new IllegalArgumentException("Container '" + containerId + "' is not associated with alias '" + alias + "'"));
+            if (!resolution.containersById.containsKey(containerId)) {
+                throw new IllegalArgumentException("Container '" + containerId + "' is not associated with alias '" + alias + "'");
+            }
 
             return getContainer(containerId);
         }
@@ -128,7 +149,7 @@ public class KieServerRegistryImpl implements KieServerRegistry {
 
     @Override
     public List<KieContainerInstanceImpl> getContainersForAlias(String alias) {
-        return new ArrayList<KieContainerInstanceImpl>(containersByAlias.getOrDefault(alias, new ArrayList<KieContainerInstanceImpl>()));
+        return new ArrayList<KieContainerInstanceImpl>(containersByAlias.getOrDefault(alias, AliasResolution.EMPTY).containers);
     }
 
     @Override
@@ -212,12 +233,9 @@ public class KieServerRegistryImpl implements KieServerRegistry {
         KieContainerResource containerResource = kieContainerInstance.getResource();
         String alias = getContainerAlias(containerResource);
 
-        List<KieContainerInstanceImpl> byAlias = containersByAlias.get(alias);
-        if (byAlias == null) {
-            byAlias = new ArrayList<>();
-            containersByAlias.put(alias, byAlias);
-        }
+        List<KieContainerInstanceImpl> byAlias = new ArrayList<>(containersByAlias.getOrDefault(alias, AliasResolution.EMPTY).containers);
         byAlias.add(kieContainerInstance);
+        containersByAlias.put(alias, new AliasResolution(alias, byAlias));
     }
 
     protected void removeFromAlias(KieContainerInstanceImpl kieContainerInstance) {
@@ -227,9 +245,21 @@ public class KieServerRegistryImpl implements KieServerRegistry {
         KieContainerResource containerResource = kieContainerInstance.getResource();
         String alias = getContainerAlias(containerResource);
 
-        List<KieContainerInstanceImpl> byAlias = containersByAlias.get(alias);
-        if (byAlias != null) {
+        AliasResolution resolution = containersByAlias.get(alias);
+        if (resolution != null) {
+            List<KieContainerInstanceImpl> byAlias = new ArrayList<>(resolution.containers);
             byAlias.remove(kieContainerInstance);
+            containersByAlias.put(alias, new AliasResolution(alias, byAlias));
+        }
+    }
+
+    /*
+     * Recomputes resolution of given alias, needed when status or release of any of its containers changed
+     */
+    protected void resolveAlias(String alias) {
+        AliasResolution resolution = containersByAlias.get(alias);
+        if (resolution != null) {
+            containersByAlias.put(alias, new AliasResolution(alias, resolution.containers));
         }
     }
 
@@ -251,4 +281,35 @@ public class KieServerRegistryImpl implements KieServerRegistry {
 	public Set<Class<?>> getExtraClasses() {
 		return extraClasses;
 	}
+
+    /**
+     * Immutable view of containers registered for an alias together with the latest started one,
+     * replaced as a whole whenever any of them is registered, unregistered or changed so look ups by alias
+     * neither lock nor copy.
+     */
+    private static class AliasResolution {
+
+        private static final AliasResolution EMPTY = new AliasResolution(null, Collections.emptyList());
+
+        private final List<KieContainerInstanceImpl> containers;
+        private final Map<String, KieContainerInstanceImpl> containersById;
+        private final KieContainerInstanceImpl latest;
+
+        AliasResolution(String alias, List<KieContainerInstanceImpl> containers) {
+            this.containers = Collections.unmodifiableList(new ArrayList<>(containers));
+            Map<String, KieContainerInstanceImpl> byId = new HashMap<>();
+            containers.forEach(kci -> byId.put(kci.getContainerId(), kci));
+            this.containersById = Collections.unmodifiableMap(byId);
+            this.latest = findLatest(alias, this.containers, this.containersById);
+        }
+
+        private static KieContainerInstanceImpl findLatest(String alias, List<KieContainerInstanceImpl> containers, Map<String, KieContainerInstanceImpl> containersById) {
+            try {
+                return containersById.get(LatestContainerLocator.get().locateContainer(alias, containers));
+            } catch (RuntimeException e) {
+                // no started container yet, look up is left to the locator
+                return null;
+            }
+        }
+    }
 }
@@ -66,6 +66,7 @@ public class KieServerScannerEventListener implements KieScannerEventListener {
             
             kieContainerInstance.clearExtraClasses();
             boolean disposedMarshallers = kieContainerInstance.updateReleaseId();
+            kieServer.getServerRegistry().refreshContainer(containerId);
             // on scanner successful update dispose marshallers
             if (!disposedMarshallers) {
                 kieContainerInstance.disposeMarshallers();
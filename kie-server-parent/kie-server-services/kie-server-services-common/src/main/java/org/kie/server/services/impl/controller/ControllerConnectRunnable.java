@@ -66,7 +66,7 @@ public class ControllerConnectRunnable implements Runnable {
                 logger.debug("Attempting to connect to one of the controllers...");
                 KieServerSetup kieServerSetup = kieController.connect(kieServerInfo);
                 logger.debug("Connected to controller and retrieved setup details {}", kieServerSetup);
-                Set<KieContainerResource> containers = startupStrategy.prepareContainers(kieServerSetup.getContainers());
+                Set<KieContainerResource> containers = startupStrategy.prepareContainers(containerManager.resolveContainers(kieServerSetup, currentState));
                 // add status message when connected
                 kieServer.addServerStatusMessage(kieServerInfo);
 
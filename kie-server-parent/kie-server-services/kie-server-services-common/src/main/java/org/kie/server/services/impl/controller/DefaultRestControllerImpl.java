@@ -15,6 +15,7 @@
 
 package org.kie.server.services.impl.controller;
 
+import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
 import java.util.Set;
 
@@ -149,7 +150,7 @@ public class DefaultRestControllerImpl implements KieServerController {
             for (String controllerUrl : controllers) {
 
                 if (controllerUrl != null && !controllerUrl.isEmpty()) {
-                    KieServerSetup kieServerSetup = connectToSingleController(serverInfo, config, controllerUrl);
+                    KieServerSetup kieServerSetup = connectToSingleController(serverInfo, config, controllerUrl, currentState);
                     if (kieServerSetup != null) {
                         return kieServerSetup;
                     }
@@ -182,7 +183,23 @@ public class DefaultRestControllerImpl implements KieServerController {
     }
     
     public KieServerSetup connectToSingleController(KieServerInfo serverInfo, KieServerConfig config, String controllerUrl) {
+        return connectToSingleController(serverInfo, config, controllerUrl, null);
+    }
+
+    /**
+     * Connects to given controller, when given state acknowledged version of controller's change log only changes
+     * made after that version are requested.
+     */
+    public KieServerSetup connectToSingleController(KieServerInfo serverInfo, KieServerConfig config, String controllerUrl, KieServerState currentState) {
         String connectAndSyncUrl = controllerUrl + "/server/" + KieServerEnvironment.getServerId();
+        Long acknowledgedVersion = currentState == null ? null : currentState.getAcknowledgedControllerVersion();
+        if (acknowledgedVersion != null) {
+            try {
+                connectAndSyncUrl += "?changeLogId=" + URLEncoder.encode(currentState.getControllerChangeLogId(), "UTF-8") + "&version=" + acknowledgedVersion;
+            } catch (UnsupportedEncodingException e) {
+                logger.debug("Cannot URL encode change log id, requesting complete setup", e);
+            }
+        }
 
         String userName = config.getConfigItemValue(KieServerConstants.CFG_KIE_CONTROLLER_USER, "kieserver");
         String password = loadControllerPassword(config);
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.server.services.impl.locator;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.kie.server.api.KieServerConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Server wide, size bounded cache of container ids resolved for process instance, task or case ids,
+ * shared by all container locators so the look up is done once per id instead of once per request.
+ * Each kind of id uses its own named cache, bounded by evicting the least recently used entries.
+ * Look ups do not lock, only evictions of a full cache are serialized.
+ * Entries of a container are dropped when the container is registered or unregistered and when its
+ * process instances or cases are migrated, entries of a case when the case is reopened. Ids that were
+ * not found can optionally be remembered for a limited time (negative caching), which is disabled by default.
+ */
+public class ContainerLookupCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContainerLookupCache.class);
+
+    public static final String PROCESS_INSTANCE = "processInstance";
+    public static final String TASK = "task";
+    public static final String CASE = "case";
+
+    private static final ConcurrentMap<String, ContainerLookupCache> caches = new ConcurrentHashMap<>();
+
+    private final String name;
+    private final int maxSize;
+    private final long negativeTtl;
+
+    private final ConcurrentMap<Object, Entry> entries = new ConcurrentHashMap<>();
+    // orders entries by their last access, the least recently used ones are evicted first
+    private final AtomicLong clock = new AtomicLong();
+    private final Object evictionLock = new Object();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public ContainerLookupCache(String name, int maxSize, long negativeTtl) {
+        this.name = name;
+        this.maxSize = maxSize;
+        this.negativeTtl = negativeTtl;
+    }
+
+    public static ContainerLookupCache get(String name) {
+        return caches.computeIfAbsent(name, n -> new ContainerLookupCache(n,
+                Integer.parseInt(System.getProperty(KieServerConstants.KIE_SERVER_CONTAINER_LOCATOR_CACHE_SIZE, "10000")),
+                Long.parseLong(System.getProperty(KieServerConstants.KIE_SERVER_CONTAINER_LOCATOR_NEGATIVE_CACHE_TTL, "0"))));
+    }
+
+    /**
+     * Returns all caches created so far, e.g. to expose their statistics
+     * @return unmodifiable view of the caches
+     */
+    public static Collection<ContainerLookupCache> getCaches() {
+        return Collections.unmodifiableCollection(caches.values());
+    }
+
+    /**
+     * Removes all cached entries that resolve to given container from all caches
+     * @param containerId container id that was disposed or updated
+     */
+    public static void invalidateContainer(String containerId) {
+        caches.values().forEach(cache -> cache.invalidate(containerId));
+    }
+
+    /**
+     * Returns cached container id for given key, a look up that finds nothing valid in the cache is counted
+     * as a miss, one that finds the key cached as not found is counted as hit by {@link #isNotFound(Object)}
+     * @param key process instance, task or case id
+     * @return container id or null when not cached or cached as not found
+     */
+    public String getContainerId(Object key) {
+        Entry entry = getValid(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.containerId == null) {
+            return null;
+        }
+        hits.increment();
+        logger.debug("Container id for {} {} found in cache: {}", name, key, entry.containerId);
+        return entry.containerId;
+    }
+
+    /**
+     * Checks if given key was recently looked up and not found
+     * @param key process instance, task or case id
+     * @return true if key is cached as not found and the entry has not expired yet
+     */
+    public boolean isNotFound(Object key) {
+        Entry entry = getValid(key);
+        if (entry == null || entry.containerId != null) {
+            return false;
+        }
+        hits.increment();
+        return true;
+    }
+
+    public void put(Object key, String containerId) {
+        store(key, new Entry(containerId, Long.MAX_VALUE));
+    }
+
+    /**
+     * Remembers that given key was not found, no-op unless negative caching is enabled
+     * @param key process instance, task or case id
+     */
+    public void putNotFound(Object key) {
+        if (negativeTtl > 0) {
+            store(key, new Entry(null, System.currentTimeMillis() + negativeTtl));
+        }
+    }
+
+    /**
+     * Removes cached entry of given key, e.g. when the case it belongs to was reopened
+     * @param key process instance, task or case id
+     */
+    public void remove(Object key) {
+        entries.remove(key);
+    }
+
+    public void invalidate(String containerId) {
+        entries.values().removeIf(entry -> entry.containerId == null || containerId.equals(entry.containerId));
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public double getHitRatio() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    protected void store(Object key, Entry entry) {
+        entry.lastAccess = clock.incrementAndGet();
+        entries.put(key, entry);
+        if (entries.size() > maxSize) {
+            evict();
+        }
+    }
+
+    private Entry getValid(Object key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt < System.currentTimeMillis()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        entry.lastAccess = clock.incrementAndGet();
+        return entry;
+    }
+
+    /**
+     * Drops expired entries and then the least recently used ones, a tenth of the capacity more than
+     * needed, so that a full cache is not scanned again on every following store
+     */
+    private void evict() {
+        synchronized (evictionLock) {
+            long now = System.currentTimeMillis();
+            entries.entrySet().removeIf(e -> e.getValue().expiresAt < now);
+
+            int excess = entries.size() - maxSize;
+            if (excess <= 0) {
+                return;
+            }
+            int count = excess + maxSize / 10;
+            // keeps the count least recently used entries, the most recently used of them on top
+            PriorityQueue<Map.Entry<Object, Entry>> eldest = new PriorityQueue<>(count + 1,
+                    Comparator.comparingLong((Map.Entry<Object, Entry> e) -> e.getValue().lastAccess).reversed());
+            for (Map.Entry<Object, Entry> e : entries.entrySet()) {
+                eldest.offer(e);
+                if (eldest.size() > count) {
+                    eldest.poll();
+                }
+            }
+            eldest.forEach(e -> entries.remove(e.getKey(), e.getValue()));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ContainerLookupCache{name=" + name + ", size=" + size() + ", hitRatio=" + getHitRatio() + "}";
+    }
+
+    private static class Entry {
+
+        private final String containerId;
+        private final long expiresAt;
+        private volatile long lastAccess;
+
+        Entry(String containerId, long expiresAt) {
+            this.containerId = containerId;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -15,6 +15,7 @@
 
 package org.kie.server.services.impl.marshal;
 
+import java.io.OutputStream;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -48,6 +49,18 @@ public class MarshallerHelper {
     }
 
     public String marshal(String containerId, String marshallingFormat, Object entity, ContainerLocator locator) {
+        return getContainerMarshaller(containerId, marshallingFormat, locator).marshall(entity);
+
+    }
+
+    /**
+     * Marshals given entity straight into the output stream with the marshaller of given container.
+     */
+    public void marshal(String containerId, String marshallingFormat, Object entity, OutputStream output) {
+        getContainerMarshaller(containerId, marshallingFormat, ContainerLocatorProvider.get().getLocator()).marshall(entity, output);
+    }
+
+    protected Marshaller getContainerMarshaller(String containerId, String marshallingFormat, ContainerLocator locator) {
         MarshallingFormat format = getFormat(marshallingFormat);
         if (format == null) {
             throw new IllegalArgumentException("Unknown marshalling format " + marshallingFormat);
@@ -63,24 +76,18 @@ public class MarshallerHelper {
             throw new IllegalArgumentException("No marshaller found for format " + format);
         }
 
-        return marshaller.marshall(entity);
-
+        return marshaller;
     }
 
     public String marshal(String marshallingFormat, Object entity) {
-    	MarshallingFormat format = getFormat(marshallingFormat);
-
-        if (format == null) {
-            throw new IllegalArgumentException("Unknown marshalling format " + marshallingFormat);
-        }
-
-        Marshaller marshaller = serverMarshallers.get(format);
-        if (marshaller == null) {
-        	marshaller = MarshallerFactory.getMarshaller(getExtraClasses(registry), format, this.getClass().getClassLoader());
-        	serverMarshallers.put(format, marshaller);
-        }
+        return getServerMarshaller(marshallingFormat).marshall(entity);
+    }
 
-        return marshaller.marshall(entity);
+    /**
+     * Marshals given entity straight into the output stream with the server marshaller of given format.
+     */
+    public void marshal(String marshallingFormat, Object entity, OutputStream output) {
+        getServerMarshaller(marshallingFormat).marshall(entity, output);
     }
     
     public <T> T unmarshal(String containerId, String data, String marshallingFormat, Class<T> unmarshalType) {
@@ -134,6 +141,22 @@ public class MarshallerHelper {
         return (T) instance;
     }
 
+    protected Marshaller getServerMarshaller(String marshallingFormat) {
+    	MarshallingFormat format = getFormat(marshallingFormat);
+
+        if (format == null) {
+            throw new IllegalArgumentException("Unknown marshalling format " + marshallingFormat);
+        }
+
+        Marshaller marshaller = serverMarshallers.get(format);
+        if (marshaller == null) {
+        	marshaller = MarshallerFactory.getMarshaller(getExtraClasses(registry), format, this.getClass().getClassLoader());
+        	serverMarshallers.put(format, marshaller);
+        }
+
+        return marshaller;
+    }
+
     public static MarshallingFormat getFormat(String descriptor) {
         MarshallingFormat format = MarshallingFormat.fromType(descriptor);
         if (format == null) {
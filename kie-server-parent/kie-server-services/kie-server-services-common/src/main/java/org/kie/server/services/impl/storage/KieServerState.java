@@ -15,15 +15,25 @@
 
 package org.kie.server.services.impl.storage;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.TreeSet;
 
 import com.thoughtworks.xstream.annotations.XStreamAlias;
 import com.thoughtworks.xstream.annotations.XStreamImplicit;
 import org.kie.server.api.KieServerConstants;
 import org.kie.server.api.model.KieContainerResource;
 import org.kie.server.api.model.KieServerConfig;
+import org.kie.server.api.model.KieScannerResource;
 import org.kie.server.api.model.KieServerConfigItem;
+import org.kie.server.api.model.Message;
+import org.kie.server.api.model.ReleaseId;
+import org.kie.server.api.util.KieContainerFingerprint;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -41,6 +51,11 @@ public class KieServerState {
     @XStreamImplicit
     private Set<KieContainerResource> containers = new HashSet<KieContainerResource>();
 
+    // version of controller's change log the containers were acknowledged at, with digest of the containers
+    private String controllerChangeLogId;
+    private Long controllerVersion;
+    private String controllerContainersDigest;
+
     public KieServerState() {
         String defaultController = System.getProperty(KieServerConstants.KIE_SERVER_CONTROLLER);
         if (defaultController != null && !defaultController.trim().isEmpty()) {
@@ -87,4 +102,105 @@ public class KieServerState {
             this.configuration = configuration;
         }
     }
+
+    /**
+     * Remembers that current containers correspond to given version of controller's change log, so next connect
+     * to the controller can ask only for changes made after that version.
+     */
+    public void acknowledgeControllerVersion(String changeLogId, Long version) {
+        this.controllerChangeLogId = changeLogId;
+        this.controllerVersion = version;
+        this.controllerContainersDigest = version == null ? null : digest(containers);
+    }
+
+    public String getControllerChangeLogId() {
+        return controllerChangeLogId;
+    }
+
+    /**
+     * @return acknowledged version of controller's change log or null when there is none or containers changed
+     * since it was acknowledged (e.g. were managed directly on the server) and thus complete setup is needed
+     */
+    public Long getAcknowledgedControllerVersion() {
+        if (controllerVersion == null || controllerChangeLogId == null || !digest(containers).equals(controllerContainersDigest)) {
+            return null;
+        }
+        return controllerVersion;
+    }
+
+    /**
+     * Creates a deep copy of this state, so a state that is kept e.g. by a repository cache
+     * can be handed out without being modified by the caller.
+     */
+    public KieServerState copy() {
+        KieServerState copy = new KieServerState();
+        copy.controllers = new HashSet<String>(controllers);
+        if (configuration != null) {
+            copy.configuration = new KieServerConfig(copyConfigItems(configuration.getConfigItems()));
+        }
+        copy.containers = new HashSet<KieContainerResource>();
+        for (KieContainerResource container : containers) {
+            copy.containers.add(copyContainer(container));
+        }
+        copy.controllerChangeLogId = controllerChangeLogId;
+        copy.controllerVersion = controllerVersion;
+        copy.controllerContainersDigest = controllerContainersDigest;
+        return copy;
+    }
+
+    private static KieContainerResource copyContainer(KieContainerResource container) {
+        KieContainerResource copy = new KieContainerResource(container.getContainerId(),
+                                                             copyReleaseId(container.getReleaseId()),
+                                                             copyReleaseId(container.getResolvedReleaseId()),
+                                                             container.getStatus());
+        copy.setContainerAlias(container.getContainerAlias());
+        if (container.getScanner() != null) {
+            copy.setScanner(new KieScannerResource(container.getScanner().getStatus(), container.getScanner().getPollInterval()));
+        }
+        copy.setConfigItems(copyConfigItems(container.getConfigItems()));
+        if (container.getMessages() != null) {
+            List<Message> messages = new ArrayList<Message>();
+            for (Message message : container.getMessages()) {
+                Message messageCopy = new Message(message.getSeverity(), message.getMessages() == null ? null : new ArrayList<String>(message.getMessages()));
+                messageCopy.setTimestamp(message.getTimestamp());
+                messages.add(messageCopy);
+            }
+            copy.setMessages(messages);
+        }
+        return copy;
+    }
+
+    private static ReleaseId copyReleaseId(ReleaseId releaseId) {
+        return releaseId == null ? null : new ReleaseId(releaseId);
+    }
+
+    private static List<KieServerConfigItem> copyConfigItems(List<KieServerConfigItem> items) {
+        if (items == null) {
+            return null;
+        }
+        List<KieServerConfigItem> copy = new ArrayList<KieServerConfigItem>();
+        for (KieServerConfigItem item : items) {
+            copy.add(new KieServerConfigItem(item.getName(), item.getValue(), item.getType()));
+        }
+        return copy;
+    }
+
+    private static String digest(Set<KieContainerResource> containers) {
+        Set<String> sorted = new TreeSet<String>();
+        if (containers != null) {
+            for (KieContainerResource container : containers) {
+                sorted.add(KieContainerFingerprint.of(container));
+            }
+        }
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(sorted.toString().getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder();
+            for (byte b : hash) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            return sorted.toString();
+        }
+    }
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.server.services.impl;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+import org.kie.server.api.model.KieContainerResource;
+import org.kie.server.api.model.KieContainerStatus;
+import org.kie.server.api.model.ReleaseId;
+import org.kie.server.controller.api.model.KieServerSetup;
+import org.kie.server.services.impl.storage.KieServerState;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ContainerManagerTest {
+
+    private ContainerManager containerManager = new ContainerManager();
+
+    @Test
+    public void testCompleteSetupReplacesContainers() {
+        KieServerState state = state(container("c1", "1.0"), container("c2", "1.0"));
+        KieServerSetup setup = new KieServerSetup();
+        setup.setContainers(new HashSet<>(Collections.singletonList(container("c3", "1.0"))));
+
+        Set<KieContainerResource> containers = containerManager.resolveContainers(setup, state);
+
+        assertThat(containers).containsOnly(container("c3", "1.0"));
+    }
+
+    @Test
+    public void testDeltaSetupIsMergedIntoCurrentContainers() {
+        KieServerState state = state(container("c1", "1.0"), container("c2", "1.0"), container("c3", "1.0"));
+        KieServerSetup setup = new KieServerSetup();
+        setup.setDelta(true);
+        setup.setContainers(new HashSet<>(Arrays.asList(container("c2", "1.1"), container("c4", "1.0"))));
+        setup.setRemovedContainers(new HashSet<>(Collections.singletonList("c3")));
+
+        Set<KieContainerResource> containers = containerManager.resolveContainers(setup, state);
+
+        assertThat(containers).containsOnly(container("c1", "1.0"), container("c2", "1.1"), container("c4", "1.0"));
+        // current state is left as is until the containers are installed
+        assertThat(state.getContainers()).hasSize(3);
+    }
+
+    @Test
+    public void testEmptyDeltaKeepsCurrentContainers() {
+        KieServerState state = state(container("c1", "1.0"));
+        KieServerSetup setup = new KieServerSetup();
+        setup.setDelta(true);
+
+        Set<KieContainerResource> containers = containerManager.resolveContainers(setup, state);
+
+        assertThat(containers).containsOnly(container("c1", "1.0"));
+    }
+
+    private static KieServerState state(KieContainerResource... containers) {
+        KieServerState state = new KieServerState();
+        state.setContainers(new HashSet<>(Arrays.asList(containers)));
+        return state;
+    }
+
+    private static KieContainerResource container(String containerId, String version) {
+        return new KieContainerResource(containerId, new ReleaseId("org.kie", containerId, version), KieContainerStatus.STARTED);
+    }
+}
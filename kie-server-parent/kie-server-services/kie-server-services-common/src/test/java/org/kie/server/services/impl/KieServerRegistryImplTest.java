@@ -0,0 +1,105 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.services.impl;
+
+import org.drools.core.impl.InternalKieContainer;
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.api.KieServices;
+import org.kie.server.api.model.KieContainerStatus;
+import org.kie.server.services.impl.locator.LatestContainerLocator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class KieServerRegistryImplTest {
+
+    private static final String GROUP_ID = "org.kie.server.testing";
+    private static final String ALIAS = "my-alias";
+
+    private KieServerRegistryImpl registry;
+
+    @Before
+    public void setup() {
+        registry = new KieServerRegistryImpl();
+    }
+
+    @Test
+    public void testLatestStartedContainerIsResolved() {
+        register("c100", "1.0.0", KieContainerStatus.STARTED);
+        KieContainerInstanceImpl c110 = register("c110", "1.1.0", KieContainerStatus.STARTED);
+        register("c120", "1.2.0", KieContainerStatus.CREATING);
+
+        assertSame(c110, registry.getContainer(ALIAS, LatestContainerLocator.get()));
+        assertEquals("c110", registry.getContainerId(ALIAS, LatestContainerLocator.get()));
+    }
+
+    @Test
+    public void testResolutionFollowsStatusChanges() {
+        KieContainerInstanceImpl c100 = register("c100", "1.0.0", KieContainerStatus.STARTED);
+        KieContainerInstanceImpl c110 = register("c110", "1.1.0", KieContainerStatus.CREATING);
+        assertSame(c100, registry.getContainer(ALIAS, LatestContainerLocator.get()));
+
+        c110.setStatus(KieContainerStatus.STARTED);
+        registry.refreshContainer("c110");
+        assertSame(c110, registry.getContainer(ALIAS, LatestContainerLocator.get()));
+
+        // not refreshed yet, latest container that is no longer started is not returned
+        c110.setStatus(KieContainerStatus.DEACTIVATED);
+        assertSame(c100, registry.getContainer(ALIAS, LatestContainerLocator.get()));
+
+        registry.unregisterContainer("c100");
+        c110.setStatus(KieContainerStatus.STARTED);
+        registry.refreshContainer("c110");
+        assertSame(c110, registry.getContainer(ALIAS, LatestContainerLocator.get()));
+        assertEquals(1, registry.getContainersForAlias(ALIAS).size());
+    }
+
+    @Test
+    public void testCustomLocatorIsUsed() {
+        KieContainerInstanceImpl c100 = register("c100", "1.0.0", KieContainerStatus.STARTED);
+        register("c110", "1.1.0", KieContainerStatus.STARTED);
+
+        assertSame(c100, registry.getContainer(ALIAS, (alias, containers) -> "c100"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testContainerNotAssociatedWithAlias() {
+        register("c100", "1.0.0", KieContainerStatus.STARTED);
+
+        registry.getContainer(ALIAS, (alias, containers) -> "other");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownAlias() {
+        registry.getContainer("unknown", LatestContainerLocator.get());
+    }
+
+    private KieContainerInstanceImpl register(String containerId, String version, KieContainerStatus status) {
+        org.kie.api.builder.ReleaseId releaseId = KieServices.Factory.get().newReleaseId(GROUP_ID, "my-artifact", version);
+        InternalKieContainer kieContainer = mock(InternalKieContainer.class);
+        when(kieContainer.getReleaseId()).thenReturn(releaseId);
+        when(kieContainer.getContainerReleaseId()).thenReturn(releaseId);
+
+        KieContainerInstanceImpl containerInstance = new KieContainerInstanceImpl(containerId, status, kieContainer);
+        containerInstance.getResource().setContainerAlias(ALIAS);
+        registry.registerContainer(containerId, containerInstance);
+        return containerInstance;
+    }
+}
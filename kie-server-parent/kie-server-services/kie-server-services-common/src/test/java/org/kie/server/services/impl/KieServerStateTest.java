@@ -24,7 +24,13 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.kie.server.api.KieServerConstants;
+import org.kie.server.api.model.KieContainerResource;
+import org.kie.server.api.model.KieContainerStatus;
+import org.kie.server.api.model.KieScannerResource;
+import org.kie.server.api.model.KieScannerStatus;
 import org.kie.server.api.model.KieServerConfig;
+import org.kie.server.api.model.KieServerConfigItem;
+import org.kie.server.api.model.ReleaseId;
 import org.kie.server.services.impl.storage.KieServerState;
 import org.kie.server.services.impl.storage.KieServerStateRepository;
 import org.kie.server.services.impl.storage.file.KieServerStateFileRepository;
@@ -100,4 +106,46 @@ public class KieServerStateTest {
         Assert.assertEquals("jdbc/jbpm", config.getConfigItemValue(KieServerConstants.CFG_PERSISTANCE_DS));
         Assert.assertEquals("JBossTS", config.getConfigItemValue(KieServerConstants.CFG_PERSISTANCE_TM));
     }
+
+    @Test
+    public void testAcknowledgedControllerVersion() {
+        KieServerStateRepository repository = new KieServerStateFileRepository(REPOSITORY_DIR);
+
+        String serverId = UUID.randomUUID().toString();
+
+        KieServerState state = repository.load(serverId);
+        Assert.assertNull(state.getAcknowledgedControllerVersion());
+
+        state.getContainers().add(new KieContainerResource("c1", new ReleaseId("org.kie", "c1", "1.0"), KieContainerStatus.STARTED));
+        state.acknowledgeControllerVersion("log", 5L);
+        repository.store(serverId, state);
+
+        repository = new KieServerStateFileRepository(REPOSITORY_DIR);
+        state = repository.load(serverId);
+        Assert.assertEquals("log", state.getControllerChangeLogId());
+        Assert.assertEquals(Long.valueOf(5L), state.getAcknowledgedControllerVersion());
+
+        // containers changed without the controller, complete setup is needed
+        state.getContainers().add(new KieContainerResource("c2", new ReleaseId("org.kie", "c2", "1.0"), KieContainerStatus.STARTED));
+        Assert.assertNull(state.getAcknowledgedControllerVersion());
+
+        state.acknowledgeControllerVersion(null, null);
+        Assert.assertNull(state.getAcknowledgedControllerVersion());
+    }
+
+    @Test
+    public void testAcknowledgedControllerVersionCoversScannerAndConfigItems() {
+        KieServerState state = new KieServerState();
+        KieContainerResource container = new KieContainerResource("c1", new ReleaseId("org.kie", "c1", "1.0"), KieContainerStatus.STARTED);
+        state.getContainers().add(container);
+        state.acknowledgeControllerVersion("log", 5L);
+        Assert.assertEquals(Long.valueOf(5L), state.getAcknowledgedControllerVersion());
+
+        container.setScanner(new KieScannerResource(KieScannerStatus.STARTED, 1000L));
+        Assert.assertNull(state.getAcknowledgedControllerVersion());
+
+        state.acknowledgeControllerVersion("log", 6L);
+        container.addConfigItem(new KieServerConfigItem(KieServerConstants.PCFG_RUNTIME_STRATEGY, "PER_PROCESS_INSTANCE", String.class.getName()));
+        Assert.assertNull(state.getAcknowledgedControllerVersion());
+    }
 }
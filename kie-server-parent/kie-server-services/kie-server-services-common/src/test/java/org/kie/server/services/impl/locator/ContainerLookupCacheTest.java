@@ -0,0 +1,155 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.server.services.impl.locator;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ContainerLookupCacheTest {
+
+    @Test
+    public void testCachedContainerId() {
+        ContainerLookupCache cache = new ContainerLookupCache("test", 10, 0);
+
+        assertNull(cache.getContainerId(1L));
+        cache.put(1L, "container1");
+        assertEquals("container1", cache.getContainerId(1L));
+
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(0.5, cache.getHitRatio(), 0);
+    }
+
+    @Test
+    public void testSizeIsBounded() {
+        ContainerLookupCache cache = new ContainerLookupCache("test", 2, 0);
+        cache.put(1L, "container1");
+        cache.put(2L, "container1");
+        cache.put(3L, "container2");
+
+        assertEquals(2, cache.size());
+        assertNull(cache.getContainerId(1L));
+        assertEquals("container2", cache.getContainerId(3L));
+    }
+
+    @Test
+    public void testInvalidateContainer() {
+        ContainerLookupCache cache = new ContainerLookupCache("test", 10, 0);
+        cache.put(1L, "container1");
+        cache.put(2L, "container2");
+
+        cache.invalidate("container1");
+
+        assertNull(cache.getContainerId(1L));
+        assertEquals("container2", cache.getContainerId(2L));
+    }
+
+    @Test
+    public void testNegativeCaching() throws Exception {
+        ContainerLookupCache disabled = new ContainerLookupCache("test", 10, 0);
+        disabled.putNotFound(1L);
+        assertFalse(disabled.isNotFound(1L));
+
+        ContainerLookupCache cache = new ContainerLookupCache("test", 10, 50);
+        cache.putNotFound(1L);
+        assertTrue(cache.isNotFound(1L));
+        assertNull(cache.getContainerId(1L));
+
+        Thread.sleep(100);
+        assertFalse(cache.isNotFound(1L));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIsEvicted() {
+        ContainerLookupCache cache = new ContainerLookupCache("test", 2, 0);
+        cache.put(1L, "container1");
+        cache.put(2L, "container1");
+        assertEquals("container1", cache.getContainerId(1L));
+        cache.put(3L, "container2");
+
+        assertEquals(2, cache.size());
+        assertEquals("container1", cache.getContainerId(1L));
+        assertNull(cache.getContainerId(2L));
+    }
+
+    @Test
+    public void testFullCacheEvictsLeastRecentlyUsedInBatch() {
+        ContainerLookupCache cache = new ContainerLookupCache("test", 20, 0);
+        for (long i = 0; i < 20; i++) {
+            cache.put(i, "container1");
+        }
+        for (long i = 0; i < 10; i++) {
+            cache.getContainerId(i);
+        }
+        cache.put(20L, "container2");
+
+        // the overflowing entry and a tenth of the capacity are evicted at once
+        assertEquals(18, cache.size());
+        assertNull(cache.getContainerId(10L));
+        assertNull(cache.getContainerId(12L));
+        assertEquals("container1", cache.getContainerId(13L));
+        assertEquals("container1", cache.getContainerId(0L));
+        assertEquals("container2", cache.getContainerId(20L));
+    }
+
+    @Test
+    public void testExpiredNotFoundDoesNotEvictLiveEntries() throws Exception {
+        ContainerLookupCache cache = new ContainerLookupCache("test", 2, 20);
+        cache.putNotFound(1L);
+        Thread.sleep(50);
+        assertFalse(cache.isNotFound(1L));
+
+        cache.put(1L, "container1");
+        cache.put(2L, "container2");
+        cache.put(3L, "container3");
+        cache.put(4L, "container4");
+
+        assertEquals(2, cache.size());
+        assertEquals("container3", cache.getContainerId(3L));
+        assertEquals("container4", cache.getContainerId(4L));
+    }
+
+    @Test
+    public void testEachLookupCountedOnce() {
+        ContainerLookupCache cache = new ContainerLookupCache("test", 10, 60000);
+        cache.putNotFound(1L);
+
+        // look up as done by locators, cached id first then not found marker
+        assertNull(cache.getContainerId(1L));
+        assertTrue(cache.isNotFound(1L));
+        assertEquals(1, cache.getHits());
+        assertEquals(0, cache.getMisses());
+
+        assertNull(cache.getContainerId(2L));
+        assertFalse(cache.isNotFound(2L));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void testRemove() {
+        ContainerLookupCache cache = new ContainerLookupCache("test", 10, 0);
+        cache.put("case-1", "container1");
+        cache.remove("case-1");
+
+        assertNull(cache.getContainerId("case-1"));
+        assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.server.services.impl.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.kie.server.api.KieServerConstants;
+import org.kie.server.api.model.KieContainerResource;
+import org.kie.server.api.model.KieContainerStatus;
+import org.kie.server.api.model.KieServerConfig;
+import org.kie.server.api.model.KieServerConfigItem;
+import org.kie.server.api.model.ReleaseId;
+
+public class KieServerStateTest {
+
+    @Test
+    public void testCopyIsIndependentOfOriginal() {
+        KieServerState state = new KieServerState();
+        state.getControllers().add("http://controller");
+        KieServerConfig config = new KieServerConfig();
+        config.addConfigItem(new KieServerConfigItem(KieServerConstants.KIE_SERVER_ID, "server1", String.class.getName()));
+        state.setConfiguration(config);
+        KieContainerResource container = new KieContainerResource("container1", new ReleaseId("org.kie", "test", "1.0"), KieContainerStatus.STARTED);
+        state.getContainers().add(container);
+        state.acknowledgeControllerVersion("log1", 5L);
+
+        KieServerState copy = state.copy();
+
+        assertEquals(state.getControllers(), copy.getControllers());
+        assertEquals("server1", copy.getConfiguration().getConfigItemValue(KieServerConstants.KIE_SERVER_ID));
+        assertEquals(state.getContainers(), copy.getContainers());
+        assertEquals(Long.valueOf(5L), copy.getAcknowledgedControllerVersion());
+
+        KieContainerResource containerCopy = copy.getContainers().iterator().next();
+        assertNotSame(container, containerCopy);
+        containerCopy.setStatus(KieContainerStatus.STOPPED);
+        containerCopy.getReleaseId().setVersion("2.0");
+        copy.getConfiguration().getConfigItem(KieServerConstants.KIE_SERVER_ID).setValue("server2");
+        copy.getContainers().add(new KieContainerResource("container2", new ReleaseId("org.kie", "test", "1.0"), KieContainerStatus.STARTED));
+
+        assertEquals(KieContainerStatus.STARTED, container.getStatus());
+        assertEquals("1.0", container.getReleaseId().getVersion());
+        assertEquals("server1", state.getConfiguration().getConfigItemValue(KieServerConstants.KIE_SERVER_ID));
+        assertEquals(1, state.getContainers().size());
+        assertEquals(Long.valueOf(5L), state.getAcknowledgedControllerVersion());
+        // containers of the copy changed since the acknowledgement
+        assertNull(copy.getAcknowledgedControllerVersion());
+        assertTrue(copy.getControllers().contains("http://controller"));
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.server.services.dmn;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.prometheus.client.Counter;
+import org.kie.api.builder.ReleaseId;
+import org.kie.api.runtime.KieSession;
+import org.kie.dmn.api.core.DMNModel;
+import org.kie.dmn.api.core.DMNRuntime;
+import org.kie.server.api.KieServerConstants;
+import org.kie.server.api.model.KieServerConfig;
+import org.kie.server.api.model.dmn.DMNResultKS;
+import org.kie.server.services.impl.KieContainerInstanceImpl;
+import org.kie.server.services.prometheus.PrometheusMetrics;
+
+/**
+ * DMN runtime of a container, created once from a single KieSession and shared by all evaluations
+ * of the container. DMN evaluation keeps its state in the DMN context and result, so the runtime can be
+ * used concurrently. Models are resolved once and remembered by namespace and name.
+ * Evaluations hold the runtime by {@link #acquire()} and {@link #release()}, so a runtime that is disposed
+ * while evaluations are in flight disposes its KieSession only once the last of them released it.
+ */
+public class DMNContainerRuntime {
+
+    private final String containerId;
+    private final KieSession kieSession;
+    private final DMNRuntime dmnRuntime;
+    private final ReleaseId releaseId;
+
+    // number of evaluations in flight times two, plus one once the runtime was disposed
+    private final AtomicInteger usage = new AtomicInteger();
+
+    private final ConcurrentMap<String, ConcurrentMap<String, DMNModel>> modelsByNamespace = new ConcurrentHashMap<>();
+    private volatile DMNModel defaultModel;
+
+    private final DMNResultCache resultCache;
+    // null when Prometheus extension is not enabled
+    private final PrometheusMetrics metrics;
+
+    public DMNContainerRuntime(KieContainerInstanceImpl kContainer) {
+        this(kContainer, null);
+    }
+
+    public DMNContainerRuntime(KieContainerInstanceImpl kContainer, PrometheusMetrics metrics) {
+        this.containerId = kContainer.getContainerId();
+        this.metrics = metrics;
+        this.releaseId = kContainer.getKieContainer().getReleaseId();
+        this.kieSession = kContainer.getKieContainer().newKieSession();
+        this.dmnRuntime = kieSession.getKieRuntime(DMNRuntime.class);
+        this.resultCache = createResultCache(kContainer);
+    }
+
+    private static DMNResultCache createResultCache(KieContainerInstanceImpl kContainer) {
+        if (kContainer.getResource().getConfigItems() == null) {
+            return null;
+        }
+        String cachedModels = new KieServerConfig(kContainer.getResource().getConfigItems()).getConfigItemValue(KieServerConstants.PCFG_DMN_RESULT_CACHE);
+        if (cachedModels == null || cachedModels.trim().isEmpty()) {
+            return null;
+        }
+        return new DMNResultCache(cachedModels,
+                                  Integer.getInteger(KieServerConstants.KIE_DMN_SERVER_RESULT_CACHE_SIZE, 10000),
+                                  Long.getLong(KieServerConstants.KIE_DMN_SERVER_RESULT_CACHE_TTL, 300000L));
+    }
+
+    public DMNRuntime getDMNRuntime() {
+        return dmnRuntime;
+    }
+
+    /**
+     * @return cache of results of models opted in for caching, null when no model of the container is
+     */
+    public DMNResultCache getResultCache() {
+        return resultCache;
+    }
+
+    /**
+     * Counts a look up of a result of given model in the result cache, both in the cache and in Prometheus metrics
+     * when enabled
+     */
+    public DMNResultKS getCachedResult(DMNModel model, String cacheKey) {
+        DMNResultKS cached = resultCache.get(cacheKey);
+        if (metrics != null) {
+            Counter counter = cached != null ? metrics.getDMNResultCacheHits() : metrics.getDMNResultCacheMisses();
+            counter.labels(containerId, releaseId.getGroupId(), releaseId.getArtifactId(), releaseId.getVersion(), model.getNamespace(), model.getName())
+                    .inc();
+        }
+        return cached;
+    }
+
+    public List<DMNModel> getModels() {
+        return dmnRuntime.getModels();
+    }
+
+    /**
+     * @return model of given namespace and name or the only model of the container when name is not given,
+     * null when model does not exist
+     */
+    public DMNModel getModel(String namespace, String modelName) {
+        if (modelName == null) {
+            return getDefaultModel();
+        }
+        ConcurrentMap<String, DMNModel> models = modelsByNamespace.computeIfAbsent(String.valueOf(namespace), ns -> new ConcurrentHashMap<>());
+        DMNModel model = models.get(modelName);
+        if (model == null) {
+            model = dmnRuntime.getModel(namespace, modelName);
+            if (model != null) {
+                models.putIfAbsent(modelName, model);
+            }
+        }
+        return model;
+    }
+
+    private DMNModel getDefaultModel() {
+        DMNModel model = defaultModel;
+        if (model == null) {
+            List<DMNModel> models = dmnRuntime.getModels();
+            if (models.size() > 1) {
+                throw new RuntimeException("more than one (default) model");
+            }
+            model = models.isEmpty() ? null : models.get(0);
+            defaultModel = model;
+        }
+        return model;
+    }
+
+    /**
+     * @return true if runtime was created for the release the container currently runs
+     */
+    public boolean isCurrent(KieContainerInstanceImpl kContainer) {
+        return kContainer.getKieContainer() != null && Objects.equals(releaseId, kContainer.getKieContainer().getReleaseId());
+    }
+
+    /**
+     * Marks the runtime as used by an evaluation, to be paired with {@link #release()}
+     * @return false when the runtime was disposed already and must not be used
+     */
+    public boolean acquire() {
+        while (true) {
+            int current = usage.get();
+            if ((current & 1) != 0) {
+                return false;
+            }
+            if (usage.compareAndSet(current, current + 2)) {
+                return true;
+            }
+        }
+    }
+
+    public void release() {
+        if (usage.addAndGet(-2) == 1) {
+            disposeSession();
+        }
+    }
+
+    /**
+     * Disposes the runtime, its KieSession is disposed right away when no evaluation is in flight,
+     * otherwise when the last evaluation releases the runtime
+     */
+    public void dispose() {
+        while (true) {
+            int current = usage.get();
+            if ((current & 1) != 0) {
+                return;
+            }
+            if (usage.compareAndSet(current, current + 1)) {
+                if (current == 0) {
+                    disposeSession();
+                }
+                return;
+            }
+        }
+    }
+
+    private void disposeSession() {
+        if (resultCache != null) {
+            resultCache.clear();
+        }
+        kieSession.dispose();
+    }
+}
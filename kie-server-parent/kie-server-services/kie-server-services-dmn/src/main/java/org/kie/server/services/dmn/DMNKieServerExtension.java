@@ -70,6 +70,7 @@ public class DMNKieServerExtension
         if (!initialized) {
             return;
         }
+        modelEvaluatorServiceBase.dispose();
     }
 
     @Override
@@ -84,6 +85,7 @@ public class DMNKieServerExtension
         if (!initialized) {
             return;
         }
+        modelEvaluatorServiceBase.disposeContainerRuntime(id);
     }
 
     @Override
@@ -96,6 +98,7 @@ public class DMNKieServerExtension
         if (!initialized) {
             return;
         }
+        modelEvaluatorServiceBase.disposeContainerRuntime(id);
     }
 
     @Override
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.server.services.dmn;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.kie.dmn.api.core.DMNModel;
+import org.kie.server.api.model.dmn.DMNContextKS;
+import org.kie.server.api.model.dmn.DMNResultKS;
+
+/**
+ * Size and time bounded cache of evaluation results of DMN models (or their decisions and decision services)
+ * that are pure functions of their input, meant to be enabled only for such models.
+ * <p>
+ * Models are opted in with the <code>DMNResultCache</code> container configuration item, a comma separated list
+ * of <code>modelName</code> (every evaluation of the model) or <code>modelName#decisionName</code> entries, the latter
+ * matching evaluations of given decision service, or of given decision selected by name or id. Results are keyed by
+ * the evaluation target and a canonical form of the input context, in which map entries are ordered by key and
+ * numbers are compared by value. Only contexts made of maps, collections, strings, numbers, booleans, characters,
+ * enums and <code>java.time</code> values have a canonical form, evaluations of any other context are not cached.
+ * The cache is bounded by evicting the least recently used entry. A cache lives as long as the DMN runtime of its
+ * container, so it is dropped whenever the container is updated.
+ */
+public class DMNResultCache {
+
+    private final Set<String> models = new HashSet<>();
+    private final Set<String> decisions = new HashSet<>();
+    private final int maxSize;
+    private final long ttl;
+
+    // access ordered, guarded by itself
+    private final LinkedHashMap<String, Entry> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public DMNResultCache(String configuration, int maxSize, long ttl) {
+        for (String entry : configuration.split(",")) {
+            entry = entry.trim();
+            if (entry.isEmpty()) {
+                continue;
+            }
+            if (entry.contains("#")) {
+                decisions.add(entry);
+            } else {
+                models.add(entry);
+            }
+        }
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > DMNResultCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * @return cache key of given evaluation or null when results of the evaluation are not to be cached
+     * or its input context has no canonical form
+     */
+    public String keyFor(DMNModel model, DMNContextKS evalCtx) {
+        String target = getTarget(evalCtx);
+        if (!models.contains(model.getName()) && (target == null || !decisions.contains(model.getName() + "#" + target))) {
+            return null;
+        }
+        StringBuilder key = new StringBuilder();
+        key.append(model.getNamespace()).append('#').append(model.getName())
+                .append("|s=").append(evalCtx.getDecisionServiceName())
+                .append("|n=").append(evalCtx.getDecisionNames())
+                .append("|i=").append(evalCtx.getDecisionIds())
+                .append('|');
+        if (!canonical(evalCtx.getDmnContext(), key)) {
+            return null;
+        }
+        return key.toString();
+    }
+
+    public DMNResultKS get(String key) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+            if (entry != null && entry.expiresAt < System.currentTimeMillis()) {
+                entries.remove(key);
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.result;
+    }
+
+    public void put(String key, DMNResultKS result) {
+        long expiresAt = ttl > 0 ? System.currentTimeMillis() + ttl : Long.MAX_VALUE;
+        synchronized (entries) {
+            entries.put(key, new Entry(result, expiresAt));
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public double getHitRatio() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /*
+     * single decision service, decision name or decision id the evaluation targets, null for anything else
+     */
+    private static String getTarget(DMNContextKS evalCtx) {
+        List<String> names = evalCtx.getDecisionNames() == null ? Collections.emptyList() : evalCtx.getDecisionNames();
+        List<String> ids = evalCtx.getDecisionIds() == null ? Collections.emptyList() : evalCtx.getDecisionIds();
+        if (evalCtx.getDecisionServiceName() != null && names.isEmpty() && ids.isEmpty()) {
+            return evalCtx.getDecisionServiceName();
+        }
+        if (evalCtx.getDecisionServiceName() == null && names.size() == 1 && ids.isEmpty()) {
+            return names.get(0);
+        }
+        if (evalCtx.getDecisionServiceName() == null && ids.size() == 1 && names.isEmpty()) {
+            return ids.get(0);
+        }
+        return null;
+    }
+
+    /**
+     * Appends canonical form of given value, stops at the first value that has none
+     * @return false if the value or any value it contains has no canonical form
+     */
+    protected static boolean canonical(Object value, StringBuilder out) {
+        if (value == null) {
+            out.append("null");
+        } else if (value instanceof Map) {
+            Map<String, Object> sorted = new TreeMap<>();
+            ((Map<?, ?>) value).forEach((k, v) -> sorted.put(String.valueOf(k), v));
+            out.append('{');
+            for (Map.Entry<String, Object> entry : sorted.entrySet()) {
+                String k = entry.getKey();
+                out.append(k.length()).append(':').append(k).append('=');
+                if (!canonical(entry.getValue(), out)) {
+                    return false;
+                }
+                out.append(',');
+            }
+            out.append('}');
+        } else if (value instanceof Set) {
+            List<String> elements = new ArrayList<>();
+            for (Object element : (Set<?>) value) {
+                StringBuilder canonicalElement = new StringBuilder();
+                if (!canonical(element, canonicalElement)) {
+                    return false;
+                }
+                elements.add(canonicalElement.toString());
+            }
+            Collections.sort(elements);
+            out.append("set").append(elements);
+        } else if (value instanceof Collection) {
+            out.append('[');
+            for (Object element : (Collection<?>) value) {
+                if (!canonical(element, out)) {
+                    return false;
+                }
+                out.append(',');
+            }
+            out.append(']');
+        } else if (value instanceof Number) {
+            out.append("n:").append(toPlainNumber((Number) value));
+        } else if (value instanceof String) {
+            String string = (String) value;
+            out.append("s").append(string.length()).append(':').append(string);
+        } else if (value instanceof Boolean || value instanceof Character) {
+            out.append(value.getClass().getSimpleName()).append(':').append(value);
+        } else if (value instanceof Enum) {
+            out.append(((Enum<?>) value).getDeclaringClass().getName()).append(':').append(((Enum<?>) value).name());
+        } else if (value.getClass().getName().startsWith("java.time.")) {
+            // immutable values whose string form identifies them, zone and offset included
+            out.append(value.getClass().getName()).append(':').append(value);
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    private static String toPlainNumber(Number number) {
+        try {
+            BigDecimal decimal = number instanceof BigDecimal ? (BigDecimal) number : new BigDecimal(number.toString());
+            return decimal.signum() == 0 ? "0" : decimal.stripTrailingZeros().toPlainString();
+        } catch (NumberFormatException e) {
+            // NaN and infinities
+            return number.toString();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "DMNResultCache{models=" + models + ", decisions=" + decisions + ", size=" + size() + ", hitRatio=" + getHitRatio() + "}";
+    }
+
+    private static class Entry {
+
+        private final DMNResultKS result;
+        private final long expiresAt;
+
+        Entry(DMNResultKS result, long expiresAt) {
+            this.result = result;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -15,15 +15,24 @@
 
 package org.kie.server.services.dmn;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import javax.xml.XMLConstants;
 import javax.xml.namespace.QName;
 
-import org.kie.api.runtime.KieSession;
 import org.kie.dmn.api.core.DMNContext;
 import org.kie.dmn.api.core.DMNModel;
 import org.kie.dmn.api.core.DMNResult;
@@ -36,7 +45,12 @@ import org.kie.dmn.core.ast.InputDataNodeImpl;
 import org.kie.dmn.core.ast.ItemDefNodeImpl;
 import org.kie.dmn.model.api.InputData;
 import org.kie.dmn.model.api.ItemDefinition;
+import org.kie.server.api.KieServerConstants;
+import org.kie.server.api.model.KieContainerStatus;
 import org.kie.server.api.model.ServiceResponse;
+import org.kie.server.api.model.dmn.DMNBatchContextKS;
+import org.kie.server.api.model.dmn.DMNBatchItemResultKS;
+import org.kie.server.api.model.dmn.DMNBatchResultKS;
 import org.kie.server.api.model.dmn.DMNContextKS;
 import org.kie.server.api.model.dmn.DMNDecisionInfo;
 import org.kie.server.api.model.dmn.DMNDecisionServiceInfo;
@@ -65,6 +79,12 @@ public class ModelEvaluatorServiceBase {
     private KieServerRegistry context;
     private MarshallerHelper marshallerHelper;
 
+    private final ConcurrentMap<String, DMNContainerRuntime> runtimes = new ConcurrentHashMap<>();
+
+    private final int batchThreads = Integer.getInteger(KieServerConstants.KIE_DMN_SERVER_BATCH_THREADS, Runtime.getRuntime().availableProcessors());
+    private final int batchMaxSize = Integer.getInteger(KieServerConstants.KIE_DMN_SERVER_BATCH_MAX_SIZE, 1000);
+    private ExecutorService batchExecutor;
+
     public ModelEvaluatorServiceBase(KieServerRegistry context) {
         this.context = context;
         this.marshallerHelper = new MarshallerHelper(context);
@@ -73,13 +93,15 @@ public class ModelEvaluatorServiceBase {
     public ServiceResponse<DMNModelInfoList> getModels(String containerId) {
         try {
             KieContainerInstanceImpl kContainer = context.getContainer(containerId, ContainerLocatorProvider.get().getLocator());
-            KieSession kieSession = kContainer.getKieContainer().newKieSession();
-            DMNRuntime kieRuntime = kieSession.getKieRuntime(DMNRuntime.class);
-            
-            List<DMNModel> models = kieRuntime.getModels();
-            List<DMNModelInfo> result = models.stream().map(ModelEvaluatorServiceBase::modelToInfo).collect(Collectors.toList());
+            DMNContainerRuntime containerRuntime = acquireContainerRuntime(kContainer);
+            List<DMNModelInfo> result;
+            try {
+                List<DMNModel> models = containerRuntime.getModels();
+                result = models.stream().map(ModelEvaluatorServiceBase::modelToInfo).collect(Collectors.toList());
+            } finally {
+                containerRuntime.release();
+            }
             
-            kieSession.dispose();
             return new ServiceResponse<DMNModelInfoList>(
                     ServiceResponse.ResponseType.SUCCESS,
                     "OK models successfully retrieved from container '" + containerId + "'",
@@ -160,73 +182,17 @@ public class ModelEvaluatorServiceBase {
     public ServiceResponse<DMNResultKS> evaluateDecisions(String containerId, String contextPayload, String marshallingType) {
         try {
             KieContainerInstanceImpl kContainer = context.getContainer(containerId, ContainerLocatorProvider.get().getLocator());
-            KieSession kieSession = kContainer.getKieContainer().newKieSession();
-            DMNRuntime dmnRuntime = kieSession.getKieRuntime(DMNRuntime.class);
-
-            KieServerExtension extension = context.getServerExtension(PrometheusKieServerExtension.EXTENSION_NAME);
-            if (extension != null) {
-                PrometheusMetrics dmnMetrics = PrometheusKieServerExtension.getMetrics();
-                PrometheusMetricsDMNListener listener = new PrometheusMetricsDMNListener(dmnMetrics, kContainer);
-                dmnRuntime.addListener(listener);
-            }
-
             LOG.debug("Will deserialize payload: {}", contextPayload);
             DMNContextKS evalCtx = marshallerHelper.unmarshal(containerId, contextPayload, marshallingType, DMNContextKS.class);
-            
-            DMNModel model;
-            if ( evalCtx.getModelName() == null ) {
-                if ( dmnRuntime.getModels().size() > 1 ) {
-                    throw new RuntimeException("more than one (default) model");
-                }
-                
-                model = dmnRuntime.getModels().get(0);
-            } else {
-                model = dmnRuntime.getModel(evalCtx.getNamespace(), evalCtx.getModelName());
-            }
-            if ( model == null ) {
-                throw new RuntimeException("Unable to locate DMN Model to evaluate");
-            }
-            LOG.debug("Will use model: {}", model);
-            
-            DMNContext dmnContext = DMNFactory.newContext();
-            for ( Entry<String, Object> e : evalCtx.getDmnContext().entrySet() ) {
-                dmnContext.set(e.getKey(), e.getValue());
-            }
-            LOG.debug("Will use dmnContext: {}", dmnContext);
-            
-            DMNResult result = null;
-
-            final List<String> names = Optional.ofNullable(evalCtx.getDecisionNames()).orElse(Collections.emptyList());
-            final List<String> ids = Optional.ofNullable(evalCtx.getDecisionIds()).orElse(Collections.emptyList());
-            final String decisionServiceName = evalCtx.getDecisionServiceName();
-
-            if (decisionServiceName == null && names.isEmpty() && ids.isEmpty()) {
-                // then implies evaluate All decisions
-                LOG.debug("Invoking evaluateAll...");
-                result = dmnRuntime.evaluateAll(model, dmnContext);
-            } else if (decisionServiceName != null && names.isEmpty() && ids.isEmpty()) {
-                LOG.debug("Invoking evaluateDecisionService using decisionServiceName: {}", decisionServiceName);
-                result = dmnRuntime.evaluateDecisionService(model, dmnContext, decisionServiceName);
-            } else if ( !names.isEmpty()  && ids.isEmpty() ) {
-                LOG.debug("Invoking evaluateDecisionByName using {}", names);
-                result = dmnRuntime.evaluateByName( model, dmnContext, names.toArray(new String[]{}) );
-            } else if ( !ids.isEmpty() && names.isEmpty() ) {
-                LOG.debug("Invoking evaluateDecisionById using {}", ids);
-                result = dmnRuntime.evaluateById( model, dmnContext, ids.toArray(new String[]{}) );
-            } else {
-                LOG.debug("Not supported case");
-                throw new RuntimeException("Unable to locate DMN Decision to evaluate");
+
+            DMNContainerRuntime containerRuntime = acquireContainerRuntime(kContainer);
+            DMNResultKS res;
+            try {
+                res = evaluate(containerRuntime, evalCtx);
+            } finally {
+                containerRuntime.release();
             }
             
-            LOG.debug("Result:");
-            LOG.debug("{}",result);
-            LOG.debug("{}",result.getContext());
-            LOG.debug("{}",result.getDecisionResults());
-            LOG.debug("{}",result.getMessages());
-            
-            DMNResultKS res = new DMNResultKS(model.getNamespace(), model.getName(), evalCtx.getDecisionNames(), result);
-            
-            kieSession.dispose();
             return new ServiceResponse<DMNResultKS>(
                     ServiceResponse.ResponseType.SUCCESS,
                     "OK from container '" + containerId + "'",
@@ -241,6 +207,266 @@ public class ModelEvaluatorServiceBase {
         }
     }
 
+    /**
+     * Evaluates all contexts of a batch, each as if it was sent in its own request. Contexts are split in chunks
+     * evaluated in parallel on a pool bounded by <code>org.kie.dmn.server.batch.threads</code> (number of processors
+     * by default); results keep the order of the contexts and a context that fails does not affect the others.
+     * <p>
+     * Failure is returned when the container is not available or the batch cannot be read or has more contexts
+     * than <code>org.kie.dmn.server.batch.max.size</code> allows, any other error is thrown.
+     */
+    public ServiceResponse<DMNBatchResultKS> evaluateDecisionsBatch(String containerId, String contextPayload, String marshallingType) {
+        KieContainerInstanceImpl kContainer;
+        DMNContainerRuntime containerRuntime;
+        try {
+            kContainer = context.getContainer(containerId, ContainerLocatorProvider.get().getLocator());
+            containerRuntime = acquireContainerRuntime(kContainer);
+        } catch ( Exception e ) {
+            LOG.debug( "Container '" + containerId + "' not available for batch evaluation", e );
+            return new ServiceResponse<DMNBatchResultKS>(
+                    ServiceResponse.ResponseType.FAILURE,
+                    "Container '" + containerId + "' is not available: " + e.getMessage(),
+                    null );
+        }
+
+        try {
+            return evaluateBatch(containerId, contextPayload, marshallingType, kContainer, containerRuntime);
+        } finally {
+            containerRuntime.release();
+        }
+    }
+
+    private ServiceResponse<DMNBatchResultKS> evaluateBatch(String containerId, String contextPayload, String marshallingType,
+                                                            KieContainerInstanceImpl kContainer, DMNContainerRuntime containerRuntime) {
+        List<DMNContextKS> contexts;
+        try {
+            DMNBatchContextKS batch = marshallerHelper.unmarshal(containerId, contextPayload, marshallingType, DMNBatchContextKS.class);
+            contexts = batch == null || batch.getContexts() == null ? Collections.emptyList() : batch.getContexts();
+        } catch ( Exception e ) {
+            LOG.debug( "Unable to read batch for container '" + containerId + "'", e );
+            return new ServiceResponse<DMNBatchResultKS>(
+                    ServiceResponse.ResponseType.FAILURE,
+                    "Unable to read batch for container '" + containerId + "': " + e.getMessage(),
+                    null );
+        }
+        if (contexts.size() > batchMaxSize) {
+            return new ServiceResponse<DMNBatchResultKS>(
+                    ServiceResponse.ResponseType.FAILURE,
+                    "Batch of " + contexts.size() + " contexts exceeds the maximum of " + batchMaxSize,
+                    null );
+        }
+        LOG.debug("Will evaluate batch of {} contexts", contexts.size());
+
+        DMNBatchItemResultKS[] results = new DMNBatchItemResultKS[contexts.size()];
+        int chunkSize = Math.max(1, contexts.size() / (batchThreads * 4));
+        if (batchThreads <= 1 || contexts.size() <= chunkSize) {
+            evaluateChunk(containerRuntime, contexts, 0, contexts.size(), results);
+        } else {
+            ClassLoader classLoader = kContainer.getKieContainer().getClassLoader();
+            List<Callable<Void>> chunks = new ArrayList<>();
+            for (int from = 0; from < contexts.size(); from += chunkSize) {
+                int chunkStart = from;
+                int chunkEnd = Math.min(contexts.size(), from + chunkSize);
+                chunks.add(() -> {
+                    ClassLoader previous = Thread.currentThread().getContextClassLoader();
+                    Thread.currentThread().setContextClassLoader(classLoader);
+                    try {
+                        evaluateChunk(containerRuntime, contexts, chunkStart, chunkEnd, results);
+                    } finally {
+                        Thread.currentThread().setContextClassLoader(previous);
+                    }
+                    return null;
+                });
+            }
+            try {
+                for (Future<Void> chunk : getBatchExecutor().invokeAll(chunks)) {
+                    chunk.get();
+                }
+            } catch ( InterruptedException e ) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Batch evaluation interrupted on container '" + containerId + "'", e);
+            } catch ( ExecutionException e ) {
+                throw new IllegalStateException("Batch evaluation failed on container '" + containerId + "'", e.getCause());
+            }
+        }
+
+        return new ServiceResponse<DMNBatchResultKS>(
+                ServiceResponse.ResponseType.SUCCESS,
+                "OK from container '" + containerId + "'",
+                new DMNBatchResultKS(Arrays.asList(results)) );
+    }
+
+    private void evaluateChunk(DMNContainerRuntime containerRuntime, List<DMNContextKS> contexts, int from, int to, DMNBatchItemResultKS[] results) {
+        for (int i = from; i < to; i++) {
+            try {
+                results[i] = DMNBatchItemResultKS.succeeded(i, evaluate(containerRuntime, contexts.get(i)));
+            } catch (Exception e) {
+                LOG.debug("Evaluation of batch context {} failed", i, e);
+                results[i] = DMNBatchItemResultKS.failed(i, e.getMessage());
+            }
+        }
+    }
+
+    protected DMNResultKS evaluate(DMNContainerRuntime containerRuntime, DMNContextKS evalCtx) {
+        DMNRuntime dmnRuntime = containerRuntime.getDMNRuntime();
+
+        DMNModel model = containerRuntime.getModel(evalCtx.getNamespace(), evalCtx.getModelName());
+        if ( model == null ) {
+            throw new RuntimeException("Unable to locate DMN Model to evaluate");
+        }
+        LOG.debug("Will use model: {}", model);
+
+        DMNResultCache resultCache = containerRuntime.getResultCache();
+        String cacheKey = resultCache != null ? resultCache.keyFor(model, evalCtx) : null;
+        if (cacheKey != null) {
+            DMNResultKS cached = containerRuntime.getCachedResult(model, cacheKey);
+            if (cached != null) {
+                LOG.debug("Result found in cache {}", resultCache);
+                return cached;
+            }
+        }
+        
+        DMNContext dmnContext = DMNFactory.newContext();
+        for ( Entry<String, Object> e : evalCtx.getDmnContext().entrySet() ) {
+            dmnContext.set(e.getKey(), e.getValue());
+        }
+        LOG.debug("Will use dmnContext: {}", dmnContext);
+        
+        DMNResult result = null;
+
+        final List<String> names = Optional.ofNullable(evalCtx.getDecisionNames()).orElse(Collections.emptyList());
+        final List<String> ids = Optional.ofNullable(evalCtx.getDecisionIds()).orElse(Collections.emptyList());
+        final String decisionServiceName = evalCtx.getDecisionServiceName();
+
+        if (decisionServiceName == null && names.isEmpty() && ids.isEmpty()) {
+            // then implies evaluate All decisions
+            LOG.debug("Invoking evaluateAll...");
+            result = dmnRuntime.evaluateAll(model, dmnContext);
+        } else if (decisionServiceName != null && names.isEmpty() && ids.isEmpty()) {
+            LOG.debug("Invoking evaluateDecisionService using decisionServiceName: {}", decisionServiceName);
+            result = dmnRuntime.evaluateDecisionService(model, dmnContext, decisionServiceName);
+        } else if ( !names.isEmpty()  && ids.isEmpty() ) {
+            LOG.debug("Invoking evaluateDecisionByName using {}", names);
+            result = dmnRuntime.evaluateByName( model, dmnContext, names.toArray(new String[]{}) );
+        } else if ( !ids.isEmpty() && names.isEmpty() ) {
+            LOG.debug("Invoking evaluateDecisionById using {}", ids);
+            result = dmnRuntime.evaluateById( model, dmnContext, ids.toArray(new String[]{}) );
+        } else {
+            LOG.debug("Not supported case");
+            throw new RuntimeException("Unable to locate DMN Decision to evaluate");
+        }
+        
+        LOG.debug("Result:");
+        LOG.debug("{}",result);
+        LOG.debug("{}",result.getContext());
+        LOG.debug("{}",result.getDecisionResults());
+        LOG.debug("{}",result.getMessages());
+        
+        DMNResultKS res = new DMNResultKS(model.getNamespace(), model.getName(), evalCtx.getDecisionNames(), result);
+        // only successful evaluations are remembered so failures are always reported by a fresh evaluation
+        if (cacheKey != null && !result.hasErrors()) {
+            resultCache.put(cacheKey, res);
+        }
+        return res;
+    }
+
+    protected ExecutorService getBatchExecutor() {
+        synchronized (runtimes) {
+            if (batchExecutor == null) {
+                AtomicInteger threadCount = new AtomicInteger();
+                batchExecutor = Executors.newFixedThreadPool(batchThreads, r -> {
+                    Thread thread = new Thread(r, "kie-server-dmn-batch-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+            return batchExecutor;
+        }
+    }
+
+    /**
+     * Returns DMN runtime of given container acquired for an evaluation, the caller must release it when done.
+     * A runtime replaced or disposed meanwhile is not used, the current one is looked up again.
+     */
+    protected DMNContainerRuntime acquireContainerRuntime(KieContainerInstanceImpl kContainer) {
+        while (true) {
+            DMNContainerRuntime containerRuntime = getContainerRuntime(kContainer);
+            if (containerRuntime.acquire()) {
+                return containerRuntime;
+            }
+        }
+    }
+
+    /**
+     * Returns DMN runtime of given container, creating it on first use or when the container runs another release
+     * than the runtime was created for. Listeners are registered once, when the runtime is created.
+     * No runtime is created for a container being disposed, it would never be disposed itself.
+     */
+    protected DMNContainerRuntime getContainerRuntime(KieContainerInstanceImpl kContainer) {
+        String containerId = kContainer.getContainerId();
+        DMNContainerRuntime containerRuntime = runtimes.get(containerId);
+        if (containerRuntime != null && containerRuntime.isCurrent(kContainer)) {
+            return containerRuntime;
+        }
+        synchronized (runtimes) {
+            containerRuntime = runtimes.get(containerId);
+            if (containerRuntime != null && containerRuntime.isCurrent(kContainer)) {
+                return containerRuntime;
+            }
+            // disposal marks the container before it drops the runtime under the same lock
+            if (kContainer.getStatus() == KieContainerStatus.DISPOSING) {
+                throw new IllegalStateException("Container '" + containerId + "' is being disposed");
+            }
+            KieServerExtension extension = context.getServerExtension(PrometheusKieServerExtension.EXTENSION_NAME);
+            PrometheusMetrics dmnMetrics = extension != null ? PrometheusKieServerExtension.getMetrics() : null;
+            DMNContainerRuntime created = new DMNContainerRuntime(kContainer, dmnMetrics);
+            if (dmnMetrics != null) {
+                created.getDMNRuntime().addListener(new PrometheusMetricsDMNListener(dmnMetrics, kContainer));
+            }
+            runtimes.put(containerId, created);
+            if (containerRuntime != null) {
+                // evaluations still running on the previous runtime keep its session until they are done
+                containerRuntime.dispose();
+            }
+            LOG.debug("DMN runtime created for container '{}'", containerId);
+            return created;
+        }
+    }
+
+    /**
+     * Drops cached DMN runtime of given container, called when container is updated or disposed.
+     */
+    public void disposeContainerRuntime(String containerId) {
+        DMNContainerRuntime containerRuntime;
+        synchronized (runtimes) {
+            containerRuntime = runtimes.remove(containerId);
+        }
+        if (containerRuntime != null) {
+            if (containerRuntime.getResultCache() != null) {
+                LOG.info("DMN result cache of container '{}' dropped: {}", containerId, containerRuntime.getResultCache());
+            }
+            containerRuntime.dispose();
+        }
+    }
+
+    public void dispose() {
+        synchronized (runtimes) {
+            if (batchExecutor != null) {
+                batchExecutor.shutdownNow();
+                batchExecutor = null;
+            }
+        }
+        runtimes.keySet().forEach(this::disposeContainerRuntime);
+    }
+
+    /**
+     * @return result cache of given container or null when caching is not enabled or the container was not evaluated yet
+     */
+    public DMNResultCache getResultCache(String containerId) {
+        DMNContainerRuntime containerRuntime = runtimes.get(containerId);
+        return containerRuntime == null ? null : containerRuntime.getResultCache();
+    }
+
     public KieServerRegistry getKieServerRegistry() {
         return this.context;
     }
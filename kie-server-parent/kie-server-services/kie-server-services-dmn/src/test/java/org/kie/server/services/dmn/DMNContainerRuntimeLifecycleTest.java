@@ -0,0 +1,168 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.server.services.dmn;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.drools.core.impl.InternalKieContainer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.api.builder.ReleaseId;
+import org.kie.api.runtime.KieSession;
+import org.kie.dmn.api.core.DMNRuntime;
+import org.kie.server.api.model.KieContainerStatus;
+import org.kie.server.services.api.KieServerRegistry;
+import org.kie.server.services.impl.KieContainerInstanceImpl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class DMNContainerRuntimeLifecycleTest {
+
+    private static final String CONTAINER_ID = "dmn-container";
+
+    private final List<KieSession> sessions = Collections.synchronizedList(new ArrayList<>());
+
+    private ModelEvaluatorServiceBase service;
+    private InternalKieContainer kieContainer;
+    private KieContainerInstanceImpl kContainer;
+
+    @Before
+    public void setup() {
+        service = new ModelEvaluatorServiceBase(mock(KieServerRegistry.class));
+        kieContainer = mock(InternalKieContainer.class);
+        ReleaseId releaseId = mock(ReleaseId.class);
+        when(kieContainer.getReleaseId()).thenReturn(releaseId);
+        when(kieContainer.getContainerReleaseId()).thenReturn(releaseId);
+        when(kieContainer.newKieSession()).thenAnswer(invocation -> {
+            KieSession session = mock(KieSession.class);
+            when(session.getKieRuntime(DMNRuntime.class)).thenReturn(mock(DMNRuntime.class));
+            sessions.add(session);
+            return session;
+        });
+        kContainer = new KieContainerInstanceImpl(CONTAINER_ID, KieContainerStatus.STARTED, kieContainer);
+    }
+
+    @After
+    public void cleanup() {
+        service.dispose();
+    }
+
+    @Test
+    public void testRuntimeIsCreatedOnceAndDisposedWithContainer() {
+        DMNContainerRuntime runtime = service.getContainerRuntime(kContainer);
+        assertSame(runtime, service.getContainerRuntime(kContainer));
+        assertEquals(1, sessions.size());
+
+        kContainer.setStatus(KieContainerStatus.DISPOSING);
+        service.disposeContainerRuntime(CONTAINER_ID);
+        verify(sessions.get(0)).dispose();
+    }
+
+    @Test
+    public void testRuntimeIsReplacedWhenReleaseChanges() {
+        DMNContainerRuntime runtime = service.getContainerRuntime(kContainer);
+
+        ReleaseId updated = mock(ReleaseId.class);
+        when(kieContainer.getReleaseId()).thenReturn(updated);
+        DMNContainerRuntime replaced = service.getContainerRuntime(kContainer);
+
+        assertNotSame(runtime, replaced);
+        verify(sessions.get(0)).dispose();
+        verify(sessions.get(1), never()).dispose();
+    }
+
+    @Test
+    public void testReplacedRuntimeIsDisposedAfterInFlightEvaluations() {
+        DMNContainerRuntime runtime = service.acquireContainerRuntime(kContainer);
+
+        ReleaseId updated = mock(ReleaseId.class);
+        when(kieContainer.getReleaseId()).thenReturn(updated);
+        DMNContainerRuntime replaced = service.acquireContainerRuntime(kContainer);
+
+        assertNotSame(runtime, replaced);
+        verify(sessions.get(0), never()).dispose();
+        assertFalse(runtime.acquire());
+
+        runtime.release();
+        verify(sessions.get(0)).dispose();
+        replaced.release();
+        verify(sessions.get(1), never()).dispose();
+    }
+
+    @Test
+    public void testNoRuntimeIsCreatedForDisposedContainer() {
+        service.getContainerRuntime(kContainer);
+        kContainer.setStatus(KieContainerStatus.DISPOSING);
+        service.disposeContainerRuntime(CONTAINER_ID);
+
+        try {
+            service.getContainerRuntime(kContainer);
+            fail("Runtime must not be created for a container being disposed");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        assertEquals(1, sessions.size());
+    }
+
+    @Test(timeout = 30000)
+    public void testEvaluationsRacingWithDisposalDoNotLeakSessions() throws Exception {
+        service.getContainerRuntime(kContainer);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            CountDownLatch started = new CountDownLatch(3);
+            List<Future<?>> evaluations = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                evaluations.add(executor.submit(() -> {
+                    started.countDown();
+                    for (int j = 0; j < 2000; j++) {
+                        try {
+                            service.getContainerRuntime(kContainer);
+                        } catch (IllegalStateException e) {
+                            // container disposed meanwhile
+                        }
+                    }
+                }));
+            }
+            started.await();
+            kContainer.setStatus(KieContainerStatus.DISPOSING);
+            service.disposeContainerRuntime(CONTAINER_ID);
+            for (Future<?> evaluation : evaluations) {
+                evaluation.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, sessions.size());
+        verify(sessions.get(0), times(1)).dispose();
+    }
+}
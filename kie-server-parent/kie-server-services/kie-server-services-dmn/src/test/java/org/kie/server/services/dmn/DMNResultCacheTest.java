@@ -0,0 +1,157 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.server.services.dmn;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.dmn.api.core.DMNModel;
+import org.kie.server.api.model.dmn.DMNContextKS;
+import org.kie.server.api.model.dmn.DMNResultKS;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class DMNResultCacheTest {
+
+    private DMNModel model;
+    private DMNModel otherModel;
+
+    @Before
+    public void setup() {
+        model = model("pricing");
+        otherModel = model("routing");
+    }
+
+    @Test
+    public void testEquivalentContextsHaveSameKey() {
+        DMNResultCache cache = new DMNResultCache("pricing", 10, 0);
+
+        Map<String, Object> context = new LinkedHashMap<>();
+        context.put("amount", new BigDecimal("10.50"));
+        context.put("tags", new LinkedHashSet<>(Arrays.asList("a", "b")));
+        context.put("date", LocalDate.of(2019, 1, 31));
+        context.put("vip", true);
+        Map<String, Object> reordered = new LinkedHashMap<>();
+        reordered.put("vip", true);
+        reordered.put("date", LocalDate.of(2019, 1, 31));
+        reordered.put("tags", new LinkedHashSet<>(Arrays.asList("b", "a")));
+        reordered.put("amount", 10.5);
+
+        String key = cache.keyFor(model, new DMNContextKS(context));
+        assertNotNull(key);
+        assertEquals(key, cache.keyFor(model, new DMNContextKS(reordered)));
+
+        reordered.put("amount", 10.6);
+        assertNotEquals(key, cache.keyFor(model, new DMNContextKS(reordered)));
+    }
+
+    @Test
+    public void testOnlyConfiguredEvaluationsAreCached() {
+        DMNResultCache cache = new DMNResultCache("pricing, routing#route", 10, 0);
+        Map<String, Object> context = Collections.singletonMap("amount", 10);
+
+        assertNotNull(cache.keyFor(model, new DMNContextKS(context)));
+        assertNull(cache.keyFor(model("other"), new DMNContextKS(context)));
+
+        DMNContextKS evalCtx = new DMNContextKS(context);
+        assertNull(cache.keyFor(otherModel, evalCtx));
+        evalCtx.setDecisionNames(Collections.singletonList("route"));
+        assertNotNull(cache.keyFor(otherModel, evalCtx));
+        evalCtx.setDecisionNames(Arrays.asList("route", "other"));
+        assertNull(cache.keyFor(otherModel, evalCtx));
+    }
+
+    @Test
+    public void testContextWithoutCanonicalFormIsNotCached() {
+        DMNResultCache cache = new DMNResultCache("pricing", 10, 0);
+
+        Map<String, Object> nested = new HashMap<>();
+        nested.put("customer", Collections.singletonList(new Object()));
+
+        assertNull(cache.keyFor(model, new DMNContextKS(Collections.singletonMap("customer", new Object()))));
+        assertNull(cache.keyFor(model, new DMNContextKS(Collections.singletonMap("nested", nested))));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntryIsEvicted() {
+        DMNResultCache cache = new DMNResultCache("pricing", 2, 0);
+        DMNResultKS first = new DMNResultKS();
+        DMNResultKS second = new DMNResultKS();
+        DMNResultKS third = new DMNResultKS();
+
+        cache.put("first", first);
+        cache.put("second", second);
+        // replacing an entry makes it the most recently used one
+        cache.put("first", first);
+        cache.put("third", third);
+
+        assertEquals(2, cache.size());
+        assertSame(first, cache.get("first"));
+        assertNull(cache.get("second"));
+        assertSame(third, cache.get("third"));
+    }
+
+    @Test
+    public void testExpiredEntryIsDroppedAndStoredAgain() throws Exception {
+        DMNResultCache cache = new DMNResultCache("pricing", 2, 1);
+        DMNResultKS result = new DMNResultKS();
+
+        cache.put("first", result);
+        Thread.sleep(10);
+        assertNull(cache.get("first"));
+        assertEquals(0, cache.size());
+
+        cache.put("first", result);
+        cache.put("second", result);
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testHitsAndMissesAreCounted() {
+        DMNResultCache cache = new DMNResultCache("pricing", 10, 0);
+        cache.put("key", new DMNResultKS());
+
+        cache.get("key");
+        cache.get("key");
+        cache.get("key");
+        cache.get("missing");
+
+        assertEquals(3, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(0.75, cache.getHitRatio(), 0.0001);
+    }
+
+    private static DMNModel model(String name) {
+        DMNModel model = mock(DMNModel.class);
+        when(model.getName()).thenReturn(name);
+        when(model.getNamespace()).thenReturn("https://kiegroup.org/dmn");
+        return model;
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.server.services.dmn;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.drools.core.impl.InternalKieContainer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.server.api.KieServerConstants;
+import org.kie.server.api.marshalling.Marshaller;
+import org.kie.server.api.marshalling.MarshallerFactory;
+import org.kie.server.api.marshalling.MarshallingFormat;
+import org.kie.server.api.model.ServiceResponse;
+import org.kie.server.api.model.dmn.DMNBatchContextKS;
+import org.kie.server.api.model.dmn.DMNBatchItemResultKS;
+import org.kie.server.api.model.dmn.DMNBatchResultKS;
+import org.kie.server.api.model.dmn.DMNContextKS;
+import org.kie.server.api.model.dmn.DMNResultKS;
+import org.kie.server.services.api.ContainerLocator;
+import org.kie.server.services.api.KieServerRegistry;
+import org.kie.server.services.impl.KieContainerInstanceImpl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ModelEvaluatorServiceBaseBatchTest {
+
+    private static final String CONTAINER_ID = "dmn-container";
+    private static final String JSON = MarshallingFormat.JSON.getType();
+
+    private final Marshaller marshaller = MarshallerFactory.getMarshaller(MarshallingFormat.JSON, getClass().getClassLoader());
+
+    private KieServerRegistry registry;
+    private ModelEvaluatorServiceBase service;
+
+    @Before
+    public void setup() {
+        System.setProperty(KieServerConstants.KIE_DMN_SERVER_BATCH_MAX_SIZE, "5");
+
+        InternalKieContainer kieContainer = mock(InternalKieContainer.class);
+        when(kieContainer.getClassLoader()).thenReturn(getClass().getClassLoader());
+        KieContainerInstanceImpl kContainer = mock(KieContainerInstanceImpl.class);
+        when(kContainer.getContainerId()).thenReturn(CONTAINER_ID);
+        when(kContainer.getKieContainer()).thenReturn(kieContainer);
+        when(kContainer.getMarshaller(MarshallingFormat.JSON)).thenReturn(marshaller);
+
+        registry = mock(KieServerRegistry.class);
+        when(registry.getContainer(eq(CONTAINER_ID), any(ContainerLocator.class))).thenReturn(kContainer);
+        when(registry.getContainer(eq("missing"), any(ContainerLocator.class))).thenThrow(new IllegalArgumentException("Container 'missing' is not instantiated"));
+
+        service = new ModelEvaluatorServiceBase(registry) {
+
+            @Override
+            protected DMNContainerRuntime getContainerRuntime(KieContainerInstanceImpl kContainer) {
+                DMNContainerRuntime containerRuntime = mock(DMNContainerRuntime.class);
+                when(containerRuntime.acquire()).thenReturn(true);
+                return containerRuntime;
+            }
+
+            @Override
+            protected DMNResultKS evaluate(DMNContainerRuntime containerRuntime, DMNContextKS evalCtx) {
+                if ("failing".equals(evalCtx.getModelName())) {
+                    throw new RuntimeException("Unable to locate DMN Model to evaluate");
+                }
+                DMNResultKS result = new DMNResultKS();
+                result.setModelName(evalCtx.getModelName());
+                return result;
+            }
+        };
+    }
+
+    @After
+    public void cleanup() {
+        System.clearProperty(KieServerConstants.KIE_DMN_SERVER_BATCH_MAX_SIZE);
+        service.dispose();
+    }
+
+    @Test
+    public void testResultsKeepOrderAndFailuresStayIsolated() {
+        ServiceResponse<DMNBatchResultKS> response = service.evaluateDecisionsBatch(CONTAINER_ID, batch("m0", "failing", "m2", "m3"), JSON);
+
+        assertEquals(ServiceResponse.ResponseType.SUCCESS, response.getType());
+        List<DMNBatchItemResultKS> results = response.getResult().getResults();
+        assertEquals(4, results.size());
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(Integer.valueOf(i), results.get(i).getIndex());
+        }
+        assertEquals("m0", results.get(0).getResult().getModelName());
+        assertFalse(results.get(1).isSuccess());
+        assertEquals("m2", results.get(2).getResult().getModelName());
+        assertEquals("m3", results.get(3).getResult().getModelName());
+    }
+
+    @Test
+    public void testEmptyBatch() {
+        ServiceResponse<DMNBatchResultKS> response = service.evaluateDecisionsBatch(CONTAINER_ID, batch(), JSON);
+
+        assertEquals(ServiceResponse.ResponseType.SUCCESS, response.getType());
+        assertTrue(response.getResult().getResults().isEmpty());
+    }
+
+    @Test
+    public void testBatchOverMaximumSizeIsRejected() {
+        ServiceResponse<DMNBatchResultKS> response = service.evaluateDecisionsBatch(CONTAINER_ID, batch("m0", "m1", "m2", "m3", "m4", "m5"), JSON);
+
+        assertEquals(ServiceResponse.ResponseType.FAILURE, response.getType());
+        assertTrue(response.getMsg().contains("exceeds the maximum of 5"));
+    }
+
+    @Test
+    public void testUnreadableBatchIsRejected() {
+        ServiceResponse<DMNBatchResultKS> response = service.evaluateDecisionsBatch(CONTAINER_ID, "{ not a batch", JSON);
+
+        assertEquals(ServiceResponse.ResponseType.FAILURE, response.getType());
+        assertTrue(response.getMsg().startsWith("Unable to read batch"));
+    }
+
+    @Test
+    public void testMissingContainerIsReported() {
+        ServiceResponse<DMNBatchResultKS> response = service.evaluateDecisionsBatch("missing", batch("m0"), JSON);
+
+        assertEquals(ServiceResponse.ResponseType.FAILURE, response.getType());
+        assertTrue(response.getMsg().contains("is not available"));
+    }
+
+    private String batch(String... modelNames) {
+        List<DMNContextKS> contexts = new ArrayList<>();
+        for (String modelName : modelNames) {
+            contexts.add(new DMNContextKS("https://kiegroup.org/dmn/batch", modelName, Collections.emptyMap()));
+        }
+        return marshaller.marshall(new DMNBatchContextKS(contexts));
+    }
+}
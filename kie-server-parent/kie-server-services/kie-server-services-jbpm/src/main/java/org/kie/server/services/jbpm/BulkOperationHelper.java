@@ -0,0 +1,127 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.server.services.jbpm;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.drools.persistence.api.TransactionManager;
+import org.drools.persistence.api.TransactionManagerFactory;
+import org.kie.server.api.model.instance.BulkOperationResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes bulk operations in chunks, each chunk of items within a single transaction.
+ * When any item of a chunk fails the whole chunk is rolled back and none of its items is executed
+ * again, the failed item reports its error and the other items of the chunk report that they were
+ * rolled back or not executed. Chunks of a single item run without a transaction of their own, relying
+ * on the one of the operation.
+ * <br/>
+ * When the chunk joins a transaction started by the caller a failure cannot be confined to the chunk,
+ * so it is rethrown and no further chunk is executed.
+ */
+public class BulkOperationHelper {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkOperationHelper.class);
+
+    public static final int DEFAULT_BULK_CHUNK_SIZE = 50;
+
+    private BulkOperationHelper() {
+    }
+
+    /**
+     * @param items items to execute the operation for
+     * @param chunkSize number of items per transaction, DEFAULT_BULK_CHUNK_SIZE when not given or not positive
+     * @param operation operation to execute, returns the id reported for successful item
+     * @param idOf optional id reported for failed item
+     * @return results of all items in the order of given items
+     */
+    public static <T> List<BulkOperationResult> executeInChunks(List<T> items, Integer chunkSize, Function<T, Long> operation, Function<T, Long> idOf) {
+        return executeInChunks(items, chunkSize, operation, idOf, () -> TransactionManagerFactory.get().newTransactionManager());
+    }
+
+    protected static <T> List<BulkOperationResult> executeInChunks(List<T> items, Integer chunkSize, Function<T, Long> operation, Function<T, Long> idOf,
+                                                                   Supplier<TransactionManager> transactionManager) {
+        int size = chunkSize == null || chunkSize < 1 ? DEFAULT_BULK_CHUNK_SIZE : chunkSize;
+        List<BulkOperationResult> results = new ArrayList<BulkOperationResult>(items.size());
+
+        for (int offset = 0; offset < items.size(); offset += size) {
+            List<T> chunk = items.subList(offset, Math.min(offset + size, items.size()));
+            if (chunk.size() == 1) {
+                T item = chunk.get(0);
+                try {
+                    results.add(BulkOperationResult.succeeded(offset, operation.apply(item)));
+                } catch (Exception e) {
+                    logger.debug("Bulk operation failed for item {}", offset, e);
+                    results.add(BulkOperationResult.failed(offset, idOf(idOf, item), errorOf(e)));
+                }
+            } else {
+                executeChunk(chunk, offset, operation, idOf, transactionManager.get(), results);
+            }
+        }
+
+        return results;
+    }
+
+    protected static <T> void executeChunk(List<T> chunk, int offset, Function<T, Long> operation, Function<T, Long> idOf,
+                                           TransactionManager txm, List<BulkOperationResult> results) {
+        List<BulkOperationResult> chunkResults = new ArrayList<BulkOperationResult>(chunk.size());
+        boolean txOwner = false;
+        try {
+            txOwner = txm.begin();
+            for (int i = 0; i < chunk.size(); i++) {
+                chunkResults.add(BulkOperationResult.succeeded(offset + i, operation.apply(chunk.get(i))));
+            }
+            txm.commit(txOwner);
+        } catch (RuntimeException e) {
+            // index of the failed item, equals to chunk size when the commit failed
+            int failed = chunkResults.size();
+            logger.debug("Chunk of {} items starting at {} failed at item {}, rolling it back", chunk.size(), offset, offset + failed, e);
+            try {
+                txm.rollback(txOwner);
+            } catch (Exception rollbackException) {
+                logger.warn("Unable to rollback chunk of {} items starting at {}", chunk.size(), offset, rollbackException);
+            }
+            if (!txOwner) {
+                throw e;
+            }
+            for (int i = 0; i < chunk.size(); i++) {
+                String error;
+                if (i == failed) {
+                    error = errorOf(e);
+                } else if (i < failed) {
+                    error = failed < chunk.size() ? "Rolled back as item " + (offset + failed) + " failed" : "Rolled back as commit failed: " + errorOf(e);
+                } else {
+                    error = "Not executed as item " + (offset + failed) + " failed";
+                }
+                results.add(BulkOperationResult.failed(offset + i, idOf(idOf, chunk.get(i)), error));
+            }
+            return;
+        }
+        results.addAll(chunkResults);
+    }
+
+    private static <T> Long idOf(Function<T, Long> idOf, T item) {
+        return idOf == null ? null : idOf.apply(item);
+    }
+
+    private static String errorOf(Exception e) {
+        return e.getMessage() != null ? e.getMessage() : e.getClass().getName();
+    }
+}
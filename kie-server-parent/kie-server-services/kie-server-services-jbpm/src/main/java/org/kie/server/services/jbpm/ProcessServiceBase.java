@@ -15,6 +15,7 @@
 
 package org.kie.server.services.jbpm;
 
+import static org.kie.server.services.jbpm.BulkOperationHelper.executeInChunks;
 import static org.kie.server.services.jbpm.ConvertUtils.buildQueryContext;
 import static org.kie.server.services.jbpm.ConvertUtils.convertToProcessInstance;
 import static org.kie.server.services.jbpm.ConvertUtils.convertToProcessInstanceList;
@@ -35,7 +36,13 @@ import org.kie.api.runtime.process.WorkItem;
 import org.kie.internal.KieInternalServices;
 import org.kie.internal.process.CorrelationKey;
 import org.kie.internal.process.CorrelationKeyFactory;
+import org.kie.server.api.model.instance.BulkOperationResult;
+import org.kie.server.api.model.instance.BulkOperationResultList;
 import org.kie.server.api.model.instance.ProcessInstanceList;
+import org.kie.server.api.model.instance.ProcessStartRequest;
+import org.kie.server.api.model.instance.ProcessStartRequestList;
+import org.kie.server.api.model.instance.WorkItemCompletionRequest;
+import org.kie.server.api.model.instance.WorkItemCompletionRequestList;
 import org.kie.server.api.model.instance.WorkItemInstance;
 import org.kie.server.api.model.instance.WorkItemInstanceList;
 import org.kie.server.services.api.KieServerRegistry;
@@ -121,6 +128,30 @@ public class ProcessServiceBase {
     }
 
 
+    public String startProcesses(String containerId, String processId, Integer chunkSize, String payload, String marshallingType) {
+        containerId = context.getContainerId(containerId, ContainerLocatorProvider.get().getLocator());
+        // check validity of deployment and process id once for all instances
+        definitionService.getProcessDefinition(containerId, processId);
+
+        logger.debug("About to unmarshal start requests from payload: '{}'", payload);
+        ProcessStartRequestList requests = marshallerHelper.unmarshal(containerId, payload, marshallingType, ProcessStartRequestList.class);
+        List<ProcessStartRequest> items = requests == null ? new ArrayList<ProcessStartRequest>() : requests.getItems();
+
+        final String deploymentId = containerId;
+        logger.debug("Calling start process with id {} on container {} for {} instances", processId, containerId, items.size());
+        List<BulkOperationResult> results = executeInChunks(items, chunkSize, request -> {
+            if (request.getCorrelationKey() != null && !request.getCorrelationKey().isEmpty()) {
+                CorrelationKey correlationKey = correlationKeyFactory.newCorrelationKey(Arrays.asList(request.getCorrelationKey().split(":")));
+                return processService.startProcess(deploymentId, processId, correlationKey, request.getVariables());
+            }
+            return processService.startProcess(deploymentId, processId, request.getVariables());
+        }, null);
+
+        // return response
+        String response = marshallerHelper.marshal(containerId, marshallingType, new BulkOperationResultList(results));
+        return response;
+    }
+
     public Object abortProcessInstance(String containerId, Number processInstanceId) {
         try {
             containerId = context.getContainerId(containerId, new ByProcessInstanceIdContainerLocator(processInstanceId.longValue()));
@@ -301,6 +332,25 @@ public class ProcessServiceBase {
     }
 
 
+    public String completeWorkItems(String containerId, Integer chunkSize, String payload, String marshallingType) {
+        String resolvedContainerId = context.getContainerId(containerId, ContainerLocatorProvider.get().getLocator());
+        logger.debug("About to unmarshal work item completions from payload: '{}'", payload);
+        WorkItemCompletionRequestList requests = marshallerHelper.unmarshal(resolvedContainerId, payload, marshallingType, WorkItemCompletionRequestList.class);
+        List<WorkItemCompletionRequest> items = requests == null ? new ArrayList<WorkItemCompletionRequest>() : requests.getItems();
+
+        logger.debug("Completing {} work items on container {}", items.size(), containerId);
+        List<BulkOperationResult> results = executeInChunks(items, chunkSize, request -> {
+            String deploymentId = context.getContainerId(containerId, new ByProcessInstanceIdContainerLocator(request.getProcessInstanceId()));
+            processService.completeWorkItem(deploymentId, request.getProcessInstanceId(), request.getWorkItemId(), request.getResults());
+            return request.getWorkItemId();
+        }, WorkItemCompletionRequest::getWorkItemId);
+
+        // return response
+        String response = marshallerHelper.marshal(resolvedContainerId, marshallingType, new BulkOperationResultList(results));
+        return response;
+    }
+
+
     public void abortWorkItem(String containerId, Number processInstanceId, Number workItemId) {
         containerId = context.getContainerId(containerId, new ByProcessInstanceIdContainerLocator(processInstanceId.longValue()));
         logger.debug("Aborting work item '{}' on process instance id {}", workItemId, processInstanceId);
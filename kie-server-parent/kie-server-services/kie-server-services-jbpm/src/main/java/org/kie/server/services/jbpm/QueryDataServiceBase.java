@@ -28,11 +28,16 @@ import static org.kie.server.services.jbpm.ConvertUtils.convertToTaskInstanceWit
 import static org.kie.server.services.jbpm.ConvertUtils.convertToTaskSummaryList;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import javax.xml.bind.DatatypeConverter;
+
 import org.jbpm.kie.services.impl.query.SqlQueryDefinition;
 import org.jbpm.services.api.model.ProcessInstanceCustomDesc;
 import org.jbpm.services.api.model.ProcessInstanceDesc;
@@ -142,11 +147,57 @@ public class QueryDataServiceBase {
         return transform(result, resultMapper);
     }
 
+    /**
+     * Keyset (seek) pagination variant of {@link #query(String, String, String, Integer, Integer)} - returns the first
+     * <code>pageSize</code> rows that come after the last row of previous page so deep pages do not require an offset scan.
+     * Rows are ordered by <code>orderBy</code> column, optionally followed by <code>ASC</code> or <code>DESC</code>, and
+     * then by unique <code>idColumn</code>. The last row of previous page is given by its values of both columns,
+     * <code>after</code> and <code>afterId</code>, the latter is not needed when rows are ordered by the id column itself.
+     */
+    public Object queryAfter(String queryName, String mapper, String orderBy, String idColumn, String after, String afterId, Integer pageSize) {
+        String[] orderByItem = orderBy == null ? new String[0] : orderBy.trim().split("\\s+");
+        if (orderByItem.length == 0 || orderByItem[0].isEmpty() || orderBy.contains(",") || orderByItem.length > 2
+                || (orderByItem.length == 2 && !"ASC".equalsIgnoreCase(orderByItem[1]) && !"DESC".equalsIgnoreCase(orderByItem[1]))) {
+            throw new IllegalArgumentException("Keyset pagination requires query to be ordered by single column");
+        }
+        if (after == null) {
+            throw new IllegalArgumentException("Keyset pagination requires the order by value of the last row of previous page");
+        }
+        boolean ascending = orderByItem.length == 1 || "ASC".equalsIgnoreCase(orderByItem[1]);
+        QueryResultMapper<?> resultMapper = QueryMapperRegistry.get().mapperFor(mapper, null);
+
+        Object result = seek(queryName, resultMapper, new QueryParam[0], orderByItem[0], ascending, idColumn, after, afterId, pageSize);
+        logger.debug("Result returned from the query {} mapped with {}", result, resultMapper);
+
+        return transform(result, resultMapper);
+    }
+
     public Object queryFiltered(String queryName, String mapper, Integer page, Integer pageSize, String payload, String marshallingType) {
         return queryFiltered(null, queryName, mapper, page, pageSize, payload, marshallingType);
     }
 
     public Object queryFiltered(String containerId, String queryName, String mapper, Integer page, Integer pageSize, String payload, String marshallingType) {
+        return executeFiltered(containerId, queryName, mapper, page, pageSize, null, null, null, payload, marshallingType);
+    }
+
+    public Object queryFilteredAfter(String queryName, String mapper, String idColumn, String after, String afterId, Integer pageSize, String payload, String marshallingType) {
+        return queryFilteredAfter(null, queryName, mapper, idColumn, after, afterId, pageSize, payload, marshallingType);
+    }
+
+    /**
+     * Keyset (seek) pagination variant of {@link #queryFiltered(String, String, String, Integer, Integer, String, String)},
+     * rows are ordered by order by column and direction of the filter spec and then by unique <code>idColumn</code>,
+     * only those after the row with values <code>after</code> and <code>afterId</code> of these columns are returned.
+     * See {@link #queryAfter(String, String, String, String, String, String, Integer)}.
+     */
+    public Object queryFilteredAfter(String containerId, String queryName, String mapper, String idColumn, String after, String afterId, Integer pageSize, String payload, String marshallingType) {
+        if (after == null) {
+            throw new IllegalArgumentException("Keyset pagination requires the order by value of the last row of previous page");
+        }
+        return executeFiltered(containerId, queryName, mapper, 0, pageSize, idColumn, after, afterId, payload, marshallingType);
+    }
+
+    protected Object executeFiltered(String containerId, String queryName, String mapper, Integer page, Integer pageSize, String idColumn, String after, String afterId, String payload, String marshallingType) {
         QueryParam[] params = new QueryParam[0];
         Map<String, String> columnMapping = null;
 
@@ -176,6 +227,16 @@ public class QueryDataServiceBase {
 
         QueryResultMapper<?> resultMapper = QueryMapperRegistry.get().mapperFor(mapper, columnMapping);
 
+        if (after != null) {
+            if (filterSpec.getOrderByClause() != null || filterSpec.getOrderBy() == null || filterSpec.getOrderBy().contains(",")) {
+                throw new IllegalArgumentException("Keyset pagination requires query to be ordered by single column");
+            }
+            Object result = seek(queryName, resultMapper, params, filterSpec.getOrderBy(), filterSpec.isAscending(), idColumn, after, afterId, pageSize);
+            logger.debug("Result returned from the query {} mapped with {}", result, resultMapper);
+
+            return transform(result, resultMapper);
+        }
+
         if (filterSpec.getOrderByClause() != null) {
             queryContext = new AdvancedQueryContext(queryContext, filterSpec.getOrderByClause());
         } else {
@@ -299,6 +360,93 @@ public class QueryDataServiceBase {
         return actualResult;
     }
 
+    /*
+     * Returns the page of rows following the row with given values of order by and id columns. Rows sharing the order by
+     * value with that row are looked up first, ordered by the id, the rest of the page is filled with rows that follow
+     * in the order by column, ordered by both columns. This keeps rows with equal order by values from being skipped
+     * and uses only conditions supported by every query service.
+     */
+    protected Object seek(String queryName, QueryResultMapper<?> resultMapper, QueryParam[] params, String orderBy, boolean ascending,
+                          String idColumn, String after, String afterId, Integer pageSize) {
+        if (idColumn == null || idColumn.isEmpty()) {
+            throw new IllegalArgumentException("Keyset pagination requires unique id column to order rows with equal values");
+        }
+        org.jbpm.services.api.query.model.QueryDefinition definition = queryService.getQuery(queryName);
+        String operator = ascending ? "GREATER_THAN" : "LOWER_THAN";
+        Object orderValue = seekValue(definition, orderBy, after);
+        logger.debug("About to perform query '{}' ordered by '{}' and '{}' after {}/{} with page size {}", queryName, orderBy, idColumn, after, afterId, pageSize);
+
+        if (orderBy.equalsIgnoreCase(idColumn)) {
+            return queryService.query(queryName, resultMapper, new QueryContext(0, pageSize, orderBy, ascending),
+                                      withParams(params, new QueryParam(orderBy, operator, Collections.singletonList(orderValue))));
+        }
+        if (afterId == null) {
+            throw new IllegalArgumentException("Keyset pagination by non unique column " + orderBy + " requires " + idColumn + " of the last row of previous page");
+        }
+
+        Object equal = queryService.query(queryName, resultMapper, new QueryContext(0, pageSize, idColumn, ascending),
+                                          withParams(params,
+                                                     new QueryParam(orderBy, "EQUALS_TO", Collections.singletonList(orderValue)),
+                                                     new QueryParam(idColumn, operator, Collections.singletonList(seekValue(definition, idColumn, afterId)))));
+        if (!(equal instanceof Collection)) {
+            throw new IllegalArgumentException("Keyset pagination requires mapper that returns collection of rows");
+        }
+        int remaining = pageSize - ((Collection<?>) equal).size();
+        if (remaining <= 0) {
+            return equal;
+        }
+
+        String direction = ascending ? " ASC" : " DESC";
+        QueryContext queryContext = new AdvancedQueryContext(new QueryContext(0, remaining), orderBy + direction + ", " + idColumn + direction);
+        Object following = queryService.query(queryName, resultMapper, queryContext,
+                                              withParams(params, new QueryParam(orderBy, operator, Collections.singletonList(orderValue))));
+
+        List<Object> rows = new ArrayList<Object>((Collection<?>) equal);
+        rows.addAll((Collection<?>) following);
+        return rows;
+    }
+
+    /*
+     * converts given key to the type of the column as registered with the query definition
+     */
+    protected static Object seekValue(org.jbpm.services.api.query.model.QueryDefinition definition, String column, String value) {
+        String type = null;
+        if (definition != null && definition.getColumns() != null) {
+            for (Map.Entry<String, String> entry : definition.getColumns().entrySet()) {
+                if (entry.getKey().equalsIgnoreCase(column)) {
+                    type = entry.getValue();
+                }
+            }
+        }
+        if (type == null) {
+            throw new IllegalArgumentException("Column " + column + " is not known to the query");
+        }
+        try {
+            switch (type.toUpperCase()) {
+                case "NUMBER":
+                    if (value.indexOf('.') < 0 && value.indexOf('e') < 0 && value.indexOf('E') < 0) {
+                        return Long.valueOf(value);
+                    }
+                    return Double.valueOf(value);
+                case "DATE":
+                    if (value.matches("-?\\d+")) {
+                        return new Date(Long.parseLong(value));
+                    }
+                    return DatatypeConverter.parseDateTime(value).getTime();
+                default:
+                    return value;
+            }
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Value " + value + " is not valid for " + type + " column " + column, e);
+        }
+    }
+
+    private static QueryParam[] withParams(QueryParam[] params, QueryParam... additional) {
+        QueryParam[] all = Arrays.copyOf(params, params.length + additional.length);
+        System.arraycopy(additional, 0, all, params.length, additional.length);
+        return all;
+    }
+
     protected static SqlQueryDefinition build(KieServerRegistry context, QueryDefinition queryDefinition) {
         SqlQueryDefinition actualDefinition = new SqlQueryDefinition(queryDefinition.getName(), queryDefinition.getSource());
         actualDefinition.setExpression(queryDefinition.getExpression());
@@ -15,10 +15,13 @@
 
 package org.kie.server.services.jbpm;
 
+import static org.kie.server.services.jbpm.BulkOperationHelper.executeInChunks;
+
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 import org.jbpm.kie.services.impl.model.UserTaskInstanceDesc;
 import org.jbpm.services.api.TaskNotFoundException;
@@ -32,13 +35,18 @@ import org.kie.internal.task.api.TaskModelProvider;
 import org.kie.internal.task.api.model.InternalPeopleAssignments;
 import org.kie.internal.task.api.model.InternalTask;
 import org.kie.server.api.KieServerConstants;
+import org.kie.server.api.model.instance.BulkOperationResult;
+import org.kie.server.api.model.instance.BulkOperationResultList;
 import org.kie.server.api.model.instance.TaskAttachment;
 import org.kie.server.api.model.instance.TaskAttachmentList;
 import org.kie.server.api.model.instance.TaskComment;
 import org.kie.server.api.model.instance.TaskCommentList;
 import org.kie.server.api.model.instance.TaskInstance;
+import org.kie.server.api.model.instance.TaskOperationRequest;
+import org.kie.server.api.model.instance.TaskOperationRequestList;
 import org.kie.server.services.api.ContainerLocator;
 import org.kie.server.services.api.KieServerRegistry;
+import org.kie.server.services.impl.locator.ContainerLocatorProvider;
 import org.kie.server.services.impl.marshal.MarshallerHelper;
 import org.kie.server.services.jbpm.locator.ByProcessInstanceIdContainerLocator;
 import org.kie.server.services.jbpm.locator.ByTaskIdContainerLocator;
@@ -69,6 +77,10 @@ public class UserTaskServiceBase {
         this.bypassAuthUser = Boolean.parseBoolean(context.getConfig().getConfigItemValue(KieServerConstants.CFG_BYPASS_AUTH_USER, "false"));
     }
 
+    public void setMarshallerHelper(MarshallerHelper marshallerHelper) {
+        this.marshallerHelper = marshallerHelper;
+    }
+
     protected String getUser(String queryParamUser) {
         if (bypassAuthUser) {
             return queryParamUser;
@@ -197,6 +209,65 @@ public class UserTaskServiceBase {
         userTaskService.suspend(containerId, taskId.longValue(), userId);
     }
 
+    public String claimTasks(String containerId, String userId, Integer chunkSize, String payload, String marshallerType) {
+        return executeBulk(containerId, chunkSize, payload, marshallerType, request -> {
+            claim(containerId, request.getTaskId(), userId);
+            return request.getTaskId();
+        });
+    }
+
+    public String startTasks(String containerId, String userId, Integer chunkSize, String payload, String marshallerType) {
+        return executeBulk(containerId, chunkSize, payload, marshallerType, request -> {
+            start(containerId, request.getTaskId(), userId);
+            return request.getTaskId();
+        });
+    }
+
+    public String releaseTasks(String containerId, String userId, Integer chunkSize, String payload, String marshallerType) {
+        return executeBulk(containerId, chunkSize, payload, marshallerType, request -> {
+            release(containerId, request.getTaskId(), userId);
+            return request.getTaskId();
+        });
+    }
+
+    public String delegateTasks(String containerId, String userId, String targetUserId, Integer chunkSize, String payload, String marshallerType) {
+        return executeBulk(containerId, chunkSize, payload, marshallerType, request -> {
+            delegate(containerId, request.getTaskId(), userId, targetUserId);
+            return request.getTaskId();
+        });
+    }
+
+    /**
+     * Completes all given tasks, with <code>autoProgress</code> each task is claimed and started
+     * first when needed so a single call takes the tasks from ready to completed.
+     */
+    public String completeTasks(String containerId, String userId, boolean autoProgress, Integer chunkSize, String payload, String marshallerType) {
+        String user = getUser(userId);
+        return executeBulk(containerId, chunkSize, payload, marshallerType, request -> {
+            long taskId = request.getTaskId();
+            String deploymentId = context.getContainerId(containerId, new ByTaskIdContainerLocator(taskId));
+
+            logger.debug("About to complete task with id '{}' as user '{}' with data {}", taskId, user, request.getData());
+            if (autoProgress) {
+                userTaskService.completeAutoProgress(deploymentId, taskId, user, request.getData());
+            } else {
+                userTaskService.complete(deploymentId, taskId, user, request.getData());
+            }
+            return taskId;
+        });
+    }
+
+    protected String executeBulk(String containerId, Integer chunkSize, String payload, String marshallerType, Function<TaskOperationRequest, Long> operation) {
+        String resolvedContainerId = context.getContainerId(containerId, ContainerLocatorProvider.get().getLocator());
+        logger.debug("About to unmarshal task operation requests from payload: '{}'", payload);
+        TaskOperationRequestList requests = marshallerHelper.unmarshal(resolvedContainerId, payload, marshallerType, TaskOperationRequestList.class);
+        List<TaskOperationRequest> items = requests == null ? new ArrayList<TaskOperationRequest>() : requests.getItems();
+
+        List<BulkOperationResult> results = executeInChunks(items, chunkSize, operation, TaskOperationRequest::getTaskId);
+
+        return marshallerHelper.marshal(resolvedContainerId, marshallerType, new BulkOperationResultList(results));
+    }
+
     public void nominate(String containerId, Number taskId, String userId, List<String> potentialOwners) {
         containerId = context.getContainerId(containerId, new ByTaskIdContainerLocator(taskId.longValue()));
         userId = getUser(userId);
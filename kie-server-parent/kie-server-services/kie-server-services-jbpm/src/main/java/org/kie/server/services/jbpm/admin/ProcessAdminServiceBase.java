@@ -37,6 +37,7 @@ import org.kie.server.api.model.admin.ProcessNodeList;
 import org.kie.server.api.model.admin.TimerInstanceList;
 import org.kie.server.api.model.instance.NodeInstanceList;
 import org.kie.server.services.api.KieServerRegistry;
+import org.kie.server.services.impl.locator.ContainerLookupCache;
 import org.kie.server.services.impl.marshal.MarshallerHelper;
 import org.kie.server.services.jbpm.ConvertUtils;
 import org.slf4j.Logger;
@@ -71,6 +72,8 @@ public class ProcessAdminServiceBase {
         logger.debug("About to migrate process instance with id {} from container '{}' to container '{}' and process id '{}' with node mapping {}",
                 processInstanceId, containerId, targetContainerId, targetProcessId, nodeMapping);
         MigrationReport report = processInstanceMigrationService.migrate(containerId, processInstanceId.longValue(), targetContainerId, targetProcessId, nodeMapping);
+        // migrated instance and its tasks no longer belong to the source container
+        ContainerLookupCache.invalidateContainer(containerId);
         logger.debug("Migration of process instance {} finished with report {}", processInstanceId, report);
         return convertMigrationReport(report);
     }
@@ -85,6 +88,7 @@ public class ProcessAdminServiceBase {
         logger.debug("About to migrate process instances with ids {} from container '{}' to container '{}' and process id '{}' with node mapping {}",
                 processInstancesId, containerId, targetContainerId, targetProcessId, nodeMapping);
         List<MigrationReport> reports = processInstanceMigrationService.migrate(containerId, convert(processInstancesId), targetContainerId, targetProcessId, nodeMapping);
+        ContainerLookupCache.invalidateContainer(containerId);
 
         logger.debug("Migration of process instances {} finished with reports {}", processInstancesId, reports);
         return convertMigrationReports(reports);
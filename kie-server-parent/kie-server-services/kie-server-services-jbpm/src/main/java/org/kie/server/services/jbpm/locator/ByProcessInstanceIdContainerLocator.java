@@ -25,6 +25,7 @@ import org.jbpm.runtime.manager.impl.jpa.EntityManagerFactoryManager;
 import org.kie.server.api.KieServerConstants;
 import org.kie.server.services.api.ContainerLocator;
 import org.kie.server.services.api.KieContainerInstance;
+import org.kie.server.services.impl.locator.ContainerLookupCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,12 +34,15 @@ import org.slf4j.LoggerFactory;
  * To improve performance the operation of locating the container id is done only once
  * and stored as part of the instance of this class so in case of multiple method calls will require it
  * single instance of this class should be used to avoid too many look ups.
+ * Found container ids are also kept in server wide ContainerLookupCache shared by all instances.
  */
 public class ByProcessInstanceIdContainerLocator implements ContainerLocator {
 
     private static final Logger logger = LoggerFactory.getLogger(ByProcessInstanceIdContainerLocator.class);
 
     private static final String CONTAINER_ID_QUERY = "select log.externalId from ProcessInstanceLog log where log.processInstanceId = :piId";
+    private static final ContainerLookupCache cache = ContainerLookupCache.get(ContainerLookupCache.PROCESS_INSTANCE);
+
     private Long processInstanceId;
 
     private String containerId;
@@ -54,6 +58,13 @@ public class ByProcessInstanceIdContainerLocator implements ContainerLocator {
             return containerId;
         }
         logger.debug("Searching for container id for process instance id {} and alias {}", processInstanceId, alias);
+        containerId = cache.getContainerId(processInstanceId);
+        if (containerId != null) {
+            return containerId;
+        }
+        if (cache.isNotFound(processInstanceId)) {
+            throw new IllegalArgumentException("ProcessInstance with id " + processInstanceId + " not found");
+        }
         EntityManager em = EntityManagerFactoryManager.get().getOrCreate(KieServerConstants.KIE_SERVER_PERSISTENCE_UNIT_NAME).createEntityManager();
 
         try {
@@ -62,9 +73,11 @@ public class ByProcessInstanceIdContainerLocator implements ContainerLocator {
                     .setParameter("piId", processInstanceId)
                     .getSingleResult();
             logger.debug("Found container id '{}' for process instance id {}", containerId, processInstanceId);
+            cache.put(processInstanceId, containerId);
             return containerId;
 
         } catch (NoResultException e) {
+            cache.putNotFound(processInstanceId);
             throw new IllegalArgumentException("ProcessInstance with id " + processInstanceId + " not found");
         } catch (NonUniqueResultException e) {
             throw new IllegalArgumentException("Multiple containerIds found for processInstanceId " + processInstanceId);
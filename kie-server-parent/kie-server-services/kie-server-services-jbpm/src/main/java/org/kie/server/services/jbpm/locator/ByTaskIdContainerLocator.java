@@ -24,6 +24,7 @@ import org.jbpm.runtime.manager.impl.jpa.EntityManagerFactoryManager;
 import org.kie.server.api.KieServerConstants;
 import org.kie.server.services.api.ContainerLocator;
 import org.kie.server.services.api.KieContainerInstance;
+import org.kie.server.services.impl.locator.ContainerLookupCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -32,12 +33,15 @@ import org.slf4j.LoggerFactory;
  * To improve performance the operation of locating the container id is done only once
  * and stored as part of the instance of this class so in case of multiple method calls will require it
  * single instance of this class should be used to avoid too many look ups.
+ * Found container ids are also kept in server wide ContainerLookupCache shared by all instances.
  */
 public class ByTaskIdContainerLocator implements ContainerLocator {
 
     private static final Logger logger = LoggerFactory.getLogger(ByTaskIdContainerLocator.class);
 
     private static final String CONTAINER_ID_QUERY = "select log.deploymentId from AuditTaskImpl log where log.taskId = :taskId";
+    private static final ContainerLookupCache cache = ContainerLookupCache.get(ContainerLookupCache.TASK);
+
     private Long taskId;
 
     private String containerId;
@@ -53,6 +57,13 @@ public class ByTaskIdContainerLocator implements ContainerLocator {
             return containerId;
         }
         logger.debug("Searching for container id for task id {} and alias {}", taskId, alias);
+        containerId = cache.getContainerId(taskId);
+        if (containerId != null) {
+            return containerId;
+        }
+        if (cache.isNotFound(taskId)) {
+            throw new IllegalArgumentException("Task with id " + taskId + " not found");
+        }
         EntityManager em = EntityManagerFactoryManager.get().getOrCreate(KieServerConstants.KIE_SERVER_PERSISTENCE_UNIT_NAME).createEntityManager();
 
         try {
@@ -61,9 +72,11 @@ public class ByTaskIdContainerLocator implements ContainerLocator {
                     .setParameter("taskId", taskId)
                     .getSingleResult();
             logger.debug("Found container id '{}' for task id {}", containerId, taskId);
+            cache.put(taskId, containerId);
             return containerId;
 
         } catch (NoResultException e) {
+            cache.putNotFound(taskId);
             throw new IllegalArgumentException("Task with id " + taskId + " not found");
         } catch (NonUniqueResultException e) {
             throw new IllegalArgumentException("Multiple containerIds found for taskId " + taskId);
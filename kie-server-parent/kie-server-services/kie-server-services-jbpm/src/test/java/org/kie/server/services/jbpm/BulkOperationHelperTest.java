@@ -0,0 +1,146 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.server.services.jbpm;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import org.drools.persistence.api.TransactionManager;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.server.api.model.instance.BulkOperationResult;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class BulkOperationHelperTest {
+
+    @Mock
+    private TransactionManager txm;
+
+    private List<Long> executed = new ArrayList<Long>();
+
+    private Function<Long, Long> failingOn(long failing) {
+        return item -> {
+            executed.add(item);
+            if (item == failing) {
+                throw new IllegalStateException("item " + item + " is invalid");
+            }
+            return item * 10;
+        };
+    }
+
+    @Test
+    public void testChunksAreCommittedInOwnTransactions() {
+        when(txm.begin()).thenReturn(true);
+
+        List<BulkOperationResult> results = BulkOperationHelper.executeInChunks(Arrays.asList(1L, 2L, 3L, 4L, 5L), 2, failingOn(-1), null, () -> txm);
+
+        assertEquals(5, results.size());
+        for (int i = 0; i < results.size(); i++) {
+            assertTrue(results.get(i).getSuccess());
+            assertEquals(i, results.get(i).getIndex().intValue());
+            assertEquals((i + 1) * 10L, results.get(i).getId().longValue());
+        }
+        // two chunks of two items in a transaction, the last single item runs in the one of the operation
+        verify(txm, times(2)).begin();
+        verify(txm, times(2)).commit(true);
+        verify(txm, never()).rollback(anyBoolean());
+        assertEquals(Arrays.asList(1L, 2L, 3L, 4L, 5L), executed);
+    }
+
+    @Test
+    public void testFailedChunkIsRolledBackWithoutExecutingItemsAgain() {
+        when(txm.begin()).thenReturn(true);
+
+        List<BulkOperationResult> results = BulkOperationHelper.executeInChunks(Arrays.asList(1L, 2L, 3L, 4L, 5L, 6L), 3, failingOn(2), item -> item, () -> txm);
+
+        // every item executed at most once, items of the failed chunk after the failing one not at all
+        assertEquals(Arrays.asList(1L, 2L, 4L, 5L, 6L), executed);
+
+        assertEquals(6, results.size());
+        assertFalse(results.get(0).getSuccess());
+        assertEquals(1L, results.get(0).getId().longValue());
+        assertEquals("Rolled back as item 1 failed", results.get(0).getError());
+        assertFalse(results.get(1).getSuccess());
+        assertEquals("item 2 is invalid", results.get(1).getError());
+        assertFalse(results.get(2).getSuccess());
+        assertEquals("Not executed as item 1 failed", results.get(2).getError());
+        for (int i = 3; i < 6; i++) {
+            assertTrue(results.get(i).getSuccess());
+            assertEquals(i, results.get(i).getIndex().intValue());
+        }
+
+        InOrder inOrder = inOrder(txm);
+        inOrder.verify(txm).begin();
+        inOrder.verify(txm).rollback(true);
+        inOrder.verify(txm).begin();
+        inOrder.verify(txm).commit(true);
+    }
+
+    @Test
+    public void testFailedCommitFailsWholeChunk() {
+        when(txm.begin()).thenReturn(true);
+        doThrow(new IllegalStateException("deadlock")).when(txm).commit(true);
+
+        List<BulkOperationResult> results = BulkOperationHelper.executeInChunks(Arrays.asList(1L, 2L), 2, failingOn(-1), null, () -> txm);
+
+        assertEquals(2, results.size());
+        for (BulkOperationResult result : results) {
+            assertFalse(result.getSuccess());
+            assertNull(result.getId());
+            assertEquals("Rolled back as commit failed: deadlock", result.getError());
+        }
+        verify(txm).rollback(true);
+    }
+
+    @Test
+    public void testFailureInCallerTransactionIsRethrown() {
+        when(txm.begin()).thenReturn(false);
+
+        try {
+            BulkOperationHelper.executeInChunks(Arrays.asList(1L, 2L, 3L, 4L), 2, failingOn(1), null, () -> txm);
+            fail("Failure within transaction of the caller must not be hidden");
+        } catch (IllegalStateException e) {
+            assertEquals("item 1 is invalid", e.getMessage());
+        }
+
+        verify(txm).rollback(false);
+        verify(txm, times(1)).begin();
+        assertEquals(Arrays.asList(1L), executed);
+    }
+
+    @Test
+    public void testSingleItemChunksRunWithoutTransaction() {
+        List<BulkOperationResult> results = BulkOperationHelper.executeInChunks(Arrays.asList(1L, 2L), 1, failingOn(2), null, () -> txm);
+
+        assertTrue(results.get(0).getSuccess());
+        assertFalse(results.get(1).getSuccess());
+        assertEquals("item 2 is invalid", results.get(1).getError());
+        verifyZeroInteractions(txm);
+        assertEquals(Arrays.asList(1L, 2L), executed);
+    }
+}
@@ -17,7 +17,9 @@ package org.kie.server.services.jbpm;
 
 import java.util.Arrays;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.jbpm.kie.services.impl.model.ProcessInstanceDesc;
 import org.jbpm.kie.services.impl.model.UserTaskInstanceDesc;
@@ -28,7 +30,15 @@ import org.jbpm.services.api.RuntimeDataService;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.kie.internal.process.CorrelationKey;
+import org.kie.server.api.model.instance.BulkOperationResult;
+import org.kie.server.api.model.instance.BulkOperationResultList;
+import org.kie.server.api.model.instance.ProcessStartRequest;
+import org.kie.server.api.model.instance.ProcessStartRequestList;
 import org.kie.server.api.model.instance.TaskSummary;
+import org.kie.server.api.model.instance.WorkItemCompletionRequest;
+import org.kie.server.api.model.instance.WorkItemCompletionRequestList;
+import org.kie.server.services.api.ContainerLocator;
 import org.kie.server.services.api.KieServerRegistry;
 import org.kie.server.services.impl.marshal.MarshallerHelper;
 import org.kie.server.services.jbpm.locator.ByProcessInstanceIdContainerLocator;
@@ -37,7 +47,10 @@ import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.*;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -122,6 +135,74 @@ public class ProcessServiceBaseTest {
 
     }
 
+    @Test
+    public void testStartProcessesReportsEveryInstance() {
+        String containerId = "container";
+        String processId = "evaluation";
+        String marshallingType = "xstream";
+        String payload = "payload";
+
+        Map<String, Object> first = new HashMap<>();
+        first.put("age", 25);
+        Map<String, Object> failing = new HashMap<>();
+        failing.put("age", -1);
+        ProcessStartRequestList requests = new ProcessStartRequestList(Arrays.asList(
+                ProcessStartRequest.builder().correlationKey("john:2019").variables(first).build(),
+                ProcessStartRequest.builder().variables(failing).build(),
+                ProcessStartRequest.builder().build()));
+
+        when(contextMock.getContainerId(eq(containerId), any(ContainerLocator.class))).thenReturn(containerId);
+        when(marshallerHelperMock.unmarshal(containerId, payload, marshallingType, ProcessStartRequestList.class)).thenReturn(requests);
+        when(processServiceMock.startProcess(eq(containerId), eq(processId), any(CorrelationKey.class), eq(first))).thenReturn(1L);
+        when(processServiceMock.startProcess(containerId, processId, failing)).thenThrow(new IllegalStateException("invalid age"));
+        when(processServiceMock.startProcess(eq(containerId), eq(processId), eq(new HashMap<String, Object>()))).thenReturn(2L);
+
+        processServiceBase.startProcesses(containerId, processId, 1, payload, marshallingType);
+
+        ArgumentCaptor<BulkOperationResultList> captor = ArgumentCaptor.forClass(BulkOperationResultList.class);
+        verify(marshallerHelperMock).marshal(eq(containerId), eq(marshallingType), captor.capture());
+        List<BulkOperationResult> results = captor.getValue().getItems();
+        assertEquals(3, results.size());
+
+        assertTrue(results.get(0).getSuccess());
+        assertEquals(1L, results.get(0).getId().longValue());
+        assertFalse(results.get(1).getSuccess());
+        assertNull(results.get(1).getId());
+        assertEquals("invalid age", results.get(1).getError());
+        assertTrue(results.get(2).getSuccess());
+        assertEquals(2L, results.get(2).getId().longValue());
+        assertEquals(2, results.get(2).getIndex().intValue());
+    }
+
+    @Test
+    public void testCompleteWorkItemsReportsEveryWorkItem() {
+        String containerId = "container";
+        String marshallingType = "xstream";
+        String payload = "payload";
+
+        WorkItemCompletionRequestList requests = new WorkItemCompletionRequestList(Arrays.asList(
+                WorkItemCompletionRequest.builder().processInstanceId(1L).workItemId(10L).build(),
+                WorkItemCompletionRequest.builder().processInstanceId(2L).workItemId(20L).build()));
+
+        when(contextMock.getContainerId(eq(containerId), any(ContainerLocator.class))).thenReturn(containerId);
+        when(marshallerHelperMock.unmarshal(containerId, payload, marshallingType, WorkItemCompletionRequestList.class)).thenReturn(requests);
+        doThrow(new IllegalStateException("work item 20 not found")).when(processServiceMock).completeWorkItem(eq(containerId), eq(2L), eq(20L), any());
+
+        processServiceBase.completeWorkItems(containerId, 1, payload, marshallingType);
+
+        verify(processServiceMock).completeWorkItem(eq(containerId), eq(1L), eq(10L), any());
+        ArgumentCaptor<BulkOperationResultList> captor = ArgumentCaptor.forClass(BulkOperationResultList.class);
+        verify(marshallerHelperMock).marshal(eq(containerId), eq(marshallingType), captor.capture());
+        List<BulkOperationResult> results = captor.getValue().getItems();
+        assertEquals(2, results.size());
+
+        assertTrue(results.get(0).getSuccess());
+        assertEquals(10L, results.get(0).getId().longValue());
+        assertFalse(results.get(1).getSuccess());
+        assertEquals(20L, results.get(1).getId().longValue());
+        assertEquals("work item 20 not found", results.get(1).getError());
+    }
+
     private void verifyProcessInstanceHasActiveTasks( ProcessInstanceDesc pid, org.kie.server.api.model.instance.ProcessInstance pi){
         assertNotNull(pid);
         assertNotNull(pi);
@@ -20,15 +20,23 @@ import static org.junit.Assert.*;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.jbpm.services.api.model.UserTaskInstanceWithPotOwnerDesc;
 import org.jbpm.services.api.query.QueryMapperRegistry;
 import org.jbpm.services.api.query.QueryResultMapper;
 import org.jbpm.services.api.query.QueryService;
+import org.jbpm.services.api.query.model.QueryParam;
 import org.junit.Test;
+import org.kie.api.runtime.query.AdvancedQueryContext;
+import org.kie.api.runtime.query.QueryContext;
 import org.kie.server.api.KieServerEnvironment;
 import org.kie.server.services.api.KieServerRegistry;
 import org.kie.server.services.impl.KieServerRegistryImpl;
@@ -68,4 +76,150 @@ public class QueryDataServiceBaseTest {
         assertNotNull(resultQueryBase);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testSeekValueIsOfColumnType() {
+        org.jbpm.services.api.query.model.QueryDefinition definition = definition();
+
+        assertEquals(125L, QueryDataServiceBase.seekValue(definition, "processInstanceId", "125"));
+        assertEquals(1.5d, QueryDataServiceBase.seekValue(definition, "processInstanceId", "1.5"));
+        assertEquals("125", QueryDataServiceBase.seekValue(definition, "processId", "125"));
+        assertEquals(new Date(1000L), QueryDataServiceBase.seekValue(definition, "start_date", "1000"));
+
+        try {
+            QueryDataServiceBase.seekValue(definition, "processInstanceId", "evaluation");
+            fail("Text is not a valid key of numeric column");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains("processInstanceId"));
+        }
+        try {
+            QueryDataServiceBase.seekValue(definition, "unknown", "1");
+            fail("Key of column unknown to the query cannot be typed");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains("unknown"));
+        }
+    }
+
+    @Test
+    public void testQueryAfterByIdColumnRunsSingleQuery() {
+        QueryDataServiceBase queryServiceBase = new QueryDataServiceBase(recordingQueryService(rows(3)), new KieServerRegistryImpl());
+
+        Object result = queryServiceBase.queryAfter("customQuery", "RawList", "processInstanceId DESC", "processInstanceId", "125", null, 10);
+
+        assertEquals(rows(3), result);
+        assertEquals(1, contexts.size());
+        assertEquals("processInstanceId", contexts.get(0).getOrderBy());
+        assertFalse(contexts.get(0).isAscending());
+        assertEquals(0, contexts.get(0).getOffset().intValue());
+        assertEquals(10, contexts.get(0).getCount().intValue());
+        assertParam(queryParams.get(0).get(0), "processInstanceId", "LOWER_THAN", 125L);
+    }
+
+    @Test
+    public void testQueryAfterReturnsRowsWithEqualOrderByValueFirst() {
+        List<Object> equal = rows(1);
+        List<Object> following = rows(2);
+        QueryDataServiceBase queryServiceBase = new QueryDataServiceBase(recordingQueryService(equal, following), new KieServerRegistryImpl());
+
+        Object result = queryServiceBase.queryAfter("customQuery", "RawList", "processId", "processInstanceId", "evaluation", "125", 3);
+
+        List<Object> expected = new ArrayList<Object>(equal);
+        expected.addAll(following);
+        assertEquals(expected, result);
+        assertEquals(2, contexts.size());
+
+        // rows sharing the order by value of the last row, after it by id
+        assertEquals("processInstanceId", contexts.get(0).getOrderBy());
+        assertTrue(contexts.get(0).isAscending());
+        assertEquals(3, contexts.get(0).getCount().intValue());
+        assertEquals(2, queryParams.get(0).size());
+        assertParam(queryParams.get(0).get(0), "processId", "EQUALS_TO", "evaluation");
+        assertParam(queryParams.get(0).get(1), "processInstanceId", "GREATER_THAN", 125L);
+
+        // rest of the page ordered by both columns
+        assertTrue(contexts.get(1) instanceof AdvancedQueryContext);
+        assertEquals("processId ASC, processInstanceId ASC", ((AdvancedQueryContext) contexts.get(1)).getOrderByClause());
+        assertEquals(0, contexts.get(1).getOffset().intValue());
+        assertEquals(2, contexts.get(1).getCount().intValue());
+        assertEquals(1, queryParams.get(1).size());
+        assertParam(queryParams.get(1).get(0), "processId", "GREATER_THAN", "evaluation");
+    }
+
+    @Test
+    public void testQueryAfterStopsWhenRowsWithEqualOrderByValueFillPage() {
+        QueryDataServiceBase queryServiceBase = new QueryDataServiceBase(recordingQueryService(rows(2)), new KieServerRegistryImpl());
+
+        Object result = queryServiceBase.queryAfter("customQuery", "RawList", "processId DESC", "processInstanceId", "evaluation", "125", 2);
+
+        assertEquals(rows(2), result);
+        assertEquals(1, contexts.size());
+        assertFalse(contexts.get(0).isAscending());
+        assertParam(queryParams.get(0).get(1), "processInstanceId", "LOWER_THAN", 125L);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testQueryAfterRequiresIdOfLastRowForNonUniqueColumn() {
+        QueryDataServiceBase queryServiceBase = new QueryDataServiceBase(recordingQueryService(), new KieServerRegistryImpl());
+
+        queryServiceBase.queryAfter("customQuery", "RawList", "processId", "processInstanceId", "evaluation", null, 10);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testQueryAfterRequiresSingleOrderByColumn() {
+        QueryDataServiceBase queryServiceBase = new QueryDataServiceBase(Mockito.mock(QueryService.class), new KieServerRegistryImpl());
+
+        queryServiceBase.queryAfter("customQuery", "ProcessInstances", "processId,processInstanceId", "processInstanceId", "125", null, 10);
+    }
+
+    private List<QueryContext> contexts = new ArrayList<QueryContext>();
+    private List<List<QueryParam>> queryParams = new ArrayList<List<QueryParam>>();
+
+    private QueryService recordingQueryService(Object... results) {
+        org.jbpm.services.api.query.model.QueryDefinition definition = definition();
+        Iterator<Object> next = Arrays.asList(results).iterator();
+        return Mockito.mock(QueryService.class, invocation -> {
+            if ("getQuery".equals(invocation.getMethod().getName())) {
+                return definition;
+            }
+            if ("query".equals(invocation.getMethod().getName())) {
+                Object[] args = invocation.getArguments();
+                contexts.add((QueryContext) args[2]);
+                List<QueryParam> params = new ArrayList<QueryParam>();
+                for (int i = 3; i < args.length; i++) {
+                    if (args[i] instanceof QueryParam[]) {
+                        params.addAll(Arrays.asList((QueryParam[]) args[i]));
+                    } else {
+                        params.add((QueryParam) args[i]);
+                    }
+                }
+                queryParams.add(params);
+                return next.next();
+            }
+            return null;
+        });
+    }
+
+    private static org.jbpm.services.api.query.model.QueryDefinition definition() {
+        Map<String, String> columns = new HashMap<String, String>();
+        columns.put("PROCESSINSTANCEID", "NUMBER");
+        columns.put("PROCESSID", "LABEL");
+        columns.put("START_DATE", "DATE");
+        org.jbpm.services.api.query.model.QueryDefinition definition = Mockito.mock(org.jbpm.services.api.query.model.QueryDefinition.class);
+        Mockito.when(definition.getColumns()).thenReturn(columns);
+        return definition;
+    }
+
+    private static List<Object> rows(int count) {
+        List<Object> rows = new ArrayList<Object>();
+        for (int i = 0; i < count; i++) {
+            rows.add(Arrays.asList("row", i));
+        }
+        return rows;
+    }
+
+    private static void assertParam(QueryParam param, String column, String operator, Object value) {
+        assertEquals(column, param.getColumn());
+        assertEquals(operator, param.getOperator());
+        assertEquals(Collections.singletonList(value), param.getValue());
+    }
+
+}
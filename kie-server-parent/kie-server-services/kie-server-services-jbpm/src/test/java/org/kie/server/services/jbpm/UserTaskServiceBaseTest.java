@@ -0,0 +1,167 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.server.services.jbpm;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.jbpm.services.api.UserTaskService;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.internal.identity.IdentityProvider;
+import org.kie.server.api.model.KieServerConfig;
+import org.kie.server.api.model.instance.BulkOperationResult;
+import org.kie.server.api.model.instance.BulkOperationResultList;
+import org.kie.server.api.model.instance.TaskOperationRequest;
+import org.kie.server.api.model.instance.TaskOperationRequestList;
+import org.kie.server.services.api.ContainerLocator;
+import org.kie.server.services.api.KieServerRegistry;
+import org.kie.server.services.impl.marshal.MarshallerHelper;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class UserTaskServiceBaseTest {
+
+    private static final String CONTAINER_ID = "container";
+    private static final String USER = "john";
+    private static final String MARSHALLING_TYPE = "xstream";
+    private static final String PAYLOAD = "payload";
+
+    @Mock
+    private UserTaskService userTaskServiceMock;
+
+    @Mock
+    private KieServerRegistry contextMock;
+
+    @Mock
+    private KieServerConfig configMock;
+
+    @Mock
+    private IdentityProvider identityProviderMock;
+
+    @Mock
+    private MarshallerHelper marshallerHelperMock;
+
+    private UserTaskServiceBase userTaskServiceBase;
+
+    @Before
+    public void setup() {
+        when(contextMock.getConfig()).thenReturn(configMock);
+        when(configMock.getConfigItemValue(anyString(), anyString())).thenReturn("false");
+        when(contextMock.getIdentityProvider()).thenReturn(identityProviderMock);
+        when(identityProviderMock.getName()).thenReturn(USER);
+        when(contextMock.getContainerId(eq(CONTAINER_ID), any(ContainerLocator.class))).thenReturn(CONTAINER_ID);
+
+        userTaskServiceBase = new UserTaskServiceBase(userTaskServiceMock, contextMock);
+        userTaskServiceBase.setMarshallerHelper(marshallerHelperMock);
+
+        TaskOperationRequestList requests = new TaskOperationRequestList(Arrays.asList(new TaskOperationRequest(1L),
+                                                                                       new TaskOperationRequest(2L, Collections.singletonMap("approved", true))));
+        when(marshallerHelperMock.unmarshal(CONTAINER_ID, PAYLOAD, MARSHALLING_TYPE, TaskOperationRequestList.class)).thenReturn(requests);
+    }
+
+    @Test
+    public void testClaimTasks() {
+        doThrow(new IllegalStateException("task 2 already claimed")).when(userTaskServiceMock).claim(2L, USER);
+
+        userTaskServiceBase.claimTasks(CONTAINER_ID, USER, 1, PAYLOAD, MARSHALLING_TYPE);
+
+        verify(userTaskServiceMock).claim(1L, USER);
+        assertResults(true, false);
+        assertEquals("task 2 already claimed", captureResults().get(1).getError());
+    }
+
+    @Test
+    public void testStartTasks() {
+        userTaskServiceBase.startTasks(CONTAINER_ID, USER, 1, PAYLOAD, MARSHALLING_TYPE);
+
+        verify(userTaskServiceMock).start(CONTAINER_ID, 1L, USER);
+        verify(userTaskServiceMock).start(CONTAINER_ID, 2L, USER);
+        assertResults(true, true);
+    }
+
+    @Test
+    public void testReleaseTasks() {
+        doThrow(new IllegalStateException("not owner")).when(userTaskServiceMock).release(CONTAINER_ID, 1L, USER);
+
+        userTaskServiceBase.releaseTasks(CONTAINER_ID, USER, 1, PAYLOAD, MARSHALLING_TYPE);
+
+        verify(userTaskServiceMock).release(CONTAINER_ID, 2L, USER);
+        assertResults(false, true);
+    }
+
+    @Test
+    public void testDelegateTasks() {
+        userTaskServiceBase.delegateTasks(CONTAINER_ID, USER, "mary", 1, PAYLOAD, MARSHALLING_TYPE);
+
+        verify(userTaskServiceMock).delegate(CONTAINER_ID, 1L, USER, "mary");
+        verify(userTaskServiceMock).delegate(CONTAINER_ID, 2L, USER, "mary");
+        assertResults(true, true);
+    }
+
+    @Test
+    public void testCompleteTasks() {
+        userTaskServiceBase.completeTasks(CONTAINER_ID, USER, false, 1, PAYLOAD, MARSHALLING_TYPE);
+
+        verify(userTaskServiceMock).complete(CONTAINER_ID, 1L, USER, null);
+        verify(userTaskServiceMock).complete(CONTAINER_ID, 2L, USER, Collections.<String, Object>singletonMap("approved", true));
+        verify(userTaskServiceMock, never()).completeAutoProgress(anyString(), anyLong(), anyString(), anyMapOf(String.class, Object.class));
+        assertResults(true, true);
+    }
+
+    @Test
+    public void testCompleteTasksWithAutoProgress() {
+        Map<String, Object> data = Collections.singletonMap("approved", true);
+        doThrow(new IllegalStateException("task 2 is suspended")).when(userTaskServiceMock).completeAutoProgress(CONTAINER_ID, 2L, USER, data);
+
+        userTaskServiceBase.completeTasks(CONTAINER_ID, USER, true, 1, PAYLOAD, MARSHALLING_TYPE);
+
+        verify(userTaskServiceMock).completeAutoProgress(CONTAINER_ID, 1L, USER, null);
+        verify(userTaskServiceMock, never()).complete(anyString(), anyLong(), anyString(), anyMapOf(String.class, Object.class));
+        assertResults(true, false);
+        assertEquals("task 2 is suspended", captureResults().get(1).getError());
+    }
+
+    private void assertResults(boolean... success) {
+        List<BulkOperationResult> results = captureResults();
+        assertEquals(success.length, results.size());
+        for (int i = 0; i < success.length; i++) {
+            assertEquals(i, results.get(i).getIndex().intValue());
+            assertEquals(i + 1L, results.get(i).getId().longValue());
+            if (success[i]) {
+                assertTrue(results.get(i).getSuccess());
+            } else {
+                assertFalse(results.get(i).getSuccess());
+            }
+        }
+    }
+
+    private List<BulkOperationResult> captureResults() {
+        ArgumentCaptor<BulkOperationResultList> captor = ArgumentCaptor.forClass(BulkOperationResultList.class);
+        verify(marshallerHelperMock, atLeastOnce()).marshal(eq(CONTAINER_ID), eq(MARSHALLING_TYPE), captor.capture());
+        return captor.getValue().getItems();
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.server.services.openshift.impl.storage.cloud;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapList;
+import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.openshift.client.OpenShiftClient;
+import org.kie.server.services.impl.storage.KieServerState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Local copy of kie server state ConfigMaps kept up to date by watching them on the API server,
+ * so reads do not need a round trip to the API server. Every entry carries the resourceVersion
+ * of the ConfigMap it was built from and lazily deserialized KieServerState of that version.
+ * When the watch closes the cache is emptied and listed again on next use.
+ */
+public class KieServerStateConfigMapCache implements Watcher<ConfigMap> {
+
+    private static final Logger logger = LoggerFactory.getLogger(KieServerStateConfigMapCache.class);
+
+    private static final long RESTART_DELAY = TimeUnit.SECONDS.toMillis(30);
+
+    private final Function<ConfigMap, KieServerState> parser;
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private volatile boolean synced;
+    private OpenShiftClient client;
+    private Watch watch;
+    private long nextStartAttempt;
+
+    public KieServerStateConfigMapCache(Function<ConfigMap, KieServerState> parser) {
+        this.parser = parser;
+    }
+
+    /**
+     * Lists all ConfigMaps matching the selector and starts watching them from the listed version on.
+     * Failed attempts are not repeated for a while, callers are expected to read from API server meanwhile.
+     * @return true if the cache is in sync with the API server
+     */
+    public synchronized boolean start(Supplier<OpenShiftClient> clientSupplier, Function<OpenShiftClient, LabelSelector> selector) {
+        if (synced) {
+            return true;
+        }
+        if (System.currentTimeMillis() < nextStartAttempt) {
+            return false;
+        }
+        try {
+            if (client == null) {
+                client = clientSupplier.get();
+            }
+            LabelSelector labelSelector = selector.apply(client);
+            ConfigMapList list = client.configMaps().withLabelSelector(labelSelector).list();
+
+            entries.clear();
+            list.getItems().forEach(this::put);
+
+            String resourceVersion = list.getMetadata() == null ? null : list.getMetadata().getResourceVersion();
+            if (resourceVersion == null) {
+                watch = client.configMaps().withLabelSelector(labelSelector).watch(this);
+            } else {
+                watch = client.configMaps().withLabelSelector(labelSelector).watch(resourceVersion, this);
+            }
+            synced = true;
+            logger.debug("Watching {} KieServerState ConfigMaps from version {}", entries.size(), resourceVersion);
+        } catch (Exception e) {
+            logger.warn("Unable to watch KieServerState ConfigMaps, state is read from API server - {}", e.getMessage());
+            nextStartAttempt = System.currentTimeMillis() + RESTART_DELAY;
+            stop();
+        }
+        return synced;
+    }
+
+    public synchronized void stop() {
+        synced = false;
+        entries.clear();
+        if (watch != null) {
+            watch.close();
+            watch = null;
+        }
+        if (client != null) {
+            client.close();
+            client = null;
+        }
+    }
+
+    public boolean isSynced() {
+        return synced;
+    }
+
+    public Optional<ConfigMap> getConfigMap(String name) {
+        if (!synced) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(entries.get(name)).map(entry -> entry.configMap);
+    }
+
+    public List<ConfigMap> getConfigMaps() {
+        List<ConfigMap> configMaps = new ArrayList<>();
+        entries.values().forEach(entry -> configMaps.add(entry.configMap));
+        return configMaps;
+    }
+
+    /**
+     * Returns deserialized state of given ConfigMap, reusing the cached one when the ConfigMap is of the cached version.
+     * Returned instance is shared and must not be modified.
+     */
+    public KieServerState getState(ConfigMap configMap) {
+        Entry entry = entries.get(configMap.getMetadata().getName());
+        if (entry != null && sameVersion(entry.configMap, configMap)) {
+            return entry.getState();
+        }
+        return parser.apply(configMap);
+    }
+
+    /**
+     * Records ConfigMap returned by the API server after an update, so the change is visible
+     * before the watch event for it arrives.
+     */
+    public void update(ConfigMap configMap) {
+        if (synced && configMap != null) {
+            put(configMap);
+        }
+    }
+
+    public void evict(String name) {
+        entries.remove(name);
+    }
+
+    @Override
+    public void eventReceived(Action action, ConfigMap configMap) {
+        logger.debug("KieServerState ConfigMap {} {}", configMap.getMetadata().getName(), action);
+        switch (action) {
+            case ADDED:
+            case MODIFIED:
+                put(configMap);
+                break;
+            case DELETED:
+                entries.remove(configMap.getMetadata().getName());
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public synchronized void onClose(KubernetesClientException cause) {
+        if (cause != null) {
+            logger.warn("Watch of KieServerState ConfigMaps closed - {}", cause.getMessage());
+        }
+        synced = false;
+        entries.clear();
+        watch = null;
+    }
+
+    protected void put(ConfigMap configMap) {
+        entries.compute(configMap.getMetadata().getName(),
+                        (name, existing) -> existing == null || isNewer(configMap, existing.configMap) ? new Entry(configMap) : existing);
+    }
+
+    /*
+     * resource versions are opaque, when they are not numeric every change is treated as newer
+     */
+    protected static boolean isNewer(ConfigMap candidate, ConfigMap current) {
+        String candidateVersion = candidate.getMetadata().getResourceVersion();
+        String currentVersion = current.getMetadata().getResourceVersion();
+        try {
+            return Long.parseLong(candidateVersion) > Long.parseLong(currentVersion);
+        } catch (NumberFormatException e) {
+            return candidateVersion == null || !candidateVersion.equals(currentVersion);
+        }
+    }
+
+    protected static boolean sameVersion(ConfigMap one, ConfigMap other) {
+        String version = one.getMetadata().getResourceVersion();
+        return version != null && version.equals(other.getMetadata().getResourceVersion());
+    }
+
+    private class Entry {
+
+        private final ConfigMap configMap;
+        private volatile KieServerState state;
+
+        Entry(ConfigMap configMap) {
+            this.configMap = configMap;
+        }
+
+        KieServerState getState() {
+            if (state == null) {
+                state = parser.apply(configMap);
+            }
+            return state;
+        }
+    }
+}
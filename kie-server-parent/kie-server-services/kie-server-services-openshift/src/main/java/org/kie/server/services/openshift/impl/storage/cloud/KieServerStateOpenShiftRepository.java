@@ -22,6 +22,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
@@ -38,6 +39,7 @@ import io.fabric8.kubernetes.api.model.LabelSelectorRequirementBuilder;
 import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.api.model.OwnerReferenceBuilder;
 import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.openshift.api.model.DeploymentConfig;
 import io.fabric8.openshift.client.OpenShiftClient;
 import org.kie.server.api.KieServerConstants;
@@ -54,11 +56,18 @@ import org.slf4j.LoggerFactory;
 
 import static org.kie.server.api.KieServerConstants.KIE_SERVER_STATE_IMMUTABLE;
 import static org.kie.server.api.KieServerConstants.KIE_SERVER_STATE_IMMUTABLE_INIT;
+import static org.kie.server.api.KieServerConstants.KIE_SERVER_STATE_OPENSHIFT_WATCH;
 
 public class KieServerStateOpenShiftRepository extends KieServerStateCloudRepository implements KieServerOpenShift {
 
     private static final Logger logger = LoggerFactory.getLogger(KieServerStateOpenShiftRepository.class);
 
+    private static final int MAX_UPDATE_ATTEMPTS = 3;
+    private static final int HTTP_CONFLICT = 409;
+
+    private final KieServerStateConfigMapCache stateCache = new KieServerStateConfigMapCache(
+            cm -> (KieServerState) xs.fromXML(cm.getData().get(CFG_MAP_DATA_KEY)));
+
     public synchronized void create(@NotNull KieServerState kieServerState) {
         String serverId = retrieveKieServerId(kieServerState);
         processKieServerStateByOpenShift(client -> {
@@ -72,6 +81,12 @@ public class KieServerStateOpenShiftRepository extends KieServerStateCloudReposi
     }
 
     public List<String> retrieveAllKieServerIds() {
+        if (isStateCacheSynced()) {
+            return stateCache.getConfigMaps()
+                             .stream()
+                             .map(cfg -> cfg.getMetadata().getName())
+                             .collect(Collectors.toList());
+        }
         return processKieServerStateByOpenShift(client ->
             client.configMaps().withLabelSelector(getKieServerCMLabelSelector(client))
                          .list()
@@ -83,6 +98,12 @@ public class KieServerStateOpenShiftRepository extends KieServerStateCloudReposi
     }
 
     public List<KieServerState> retrieveAllKieServerStates() {
+        if (isStateCacheSynced()) {
+            return stateCache.getConfigMaps()
+                             .stream()
+                             .map(this::parseState)
+                             .collect(Collectors.toList());
+        }
         return processKieServerStateByOpenShift(client ->
             client.configMaps().withLabelSelector(getKieServerCMLabelSelector(client))
                          .list()
@@ -94,6 +115,9 @@ public class KieServerStateOpenShiftRepository extends KieServerStateCloudReposi
     }
 
     public boolean exists(String id) {
+        if (getCachedKieServerCM(id).isPresent()) {
+            return true;
+        }
         return processKieServerStateByOpenShift(client -> getKieServerCM(client, id).isPresent());
     }
 
@@ -104,6 +128,7 @@ public class KieServerStateOpenShiftRepository extends KieServerStateCloudReposi
                 return true;
             } else {
                 client.configMaps().withName(id).delete();
+                stateCache.evict(id);
                 return false;
             }
         });
@@ -115,15 +140,18 @@ public class KieServerStateOpenShiftRepository extends KieServerStateCloudReposi
         return state;
     }
 
+    /**
+     * Updates are optimistic, ConfigMap is replaced only if it has not changed since it was read.
+     * A conflicting change made by another thread or process is never overwritten:
+     * the update is retried only if the state data stayed the same, otherwise it fails.
+     */
     @Override
-    public synchronized void store(@NotNull String serverId, @NotNull KieServerState kieServerState) {
+    public void store(@NotNull String serverId, @NotNull KieServerState kieServerState) {
         if (!retrieveKieServerId(kieServerState).equals(serverId)) {
             throw new IllegalArgumentException("Invalid KieServerId: Id does not match with KieServerState.");
         }
 
         processKieServerStateByOpenShift(client -> {
-            Optional<ConfigMap> cmOpt = getKieServerCM(client, serverId);
-
             if (Boolean.parseBoolean(kieServerState.getConfiguration()
                                                    .getConfigItemValue(KIE_SERVER_STATE_IMMUTABLE, Boolean.FALSE.toString()))) {
                 if (Boolean.parseBoolean(System.getProperty(KIE_SERVER_STATE_IMMUTABLE_INIT, Boolean.FALSE.toString()))) {
@@ -132,27 +160,48 @@ public class KieServerStateOpenShiftRepository extends KieServerStateCloudReposi
                 } else {
                     logger.debug("Overwrite immutable KieServer[id:{}] state is not allowed.", serverId);
                 }
-            } else {
-                ConfigMap cm = cmOpt.orElseThrow(() -> 
+                return null;
+            }
+
+            String stateXML = xs.toXML(kieServerState);
+            String readStateXML = null;
+            for (int attempt = 1; ; attempt++) {
+                // Read from the API server, the cache may lag behind the latest change
+                ConfigMap cm = getKieServerCM(client, serverId).orElseThrow(() ->
                     new IllegalStateException("KieServerState ConfigMap must exist before update."));
-                if (isServerStateUpdateAllowed(client, serverId, cm, kieServerState)) {
-                    ObjectMeta md = cm.getMetadata();
-                    Map<String, String> ann = md.getAnnotations() == null ? new ConcurrentHashMap<>() : md.getAnnotations();
-                    md.setAnnotations(ann);
-                    ann.put(STATE_CHANGE_TIMESTAMP,
-                            ZonedDateTime.now().format(DateTimeFormatter.ISO_INSTANT));
-                    ann.put(ROLLOUT_REQUIRED, "true");
-                    cm.setData(Collections.singletonMap(CFG_MAP_DATA_KEY, xs.toXML(kieServerState)));
-                    client.configMaps().createOrReplace(cm);
+                String currentStateXML = cm.getData() == null ? null : cm.getData().get(CFG_MAP_DATA_KEY);
+                if (attempt == 1) {
+                    readStateXML = currentStateXML;
+                } else if (!Objects.equals(readStateXML, currentStateXML)) {
+                    throw new IllegalStateException("KieServerState ConfigMap [" + serverId +
+                                                    "] changed concurrently, update rejected.");
+                }
+                if (!isServerStateUpdateAllowed(client, serverId, cm, kieServerState)) {
+                    return null;
+                }
+                try {
+                    stateCache.update(replaceKieServerStateCM(client, cm, stateXML));
+                    return null;
+                } catch (KubernetesClientException kce) {
+                    stateCache.evict(serverId);
+                    if (kce.getCode() != HTTP_CONFLICT || attempt == MAX_UPDATE_ATTEMPTS) {
+                        throw kce;
+                    }
+                    logger.debug("KieServerState ConfigMap [{}] metadata changed concurrently, retrying update.", serverId);
                 }
             }
-            return null;
         });
     }
 
+    /**
+     * Served from the watch cache when it is in sync, as a copy of the state parsed once per ConfigMap version.
+     * The cache may briefly lag behind a store made by another process, stores themselves always read
+     * the ConfigMap from the API server and replace it locked to its resource version.
+     */
     @Override
     public KieServerState load(@NotNull String serverId) {
-        KieServerState kieServerState = processKieServerStateByOpenShift(client -> {
+        Optional<ConfigMap> cached = getCachedKieServerCM(serverId);
+        KieServerState kieServerState = cached.isPresent() ? stateCache.getState(cached.get()).copy() : processKieServerStateByOpenShift(client -> {
             Optional<ConfigMap> cmOpt = getKieServerCM(client, serverId);
             if (!cmOpt.isPresent() && !isKieServerRuntime()) {
                 return null;
@@ -233,7 +282,7 @@ public class KieServerStateOpenShiftRepository extends KieServerStateCloudReposi
      * @return
      */
     public boolean isKieContainerRemovalAllowed(ConfigMap cm, KieServerState newState) {
-        KieServerState state = (KieServerState) xs.fromXML(cm.getData().get(CFG_MAP_DATA_KEY));
+        KieServerState state = stateCache.getState(cm);
         for (KieContainerResource container : state.getContainers()) {
             if (container.getStatus().equals(KieContainerStatus.STOPPED) &&
                 newState.getContainers().stream()
@@ -254,7 +303,7 @@ public class KieServerStateOpenShiftRepository extends KieServerStateCloudReposi
      * @return
      */
     public boolean isKieContainerUpdateDuringRolloutAllowed(ConfigMap cm, KieServerState newState) {
-        KieServerState state = (KieServerState) xs.fromXML(cm.getData().get(CFG_MAP_DATA_KEY));
+        KieServerState state = stateCache.getState(cm);
         for (KieContainerResource container : state.getContainers()) {
             if (container.getStatus().equals(KieContainerStatus.STARTED) &&
                 newState.getContainers().stream()
@@ -283,7 +332,7 @@ public class KieServerStateOpenShiftRepository extends KieServerStateCloudReposi
             labels.put(CFG_MAP_LABEL_NAME, CFG_MAP_LABEL_VALUE_USED);
         }
         
-        return dcOpt.map(dc -> client.configMaps().createOrReplace(new ConfigMapBuilder()
+        ConfigMap created = dcOpt.map(dc -> client.configMaps().createOrReplace(new ConfigMapBuilder()
                                                    .withNewMetadata()
                                                      .withName(serverId)
                                                      .withLabels(labels)
@@ -303,6 +352,30 @@ public class KieServerStateOpenShiftRepository extends KieServerStateCloudReposi
                                        .endMetadata()
                                        .withData(Collections.singletonMap(CFG_MAP_DATA_KEY, stateXML))
                                        .build()));
+        stateCache.update(created);
+        return created;
+    }
+
+    /**
+     * Replaces the ConfigMap with given state data, locked to the resource version it was read with
+     * so concurrent changes are detected instead of being overwritten.
+     */
+    protected ConfigMap replaceKieServerStateCM(OpenShiftClient client, ConfigMap cm, String stateXML) {
+        // cached ConfigMap is shared, update a copy of it
+        ConfigMap updated = new ConfigMapBuilder(cm).build();
+        ObjectMeta md = updated.getMetadata();
+        Map<String, String> ann = md.getAnnotations() == null ? new ConcurrentHashMap<>() : new ConcurrentHashMap<>(md.getAnnotations());
+        md.setAnnotations(ann);
+        ann.put(STATE_CHANGE_TIMESTAMP,
+                ZonedDateTime.now().format(DateTimeFormatter.ISO_INSTANT));
+        ann.put(ROLLOUT_REQUIRED, "true");
+        updated.setData(Collections.singletonMap(CFG_MAP_DATA_KEY, stateXML));
+
+        String resourceVersion = md.getResourceVersion();
+        if (resourceVersion == null) {
+            return client.configMaps().createOrReplace(updated);
+        }
+        return client.configMaps().withName(md.getName()).lockResourceVersion(resourceVersion).replace(updated);
     }
 
     private boolean isServerStateUpdateAllowed(OpenShiftClient client, String serverId, ConfigMap cm, KieServerState newState) {
@@ -375,6 +448,27 @@ public class KieServerStateOpenShiftRepository extends KieServerStateCloudReposi
             System.getenv("KIE_CONTROLLER_OCP_GLOBAL_DISCOVERY_ENABLED")));
     }
 
+    /**
+     * Watch based cache of ConfigMaps is used only when enabled by system property, as it requires
+     * permission to watch ConfigMaps.
+     * @return false as default value if system property not found.
+     */
+    protected boolean isStateCacheEnabled() {
+        return Boolean.getBoolean(KIE_SERVER_STATE_OPENSHIFT_WATCH);
+    }
+
+    private boolean isStateCacheSynced() {
+        return isStateCacheEnabled() && stateCache.start(this::createOpenShiftClient, this::getKieServerCMLabelSelector);
+    }
+
+    private Optional<ConfigMap> getCachedKieServerCM(String serverId) {
+        return isStateCacheSynced() ? stateCache.getConfigMap(serverId) : Optional.empty();
+    }
+
+    private KieServerState parseState(ConfigMap cm) {
+        return (KieServerState) xs.fromXML(cm.getData().get(CFG_MAP_DATA_KEY));
+    }
+
     private <R> R processKieServerStateByOpenShift(Function<OpenShiftClient, R> func) {
         R result = null;
         try (OpenShiftClient client = createOpenShiftClient()) {
@@ -0,0 +1,107 @@
+/**
+ * Copyright (C) 2019 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.services.openshift.impl.storage.cloud;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.client.Watcher.Action;
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.server.services.impl.storage.KieServerState;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class KieServerStateConfigMapCacheTest {
+
+    private static final String SERVER_ID = "myapp2-kieserver";
+
+    private AtomicInteger parsed;
+    private KieServerStateConfigMapCache cache;
+
+    @Before
+    public void setup() {
+        parsed = new AtomicInteger();
+        cache = new KieServerStateConfigMapCache(cm -> {
+            parsed.incrementAndGet();
+            return new KieServerState();
+        });
+    }
+
+    @Test
+    public void testStateIsParsedOncePerVersion() {
+        ConfigMap cm = configMap(SERVER_ID, "1");
+        cache.eventReceived(Action.ADDED, cm);
+
+        KieServerState state = cache.getState(cm);
+        assertSame(state, cache.getState(configMap(SERVER_ID, "1")));
+        assertEquals(1, parsed.get());
+
+        // different version than the cached one is parsed again
+        assertNotSame(state, cache.getState(configMap(SERVER_ID, "2")));
+        assertEquals(2, parsed.get());
+    }
+
+    @Test
+    public void testOlderEventDoesNotReplaceNewerConfigMap() {
+        cache.eventReceived(Action.MODIFIED, configMap(SERVER_ID, "5"));
+        cache.eventReceived(Action.MODIFIED, configMap(SERVER_ID, "4"));
+
+        assertEquals(1, cache.getConfigMaps().size());
+        assertEquals("5", cache.getConfigMaps().get(0).getMetadata().getResourceVersion());
+
+        cache.eventReceived(Action.MODIFIED, configMap(SERVER_ID, "6"));
+        assertEquals("6", cache.getConfigMaps().get(0).getMetadata().getResourceVersion());
+    }
+
+    @Test
+    public void testDeleteAndCloseRemoveConfigMaps() {
+        cache.eventReceived(Action.ADDED, configMap(SERVER_ID, "1"));
+        cache.eventReceived(Action.ADDED, configMap("other-kieserver", "2"));
+        assertEquals(2, cache.getConfigMaps().size());
+
+        cache.eventReceived(Action.DELETED, configMap(SERVER_ID, "3"));
+        assertEquals(1, cache.getConfigMaps().size());
+
+        cache.onClose(null);
+        assertFalse(cache.isSynced());
+        assertTrue(cache.getConfigMaps().isEmpty());
+        assertFalse(cache.getConfigMap("other-kieserver").isPresent());
+    }
+
+    @Test
+    public void testIsNewer() {
+        assertTrue(KieServerStateConfigMapCache.isNewer(configMap(SERVER_ID, "10"), configMap(SERVER_ID, "9")));
+        assertFalse(KieServerStateConfigMapCache.isNewer(configMap(SERVER_ID, "9"), configMap(SERVER_ID, "10")));
+        assertFalse(KieServerStateConfigMapCache.isNewer(configMap(SERVER_ID, "9"), configMap(SERVER_ID, "9")));
+        // opaque versions, any change is newer
+        assertTrue(KieServerStateConfigMapCache.isNewer(configMap(SERVER_ID, "b"), configMap(SERVER_ID, "a")));
+    }
+
+    private static ConfigMap configMap(String name, String resourceVersion) {
+        return new ConfigMapBuilder().withNewMetadata()
+                                       .withName(name)
+                                       .withResourceVersion(resourceVersion)
+                                     .endMetadata()
+                                     .build();
+    }
+}
@@ -0,0 +1,136 @@
+/**
+ * Copyright (C) 2019 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.services.openshift.impl.storage.cloud;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.openshift.api.model.DeploymentConfig;
+import io.fabric8.openshift.client.OpenShiftClient;
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.server.api.model.KieContainerResource;
+import org.kie.server.api.model.KieContainerStatus;
+import org.kie.server.api.model.ReleaseId;
+import org.kie.server.services.impl.storage.KieServerState;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class KieServerStateOpenShiftRepositoryConflictTest extends KieServerStateOpenShiftRepositoryTest {
+
+    // change made by another process between our read and our replace
+    private Consumer<ConfigMap> concurrentChange;
+
+    @Before
+    public void setupConflictingRepo() {
+        repo = new KieServerStateOpenShiftRepository() {
+
+            @Override
+            public OpenShiftClient createOpenShiftClient() {
+                return client;
+            }
+
+            @Override
+            public KubernetesClient createKubernetesClient() {
+                return client;
+            }
+
+            @Override
+            public boolean isKieServerReady() {
+                return true;
+            }
+
+            @Override
+            public boolean isDCStable(DeploymentConfig dc) {
+                return true;
+            }
+
+            @Override
+            public Optional<String> getAppNameFromPod(OpenShiftClient client) {
+                return Optional.of(TEST_APP_NAME);
+            }
+
+            @Override
+            protected ConfigMap replaceKieServerStateCM(OpenShiftClient client, ConfigMap cm, String stateXML) {
+                if (concurrentChange != null) {
+                    ConfigMap current = client.configMaps().inNamespace(testNamespace).withName(TEST_KIE_SERVER_ID).get();
+                    concurrentChange.accept(current);
+                    client.configMaps().inNamespace(testNamespace).createOrReplace(current);
+                    concurrentChange = null;
+                    throw new KubernetesClientException("Conflict", 409, null);
+                }
+                return super.replaceKieServerStateCM(client, cm, stateXML);
+            }
+        };
+    }
+
+    @Test
+    public void testStoreRetriesWhenOnlyMetadataChanged() {
+        KieServerState state = readState();
+        state.getContainers().add(newContainer());
+
+        concurrentChange = cm -> {
+            Map<String, String> annotations = cm.getMetadata().getAnnotations() == null ?
+                    new HashMap<>() : new HashMap<>(cm.getMetadata().getAnnotations());
+            annotations.put("test/touched", "true");
+            cm.getMetadata().setAnnotations(annotations);
+        };
+        repo.store(TEST_KIE_SERVER_ID, state);
+
+        assertTrue(readState().getContainers().stream().anyMatch(c -> "conflict-container".equals(c.getContainerId())));
+    }
+
+    @Test
+    public void testStoreFailsWhenStateChangedConcurrently() {
+        KieServerState state = readState();
+        state.getContainers().add(newContainer());
+
+        KieServerState concurrentState = readState();
+        concurrentState.getContainers().clear();
+        String concurrentXML = xs.toXML(concurrentState);
+        concurrentChange = cm -> cm.setData(Collections.singletonMap(KieServerStateCloudRepository.CFG_MAP_DATA_KEY, concurrentXML));
+
+        try {
+            repo.store(TEST_KIE_SERVER_ID, state);
+            fail("Concurrent state change must not be overwritten");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        assertEquals(0, readState().getContainers().size());
+        assertEquals(0, repo.load(TEST_KIE_SERVER_ID).getContainers().size());
+    }
+
+    private KieServerState readState() {
+        return (KieServerState) xs.fromXML(client.configMaps().inNamespace(testNamespace)
+                                                 .withName(TEST_KIE_SERVER_ID).get()
+                                                 .getData().get(KieServerStateCloudRepository.CFG_MAP_DATA_KEY));
+    }
+
+    private static KieContainerResource newContainer() {
+        return new KieContainerResource("conflict-container",
+                                        new ReleaseId("org.kie", "conflict", "1.0"),
+                                        KieContainerStatus.STARTED);
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.server.services.prometheus;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import io.prometheus.client.Collector;
+import io.prometheus.client.CounterMetricFamily;
+import io.prometheus.client.GaugeMetricFamily;
+import org.kie.server.services.impl.locator.ContainerLookupCache;
+
+/**
+ * Exposes hits, misses and size of the container lookup caches, read from the caches on every scrape.
+ */
+public class ContainerLookupCacheCollector extends Collector {
+
+    private static final List<String> LABELS = Collections.singletonList("cache_name");
+
+    @Override
+    public List<MetricFamilySamples> collect() {
+        CounterMetricFamily hits = new CounterMetricFamily("container_lookup_cache_hit_count", "Container Lookup Cache Hits", LABELS);
+        CounterMetricFamily misses = new CounterMetricFamily("container_lookup_cache_miss_count", "Container Lookup Cache Misses", LABELS);
+        GaugeMetricFamily size = new GaugeMetricFamily("container_lookup_cache_size", "Container Lookup Cache Size", LABELS);
+        for (ContainerLookupCache cache : ContainerLookupCache.getCaches()) {
+            List<String> labelValues = Collections.singletonList(cache.getName());
+            hits.addMetric(labelValues, cache.getHits());
+            misses.addMetric(labelValues, cache.getMisses());
+            size.addMetric(labelValues, cache.size());
+        }
+        return Arrays.asList(hits, misses, size);
+    }
+}
@@ -65,6 +65,8 @@ public class PrometheusKieServerExtension implements KieServerExtension {
     @Override
     public void init(KieServerImpl kieServer, KieServerRegistry registry) {
         this.context = registry;
+        // registers the metrics, among them the ones read from the container lookup caches
+        getMetrics();
         initialized = true;
     }
 
@@ -71,6 +71,32 @@ public class PrometheusMetrics {
         return dmnNumberOfEvaluationFailed;
     }
 
+    private static final Counter dmnResultCacheHits = Counter.build()
+            .name("dmn_result_cache_hit_count")
+            .help("DMN Result Cache Hits")
+            .labelNames("container_id", "group_id", "artifact_id", "version", "decision_namespace", "decision_name")
+            .register();
+
+    public Counter getDMNResultCacheHits() {
+        return dmnResultCacheHits;
+    }
+
+    private static final Counter dmnResultCacheMisses = Counter.build()
+            .name("dmn_result_cache_miss_count")
+            .help("DMN Result Cache Misses")
+            .labelNames("container_id", "group_id", "artifact_id", "version", "decision_namespace", "decision_name")
+            .register();
+
+    public Counter getDMNResultCacheMisses() {
+        return dmnResultCacheMisses;
+    }
+
+    private static final ContainerLookupCacheCollector containerLookupCacheCollector = new ContainerLookupCacheCollector().register();
+
+    ContainerLookupCacheCollector getContainerLookupCacheCollector() {
+        return containerLookupCacheCollector;
+    }
+
     private static final double[] RULE_TIME_BUCKETS;
 
     static {